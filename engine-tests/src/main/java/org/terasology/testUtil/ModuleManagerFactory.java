@@ -35,7 +35,8 @@ private ModuleManagerFactory() {
     }
 
     public static ModuleManager create() throws Exception {
-        ModuleManager moduleManager = new ModuleManagerImpl();
+        // the type cache must not be written to the home path, which lies in the source tree in tests
+        ModuleManager moduleManager = new ModuleManagerImpl(null);
         try (Reader reader = new InputStreamReader(ModuleManagerFactory.class.getResourceAsStream("/module.txt"), TerasologyConstants.CHARSET)) {
             ModuleMetadata metadata = new ModuleMetadataReader().read(reader);
             moduleManager.getRegistry().add(ClasspathModule.create(metadata, ModuleManagerFactory.class));
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.engine.module;
+
+import com.google.common.collect.Sets;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.stubs.StringComponent;
+import org.terasology.entitySystem.systems.RegisterSystem;
+import org.terasology.module.ModuleEnvironment;
+import org.terasology.testUtil.ModuleManagerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ModuleTypeCacheTest {
+
+    private static ModuleEnvironment environment;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setupClass() throws Exception {
+        environment = ModuleManagerFactory.create().getEnvironment();
+    }
+
+    @Test
+    public void testWarmCacheReturnsScannedTypes() throws Exception {
+        Path cacheFile = tempFolder.getRoot().toPath().resolve("types.json");
+        ModuleTypeCache coldCache = new ModuleTypeCache(cacheFile);
+        Set<Class<?>> scanned = Sets.newHashSet(coldCache.getSubtypesOf(environment, Component.class));
+        coldCache.save();
+
+        ModuleTypeCache warmCache = new ModuleTypeCache(cacheFile);
+        Set<Class<?>> cached = Sets.newHashSet(warmCache.getSubtypesOf(environment, Component.class));
+
+        assertEquals(Sets.newHashSet(environment.getSubtypesOf(Component.class)), scanned);
+        assertEquals(scanned, cached);
+        assertTrue(cached.contains(StringComponent.class));
+        assertEquals(1, coldCache.getMisses());
+        assertEquals(1, warmCache.getHits());
+        assertEquals(0, warmCache.getMisses());
+    }
+
+    @Test
+    public void testUncachedQueryScansEnvironment() throws Exception {
+        Path cacheFile = tempFolder.getRoot().toPath().resolve("types.json");
+        ModuleTypeCache coldCache = new ModuleTypeCache(cacheFile);
+        coldCache.getSubtypesOf(environment, Component.class);
+        coldCache.save();
+
+        ModuleTypeCache warmCache = new ModuleTypeCache(cacheFile);
+        assertEquals(Sets.newHashSet(environment.getTypesAnnotatedWith(RegisterSystem.class)),
+                Sets.newHashSet(warmCache.getTypesAnnotatedWith(environment, RegisterSystem.class)));
+        assertEquals(1, warmCache.getMisses());
+    }
+
+    @Test
+    public void testMismatchingCachedTypeScansEnvironment() throws Exception {
+        Path cacheFile = tempFolder.getRoot().toPath().resolve("types.json");
+        ModuleTypeCache coldCache = new ModuleTypeCache(cacheFile);
+        coldCache.getSubtypesOf(environment, Component.class);
+        coldCache.save();
+        String content = new String(Files.readAllBytes(cacheFile), "UTF-8");
+        assertTrue(content.contains(StringComponent.class.getName()));
+        Files.write(cacheFile, content.replace(StringComponent.class.getName(), String.class.getName()).getBytes("UTF-8"));
+
+        ModuleTypeCache warmCache = new ModuleTypeCache(cacheFile);
+        Set<Class<?>> types = Sets.newHashSet(warmCache.getSubtypesOf(environment, Component.class));
+
+        assertEquals(Sets.newHashSet(environment.getSubtypesOf(Component.class)), types);
+        assertEquals(1, warmCache.getMisses());
+    }
+
+    @Test
+    public void testCorruptCacheFileIgnored() throws Exception {
+        Path cacheFile = tempFolder.getRoot().toPath().resolve("types.json");
+        Files.write(cacheFile, "{ not json".getBytes("UTF-8"));
+
+        ModuleTypeCache cache = new ModuleTypeCache(cacheFile);
+        assertEquals(Sets.newHashSet(environment.getSubtypesOf(Component.class)),
+                Sets.newHashSet(cache.getSubtypesOf(environment, Component.class)));
+        assertEquals(1, cache.getMisses());
+    }
+}
@@ -272,6 +272,25 @@ public void testIterateEntitiesFindsEntityWithTwoComponents() {
         assertEquals(Lists.newArrayList(entity1), results);
     }
 
+    @Test
+    public void testIterateEntitiesTracksComponentChanges() {
+        EntityRef entity1 = entityManager.create();
+        entity1.addComponent(new StringComponent());
+        assertEquals(0, Lists.newArrayList(entityManager.getEntitiesWith(StringComponent.class, IntegerComponent.class)).size());
+
+        entity1.addComponent(new IntegerComponent());
+        assertEquals(Lists.newArrayList(entity1),
+                Lists.newArrayList(entityManager.getEntitiesWith(StringComponent.class, IntegerComponent.class)));
+        assertEquals(1, entityManager.getCountOfEntitiesWith(StringComponent.class, IntegerComponent.class));
+
+        entity1.removeComponent(IntegerComponent.class);
+        assertEquals(0, Lists.newArrayList(entityManager.getEntitiesWith(StringComponent.class, IntegerComponent.class)).size());
+
+        entity1.addComponent(new IntegerComponent());
+        entity1.destroy();
+        assertEquals(0, entityManager.getCountOfEntitiesWith(StringComponent.class, IntegerComponent.class));
+    }
+
     @Test
     public void testIterateWithNoComponents() {
         List<EntityRef> results = Lists.newArrayList(entityManager.getEntitiesWith(StringComponent.class));
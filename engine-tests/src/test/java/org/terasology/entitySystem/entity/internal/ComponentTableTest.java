@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.entitySystem.entity.internal;
+
+import org.junit.Test;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.stubs.EntityRefComponent;
+import org.terasology.entitySystem.stubs.ForceBlockActiveComponent;
+import org.terasology.entitySystem.stubs.GetterSetterComponent;
+import org.terasology.entitySystem.stubs.IntegerComponent;
+import org.terasology.entitySystem.stubs.ListOfObjectComponent;
+import org.terasology.entitySystem.stubs.MappedContainerComponent;
+import org.terasology.entitySystem.stubs.MappedTypeComponent;
+import org.terasology.entitySystem.stubs.OrderedMapTestComponent;
+import org.terasology.entitySystem.stubs.OwnerComponent;
+import org.terasology.entitySystem.stubs.RetainedOnBlockChangeComponent;
+import org.terasology.entitySystem.stubs.StringComponent;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ComponentTableTest {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends Component>[] COMPONENTS = new Class[]{StringComponent.class, IntegerComponent.class,
+            EntityRefComponent.class, ForceBlockActiveComponent.class, GetterSetterComponent.class,
+            ListOfObjectComponent.class, MappedContainerComponent.class, MappedTypeComponent.class, OrderedMapTestComponent.class,
+            OwnerComponent.class, RetainedOnBlockChangeComponent.class};
+
+    /**
+     * Queries every combination of at least two of the components, starting at the given index.
+     */
+    @SuppressWarnings("unchecked")
+    private static void queryCombinations(ComponentTable table, int firstComponent) {
+        int count = COMPONENTS.length - firstComponent;
+        for (int mask = 0; mask < (1 << count); mask++) {
+            if (Integer.bitCount(mask) >= 2) {
+                Class<? extends Component>[] query = new Class[Integer.bitCount(mask)];
+                int index = 0;
+                for (int i = 0; i < count; i++) {
+                    if ((mask & (1 << i)) != 0) {
+                        query[index++] = COMPONENTS[firstComponent + i];
+                    }
+                }
+                table.getEntityIdsWith(query);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testQueryIndexBounded() {
+        ComponentTable table = new ComponentTable();
+        table.put(1, new StringComponent());
+        table.put(1, new IntegerComponent());
+        table.put(1, new EntityRefComponent());
+
+        queryCombinations(table, 0);
+
+        assertTrue(table.getIndexedQueryCount() <= ComponentTable.MAX_QUERIES);
+        assertArrayEquals(new long[]{1}, table.getEntityIdsWith(new Class[]{StringComponent.class, IntegerComponent.class}));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testEvictedQueryRebuiltWithCurrentEntities() {
+        ComponentTable table = new ComponentTable();
+        Class<? extends Component>[] query = new Class[]{StringComponent.class, IntegerComponent.class};
+        table.getEntityIdsWith(query);
+        queryCombinations(table, 2);
+        table.put(2, new StringComponent());
+        table.put(2, new IntegerComponent());
+
+        assertEquals(1, table.getEntityCountWith(query));
+    }
+}
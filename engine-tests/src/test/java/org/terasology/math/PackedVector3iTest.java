@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.math;
+
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PackedVector3iTest {
+
+    @Test
+    public void testUnpackReturnsPackedCoordinates() {
+        int[] coordinates = {0, 1, -1, 31, -32, PackedVector3i.MIN_COORDINATE, PackedVector3i.MAX_COORDINATE};
+        for (int x : coordinates) {
+            for (int y : coordinates) {
+                for (int z : coordinates) {
+                    assertEquals(new Vector3i(x, y, z), PackedVector3i.unpack(PackedVector3i.pack(x, y, z)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPackableRange() {
+        assertTrue(PackedVector3i.isPackable(PackedVector3i.MIN_COORDINATE, 0, PackedVector3i.MAX_COORDINATE));
+        assertFalse(PackedVector3i.isPackable(PackedVector3i.MAX_COORDINATE + 1, 0, 0));
+        assertFalse(PackedVector3i.isPackable(0, PackedVector3i.MIN_COORDINATE - 1, 0));
+        assertFalse(PackedVector3i.isPackable(new Vector3i(0, 0, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    public void testNeighboursPackedDifferently() {
+        long center = PackedVector3i.pack(new Vector3i(0, 0, 0));
+        for (Side side : Side.values()) {
+            assertNotEquals(center, PackedVector3i.pack(side.getAdjacentPos(new Vector3i(0, 0, 0))));
+        }
+        assertNotEquals(PackedVector3i.pack(-1, 0, 0), PackedVector3i.pack(0, -1, 0));
+        assertNotEquals(PackedVector3i.pack(0, -1, 0), PackedVector3i.pack(0, 0, -1));
+    }
+}
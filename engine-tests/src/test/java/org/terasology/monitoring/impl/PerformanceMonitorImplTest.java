@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.monitoring.impl;
+
+import org.junit.Test;
+import org.terasology.monitoring.Activity;
+
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertTrue;
+
+public class PerformanceMonitorImplTest {
+
+    private final PerformanceMonitorImpl monitor = new PerformanceMonitorImpl();
+
+    @Test
+    public void testActivityOfOtherThreadRecorded() throws Exception {
+        Thread thread = new Thread(() -> {
+            try (Activity ignored = monitor.startActivity("background")) {
+                busyWait(1_000_000);
+            }
+        }, "Background worker");
+        thread.start();
+        thread.join();
+        monitor.rollCycle();
+
+        assertTrue(monitor.getRunningMean().get("background") > 0);
+    }
+
+    @Test
+    public void testSubMillisecondActivityMeasured() {
+        try (Activity ignored = monitor.startActivity("short")) {
+            busyWait(100_000);
+        }
+        monitor.rollCycle();
+
+        assertTrue(monitor.getRunningMean().get("short") > 0);
+        assertTrue(monitor.getRunningMean().get("short") < 1000);
+    }
+
+    @Test
+    public void testNestedActivityTimeNotAssignedToOuter() {
+        try (Activity ignored = monitor.startActivity("outer")) {
+            try (Activity ignored2 = monitor.startActivity("inner")) {
+                busyWait(5_000_000);
+            }
+        }
+        monitor.rollCycle();
+
+        assertTrue(monitor.getRunningMean().get("inner") > monitor.getRunningMean().get("outer"));
+    }
+
+    @Test
+    public void testTraceContainsActivitiesOfAllThreads() throws Exception {
+        Thread thread = new Thread(() -> {
+            try (Activity ignored = monitor.startActivity("background")) {
+                busyWait(100_000);
+            }
+        }, "Background worker");
+        thread.start();
+        thread.join();
+        try (Activity ignored = monitor.startActivity("foreground")) {
+            busyWait(100_000);
+        }
+
+        StringWriter writer = new StringWriter();
+        monitor.exportTrace(writer);
+        String trace = writer.toString();
+
+        assertTrue(trace.contains("\"name\":\"background\""));
+        assertTrue(trace.contains("\"name\":\"foreground\""));
+        assertTrue(trace.contains("\"name\":\"Background worker\""));
+    }
+
+    @Test
+    public void testUnmatchedEndIgnored() {
+        monitor.endActivity();
+        monitor.rollCycle();
+
+        assertTrue(monitor.getRunningMean().isEmpty());
+    }
+
+    private static void busyWait(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.EntityData;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ */
+public class ChunkCacheTest {
+
+    private static EntityData.ChunkStore encodedChunk(Vector3i pos) {
+        return EntityData.ChunkStore.newBuilder().setX(pos.x).setY(pos.y).setZ(pos.z).build();
+    }
+
+    @Test
+    public void testCachedChunkReported() {
+        ChunkCache cache = new ChunkCache(4);
+        Vector3i pos = new Vector3i(1, 2, 3);
+        cache.put(pos, encodedChunk(pos));
+
+        Map<Vector3i, Long> hashes = cache.pinAll();
+
+        assertEquals(ChunkCache.hash(encodedChunk(pos)), (long) hashes.get(pos));
+        assertEquals(encodedChunk(pos), cache.use(pos));
+    }
+
+    @Test
+    public void testInvalidatedChunkNotReported() {
+        ChunkCache cache = new ChunkCache(4);
+        Vector3i pos = new Vector3i(1, 2, 3);
+        cache.put(pos, encodedChunk(pos));
+
+        cache.invalidate(pos);
+
+        assertFalse(cache.pinAll().containsKey(pos));
+        assertNull(cache.use(pos));
+    }
+
+    @Test
+    public void testPinnedChunksNotEvicted() {
+        ChunkCache cache = new ChunkCache(1);
+        Vector3i pinnedPos = new Vector3i(0, 0, 0);
+        cache.put(pinnedPos, encodedChunk(pinnedPos));
+        cache.pinAll();
+
+        Vector3i newPos = new Vector3i(1, 0, 0);
+        cache.put(newPos, encodedChunk(newPos));
+
+        assertTrue(cache.pinAll().containsKey(pinnedPos));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.EntityData;
+import org.terasology.protobuf.NetData;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class ChunkStreamerTest {
+
+    private static Chunk mockChunk(Vector3i pos) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.encode()).thenAnswer(invocation -> EntityData.ChunkStore.newBuilder().setX(pos.x).setY(pos.y).setZ(pos.z));
+        return chunk;
+    }
+
+    private static void add(ChunkStreamer streamer, Vector3i pos) {
+        streamer.add(pos, mockChunk(pos));
+    }
+
+    @Test
+    public void testNearestChunksSentFirst() {
+        ChunkStreamer streamer = new ChunkStreamer();
+        add(streamer, new Vector3i(5, 0, 0));
+        add(streamer, new Vector3i(1, 0, 0));
+        add(streamer, new Vector3i(3, 0, 0));
+
+        List<Vector3i> sent = streamer.sendChunks(Vector3i.zero(), Integer.MAX_VALUE / 8, NetData.NetMessage.newBuilder());
+
+        assertEquals(Arrays.asList(new Vector3i(1, 0, 0), new Vector3i(3, 0, 0), new Vector3i(5, 0, 0)), sent);
+        assertTrue(streamer.isEmpty());
+    }
+
+    @Test
+    public void testByteBudgetLimitsChunksPerTick() {
+        ChunkStreamer streamer = new ChunkStreamer();
+        add(streamer, new Vector3i(1, 0, 0));
+        add(streamer, new Vector3i(2, 0, 0));
+
+        assertEquals(1, streamer.sendChunks(Vector3i.zero(), 1, NetData.NetMessage.newBuilder()).size());
+    }
+
+    @Test
+    public void testRemovedChunkNotSent() {
+        ChunkStreamer streamer = new ChunkStreamer();
+        add(streamer, new Vector3i(1, 0, 0));
+        add(streamer, new Vector3i(2, 0, 0));
+        streamer.remove(new Vector3i(1, 0, 0));
+
+        List<Vector3i> sent = streamer.sendChunks(Vector3i.zero(), Integer.MAX_VALUE / 8, NetData.NetMessage.newBuilder());
+
+        assertEquals(Arrays.asList(new Vector3i(2, 0, 0)), sent);
+    }
+
+    @Test
+    public void testUnchangedCachedChunkReferenced() {
+        Vector3i unchanged = new Vector3i(1, 0, 0);
+        Vector3i changed = new Vector3i(2, 0, 0);
+        ChunkStreamer streamer = new ChunkStreamer();
+        streamer.setClientCachedChunks(ImmutableMap.of(
+                unchanged, ChunkCache.hash(mockChunk(unchanged).encode().build()),
+                changed, 0L));
+        add(streamer, unchanged);
+        add(streamer, changed);
+        NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder();
+
+        streamer.sendChunks(Vector3i.zero(), Integer.MAX_VALUE / 8, message);
+
+        assertEquals(Arrays.asList(NetMessageUtil.convert(unchanged)), message.getCachedChunkList());
+        assertEquals(1, message.getChunkInfoCount());
+        assertEquals(changed.x, message.getChunkInfo(0).getX());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.terasology.network.internal;
+
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.TerasologyTestingEnvironment;
+import org.terasology.engine.ComponentSystemManager;
+import org.terasology.engine.EngineTime;
+import org.terasology.engine.bootstrap.EntitySystemSetupUtil;
+import org.terasology.engine.module.ModuleManager;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.entitySystem.metadata.EventLibrary;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.network.NetworkComponent;
+import org.terasology.network.NetworkSystem;
+import org.terasology.protobuf.EntityData;
+import org.terasology.testUtil.ModuleManagerFactory;
+import org.terasology.world.BlockEntityRegistry;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class EntitySerializationCacheTest extends TerasologyTestingEnvironment {
+
+    private EngineEntityManager entityManager;
+    private NetworkSystemImpl networkSystem;
+    private EntitySerializationCache cache;
+    private EntityRef entity;
+    private int netId;
+
+    @Before
+    public void setup() throws Exception {
+        super.setup();
+        context.put(ModuleManager.class, ModuleManagerFactory.create());
+        networkSystem = new NetworkSystemImpl(mock(EngineTime.class), context);
+        networkSystem.setStateContext(context);
+        context.put(NetworkSystem.class, networkSystem);
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        entityManager = (EngineEntityManager) context.get(EntityManager.class);
+        context.put(ComponentSystemManager.class, new ComponentSystemManager(context));
+        entityManager.clear();
+        networkSystem.mockHost();
+        networkSystem.connectToEntitySystem(entityManager, context.get(EventLibrary.class), mock(BlockEntityRegistry.class));
+        cache = networkSystem.getEntitySerializationCache();
+
+        LocationComponent location = new LocationComponent();
+        location.setWorldPosition(new Vector3f(1, 2, 3));
+        entity = entityManager.create(new NetworkComponent(), location);
+        networkSystem.registerNetworkEntity(entity);
+        netId = entity.getComponent(NetworkComponent.class).getNetworkId();
+        cache.clear();
+    }
+
+    @Test
+    public void testInitialEntitySerializedOncePerView() {
+        EntityData.PackedEntity first = cache.getInitialEntity(entity, netId, false);
+        EntityData.PackedEntity second = cache.getInitialEntity(entity, netId, false);
+        EntityData.PackedEntity owner = cache.getInitialEntity(entity, netId, true);
+
+        assertSame(first, second);
+        assertNotSame(first, owner);
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(first.getSerializedSize(), cache.getSavedBytes());
+    }
+
+    @Test
+    public void testEntityUpdateSharedForEqualComponentSets() {
+        Set<Class<? extends Component>> none = Collections.emptySet();
+        EntityData.PackedEntity first = cache.getEntityUpdate(entity, netId, false, none,
+                Sets.newHashSet(LocationComponent.class), none);
+        EntityData.PackedEntity second = cache.getEntityUpdate(entity, netId, false, none,
+                Sets.newLinkedHashSet(Collections.singleton(LocationComponent.class)), none);
+        cache.getEntityUpdate(entity, netId, false, Sets.newHashSet(LocationComponent.class), none, none);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testComponentChangeInvalidatesEntity() {
+        EntityData.PackedEntity before = cache.getInitialEntity(entity, netId, false);
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        location.setWorldPosition(new Vector3f(4, 5, 6));
+        entity.saveComponent(location);
+        EntityData.PackedEntity after = cache.getInitialEntity(entity, netId, false);
+
+        assertNotSame(before, after);
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testClearResetsTickMetrics() {
+        cache.getInitialEntity(entity, netId, false);
+        cache.getInitialEntity(entity, netId, false);
+        assertEquals(0.5, cache.getTickHitRatio(), 0.0001);
+
+        cache.clear();
+
+        assertEquals(0, cache.getTickHitRatio(), 0.0001);
+        assertEquals(0, cache.getTickSavedBytes());
+        assertEquals(1, cache.getHits());
+    }
+}
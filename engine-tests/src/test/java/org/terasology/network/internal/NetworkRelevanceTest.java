@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.terasology.network.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.TerasologyTestingEnvironment;
+import org.terasology.engine.ComponentSystemManager;
+import org.terasology.engine.EngineTime;
+import org.terasology.engine.bootstrap.EntitySystemSetupUtil;
+import org.terasology.engine.module.ModuleManager;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.entitySystem.metadata.EventLibrary;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.network.NetworkComponent;
+import org.terasology.network.NetworkSystem;
+import org.terasology.testUtil.ModuleManagerFactory;
+import org.terasology.world.BlockEntityRegistry;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class NetworkRelevanceTest extends TerasologyTestingEnvironment {
+
+    private static final Vector3f NEAR_POSITION = new Vector3f(1, 1, 1);
+    private static final Vector3f FAR_POSITION = new Vector3f(1000, 1, 1000);
+
+    private EngineEntityManager entityManager;
+    private NetworkSystemImpl networkSystem;
+    private NetClient client;
+
+    @Before
+    public void setup() throws Exception {
+        super.setup();
+        ModuleManager moduleManager = ModuleManagerFactory.create();
+        context.put(ModuleManager.class, moduleManager);
+        EngineTime mockTime = mock(EngineTime.class);
+        networkSystem = new NetworkSystemImpl(mockTime, context);
+        networkSystem.setStateContext(context);
+        context.put(NetworkSystem.class, networkSystem);
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        entityManager = (PojoEntityManager) context.get(EntityManager.class);
+        context.put(ComponentSystemManager.class, new ComponentSystemManager(context));
+        entityManager.clear();
+        client = mock(NetClient.class);
+        NetworkComponent clientNetComp = new NetworkComponent();
+        clientNetComp.replicateMode = NetworkComponent.ReplicateMode.OWNER;
+        EntityRef clientEntity = entityManager.create(clientNetComp);
+        when(client.getEntity()).thenReturn(clientEntity);
+        when(client.getId()).thenReturn("dummyID");
+        when(client.isChunkRelevant(ChunkMath.calcChunkPos(NEAR_POSITION))).thenReturn(true);
+        networkSystem.mockHost();
+        networkSystem.connectToEntitySystem(entityManager, context.get(EventLibrary.class), mock(BlockEntityRegistry.class));
+        networkSystem.registerNetworkEntity(clientEntity);
+        networkSystem.addClient(client);
+        networkSystem.update();
+    }
+
+    private EntityRef createEntityAt(Vector3f position) {
+        return createEntityAt(position, NetworkComponent.ReplicateMode.RELEVANT);
+    }
+
+    private EntityRef createEntityAt(Vector3f position, NetworkComponent.ReplicateMode replicateMode) {
+        LocationComponent location = new LocationComponent();
+        location.setWorldPosition(position);
+        NetworkComponent networkComponent = new NetworkComponent();
+        networkComponent.replicateMode = replicateMode;
+        EntityRef entity = entityManager.create(networkComponent, location);
+        networkSystem.registerNetworkEntity(entity);
+        return entity;
+    }
+
+    private void moveEntity(EntityRef entity, Vector3f position) {
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        location.setWorldPosition(position);
+        entity.saveComponent(location);
+        networkSystem.update();
+    }
+
+    private static int netId(EntityRef entity) {
+        return entity.getComponent(NetworkComponent.class).getNetworkId();
+    }
+
+    @Test
+    public void testEntityInRelevantChunkSent() {
+        EntityRef entity = createEntityAt(NEAR_POSITION);
+        verify(client).setNetInitial(netId(entity));
+    }
+
+    @Test
+    public void testAlwaysEntityInIrrelevantChunkSent() {
+        EntityRef entity = createEntityAt(FAR_POSITION, NetworkComponent.ReplicateMode.ALWAYS);
+        verify(client).setNetInitial(netId(entity));
+    }
+
+    @Test
+    public void testEntityWithoutLocationSent() {
+        NetworkComponent networkComponent = new NetworkComponent();
+        EntityRef entity = entityManager.create(networkComponent);
+        networkSystem.registerNetworkEntity(entity);
+
+        verify(client).setNetInitial(netId(entity));
+    }
+
+    @Test
+    public void testEntityInIrrelevantChunkNotSent() {
+        EntityRef entity = createEntityAt(FAR_POSITION);
+        verify(client, never()).setNetInitial(netId(entity));
+    }
+
+    @Test
+    public void testEntitySentWhenChunkBecomesRelevant() {
+        EntityRef entity = createEntityAt(FAR_POSITION);
+        Vector3i farChunk = ChunkMath.calcChunkPos(FAR_POSITION);
+        when(client.isChunkRelevant(farChunk)).thenReturn(true);
+
+        networkSystem.updateRelevance(client, farChunk);
+
+        verify(client).setNetInitial(netId(entity));
+    }
+
+    @Test
+    public void testEntitySentWhenMovingIntoRelevantChunk() {
+        EntityRef entity = createEntityAt(FAR_POSITION);
+        moveEntity(entity, NEAR_POSITION);
+
+        verify(client).setNetInitial(netId(entity));
+    }
+
+    @Test
+    public void testEntityRemovedWhenMovingOutOfRelevantChunk() {
+        EntityRef entity = createEntityAt(NEAR_POSITION);
+        when(client.isReplicated(netId(entity))).thenReturn(true);
+        moveEntity(entity, FAR_POSITION);
+
+        verify(client).setNetRemoved(netId(entity));
+    }
+
+    @Test
+    public void testMovementWithinChunkCausesNoReplicationChange() {
+        EntityRef entity = createEntityAt(NEAR_POSITION);
+        when(client.isReplicated(netId(entity))).thenReturn(true);
+        moveEntity(entity, new Vector3f(2, 2, 2));
+
+        verify(client, never()).setNetRemoved(anyInt());
+    }
+
+    @Test
+    public void testEntitySentWhenOwnedByClient() {
+        EntityRef entity = createEntityAt(FAR_POSITION);
+        entity.setOwner(client.getEntity());
+        networkSystem.updateOwnership(entity);
+
+        verify(client).setNetInitial(netId(entity));
+    }
+
+    @Test
+    public void testEntityRemovedWhenNoLongerOwnedByClient() {
+        EntityRef entity = createEntityAt(FAR_POSITION);
+        entity.setOwner(client.getEntity());
+        networkSystem.updateOwnership(entity);
+        when(client.isReplicated(netId(entity))).thenReturn(true);
+
+        entity.setOwner(EntityRef.NULL);
+        networkSystem.updateOwnership(entity);
+
+        verify(client).setNetRemoved(netId(entity));
+    }
+}
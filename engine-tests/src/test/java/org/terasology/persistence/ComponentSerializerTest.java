@@ -34,7 +34,10 @@
 import org.terasology.math.geom.Vector3f;
 import org.terasology.network.NetworkSystem;
 import org.terasology.persistence.serializers.ComponentSerializer;
+import org.terasology.persistence.typeHandling.PersistedData;
+import org.terasology.persistence.typeHandling.SerializationContext;
 import org.terasology.persistence.typeHandling.TypeSerializationLibrary;
+import org.terasology.persistence.typeHandling.coreTypes.IntTypeHandler;
 import org.terasology.persistence.typeHandling.mathTypes.Quat4fTypeHandler;
 import org.terasology.persistence.typeHandling.mathTypes.Vector3fTypeHandler;
 import org.terasology.protobuf.EntityData;
@@ -57,6 +60,7 @@ public class ComponentSerializerTest {
     private ReflectFactory reflectFactory = new ReflectionReflectFactory();
     private CopyStrategyLibrary copyStrategyLibrary = new CopyStrategyLibrary(reflectFactory);
     private Context context;
+    private TypeSerializationLibrary serializationLibrary;
 
     @BeforeClass
     public static void setupClass() throws Exception {
@@ -69,7 +73,7 @@ public void setup() {
         context.put(ModuleManager.class, moduleManager);
         CoreRegistry.setContext(context);
 
-        TypeSerializationLibrary serializationLibrary = new TypeSerializationLibrary(reflectFactory, copyStrategyLibrary);
+        serializationLibrary = new TypeSerializationLibrary(reflectFactory, copyStrategyLibrary);
         serializationLibrary.add(Vector3f.class, new Vector3fTypeHandler());
         serializationLibrary.add(Quat4f.class, new Quat4fTypeHandler());
 
@@ -148,4 +152,36 @@ public void testDeltaComponentTypeIdDeserializesWithoutValue() throws Exception
         componentSerializer.deserializeOnto(original, compData);
         assertEquals(null, original.value);
     }
+
+    @Test
+    public void testDirectSerializationMatchesTypeHandlers() throws Exception {
+        Component[] components = {new IntegerComponent(42), new StringComponent("Test"), new StringComponent(null), new GetterSetterComponent()};
+        for (Component component : components) {
+            componentSerializer.setUsingDirectSerialization(true);
+            EntityData.Component direct = componentSerializer.serialize(component);
+            componentSerializer.setUsingDirectSerialization(false);
+            EntityData.Component generic = componentSerializer.serialize(component);
+            assertEquals(generic, direct);
+        }
+    }
+
+    @Test
+    public void testDirectDeserializationConvertsNumbers() throws Exception {
+        EntityData.Component compData = EntityData.Component.newBuilder().setType("test:integer")
+                .addField(EntityData.NameValue.newBuilder().setName("value").setValue(EntityData.Value.newBuilder().addFloat(3.7f))).build();
+        IntegerComponent comp = (IntegerComponent) componentSerializer.deserialize(compData);
+        assertEquals(3, comp.value);
+    }
+
+    @Test
+    public void testCustomTypeHandlerNotBypassed() throws Exception {
+        serializationLibrary.add(Integer.TYPE, new IntTypeHandler() {
+            @Override
+            public PersistedData serialize(Integer value, SerializationContext serializationContext) {
+                return serializationContext.create(String.valueOf(value));
+            }
+        });
+        EntityData.Component compData = componentSerializer.serialize(new IntegerComponent(7));
+        assertEquals("7", compData.getField(0).getValue().getString(0));
+    }
 }
@@ -218,6 +218,36 @@ public void testGlobalEntitiesStoredAndRestored() throws Exception {
         assertEquals(entityId, entities.get(0).getId());
     }
 
+    @Test
+    public void testGlobalEntityChangesLoggedAndRestored() throws Exception {
+        EntityRef removedEntity = entityManager.create(new StringComponent("Removed"));
+        EntityRef changedEntity = entityManager.create(new StringComponent("Test"));
+        long removedEntityId = removedEntity.getId();
+        long changedEntityId = changedEntity.getId();
+
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        removedEntity.destroy();
+        changedEntity.getComponent(StringComponent.class).value = "Changed";
+        changedEntity.saveComponent(changedEntity.getComponent(StringComponent.class));
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        assertTrue(Files.isRegularFile(savePath.resolve("global.1.log")));
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+
+        StorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager, blockManager,
+                biomeManager, false);
+        newSM.loadGlobalStore();
+
+        List<EntityRef> entities = Lists.newArrayList(newEntityManager.getEntitiesWith(StringComponent.class));
+        assertEquals(1, entities.size());
+        assertEquals(changedEntityId, entities.get(0).getId());
+        assertEquals("Changed", entities.get(0).getComponent(StringComponent.class).value);
+        assertFalse(newEntityManager.getEntity(removedEntityId).exists());
+    }
 
     @Test
     public void testReferenceRemainsValidOverStorageRestoral() throws Exception {
@@ -294,6 +324,94 @@ public void testChunkSurvivesStorageSaveAndRestore() throws Exception {
         assertEquals(testBlock2, restored.getChunk().getBlock(0, 4, 2));
     }
 
+    @Test
+    public void testChunkSurvivesStorageSaveAndRestoreInRegionFiles() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        esm.setChunkStorageFormat(ChunkStorageFormat.REGION_FILES);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        // A second save replaces the record of the chunk in place
+        chunk.setBlock(0, 0, 0, testBlock2);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        StorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager, blockManager,
+                biomeManager, ChunkStorageFormat.REGION_FILES);
+        newSM.loadGlobalStore();
+
+        ChunkStore restored = newSM.loadChunkStore(CHUNK_POS);
+        assertNotNull(restored);
+        assertEquals(testBlock2, restored.getChunk().getBlock(0, 0, 0));
+        StoragePathProvider storagePathProvider = new StoragePathProvider(savePath);
+        assertTrue(Files.isRegularFile(storagePathProvider.getChunkRegionPath(
+                storagePathProvider.getChunkRegionPosition(CHUNK_POS))));
+        assertFalse(Files.exists(storagePathProvider.getChunkPath(CHUNK_POS)));
+    }
+
+    @Test
+    public void testRegionFileSaveKeepsRegionFormat() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        esm.setChunkStorageFormat(ChunkStorageFormat.REGION_FILES);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        ReadWriteStorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager,
+                blockManager, biomeManager, ChunkStorageFormat.CHUNK_ZIPS);
+        newSM.loadGlobalStore();
+
+        assertEquals(ChunkStorageFormat.REGION_FILES, newSM.getChunkStorageFormat());
+        ChunkStore restored = newSM.loadChunkStore(CHUNK_POS);
+        assertNotNull(restored);
+        assertEquals(testBlock, restored.getChunk().getBlock(0, 0, 0));
+    }
+
+    @Test
+    public void testChunkZipsGetMigratedToRegionFiles() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        esm.setStoreChunksInZips(true);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        StorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager, blockManager,
+                biomeManager, ChunkStorageFormat.REGION_FILES);
+        newSM.checkAndRepairSaveIfNecessary();
+        newSM.loadGlobalStore();
+
+        ChunkStore restored = newSM.loadChunkStore(CHUNK_POS);
+        assertNotNull(restored);
+        assertEquals(testBlock, restored.getChunk().getBlock(0, 0, 0));
+        StoragePathProvider storagePathProvider = new StoragePathProvider(savePath);
+        assertFalse(Files.exists(storagePathProvider.getChunkZipPath(storagePathProvider.getChunkZipPosition(CHUNK_POS))));
+    }
+
     @Test
     public void testEntitySurvivesStorageInChunkStore() throws Exception {
         Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
@@ -329,6 +447,73 @@ public void testEntitySurvivesStorageInChunkStore() throws Exception {
     }
 
 
+    @Test
+    public void testUnloadedChunkSavedWithoutSnapshot() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.markReady();
+        Vector3f positionInChunk = new Vector3f(chunk.getAABB().getMin());
+        positionInChunk.x += 1;
+        positionInChunk.y += 1;
+        positionInChunk.z += 1;
+        EntityRef entity = entityManager.create(new LocationComponent(positionInChunk));
+        EntityRef otherEntity = entityManager.create(new LocationComponent(positionInChunk));
+        long id = entity.getId();
+
+        assertFalse(esm.isChunkStored(CHUNK_POS));
+        esm.deactivateChunk(chunk, Collections.singletonList(entity));
+        assertTrue(esm.isChunkStored(CHUNK_POS));
+        assertFalse(entity.isActive());
+        assertTrue(otherEntity.isActive());
+        esm.waitForCompletionOfPreviousSaveAndStartSavingUnloadedChunks();
+        esm.finishSavingAndShutdown();
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        ReadWriteStorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager,
+                blockManager, biomeManager, false);
+        newSM.loadGlobalStore();
+
+        assertTrue(newSM.isChunkStored(CHUNK_POS));
+        assertTrue(newEntityManager.getNextId() > id);
+        ChunkStore restored = newSM.loadChunkStore(CHUNK_POS);
+        assertEquals(testBlock, restored.getChunk().getBlock(0, 0, 0));
+        restored.restoreEntities();
+        assertTrue(newEntityManager.getEntity(id).isActive());
+        assertFalse(Files.exists(new StoragePathProvider(savePath).getPlayerFilePath(PLAYER_ID)));
+    }
+
+    @Test
+    public void testLoadedChunkRewrittenOnlyWhenItsEntitiesChange() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, biomeManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+        Vector3f positionInChunk = new Vector3f(chunk.getAABB().getMin());
+        positionInChunk.x += 1;
+        positionInChunk.y += 1;
+        positionInChunk.z += 1;
+        EntityRef entity = entityManager.create(new LocationComponent(positionInChunk));
+
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        long writtenByFirstSave = esm.getWrittenChunkBytes();
+        assertTrue(writtenByFirstSave > 0);
+
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        positionInChunk.x += 1;
+        location.setWorldPosition(positionInChunk);
+        entity.saveComponent(location);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        assertEquals(writtenByFirstSave, esm.getWrittenChunkBytes());
+
+        esm.finishSavingAndShutdown();
+        assertTrue(esm.getWrittenChunkBytes() > writtenByFirstSave);
+    }
+
     @Test
     public void testCanSavePlayerWithoutUnloading() throws Exception {
         esm.waitForCompletionOfPreviousSaveAndStartSaving();
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import org.junit.Test;
+import org.terasology.protobuf.EntityData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class StoreCompressionTest {
+
+    private final EntityData.ChunkStore store = EntityData.ChunkStore.newBuilder()
+            .setX(1).setY(-2).setZ(3)
+            .setStore(EntityData.EntityStore.getDefaultInstance())
+            .build();
+
+    @Test
+    public void testStoreSurvivesEveryCompression() throws IOException {
+        for (StoreCompression compression : StoreCompression.values()) {
+            byte[] record = compression.encode(store);
+            assertEquals(store, EntityData.ChunkStore.parseFrom(StoreCompression.decode(record, StoreCompression.GZIP)));
+        }
+    }
+
+    @Test
+    public void testCompressionFoundByConfigName() {
+        assertEquals(StoreCompression.NONE, StoreCompression.forName("none"));
+        assertEquals(StoreCompression.GZIP, StoreCompression.forName("gzip"));
+        assertEquals(StoreCompression.LZ4, StoreCompression.forName("lz4"));
+        assertEquals(StoreCompression.GZIP, StoreCompression.forName("unknown"));
+    }
+
+    @Test
+    public void testCompressionOfRecordTakenFromHeader() throws IOException {
+        byte[] record = StoreCompression.LZ4.encode(store);
+        assertEquals(store, EntityData.ChunkStore.parseFrom(StoreCompression.decode(record, StoreCompression.NONE)));
+    }
+
+    @Test
+    public void testGzipRecordWithoutHeaderDecoded() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+            store.writeTo(gzipOut);
+        }
+        byte[] decoded = StoreCompression.decode(baos.toByteArray(), StoreCompression.GZIP);
+        assertEquals(store, EntityData.ChunkStore.parseFrom(decoded));
+    }
+
+    @Test
+    public void testUncompressedRecordWithoutHeaderDecoded() throws IOException {
+        byte[] decoded = StoreCompression.decode(store.toByteArray(), StoreCompression.NONE);
+        assertEquals(store, EntityData.ChunkStore.parseFrom(decoded));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownCompressionFails() throws IOException {
+        StoreCompression.decode(new byte[]{(byte) 0xFF, 42, 0}, StoreCompression.GZIP);
+    }
+}
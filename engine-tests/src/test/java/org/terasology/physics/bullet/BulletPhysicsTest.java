@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.physics.bullet;
+
+import com.bulletphysics.collision.shapes.BoxShape;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.AABB;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.physics.StandardCollisionGroup;
+import org.terasology.physics.components.RigidBodyComponent;
+import org.terasology.physics.engine.RigidBody;
+import org.terasology.physics.shapes.BoxShapeComponent;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.world.WorldProvider;
+import org.terasology.world.block.Block;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulletPhysicsTest {
+
+    private WorldProvider worldProvider;
+    private BulletPhysics physics;
+    private EntityRef entity;
+
+    @Before
+    public void setup() {
+        CoreRegistry.setContext(new ContextImpl());
+        Block air = new Block();
+        air.setPenetrable(true);
+        air.setTargetable(false);
+        air.setCollision(new Vector3f(), new BoxShape(new javax.vecmath.Vector3f(0.5f, 0.5f, 0.5f)));
+        worldProvider = mock(WorldProvider.class);
+        when(worldProvider.getBlock(anyInt(), anyInt(), anyInt())).thenReturn(air);
+        physics = new BulletPhysics(worldProvider);
+
+        RigidBodyComponent rigidBody = new RigidBodyComponent();
+        rigidBody.kinematic = true;
+        entity = mock(EntityRef.class);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(new LocationComponent(new Vector3f(0, 10, 0)));
+        when(entity.getComponent(RigidBodyComponent.class)).thenReturn(rigidBody);
+        when(entity.getComponent(BoxShapeComponent.class)).thenReturn(new BoxShapeComponent());
+    }
+
+    @After
+    public void teardown() {
+        physics.dispose();
+    }
+
+    private void setRelevant(boolean relevant) {
+        when(worldProvider.isBlockRelevant(any(Vector3f.class))).thenReturn(relevant);
+    }
+
+    private boolean isFoundByScan(RigidBody body, StandardCollisionGroup group) {
+        AABB area = AABB.createCenterExtent(body.getLocation(new Vector3f()), new Vector3f(1, 1, 1));
+        return physics.scanArea(area, group).contains(entity);
+    }
+
+    @Test
+    public void testBodyOutsideRelevantAreaParked() {
+        setRelevant(false);
+        RigidBody body = physics.getRigidBody(entity);
+        physics.update(1.0f);
+
+        assertFalse(body.isActive());
+        assertFalse(isFoundByScan(body, StandardCollisionGroup.DEFAULT));
+    }
+
+    @Test
+    public void testParkedBodyRestoredWithItsGroups() {
+        setRelevant(false);
+        RigidBody body = physics.getRigidBody(entity);
+        physics.update(1.0f);
+
+        setRelevant(true);
+        physics.update(1.0f);
+
+        assertTrue(body.isActive());
+        assertTrue(isFoundByScan(body, StandardCollisionGroup.DEFAULT));
+        assertFalse(isFoundByScan(body, StandardCollisionGroup.CHARACTER));
+    }
+
+    @Test
+    public void testBodyInRelevantAreaNotParked() {
+        setRelevant(true);
+        RigidBody body = physics.getRigidBody(entity);
+        physics.update(1.0f);
+
+        assertTrue(body.isActive());
+        assertTrue(isFoundByScan(body, StandardCollisionGroup.DEFAULT));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.physics.bullet;
+
+import com.bulletphysics.linearmath.Transform;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Vector3f;
+
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Quat4f;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EntityMotionStateTest {
+
+    private EntityRef entity;
+    private LocationComponent location;
+    private EntityMotionState motionState;
+
+    @Before
+    public void setup() {
+        entity = mock(EntityRef.class);
+        location = new LocationComponent();
+        when(entity.getComponent(LocationComponent.class)).thenReturn(location);
+        motionState = new EntityMotionState(entity);
+    }
+
+    private static Transform transformAt(float x, float y, float z) {
+        return new Transform(new Matrix4f(new Quat4f(0, 0, 0, 1), new javax.vecmath.Vector3f(x, y, z), 1.0f));
+    }
+
+    @Test
+    public void testTransformWrittenToLocation() {
+        motionState.setWorldTransform(transformAt(1, 2, 3));
+
+        assertEquals(new Vector3f(1, 2, 3), location.getWorldPosition());
+    }
+
+    @Test
+    public void testUnchangedTransformDoesNotRewriteLocation() {
+        motionState.setWorldTransform(transformAt(1, 2, 3));
+        location.setWorldPosition(new Vector3f(4, 5, 6));
+
+        motionState.setWorldTransform(transformAt(1, 2, 3));
+
+        assertEquals(new Vector3f(4, 5, 6), location.getWorldPosition());
+        verify(entity, times(1)).getComponent(LocationComponent.class);
+    }
+
+    @Test
+    public void testChangedTransformWrittenToLocation() {
+        motionState.setWorldTransform(transformAt(1, 2, 3));
+        motionState.setWorldTransform(transformAt(1, 3, 3));
+
+        assertEquals(new Vector3f(1, 3, 3), location.getWorldPosition());
+        verify(entity, times(2)).getComponent(LocationComponent.class);
+    }
+}
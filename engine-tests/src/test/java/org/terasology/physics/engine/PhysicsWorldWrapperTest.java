@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.physics.engine;
+
+import com.bulletphysics.collision.shapes.BoxShape;
+import com.bulletphysics.collision.shapes.voxel.VoxelInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.WorldProvider;
+import org.terasology.world.biomes.BiomeManager;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.block.PackedBlockProperties;
+import org.terasology.world.chunks.ChunkProvider;
+import org.terasology.world.chunks.internal.ChunkImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PhysicsWorldWrapperTest {
+
+    private Block air;
+    private Block stone;
+    private BlockManager blockManager;
+    private ChunkProvider chunkProvider;
+    private WorldProvider worldProvider;
+    private ChunkImpl chunk;
+    private PhysicsWorldWrapper wrapper;
+
+    @Before
+    public void setup() {
+        air = new Block();
+        air.setId((short) 0);
+        air.setPenetrable(true);
+        air.setTargetable(false);
+        air.setCollision(new Vector3f(), new BoxShape(new javax.vecmath.Vector3f(0.5f, 0.5f, 0.5f)));
+        stone = new Block();
+        stone.setId((short) 1);
+        stone.setCollision(new Vector3f(), new BoxShape(new javax.vecmath.Vector3f(0.5f, 0.5f, 0.5f)));
+
+        blockManager = mock(BlockManager.class);
+        when(blockManager.getBlock((short) 0)).thenReturn(air);
+        when(blockManager.getBlock((short) 1)).thenReturn(stone);
+        when(blockManager.getBlockProperties()).thenReturn(new PackedBlockProperties(new Block[]{air, stone}, air));
+
+        chunk = new ChunkImpl(new Vector3i(0, 0, 0), blockManager, mock(BiomeManager.class));
+        chunk.markReady();
+        chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getChunk(0, 0, 0)).thenReturn(chunk);
+        worldProvider = mock(WorldProvider.class);
+
+        wrapper = new PhysicsWorldWrapper(worldProvider, chunkProvider, blockManager);
+    }
+
+    @Test
+    public void testEmptyVoxelsShareInfo() {
+        VoxelInfo first = wrapper.getCollisionShapeAt(1, 2, 3);
+        VoxelInfo second = wrapper.getCollisionShapeAt(4, 5, 6);
+
+        assertSame(first, second);
+        assertFalse(first.isColliding());
+        assertFalse(first.isBlocking());
+    }
+
+    @Test
+    public void testCollidingVoxelHasPosition() {
+        chunk.setBlock(1, 2, 3, stone);
+        chunk.setBlock(4, 5, 6, stone);
+
+        VoxelInfo first = wrapper.getCollisionShapeAt(1, 2, 3);
+        VoxelInfo second = wrapper.getCollisionShapeAt(4, 5, 6);
+
+        assertTrue(first.isColliding());
+        assertTrue(first.isBlocking());
+        assertSame(stone.getCollisionShape(), first.getCollisionShape());
+        assertEquals(new Vector3i(1, 2, 3), first.getUserData());
+        assertEquals(new Vector3i(4, 5, 6), second.getUserData());
+        assertSame(first.getCollisionOffset(), second.getCollisionOffset());
+    }
+
+    @Test
+    public void testBlockChangeVisibleImmediately() {
+        assertFalse(wrapper.getCollisionShapeAt(1, 2, 3).isColliding());
+        chunk.setBlock(1, 2, 3, stone);
+        assertTrue(wrapper.getCollisionShapeAt(1, 2, 3).isColliding());
+        chunk.setBlock(1, 2, 3, air);
+        assertFalse(wrapper.getCollisionShapeAt(1, 2, 3).isColliding());
+    }
+
+    @Test
+    public void testBlockRegistrationDiscardsInfo() {
+        VoxelInfo before = wrapper.getCollisionShapeAt(1, 2, 3);
+        when(blockManager.getBlockProperties()).thenReturn(new PackedBlockProperties(new Block[]{air, stone}, air));
+
+        assertNotSame(before, wrapper.getCollisionShapeAt(1, 2, 3));
+    }
+
+    @Test
+    public void testDisposedChunkFallsBackToWorld() {
+        wrapper.getCollisionShapeAt(1, 2, 3);
+        chunk.dispose();
+        when(chunkProvider.getChunk(0, 0, 0)).thenReturn(null);
+        when(worldProvider.getBlock(1, 2, 3)).thenReturn(stone);
+
+        VoxelInfo info = wrapper.getCollisionShapeAt(1, 2, 3);
+
+        assertTrue(info.isColliding());
+        assertEquals(new Vector3i(1, 2, 3), info.getUserData());
+    }
+}
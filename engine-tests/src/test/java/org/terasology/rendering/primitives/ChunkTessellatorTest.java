@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.rendering.primitives;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.TerasologyTestingEnvironment;
+import org.terasology.assets.ResourceUrn;
+import org.terasology.assets.management.AssetManager;
+import org.terasology.engine.subsystem.lwjgl.GLBufferPool;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.world.ChunkView;
+import org.terasology.world.biomes.BiomeManager;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.block.BlockUri;
+import org.terasology.world.block.family.SymmetricBlockFamilyFactory;
+import org.terasology.world.block.internal.BlockManagerImpl;
+import org.terasology.world.block.loader.BlockFamilyDefinition;
+import org.terasology.world.block.loader.BlockFamilyDefinitionData;
+import org.terasology.world.block.shapes.BlockShape;
+import org.terasology.world.block.tiles.WorldAtlas;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.internal.ChunkViewCoreImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ */
+public class ChunkTessellatorTest extends TerasologyTestingEnvironment {
+
+    private static final int INDICES_PER_FACE = 6;
+
+    private Block airBlock;
+    private Block stoneBlock;
+    private Block dirtBlock;
+    private BlockManager blockManager;
+    private BiomeManager biomeManager;
+
+    @Before
+    public void setup() throws Exception {
+        super.setup();
+        AssetManager assetManager = CoreRegistry.get(AssetManager.class);
+        WorldAtlas worldAtlas = mock(WorldAtlas.class);
+        when(worldAtlas.getRelativeTileSize()).thenReturn(1f / 16);
+        blockManager = new BlockManagerImpl(worldAtlas, assetManager);
+        CoreRegistry.put(BlockManager.class, blockManager);
+        biomeManager = mock(BiomeManager.class);
+        airBlock = blockManager.getBlock(BlockManager.AIR_ID);
+        stoneBlock = createCubeBlock(assetManager, "engine:stone");
+        dirtBlock = createCubeBlock(assetManager, "engine:dirt");
+    }
+
+    private Block createCubeBlock(AssetManager assetManager, String urn) {
+        BlockFamilyDefinitionData data = new BlockFamilyDefinitionData();
+        data.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
+        data.getBaseSection().setTranslucent(false);
+        data.setFamilyFactory(new SymmetricBlockFamilyFactory());
+        assetManager.loadAsset(new ResourceUrn(urn), data, BlockFamilyDefinition.class);
+        return blockManager.getBlock(new BlockUri(new ResourceUrn(urn)));
+    }
+
+    private ChunkView createView(Chunk chunk) {
+        return new ChunkViewCoreImpl(new Chunk[]{chunk}, Region3i.createFromCenterExtents(Vector3i.zero(), Vector3i.zero()),
+                new Vector3i(), airBlock);
+    }
+
+    private static int countOpaqueFaces(ChunkTessellator tessellator, ChunkView view) {
+        ChunkMesh mesh = tessellator.generateMesh(view, ChunkConstants.SIZE_Y, 0);
+        return mesh.getVertexElements(ChunkMesh.RenderType.OPAQUE).finalIndices.limit() / INDICES_PER_FACE;
+    }
+
+    @Test
+    public void testCubeBlocksMergeable() {
+        GreedyMesher mesher = new GreedyMesher();
+        assertTrue(mesher.isMergeable(stoneBlock));
+        assertFalse(mesher.isMergeable(airBlock));
+    }
+
+    @Test
+    public void testFlatLayerMergedIntoOneFacePerSide() {
+        Chunk chunk = new ChunkImpl(0, 0, 0, blockManager, biomeManager);
+        for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+            for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                chunk.setBlock(x, 0, z, stoneBlock);
+            }
+        }
+        ChunkView view = createView(chunk);
+
+        int topAndBottom = 2 * ChunkConstants.SIZE_X * ChunkConstants.SIZE_Z;
+        int edges = 2 * ChunkConstants.SIZE_X + 2 * ChunkConstants.SIZE_Z;
+        assertEquals(topAndBottom + edges, countOpaqueFaces(new ChunkTessellator(new GLBufferPool(false), false), view));
+        assertEquals(6, countOpaqueFaces(new ChunkTessellator(new GLBufferPool(false), true), view));
+    }
+
+    @Test
+    public void testDifferentBlocksNotMerged() {
+        Chunk chunk = new ChunkImpl(0, 0, 0, blockManager, biomeManager);
+        for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+            chunk.setBlock(x, 0, 0, x % 2 == 0 ? stoneBlock : dirtBlock);
+        }
+        ChunkView view = createView(chunk);
+
+        int faces = 4 * ChunkConstants.SIZE_X + 2;
+        assertEquals(faces, countOpaqueFaces(new ChunkTessellator(new GLBufferPool(false), false), view));
+        assertEquals(faces, countOpaqueFaces(new ChunkTessellator(new GLBufferPool(false), true), view));
+    }
+}
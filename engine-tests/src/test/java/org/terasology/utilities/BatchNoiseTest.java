@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.terasology.utilities.procedural.BrownianNoise;
+import org.terasology.utilities.procedural.Noise;
+import org.terasology.utilities.procedural.PerlinNoise;
+import org.terasology.utilities.procedural.SimplexNoise;
+import org.terasology.utilities.procedural.WhiteNoise;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Checks that the batch methods of different {@link Noise} implementations match their scalar noise.
+ */
+@RunWith(Parameterized.class)
+public class BatchNoiseTest {
+
+    private static final float TOLERANCE = 0.001f;
+
+    private Noise noiseGen;
+
+    public BatchNoiseTest(Noise noiseGen) {
+        this.noiseGen = noiseGen;
+    }
+
+    @Parameters(name = "{0}")
+    public static Collection<Noise[]> data() {
+        return Arrays.asList(new Noise[][]{
+                {new WhiteNoise(0xCAFE)},
+                {new SimplexNoise(0xCAFE)},
+                {new PerlinNoise(0xCAFE)},
+                {new BrownianNoise(new SimplexNoise(0xCAFE), 8)},
+                {new BrownianNoise(new PerlinNoise(0xCAFE), 8)}
+        });
+    }
+
+    @Test
+    public void testGrid2D() {
+        int sizeX = 33;
+        int sizeY = 17;
+        float[] values = new float[sizeX * sizeY];
+        noiseGen.noise(values, -37, 79, 3, 2, 0.37f, 0.53f, sizeX, sizeY);
+
+        for (int y = 0; y < sizeY; y++) {
+            for (int x = 0; x < sizeX; x++) {
+                float expected = noiseGen.noise((-37 + x * 3) * 0.37f, (79 + y * 2) * 0.53f);
+                Assert.assertEquals(expected, values[x + y * sizeX], TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    public void testGrid3D() {
+        int sizeX = 17;
+        int sizeY = 9;
+        int sizeZ = 13;
+        float[] values = new float[sizeX * sizeY * sizeZ];
+        noiseGen.noise(values, 26, -9, 589, 1, 2, 3, 0.21f, 0.33f, 0.17f, sizeX, sizeY, sizeZ);
+
+        for (int z = 0; z < sizeZ; z++) {
+            for (int y = 0; y < sizeY; y++) {
+                for (int x = 0; x < sizeX; x++) {
+                    float expected = noiseGen.noise((26 + x) * 0.21f, (-9 + y * 2) * 0.33f, (589 + z * 3) * 0.17f);
+                    Assert.assertEquals(expected, values[x + sizeX * (y + sizeY * z)], TOLERANCE);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAddNoiseAccumulates() {
+        int sizeX = 8;
+        int sizeY = 8;
+        float[] values = new float[sizeX * sizeY];
+        Arrays.fill(values, 1);
+        noiseGen.addNoise(values, 0.5f, 1, 3, 6, 6, 0.25f, 0.25f, sizeX, sizeY);
+
+        for (int y = 0; y < sizeY; y++) {
+            for (int x = 0; x < sizeX; x++) {
+                float expected = 1 + 0.5f * noiseGen.noise((1 + x * 6) * 0.25f, (3 + y * 6) * 0.25f);
+                Assert.assertEquals(expected, values[x + y * sizeX], TOLERANCE);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Rect2i;
+import org.terasology.math.geom.Vector2f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.utilities.procedural.BrownianNoise;
+import org.terasology.utilities.procedural.PerlinNoise;
+import org.terasology.utilities.procedural.SubSampledNoise;
+
+/**
+ * Checks that the values of {@link SubSampledNoise} only depend on the world position, not on the region they are
+ * requested for.
+ */
+public class SubSampledNoiseTest {
+
+    private static final int SAMPLE_RATE = 4;
+
+    @Test
+    public void testOverlappingRegionsAgree2D() {
+        SubSampledNoise noise = new SubSampledNoise(new BrownianNoise(new PerlinNoise(0xCAFE), 6),
+                new Vector2f(0.0123f, 0.0071f), SAMPLE_RATE);
+        Rect2i first = Rect2i.createFromMinAndSize(-1000, 240, 32, 32);
+        Rect2i second = Rect2i.createFromMinAndSize(-988, 252, 32, 32);
+        float[] firstValues = noise.noise(first);
+        float[] secondValues = noise.noise(second);
+
+        for (int y = second.minY(); y <= first.maxY(); y++) {
+            for (int x = second.minX(); x <= first.maxX(); x++) {
+                float firstValue = firstValues[x - first.minX() + first.sizeX() * (y - first.minY())];
+                float secondValue = secondValues[x - second.minX() + second.sizeX() * (y - second.minY())];
+                Assert.assertEquals(Float.floatToIntBits(firstValue), Float.floatToIntBits(secondValue));
+            }
+        }
+    }
+
+    @Test
+    public void testOverlappingRegionsAgree3D() {
+        SubSampledNoise noise = new SubSampledNoise(new BrownianNoise(new PerlinNoise(0xCAFE), 6),
+                new Vector3f(0.0123f, 0.0271f, 0.0071f), SAMPLE_RATE);
+        Region3i first = Region3i.createFromMinAndSize(new Vector3i(-1000, 36, 240), new Vector3i(16, 16, 16));
+        Region3i second = Region3i.createFromMinAndSize(new Vector3i(-992, 44, 248), new Vector3i(16, 16, 16));
+        float[] firstValues = noise.noise(first);
+        float[] secondValues = noise.noise(second);
+
+        for (int z = second.minZ(); z <= first.maxZ(); z++) {
+            for (int y = second.minY(); y <= first.maxY(); y++) {
+                for (int x = second.minX(); x <= first.maxX(); x++) {
+                    float firstValue = firstValues[x - first.minX()
+                            + first.sizeX() * (y - first.minY() + first.sizeY() * (z - first.minZ()))];
+                    float secondValue = secondValues[x - second.minX()
+                            + second.sizeX() * (y - second.minY() + second.sizeY() * (z - second.minZ()))];
+                    Assert.assertEquals(Float.floatToIntBits(firstValue), Float.floatToIntBits(secondValue));
+                }
+            }
+        }
+    }
+}
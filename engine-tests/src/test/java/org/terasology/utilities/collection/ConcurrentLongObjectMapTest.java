@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.collection;
+
+import com.google.common.collect.Lists;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentLongObjectMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertNull(map.put(-3L, "a"));
+        assertEquals("a", map.put(-3L, "b"));
+        map.put(Long.MAX_VALUE, "c");
+
+        assertEquals("b", map.get(-3L));
+        assertTrue(map.containsKey(Long.MAX_VALUE));
+        assertEquals(2, map.size());
+        assertEquals("b", map.remove(-3L));
+        assertNull(map.get(-3L));
+        assertEquals(1, map.values().size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testForEachKeyStopsWhenProcedureReturnsFalse() {
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        for (long i = 0; i < 100; i++) {
+            map.put(i, "value");
+        }
+        TLongList keys = new TLongArrayList();
+
+        assertFalse(map.forEachKey(key -> {
+            keys.add(key);
+            return keys.size() < 10;
+        }));
+        assertEquals(10, keys.size());
+    }
+
+    @Test
+    public void testConcurrentPuts() throws InterruptedException {
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            long offset = thread * 10000L;
+            executor.execute(() -> {
+                for (long i = offset; i < offset + 10000; i++) {
+                    map.put(i, i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(40000, map.size());
+        for (long i = 0; i < 40000; i++) {
+            assertEquals(Long.valueOf(i), map.get(i));
+        }
+    }
+
+    @Test
+    public void testReadsDuringWritesSeeStableEntries() throws Exception {
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        for (long i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Future<?>> readers = Lists.newArrayList();
+        for (int thread = 0; thread < 2; thread++) {
+            readers.add(executor.submit(() -> {
+                while (writing.get()) {
+                    for (long i = 0; i < 1000; i++) {
+                        assertEquals(Long.valueOf(i), map.get(i));
+                    }
+                }
+            }));
+        }
+        // grows the tables and leaves removed entries behind while the readers run
+        for (long i = 1000; i < 100000; i++) {
+            map.put(i, i);
+            if (i % 2 == 0) {
+                map.remove(i);
+            }
+        }
+        writing.set(false);
+        for (Future<?> reader : readers) {
+            reader.get();
+        }
+        executor.shutdown();
+
+        assertEquals(1000 + 99000 / 2, map.size());
+        assertNull(map.get(1000L));
+        assertEquals(Long.valueOf(1001L), map.get(1001L));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.concurrency;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.terasology.utilities.random.FastRandom;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DynamicPriorityBlockingQueueTest {
+
+    private int origin;
+
+    @Test
+    public void testElementsReturnedInPriorityOrder() {
+        DynamicPriorityBlockingQueue<Integer> queue = new DynamicPriorityBlockingQueue<>(Integer::compare);
+        List<Integer> values = Lists.newArrayList();
+        FastRandom random = new FastRandom(42);
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(10000);
+            values.add(value);
+            queue.offer(value);
+        }
+        Collections.sort(values);
+
+        for (Integer value : values) {
+            assertEquals(value, queue.poll());
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testReprioritizeAfterOrderingChanges() {
+        DynamicPriorityBlockingQueue<Integer> queue = new DynamicPriorityBlockingQueue<>(
+                (a, b) -> Integer.compare(Math.abs(a - origin), Math.abs(b - origin)));
+        for (int i = 0; i < 100; i++) {
+            queue.offer(i);
+        }
+        assertEquals(0, (int) queue.peek());
+
+        origin = 70;
+        queue.reprioritize();
+        assertEquals(70, (int) queue.poll());
+        int previousDistance = 0;
+        while (!queue.isEmpty()) {
+            int distance = Math.abs(queue.poll() - origin);
+            assertTrue(distance >= previousDistance);
+            previousDistance = distance;
+        }
+    }
+
+    @Test
+    public void testRemoveIfDropsMatchingElements() {
+        DynamicPriorityBlockingQueue<Integer> queue = new DynamicPriorityBlockingQueue<>(Integer::compare);
+        for (int i = 99; i >= 0; i--) {
+            queue.offer(i);
+        }
+        assertTrue(queue.removeIf(value -> value % 2 == 0));
+        assertEquals(50, queue.size());
+        for (int i = 1; i < 100; i += 2) {
+            assertEquals(i, (int) queue.poll());
+        }
+    }
+
+    @Test
+    public void testRemoveKeepsOrder() {
+        DynamicPriorityBlockingQueue<Integer> queue = new DynamicPriorityBlockingQueue<>(Integer::compare);
+        for (int i = 0; i < 20; i++) {
+            queue.offer(i);
+        }
+        assertTrue(queue.remove(5));
+        for (int i = 0; i < 20; i++) {
+            if (i != 5) {
+                assertEquals(i, (int) queue.poll());
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@
 import org.terasology.world.block.Block;
 import org.terasology.world.block.BlockManager;
 import org.terasology.world.block.BlockUri;
+import org.terasology.world.block.PackedBlockProperties;
 import org.terasology.world.block.family.SymmetricBlockFamilyFactory;
 import org.terasology.world.block.internal.BlockManagerImpl;
 import org.terasology.world.block.loader.BlockFamilyDefinition;
@@ -39,6 +40,8 @@
 import org.terasology.world.chunks.internal.ChunkImpl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 
 public class ChunkTest extends TerasologyTestingEnvironment {
@@ -73,6 +76,22 @@ public void testChangeBlock() {
         assertEquals(solid, chunk.getBlock(new Vector3i(1, 2, 3)));
     }
 
+    @Test
+    public void testBlockPropertiesById() {
+        chunk.setBlock(new Vector3i(1, 2, 3), solid);
+        short id = chunk.getBlockId(1, 2, 3);
+        assertEquals(solid.getId(), id);
+
+        PackedBlockProperties properties = blockManager.getBlockProperties();
+        assertTrue(properties.isSolid(id));
+        assertFalse(properties.isTranslucent(id));
+        assertFalse(properties.isPenetrable(id));
+        assertFalse(properties.isLiquid(id));
+        assertEquals(0, properties.getLuminance(id));
+        assertTrue(properties.isTranslucent((short) 12345));
+        assertTrue(properties.isPenetrable((short) 12345));
+    }
+
     @Test
     public void testGetAabb() {
         assertEquals(new Vector3f(0, 0, 0), chunk.getAABB().getMin());
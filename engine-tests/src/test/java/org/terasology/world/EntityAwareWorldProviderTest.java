@@ -44,6 +44,7 @@
 import org.terasology.entitySystem.stubs.RetainedOnBlockChangeComponent;
 import org.terasology.entitySystem.stubs.StringComponent;
 import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.math.PackedVector3i;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.network.NetworkComponent;
 import org.terasology.testUtil.WorldProviderCoreStub;
@@ -62,6 +63,7 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -150,6 +152,21 @@ private BlockFamily createBlockFamily(String urn, Prefab prefab, AssetManager as
         return blockManager.getBlockFamily(urn);
     }
 
+    @Test
+    public void testDistantBlockEntityDoesNotReplaceBlockEntityNearOrigin() {
+        Vector3i nearPos = new Vector3i(0, 0, 0);
+        Vector3i distantPos = new Vector3i(PackedVector3i.MAX_COORDINATE - PackedVector3i.MIN_COORDINATE + 1, 0, 0);
+        worldProvider.setBlock(nearPos, keepActiveBlock);
+        worldProvider.setBlock(distantPos, keepActiveBlock);
+
+        EntityRef nearEntity = worldProvider.getExistingBlockEntityAt(nearPos);
+        EntityRef distantEntity = worldProvider.getExistingBlockEntityAt(distantPos);
+        assertTrue(nearEntity.exists());
+        assertTrue(distantEntity.exists());
+        assertNotEquals(nearEntity, distantEntity);
+        assertEquals(nearPos, nearEntity.getComponent(BlockComponent.class).getPosition());
+    }
+
     @Test
     public void testGetTemporaryBlockSendsNoEvent() {
         BlockEventChecker checker = new BlockEventChecker();
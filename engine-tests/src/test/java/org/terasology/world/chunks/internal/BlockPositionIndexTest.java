@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.block.PackedBlockProperties;
+import org.terasology.world.chunks.ChunkConstants;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class BlockPositionIndexTest {
+
+    private Block air;
+    private Block stone;
+    private Block torch;
+    private Block chest;
+    private PackedBlockProperties properties;
+    private ChunkImpl chunk;
+
+    @Before
+    public void setup() {
+        air = createBlock(0, false);
+        stone = createBlock(1, false);
+        torch = createBlock(2, true);
+        chest = createBlock(3, true);
+        properties = new PackedBlockProperties(new Block[]{air, stone, torch, chest}, air);
+        chunk = new ChunkImpl(new Vector3i(1, -1, 2), mock(BlockManager.class), null);
+    }
+
+    private static Block createBlock(int id, boolean lifecycleEvents) {
+        Block block = new Block();
+        block.setId((short) id);
+        block.setLifecycleEventsRequired(lifecycleEvents);
+        return block;
+    }
+
+    private static int[] positionsOf(BlockPositionIndex index, int blockType) {
+        int start = index.getPositionsStart(blockType);
+        int[] result = new int[index.getPositionsLength(blockType)];
+        System.arraycopy(index.getPositions(), start, result, 0, result.length);
+        return result;
+    }
+
+    @Test
+    public void testPositionsGroupedByBlockType() {
+        chunk.setBlock(1, 2, 3, torch);
+        chunk.setBlock(4, 5, 6, chest);
+        chunk.setBlock(7, 8, 9, torch);
+        chunk.setBlock(0, 0, 0, stone);
+
+        BlockPositionIndex index = BlockPositionIndex.of(chunk, properties);
+
+        int offsetX = ChunkConstants.SIZE_X;
+        int offsetY = -ChunkConstants.SIZE_Y;
+        int offsetZ = 2 * ChunkConstants.SIZE_Z;
+        assertEquals(2, index.getBlockTypeCount());
+        assertEquals(torch.getId(), index.getBlockId(0));
+        assertArrayEquals(new int[]{offsetX + 1, offsetY + 2, offsetZ + 3, offsetX + 7, offsetY + 8, offsetZ + 9}, positionsOf(index, 0));
+        assertEquals(chest.getId(), index.getBlockId(1));
+        assertArrayEquals(new int[]{offsetX + 4, offsetY + 5, offsetZ + 6}, positionsOf(index, 1));
+    }
+
+    @Test
+    public void testRebuildReplacesContent() {
+        chunk.setBlock(1, 2, 3, torch);
+        BlockPositionIndex index = BlockPositionIndex.of(chunk, properties);
+        chunk.setBlock(1, 2, 3, stone);
+
+        index.build(chunk, properties);
+
+        assertEquals(0, index.getBlockTypeCount());
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.generation;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.generation.facets.base.BaseFacet2D;
+import org.terasology.world.generation.facets.base.BaseFacet3D;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnFacetCacheTest {
+
+    private static final Vector3i SIZE = new Vector3i(4, 4, 4);
+
+    private ListMultimap<Class<? extends WorldFacet>, FacetProvider> chains = ArrayListMultimap.create();
+    private Map<Class<? extends WorldFacet>, Border3D> borders = Maps.newHashMap();
+    private HeightProvider heightProvider = new HeightProvider();
+    private DensityProvider densityProvider = new DensityProvider();
+    private VolumeProvider volumeProvider = new VolumeProvider();
+    private MixedHeightProvider mixedHeightProvider = new MixedHeightProvider();
+
+    @Before
+    public void setup() {
+        chains.put(HeightFacet.class, heightProvider);
+        chains.put(DensityFacet.class, heightProvider);
+        chains.put(DensityFacet.class, densityProvider);
+        chains.put(VolumeFacet.class, volumeProvider);
+        chains.put(MixedHeightFacet.class, volumeProvider);
+        chains.put(MixedHeightFacet.class, mixedHeightProvider);
+    }
+
+    private RegionImpl createRegion(ColumnFacetCache cache, int x, int y, int z) {
+        return new RegionImpl(Region3i.createFromMinAndSize(new Vector3i(x, y, z), SIZE), chains, borders, cache, null);
+    }
+
+    @Test
+    public void testColumnFacetSharedByStackedRegions() {
+        ColumnFacetCache cache = new ColumnFacetCache(16, chains);
+
+        HeightFacet lower = createRegion(cache, 0, 0, 0).getFacet(HeightFacet.class);
+        HeightFacet upper = createRegion(cache, 0, 4, 0).getFacet(HeightFacet.class);
+
+        assertSame(lower, upper);
+        assertEquals(1, heightProvider.processed);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testColumnFacetSharedThroughDependentFacet() {
+        ColumnFacetCache cache = new ColumnFacetCache(16, chains);
+
+        createRegion(cache, 0, 0, 0).getFacet(DensityFacet.class);
+        createRegion(cache, 0, 4, 0).getFacet(DensityFacet.class);
+
+        assertEquals(1, heightProvider.processed);
+        assertEquals(2, densityProvider.processed);
+    }
+
+    @Test
+    public void testFacetRequiringVolumeNotCached() {
+        ColumnFacetCache cache = new ColumnFacetCache(16, chains);
+
+        assertTrue(cache.getColumnFacetsFor(MixedHeightFacet.class).isEmpty());
+        createRegion(cache, 0, 0, 0).getFacet(MixedHeightFacet.class);
+        createRegion(cache, 0, 4, 0).getFacet(MixedHeightFacet.class);
+
+        assertEquals(2, mixedHeightProvider.processed);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedColumnEvicted() {
+        ColumnFacetCache cache = new ColumnFacetCache(1, chains);
+
+        createRegion(cache, 0, 0, 0).getFacet(HeightFacet.class);
+        createRegion(cache, 4, 0, 0).getFacet(HeightFacet.class);
+        createRegion(cache, 0, 4, 0).getFacet(HeightFacet.class);
+
+        assertEquals(3, heightProvider.processed);
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    public static class HeightFacet extends BaseFacet2D {
+        public HeightFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class MixedHeightFacet extends BaseFacet2D {
+        public MixedHeightFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class DensityFacet extends BaseFacet3D {
+        public DensityFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class VolumeFacet extends BaseFacet3D {
+        public VolumeFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    @Produces(HeightFacet.class)
+    public static class HeightProvider implements FacetProvider {
+        private int processed;
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(HeightFacet.class, new HeightFacet(region.getRegion(), region.getBorderForFacet(HeightFacet.class)));
+            processed++;
+        }
+    }
+
+    @Produces(DensityFacet.class)
+    @Requires(@Facet(HeightFacet.class))
+    public static class DensityProvider implements FacetProvider {
+        private int processed;
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(DensityFacet.class, new DensityFacet(region.getRegion(), region.getBorderForFacet(DensityFacet.class)));
+            processed++;
+        }
+    }
+
+    @Produces(VolumeFacet.class)
+    public static class VolumeProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(VolumeFacet.class, new VolumeFacet(region.getRegion(), region.getBorderForFacet(VolumeFacet.class)));
+        }
+    }
+
+    @Produces(MixedHeightFacet.class)
+    @Requires(@Facet(VolumeFacet.class))
+    public static class MixedHeightProvider implements FacetProvider {
+        private int processed;
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(MixedHeightFacet.class, new MixedHeightFacet(region.getRegion(), region.getBorderForFacet(MixedHeightFacet.class)));
+            processed++;
+        }
+    }
+}
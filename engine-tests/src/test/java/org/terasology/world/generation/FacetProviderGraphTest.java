@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.generation;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Test;
+import org.terasology.context.Context;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.generation.facets.base.BaseFieldFacet2D;
+import org.terasology.world.generator.plugin.WorldGeneratorPluginLibrary;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class FacetProviderGraphTest {
+
+    private Context context = new ContextImpl();
+
+    private TemperatureProvider temperatureProvider = new TemperatureProvider();
+    private HumidityProvider humidityProvider = new HumidityProvider();
+    private ClimateProvider climateProvider = new ClimateProvider();
+    private ClimateOffsetProvider climateOffsetProvider = new ClimateOffsetProvider();
+    private ClimateScaleProvider climateScaleProvider = new ClimateScaleProvider();
+
+    @Test
+    public void testDependencies() {
+        ListMultimap<Class<? extends WorldFacet>, FacetProvider> chains = ArrayListMultimap.create();
+        chains.putAll(ClimateFacet.class, Arrays.asList(temperatureProvider, humidityProvider, climateProvider,
+                climateOffsetProvider, climateScaleProvider));
+        FacetProviderGraph graph = new FacetProviderGraph(chains, MoreExecutors.directExecutor());
+
+        assertEquals(Collections.emptyList(), graph.getDependencies(ClimateFacet.class, temperatureProvider));
+        assertEquals(Collections.emptyList(), graph.getDependencies(ClimateFacet.class, humidityProvider));
+        assertEquals(Arrays.asList(temperatureProvider, humidityProvider), graph.getDependencies(ClimateFacet.class, climateProvider));
+        assertEquals(Arrays.asList(temperatureProvider, climateProvider), graph.getDependencies(ClimateFacet.class, climateOffsetProvider));
+        assertEquals(Arrays.asList(climateProvider, climateOffsetProvider), graph.getDependencies(ClimateFacet.class, climateScaleProvider));
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        Region3i region = Region3i.createFromMinAndSize(new Vector3i(-8, 0, -8), new Vector3i(16, 1, 16));
+
+        ClimateFacet sequential = buildWorld(false).getWorldData(region).getFacet(ClimateFacet.class);
+        ClimateFacet parallel = buildWorld(true).getWorldData(region).getFacet(ClimateFacet.class);
+
+        assertArrayEquals(sequential.getInternal(), parallel.getInternal(), 0);
+    }
+
+    private World buildWorld(boolean parallel) {
+        WorldBuilder worldBuilder = new WorldBuilder(context.get(WorldGeneratorPluginLibrary.class));
+        worldBuilder.setSeed(12);
+        worldBuilder.addProvider(new ClimateScaleProvider());
+        worldBuilder.addProvider(new ClimateOffsetProvider());
+        worldBuilder.addProvider(new ClimateProvider());
+        worldBuilder.addProvider(new HumidityProvider());
+        worldBuilder.addProvider(new TemperatureProvider());
+        worldBuilder.setParallelFacetProviders(parallel);
+        return worldBuilder.build();
+    }
+
+    public static class TemperatureFacet extends BaseFieldFacet2D {
+        public TemperatureFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class HumidityFacet extends BaseFieldFacet2D {
+        public HumidityFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class ClimateFacet extends BaseFieldFacet2D {
+        public ClimateFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    @Produces(TemperatureFacet.class)
+    public static class TemperatureProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            TemperatureFacet facet = new TemperatureFacet(region.getRegion(), region.getBorderForFacet(TemperatureFacet.class));
+            float[] values = facet.getInternal();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i % 7;
+            }
+            region.setRegionFacet(TemperatureFacet.class, facet);
+        }
+    }
+
+    @Produces(HumidityFacet.class)
+    public static class HumidityProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            HumidityFacet facet = new HumidityFacet(region.getRegion(), region.getBorderForFacet(HumidityFacet.class));
+            float[] values = facet.getInternal();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i % 5;
+            }
+            region.setRegionFacet(HumidityFacet.class, facet);
+        }
+    }
+
+    @Produces(ClimateFacet.class)
+    @Requires({@Facet(TemperatureFacet.class), @Facet(HumidityFacet.class)})
+    public static class ClimateProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            float[] temperature = region.getRegionFacet(TemperatureFacet.class).getInternal();
+            float[] humidity = region.getRegionFacet(HumidityFacet.class).getInternal();
+            ClimateFacet facet = new ClimateFacet(region.getRegion(), region.getBorderForFacet(ClimateFacet.class));
+            float[] values = facet.getInternal();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = temperature[i] * humidity[i];
+            }
+            region.setRegionFacet(ClimateFacet.class, facet);
+        }
+    }
+
+    @Updates(@Facet(ClimateFacet.class))
+    @Requires(@Facet(TemperatureFacet.class))
+    public static class ClimateOffsetProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            float[] temperature = region.getRegionFacet(TemperatureFacet.class).getInternal();
+            float[] values = region.getRegionFacet(ClimateFacet.class).getInternal();
+            for (int i = 0; i < values.length; i++) {
+                values[i] += temperature[i];
+            }
+        }
+    }
+
+    @Updates(@Facet(ClimateFacet.class))
+    public static class ClimateScaleProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            float[] values = region.getRegionFacet(ClimateFacet.class).getInternal();
+            for (int i = 0; i < values.length; i++) {
+                values[i] *= 3;
+            }
+        }
+    }
+}
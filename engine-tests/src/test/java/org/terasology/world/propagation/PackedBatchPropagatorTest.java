@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.propagation;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.terasology.TerasologyTestingEnvironment;
+import org.terasology.assets.ResourceUrn;
+import org.terasology.assets.management.AssetManager;
+import org.terasology.math.PackedVector3i;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.utilities.random.FastRandom;
+import org.terasology.utilities.random.Random;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.block.BlockUri;
+import org.terasology.world.block.family.SymmetricBlockFamilyFactory;
+import org.terasology.world.block.internal.BlockManagerImpl;
+import org.terasology.world.block.loader.BlockFamilyDefinition;
+import org.terasology.world.block.loader.BlockFamilyDefinitionData;
+import org.terasology.world.block.shapes.BlockShape;
+import org.terasology.world.block.tiles.NullWorldAtlas;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.propagation.light.LightPropagationRules;
+import org.terasology.world.propagation.light.SunlightPropagationRules;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the packed propagator produces the same values as the standard propagator.
+ */
+public class PackedBatchPropagatorTest extends TerasologyTestingEnvironment {
+
+    private static final int BATCHES = 20;
+    private static final int CHANGES_PER_BATCH = 50;
+
+    private Region3i testingRegion = Region3i.createFromMinAndSize(new Vector3i(-8, -8, -8), new Vector3i(24, 24, 24));
+
+    private AssetManager assetManager;
+    private BlockManagerImpl blockManager;
+    private Block air;
+    private Block[] blocks;
+
+    @Before
+    public void setup() throws Exception {
+        super.setup();
+        assetManager = CoreRegistry.get(AssetManager.class);
+        blockManager = new BlockManagerImpl(new NullWorldAtlas(), assetManager, true);
+        CoreRegistry.put(BlockManager.class, blockManager);
+
+        air = blockManager.getBlock(BlockManager.AIR_ID);
+        blocks = new Block[]{
+                air,
+                air,
+                createBlock("engine:stone", (byte) 0, false),
+                createBlock("engine:torch", ChunkConstants.MAX_LIGHT, true),
+                createBlock("engine:mediumLight", (byte) 5, true),
+                createBlock("engine:solidMediumLight", (byte) 5, false)};
+    }
+
+    private Block createBlock(String urn, byte luminance, boolean translucent) {
+        BlockFamilyDefinitionData data = new BlockFamilyDefinitionData();
+        data.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
+        data.getBaseSection().setLuminance(luminance);
+        data.getBaseSection().setTranslucent(translucent);
+        data.setFamilyFactory(new SymmetricBlockFamilyFactory());
+        assetManager.loadAsset(new ResourceUrn(urn), data, BlockFamilyDefinition.class);
+        return blockManager.getBlock(new BlockUri(new ResourceUrn(urn)));
+    }
+
+    @Test
+    public void testRandomLightEditsMatchStandardPropagator() {
+        assertRandomLightEditsMatchStandardPropagator();
+    }
+
+    @Test
+    public void testRandomLightEditsBeyondPackableRangeMatchStandardPropagator() {
+        testingRegion = Region3i.createFromMinAndSize(new Vector3i(PackedVector3i.MAX_COORDINATE - 32, -8, -8),
+                new Vector3i(24, 24, 24));
+        assertRandomLightEditsMatchStandardPropagator();
+    }
+
+    private void assertRandomLightEditsMatchStandardPropagator() {
+        LightPropagationRules lightRules = new LightPropagationRules();
+        StubPropagatorWorldView standardView = new StubPropagatorWorldView(testingRegion, air);
+        StubPropagatorWorldView packedView = new StubPropagatorWorldView(testingRegion, air);
+        BatchPropagator standardPropagator = new StandardBatchPropagator(lightRules, standardView);
+        BatchPropagator packedPropagator = new PackedBatchPropagator(lightRules, packedView);
+
+        Random random = new FastRandom(2017);
+        for (int batch = 0; batch < BATCHES; ++batch) {
+            List<BlockChange> changes = randomChanges(random, standardView, packedView);
+            standardPropagator.process(changes);
+            packedPropagator.process(changes);
+            assertSameValues(standardView, packedView);
+        }
+    }
+
+    @Test
+    public void testRandomSunlightEditsMatchStandardPropagator() {
+        Random random = new FastRandom(42);
+        StubPropagatorWorldView regenView = new StubPropagatorWorldView(testingRegion, air);
+        for (Vector3i pos : testingRegion) {
+            regenView.setValueAt(pos, (byte) random.nextInt(ChunkConstants.MAX_SUNLIGHT_REGEN + 1));
+        }
+        SunlightPropagationRules sunlightRules = new SunlightPropagationRules(regenView);
+        StubPropagatorWorldView standardView = new StubPropagatorWorldView(testingRegion, air);
+        StubPropagatorWorldView packedView = new StubPropagatorWorldView(testingRegion, air);
+        BatchPropagator standardPropagator = new StandardBatchPropagator(sunlightRules, standardView);
+        BatchPropagator packedPropagator = new PackedBatchPropagator(sunlightRules, packedView);
+
+        List<BlockChange> initialChanges = Lists.newArrayList();
+        for (Vector3i pos : testingRegion) {
+            initialChanges.add(new BlockChange(pos, air, air));
+        }
+        standardPropagator.process(initialChanges);
+        packedPropagator.process(initialChanges);
+        assertSameValues(standardView, packedView);
+
+        for (int batch = 0; batch < BATCHES; ++batch) {
+            List<BlockChange> changes = randomChanges(random, standardView, packedView);
+            standardPropagator.process(changes);
+            packedPropagator.process(changes);
+            assertSameValues(standardView, packedView);
+        }
+    }
+
+    private List<BlockChange> randomChanges(Random random, StubPropagatorWorldView standardView, StubPropagatorWorldView packedView) {
+        List<BlockChange> changes = Lists.newArrayListWithCapacity(CHANGES_PER_BATCH);
+        for (int i = 0; i < CHANGES_PER_BATCH; ++i) {
+            Vector3i pos = new Vector3i(
+                    random.nextInt(testingRegion.minX(), testingRegion.maxX()),
+                    random.nextInt(testingRegion.minY(), testingRegion.maxY()),
+                    random.nextInt(testingRegion.minZ(), testingRegion.maxZ()));
+            Block from = standardView.getBlockAt(pos);
+            Block to = blocks[random.nextInt(blocks.length)];
+            standardView.setBlockAt(pos, to);
+            packedView.setBlockAt(pos, to);
+            changes.add(new BlockChange(pos, from, to));
+        }
+        return changes;
+    }
+
+    private void assertSameValues(StubPropagatorWorldView expected, StubPropagatorWorldView actual) {
+        for (Vector3i pos : testingRegion) {
+            assertEquals(pos.toString(), expected.getValueAt(pos), actual.getValueAt(pos));
+        }
+    }
+}
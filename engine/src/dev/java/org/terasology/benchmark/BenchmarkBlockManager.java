@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark;
+
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.block.BlockUri;
+import org.terasology.world.block.family.BlockFamily;
+import org.terasology.world.block.PackedBlockProperties;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Block manager for benchmarks that only need blocks by id, without assets or block families. Ids outside the given
+ * blocks resolve to the first block, which should be air.
+ */
+public final class BenchmarkBlockManager extends BlockManager {
+    private final Block[] blocks;
+    private final PackedBlockProperties properties;
+
+    /**
+     * @param blocks the blocks, indexed by their id.
+     */
+    public BenchmarkBlockManager(Block... blocks) {
+        this.blocks = blocks;
+        properties = new PackedBlockProperties(blocks, blocks[0]);
+    }
+
+    @Override
+    public Block getBlock(short id) {
+        return (id >= 0 && id < blocks.length) ? blocks[id] : blocks[0];
+    }
+
+    @Override
+    public PackedBlockProperties getBlockProperties() {
+        return properties;
+    }
+
+    @Override
+    public Map<String, Short> getBlockIdMap() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public BlockFamily getBlockFamily(String uri) {
+        return null;
+    }
+
+    @Override
+    public BlockFamily getBlockFamily(BlockUri uri) {
+        return null;
+    }
+
+    @Override
+    public Block getBlock(String uri) {
+        return null;
+    }
+
+    @Override
+    public Block getBlock(BlockUri uri) {
+        return null;
+    }
+
+    @Override
+    public Collection<BlockUri> listRegisteredBlockUris() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Collection<BlockFamily> listRegisteredBlockFamilies() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public int getBlockFamilyCount() {
+        return 0;
+    }
+
+    @Override
+    public Collection<Block> listRegisteredBlocks() {
+        return Arrays.asList(blocks);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.compression;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.benchmark.BenchmarkBlockManager;
+import org.terasology.benchmark.worldgen.BenchmarkFacetProviders;
+import org.terasology.persistence.internal.StoreCompression;
+import org.terasology.protobuf.EntityData;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.CoreChunk;
+import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.generation.Region;
+import org.terasology.world.generation.WorldImpl;
+import org.terasology.world.generation.WorldRasterizer;
+import org.terasology.world.generation.facets.DensityFacet;
+import org.terasology.world.generation.facets.SurfaceHeightFacet;
+
+import java.io.IOException;
+
+/**
+ * Encodes and decodes the chunk stores of generated chunks with one of the store codecs. The chunks get rasterized
+ * from the world of {@link BenchmarkFacetProviders} with stone, dirt, grass and water, around the surface where chunks
+ * are the least uniform. After the measured repetitions the encoding and decoding throughput in uncompressed MB per
+ * second and the compression ratio get printed.
+ */
+public class BenchmarkChunkCompression extends AbstractBenchmark {
+
+    private static final int COLUMNS = 4;
+    private static final int CHUNKS_PER_COLUMN = 4;
+    private static final int SEA_LEVEL = 32;
+
+    private final StoreCompression compression;
+
+    private EntityData.ChunkStore[] stores;
+    private byte[][] records;
+
+    private long uncompressedBytes;
+    private long compressedBytes;
+    private long encodeNanos;
+    private long decodeNanos;
+
+    public BenchmarkChunkCompression(StoreCompression compression) {
+        super(compression + " chunk compression (" + COLUMNS * COLUMNS * CHUNKS_PER_COLUMN + " chunks per repetition)",
+                5, new int[]{20});
+        this.compression = compression;
+    }
+
+    @Override
+    public void setup() {
+        TerrainRasterizer rasterizer = new TerrainRasterizer();
+        BlockManager blockManager = new BenchmarkBlockManager(rasterizer.getBlocks());
+        WorldImpl world = (WorldImpl) BenchmarkFacetProviders.createWorldBuilder()
+                .addRasterizer(rasterizer)
+                .build();
+        world.initialize();
+
+        stores = new EntityData.ChunkStore[COLUMNS * COLUMNS * CHUNKS_PER_COLUMN];
+        int index = 0;
+        for (int x = 0; x < COLUMNS; x++) {
+            for (int z = 0; z < COLUMNS; z++) {
+                for (int y = 0; y < CHUNKS_PER_COLUMN; y++) {
+                    ChunkImpl chunk = new ChunkImpl(x, y - CHUNKS_PER_COLUMN / 2, z, blockManager, null);
+                    world.rasterizeChunk(chunk, entity -> { });
+                    stores[index++] = chunk.encode().setStore(EntityData.EntityStore.getDefaultInstance()).build();
+                }
+            }
+        }
+        records = new byte[stores.length][];
+    }
+
+    @Override
+    public void prerun() {
+        uncompressedBytes = 0;
+        compressedBytes = 0;
+        encodeNanos = 0;
+        decodeNanos = 0;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        for (int i = 0; i < stores.length; i++) {
+            records[i] = compression.encode(stores[i]);
+        }
+        long encoded = System.nanoTime();
+        try {
+            for (byte[] record : records) {
+                uncompressedBytes += StoreCompression.decode(record, StoreCompression.GZIP).length;
+                compressedBytes += record.length;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        decodeNanos += System.nanoTime() - encoded;
+        encodeNanos += encoded - start;
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: encoding %.1f MB/s, decoding %.1f MB/s, ratio %.3f", getTitle(),
+                uncompressedBytes * 1e3 / encodeNanos, uncompressedBytes * 1e3 / decodeNanos,
+                (double) compressedBytes / uncompressedBytes));
+    }
+
+    /**
+     * Fills the chunks with stone below and water above the surface up to the sea level, topped with dirt and grass.
+     */
+    private static final class TerrainRasterizer implements WorldRasterizer {
+        private final Block air = createBlock(0, false);
+        private final Block stone = createBlock(1, false);
+        private final Block dirt = createBlock(2, false);
+        private final Block grass = createBlock(3, false);
+        private final Block water = createBlock(4, true);
+
+        private static Block createBlock(int id, boolean liquid) {
+            Block block = new Block();
+            block.setId((short) id);
+            block.setLiquid(liquid);
+            return block;
+        }
+
+        Block[] getBlocks() {
+            return new Block[]{air, stone, dirt, grass, water};
+        }
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public void generateChunk(CoreChunk chunk, Region chunkRegion) {
+            DensityFacet density = chunkRegion.getFacet(DensityFacet.class);
+            SurfaceHeightFacet surface = chunkRegion.getFacet(SurfaceHeightFacet.class);
+            for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+                for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                    float height = surface.get(x, z);
+                    for (int y = 0; y < ChunkConstants.SIZE_Y; y++) {
+                        float depth = density.get(x, y, z);
+                        int worldY = chunk.chunkToWorldPositionY(y);
+                        if (depth > 4) {
+                            chunk.setBlock(x, y, z, stone);
+                        } else if (depth > 1) {
+                            chunk.setBlock(x, y, z, dirt);
+                        } else if (depth > 0) {
+                            chunk.setBlock(x, y, z, (height > SEA_LEVEL) ? grass : dirt);
+                        } else if (worldY <= SEA_LEVEL) {
+                            chunk.setBlock(x, y, z, water);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up the blocks of the rasterizer by id, which the chunks need to return the replaced blocks.
+     */
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.lifecycle;
+
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TShortObjectMap;
+import gnu.trove.map.hash.TShortObjectHashMap;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.benchmark.BenchmarkBlockManager;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.utilities.random.FastRandom;
+import org.terasology.utilities.random.Random;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.OnActivatedBlocks;
+import org.terasology.world.block.PackedBlockProperties;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkBlockIterator;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.internal.BlockPositionIndex;
+import org.terasology.world.chunks.internal.ChunkImpl;
+
+
+/**
+ * Gathers the positions of the blocks requiring lifecycle events in a chunk and creates the activation events for them,
+ * either through per block type position lists or through a pooled {@link BlockPositionIndex}. The events are created
+ * but not sent. After the measured repetitions the time spent per chunk gets printed, split into gathering the
+ * positions (done on the chunk worker threads) and creating the events (done on the main thread).
+ */
+public class BenchmarkBlockLifecycleEvents extends AbstractBenchmark {
+
+    private static final int CHUNKS = 16;
+    private static final int LIFECYCLE_BLOCK_TYPES = 8;
+    private static final float LIFECYCLE_BLOCK_CHANCE = 0.01f;
+
+    private final boolean indexed;
+
+    private BenchmarkBlockManager blockManager;
+    private Chunk[] chunks;
+
+    private long gatherNanos;
+    private long dispatchNanos;
+    private long gatheredChunks;
+    private int createdEvents;
+
+    public BenchmarkBlockLifecycleEvents(boolean indexed) {
+        super((indexed ? "Block position index" : "Block position lists") + " (" + CHUNKS + " chunks per repetition)",
+                20, new int[]{50});
+        this.indexed = indexed;
+    }
+
+    @Override
+    public void setup() {
+        Block[] blocks = new Block[2 + LIFECYCLE_BLOCK_TYPES];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = new Block();
+            blocks[i].setId((short) i);
+            blocks[i].setLifecycleEventsRequired(i >= 2);
+        }
+        blockManager = new BenchmarkBlockManager(blocks);
+
+        Random random = new FastRandom(0);
+        chunks = new Chunk[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++) {
+            Chunk chunk = new ChunkImpl(new Vector3i(i, 0, 0), blockManager, null);
+            for (int y = 0; y < ChunkConstants.SIZE_Y; y++) {
+                for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                    for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+                        if (random.nextFloat() < LIFECYCLE_BLOCK_CHANCE) {
+                            chunk.setBlock(x, y, z, blocks[2 + random.nextInt(LIFECYCLE_BLOCK_TYPES)]);
+                        } else if (y < ChunkConstants.SIZE_Y / 2) {
+                            chunk.setBlock(x, y, z, blocks[1]);
+                        }
+                    }
+                }
+            }
+            chunk.deflate();
+            chunks[i] = chunk;
+        }
+    }
+
+    @Override
+    public void prerun() {
+        gatherNanos = 0;
+        dispatchNanos = 0;
+        gatheredChunks = 0;
+    }
+
+    @Override
+    public void run() {
+        if (indexed) {
+            runIndexed();
+        } else {
+            runLists();
+        }
+        gatheredChunks += chunks.length;
+    }
+
+    private void runIndexed() {
+        PackedBlockProperties properties = blockManager.getBlockProperties();
+        for (Chunk chunk : chunks) {
+            long start = System.nanoTime();
+            BlockPositionIndex index = BlockPositionIndex.of(chunk, properties);
+            long gathered = System.nanoTime();
+            int[] positions = index.getPositions();
+            for (int i = 0; i < index.getBlockTypeCount(); i++) {
+                OnActivatedBlocks event = new OnActivatedBlocks(positions, index.getPositionsStart(i), index.getPositionsLength(i), null);
+                createdEvents += event.blockCount();
+            }
+            index.release();
+            dispatchNanos += System.nanoTime() - gathered;
+            gatherNanos += gathered - start;
+        }
+    }
+
+    /**
+     * Gathers the positions like the chunk provider did before block position indices: a list for every registered block
+     * type requiring lifecycle events, filled while iterating over the blocks of the chunk.
+     */
+    private void runLists() {
+        for (Chunk chunk : chunks) {
+            long start = System.nanoTime();
+            TShortObjectMap<TIntList> mappings = new TShortObjectHashMap<>();
+            blockManager.listRegisteredBlocks().stream().filter(Block::isLifecycleEventsRequired).forEach(block ->
+                    mappings.put(block.getId(), new TIntArrayList()));
+            ChunkBlockIterator i = chunk.getBlockIterator();
+            while (i.next()) {
+                if (i.getBlock().isLifecycleEventsRequired()) {
+                    TIntList positionList = mappings.get(i.getBlock().getId());
+                    positionList.add(i.getBlockPos().x);
+                    positionList.add(i.getBlockPos().y);
+                    positionList.add(i.getBlockPos().z);
+                }
+            }
+            long gathered = System.nanoTime();
+            mappings.forEachEntry((id, positions) -> {
+                if (positions.size() > 0) {
+                    OnActivatedBlocks event = new OnActivatedBlocks(positions, null);
+                    createdEvents += event.blockCount();
+                }
+                return true;
+            });
+            dispatchNanos += System.nanoTime() - gathered;
+            gatherNanos += gathered - start;
+        }
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %.3f ms gathering and %.3f ms creating events per chunk", getTitle(),
+                gatherNanos / 1e6 / gatheredChunks, dispatchNanos / 1e6 / gatheredChunks));
+    }
+}
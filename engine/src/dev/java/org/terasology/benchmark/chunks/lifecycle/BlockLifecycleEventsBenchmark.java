@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.lifecycle;
+
+import com.google.common.collect.Lists;
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+
+import java.util.List;
+
+/**
+ * Compares gathering the blocks of a chunk that require lifecycle events into per block type lists with the pooled
+ * block position index.
+ */
+public final class BlockLifecycleEventsBenchmark {
+
+    private BlockLifecycleEventsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        final List<Benchmark> benchmarks = Lists.newArrayList();
+
+        benchmarks.add(new BenchmarkBlockLifecycleEvents(false));
+        benchmarks.add(new BenchmarkBlockLifecycleEvents(true));
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+}
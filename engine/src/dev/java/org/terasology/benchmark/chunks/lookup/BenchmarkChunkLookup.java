@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.lookup;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.PackedVector3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.utilities.collection.ConcurrentLongObjectMap;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.internal.ChunkImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads the blocks along rows crossing a region of loaded chunks, looking up the chunk of every block like
+ * {@code WorldProvider.getBlock} does. The chunks are stored in a map keyed by {@link Vector3i}, like the chunk
+ * providers did before, or by packed positions. The rows get split over a number of threads, like the chunk providers
+ * get read by the game thread and the chunk mesh threads at once. After the measured repetitions the block reads per
+ * second get printed.
+ */
+public class BenchmarkChunkLookup extends AbstractBenchmark {
+
+    private static final int CHUNKS_X = 8;
+    private static final int CHUNKS_Y = 2;
+    private static final int CHUNKS_Z = 8;
+    private static final int ROW_STEP = 3;
+
+    public enum Storage {
+        VECTOR_HASH_MAP,
+        VECTOR_CONCURRENT_MAP,
+        PACKED_CONCURRENT_MAP
+    }
+
+    private final Storage storage;
+    private final int threads;
+
+    private ChunkLookup lookup;
+    private ExecutorService executor;
+    private long reads;
+    private long elapsedNanos;
+    private long checksum;
+
+    public BenchmarkChunkLookup(Storage storage, int threads) {
+        super(storage + " chunk lookup (" + CHUNKS_X + "x" + CHUNKS_Y + "x" + CHUNKS_Z + " chunks, " + threads + " threads)",
+                5, new int[]{20});
+        this.storage = storage;
+        this.threads = threads;
+    }
+
+    @Override
+    public void setup() {
+        Map<Vector3i, Chunk> vectorMap = (storage == Storage.VECTOR_HASH_MAP) ? Maps.newHashMap() : Maps.newConcurrentMap();
+        ConcurrentLongObjectMap<Chunk> packedMap = new ConcurrentLongObjectMap<>();
+        for (int x = 0; x < CHUNKS_X; x++) {
+            for (int y = 0; y < CHUNKS_Y; y++) {
+                for (int z = 0; z < CHUNKS_Z; z++) {
+                    Chunk chunk = new ChunkImpl(x, y, z, null, null);
+                    vectorMap.put(new Vector3i(x, y, z), chunk);
+                    packedMap.put(PackedVector3i.pack(x, y, z), chunk);
+                }
+            }
+        }
+        if (storage == Storage.PACKED_CONCURRENT_MAP) {
+            lookup = (x, y, z) -> packedMap.get(PackedVector3i.pack(x, y, z));
+        } else {
+            lookup = (x, y, z) -> vectorMap.get(new Vector3i(x, y, z));
+        }
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @Override
+    public void prerun() {
+        reads = 0;
+        elapsedNanos = 0;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        List<Future<Long>> results = Lists.newArrayListWithCapacity(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            int firstRow = thread;
+            results.add(executor.submit(() -> readRows(firstRow)));
+        }
+        try {
+            for (Future<Long> result : results) {
+                checksum += result.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+        elapsedNanos += System.nanoTime() - start;
+        int rowsY = (CHUNKS_Y * ChunkConstants.SIZE_Y + ROW_STEP - 1) / ROW_STEP;
+        int rowsZ = (CHUNKS_Z * ChunkConstants.SIZE_Z + ROW_STEP - 1) / ROW_STEP;
+        reads += (long) rowsY * rowsZ * CHUNKS_X * ChunkConstants.SIZE_X;
+    }
+
+    /**
+     * Reads every {@link #threads}th row, starting with the given one.
+     *
+     * @return the sum of the block ids read.
+     */
+    private long readRows(int firstRow) {
+        long sum = 0;
+        int sizeX = CHUNKS_X * ChunkConstants.SIZE_X;
+        int row = 0;
+        for (int y = 0; y < CHUNKS_Y * ChunkConstants.SIZE_Y; y += ROW_STEP) {
+            for (int z = 0; z < CHUNKS_Z * ChunkConstants.SIZE_Z; z += ROW_STEP) {
+                if (row++ % threads != firstRow) {
+                    continue;
+                }
+                for (int x = 0; x < sizeX; x++) {
+                    Chunk chunk = lookup.get(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
+                    sum += chunk.getBlockId(ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z));
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %.0f block reads per second (checksum %d)", getTitle(), reads * 1e9 / elapsedNanos, checksum));
+    }
+
+    @Override
+    public void finish(boolean aborted) {
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ChunkLookup {
+        Chunk get(int x, int y, int z);
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import com.google.common.collect.Maps;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.engine.subsystem.lwjgl.GLBufferPool;
+import org.terasology.math.Region3i;
+import org.terasology.math.Side;
+import org.terasology.math.TeraMath;
+import org.terasology.math.geom.Vector2f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.rendering.primitives.ChunkMesh;
+import org.terasology.rendering.primitives.ChunkTessellator;
+import org.terasology.utilities.procedural.SimplexNoise;
+import org.terasology.world.ChunkView;
+import org.terasology.world.biomes.Biome;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockAppearance;
+import org.terasology.world.block.BlockPart;
+import org.terasology.world.block.shapes.BlockMeshPart;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.liquid.LiquidData;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * Tessellates a set of chunks with a noise based terrain, with or without greedy meshing. After the measured
+ * repetitions the vertices, the heap allocation and the time per chunk get printed.
+ */
+public class BenchmarkChunkTessellation extends AbstractBenchmark {
+
+    private static final int CHUNK_COUNT = 8;
+    private static final float TILE_SIZE = 1f / 16;
+    private static final byte SUNLIGHT = 15;
+    /**
+     * The size of a vertex in the final vertex buffer of a chunk mesh.
+     */
+    private static final int INTS_PER_VERTEX = 13;
+
+    private final boolean greedyMeshing;
+
+    private ChunkTessellator tessellator;
+    private ChunkView[] chunkViews;
+
+    private long meshedChunks;
+    private long vertices;
+    private long allocatedBytes;
+    private long elapsedNanos;
+
+    public BenchmarkChunkTessellation(boolean greedyMeshing) {
+        super((greedyMeshing ? "Greedy" : "Regular") + " chunk tessellation (" + CHUNK_COUNT + " chunks per repetition)",
+                5, new int[]{20});
+        this.greedyMeshing = greedyMeshing;
+    }
+
+    @Override
+    public void setup() {
+        Block air = new Block();
+        air.setMeshGenerator(null);
+        air.setTranslucent(true);
+        air.setShadowCasting(false);
+        Block stone = createCube(0, false);
+        Block dirt = createCube(1, false);
+        Block grass = createCube(2, true);
+
+        SimplexNoise noise = new SimplexNoise(0L);
+        chunkViews = new ChunkView[CHUNK_COUNT];
+        for (int i = 0; i < CHUNK_COUNT; i++) {
+            BenchmarkChunkView view = new BenchmarkChunkView(air);
+            for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+                for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                    float worldX = i * ChunkConstants.SIZE_X + x;
+                    int height = 24 + TeraMath.floorToInt(12 * noise.noise(worldX * 0.02f, z * 0.02f));
+                    for (int y = 0; y < ChunkConstants.SIZE_Y; y++) {
+                        if (y < height - 3) {
+                            view.setBlock(x, y, z, stone);
+                        } else if (y < height) {
+                            view.setBlock(x, y, z, dirt);
+                        } else if (y == height) {
+                            view.setBlock(x, y, z, grass);
+                        } else {
+                            view.sunlight[BenchmarkChunkView.index(x, y, z)] = SUNLIGHT;
+                        }
+                    }
+                }
+            }
+            chunkViews[i] = view;
+        }
+        tessellator = new ChunkTessellator(new GLBufferPool(false), greedyMeshing);
+    }
+
+    private static Block createCube(int tile, boolean grass) {
+        Block block = new Block();
+        Map<BlockPart, BlockMeshPart> parts = Maps.newEnumMap(BlockPart.class);
+        Map<BlockPart, Vector2f> atlasPositions = Maps.newEnumMap(BlockPart.class);
+        Vector2f atlasPos = new Vector2f(tile * TILE_SIZE, 0);
+        for (BlockPart part : BlockPart.values()) {
+            atlasPositions.put(part, atlasPos);
+        }
+        for (Side side : Side.values()) {
+            parts.put(BlockPart.fromSide(side), createFace(side).mapTexCoords(atlasPos, TILE_SIZE));
+            block.setFullSide(side, true);
+        }
+        block.setPrimaryAppearance(new BlockAppearance(parts, atlasPositions));
+        block.setGrass(grass);
+        return block;
+    }
+
+    private static BlockMeshPart createFace(Side side) {
+        Vector3f normal = side.getVector3i().toVector3f();
+        Vector3f tangent = side.isVertical() ? new Vector3f(1, 0, 0) : new Vector3f(0, 1, 0);
+        Vector3f bitangent = new Vector3f();
+        bitangent.cross(normal, tangent);
+        float[][] corners = {{-0.5f, -0.5f}, {0.5f, -0.5f}, {0.5f, 0.5f}, {-0.5f, 0.5f}};
+        Vector3f[] vertices = new Vector3f[corners.length];
+        Vector3f[] normals = new Vector3f[corners.length];
+        Vector2f[] texCoords = new Vector2f[corners.length];
+        for (int i = 0; i < corners.length; i++) {
+            vertices[i] = new Vector3f(normal).scale(0.5f)
+                    .add(new Vector3f(tangent).scale(corners[i][0]))
+                    .add(new Vector3f(bitangent).scale(corners[i][1]));
+            normals[i] = new Vector3f(normal);
+            texCoords[i] = new Vector2f(corners[i][0] + 0.5f, corners[i][1] + 0.5f);
+        }
+        return new BlockMeshPart(vertices, normals, texCoords, new int[]{0, 1, 2, 0, 2, 3});
+    }
+
+    @Override
+    public void prerun() {
+        meshedChunks = 0;
+        vertices = 0;
+        allocatedBytes = 0;
+        elapsedNanos = 0;
+    }
+
+    @Override
+    public void run() {
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        for (ChunkView chunkView : chunkViews) {
+            ChunkMesh mesh = tessellator.generateMesh(chunkView, ChunkConstants.SIZE_Y, 0);
+            for (ChunkMesh.RenderType type : ChunkMesh.RenderType.values()) {
+                vertices += mesh.getVertexElements(type).finalVertices.limit() / INTS_PER_VERTEX;
+            }
+            // Hands the buffers back like an upload would
+            mesh.dispose();
+        }
+        elapsedNanos += System.nanoTime() - start;
+        allocatedBytes += getAllocatedBytes() - allocatedBefore;
+        meshedChunks += chunkViews.length;
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %d vertices, %d KiB allocated, %.2f ms per chunk", getTitle(),
+                vertices / meshedChunks, allocatedBytes / meshedChunks / 1024, elapsedNanos / 1e6 / meshedChunks));
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(
+                Thread.currentThread().getId());
+    }
+
+    /**
+     * Array backed view of a single chunk, everything outside of it is air without light.
+     */
+    private static final class BenchmarkChunkView implements ChunkView {
+        private final Block air;
+        private final Block[] blocks = new Block[ChunkConstants.SIZE_X * ChunkConstants.SIZE_Y * ChunkConstants.SIZE_Z];
+        private final byte[] sunlight = new byte[blocks.length];
+
+        BenchmarkChunkView(Block air) {
+            this.air = air;
+        }
+
+        static int index(int x, int y, int z) {
+            return (y * ChunkConstants.SIZE_Z + z) * ChunkConstants.SIZE_X + x;
+        }
+
+        private static boolean contains(int x, int y, int z) {
+            return x >= 0 && y >= 0 && z >= 0 && x < ChunkConstants.SIZE_X && y < ChunkConstants.SIZE_Y
+                    && z < ChunkConstants.SIZE_Z;
+        }
+
+        private static int round(float value) {
+            return TeraMath.floorToInt(value + 0.5f);
+        }
+
+        @Override
+        public Block getBlock(float x, float y, float z) {
+            return getBlock(round(x), round(y), round(z));
+        }
+
+        @Override
+        public Block getBlock(Vector3i pos) {
+            return getBlock(pos.x, pos.y, pos.z);
+        }
+
+        @Override
+        public Block getBlock(int x, int y, int z) {
+            if (!contains(x, y, z)) {
+                return air;
+            }
+            Block block = blocks[index(x, y, z)];
+            return block != null ? block : air;
+        }
+
+        @Override
+        public Biome getBiome(float x, float y, float z) {
+            return null;
+        }
+
+        @Override
+        public Biome getBiome(Vector3i pos) {
+            return null;
+        }
+
+        @Override
+        public Biome getBiome(int x, int y, int z) {
+            return null;
+        }
+
+        @Override
+        public byte getSunlight(float x, float y, float z) {
+            return getSunlight(round(x), round(y), round(z));
+        }
+
+        @Override
+        public byte getSunlight(Vector3i pos) {
+            return getSunlight(pos.x, pos.y, pos.z);
+        }
+
+        @Override
+        public byte getSunlight(int x, int y, int z) {
+            return contains(x, y, z) ? sunlight[index(x, y, z)] : 0;
+        }
+
+        @Override
+        public byte getLight(float x, float y, float z) {
+            return 0;
+        }
+
+        @Override
+        public byte getLight(Vector3i pos) {
+            return 0;
+        }
+
+        @Override
+        public byte getLight(int x, int y, int z) {
+            return 0;
+        }
+
+        @Override
+        public void setBlock(Vector3i pos, Block type) {
+            setBlock(pos.x, pos.y, pos.z, type);
+        }
+
+        @Override
+        public void setBlock(int x, int y, int z, Block type) {
+            blocks[index(x, y, z)] = type;
+        }
+
+        @Override
+        public void setBiome(Vector3i pos, Biome biome) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setBiome(int x, int y, int z, Biome biome) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LiquidData getLiquid(Vector3i pos) {
+            return new LiquidData();
+        }
+
+        @Override
+        public LiquidData getLiquid(int x, int y, int z) {
+            return new LiquidData();
+        }
+
+        @Override
+        public void setLiquid(Vector3i pos, LiquidData newState) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setLiquid(int x, int y, int z, LiquidData newState) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Vector3i toWorldPos(Vector3i localPos) {
+            return new Vector3i(localPos);
+        }
+
+        @Override
+        public Region3i getWorldRegion() {
+            return ChunkConstants.CHUNK_REGION;
+        }
+
+        @Override
+        public Region3i getChunkRegion() {
+            return Region3i.createFromCenterExtents(Vector3i.zero(), Vector3i.zero());
+        }
+
+        @Override
+        public void setDirtyAround(Vector3i blockPos) {
+        }
+
+        @Override
+        public void setDirtyAround(Region3i blockRegion) {
+        }
+
+        @Override
+        public boolean isValidView() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.chunks.tessellation;
+
+import com.google.common.collect.Lists;
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+
+import java.util.List;
+
+/**
+ * Compares the regular chunk tessellation with greedy meshing.
+ */
+public final class ChunkTessellationBenchmark {
+
+    private ChunkTessellationBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        final List<Benchmark> benchmarks = Lists.newArrayList();
+
+        benchmarks.add(new BenchmarkChunkTessellation(false));
+        benchmarks.add(new BenchmarkChunkTessellation(true));
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.terasology.benchmark.concurrency;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.utilities.concurrency.DynamicPriorityBlockingQueue;
+import org.terasology.utilities.random.FastRandom;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a task queue ordered by distance to a moving point: each repetition queues a batch of
+ * chunk positions, moves the point, and lets a number of consumer threads drain the queue.
+ */
+public class TaskQueueBenchmark extends AbstractBenchmark {
+
+    private final int taskCount;
+    private final int consumerCount;
+    private final boolean dynamic;
+
+    private final Vector3i origin = new Vector3i();
+    private Vector3i[] positions;
+    private BlockingQueue<Vector3i> queue;
+    private ExecutorService consumers;
+
+    public TaskQueueBenchmark(int taskCount, int consumerCount, boolean dynamic) {
+        super((dynamic ? "DynamicPriorityBlockingQueue" : "PriorityBlockingQueue") + ": " + taskCount + " tasks, "
+                + consumerCount + " consumers", 5, new int[]{50});
+        this.taskCount = taskCount;
+        this.consumerCount = consumerCount;
+        this.dynamic = dynamic;
+    }
+
+    @Override
+    public void setup() {
+        FastRandom random = new FastRandom(0L);
+        positions = new Vector3i[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            positions[i] = new Vector3i(random.nextInt(-32, 32), random.nextInt(-8, 8), random.nextInt(-32, 32));
+        }
+        Comparator<Vector3i> comparator = (a, b) -> a.gridDistance(origin) - b.gridDistance(origin);
+        queue = dynamic ? new DynamicPriorityBlockingQueue<>(comparator) : new PriorityBlockingQueue<>(taskCount, comparator);
+        consumers = Executors.newFixedThreadPool(consumerCount);
+    }
+
+    @Override
+    public void run() {
+        for (Vector3i position : positions) {
+            queue.offer(position);
+        }
+        origin.add(1, 0, 1);
+        if (dynamic) {
+            ((DynamicPriorityBlockingQueue<Vector3i>) queue).reprioritize();
+        }
+
+        CountDownLatch done = new CountDownLatch(consumerCount);
+        for (int i = 0; i < consumerCount; i++) {
+            consumers.execute(() -> {
+                while (queue.poll() != null) {
+                    // The task itself is free, only the queue is measured
+                }
+                done.countDown();
+            });
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void finish(boolean aborted) {
+        consumers.shutdown();
+        try {
+            consumers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
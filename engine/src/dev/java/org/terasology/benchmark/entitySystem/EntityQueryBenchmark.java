@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.terasology.benchmark.entitySystem;
+
+import com.google.common.collect.Lists;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.ComponentTable;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.rendering.logic.MeshComponent;
+import org.terasology.utilities.random.FastRandom;
+import org.terasology.world.block.BlockComponent;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares querying entities by multiple components through the maintained query index with the way getEntitiesWith
+ * worked before: streaming over the ids of all entities, keeping those that have every component and creating their
+ * entity refs.
+ */
+public class EntityQueryBenchmark extends AbstractBenchmark {
+
+    private final int entityCount;
+    private final boolean linearScan;
+
+    private PojoEntityManager entityManager;
+    private List<Long> entityIds;
+
+    public EntityQueryBenchmark(int entityCount, boolean linearScan) {
+        super("Query " + entityCount + " entities by multiple components (" + (linearScan ? "linear scan" : "query index") + ")",
+                10, new int[]{100});
+        this.entityCount = entityCount;
+        this.linearScan = linearScan;
+    }
+
+    @Override
+    public void setup() {
+        FastRandom rand = new FastRandom(0L);
+        entityManager = new PojoEntityManager();
+        entityIds = Lists.newArrayListWithCapacity(entityCount);
+        for (int i = 0; i < entityCount; ++i) {
+            List<Component> entityData = Lists.newArrayList();
+            if (rand.nextFloat() < 0.75f) {
+                entityData.add(new LocationComponent());
+            }
+            if (rand.nextFloat() < 0.05f) {
+                entityData.add(new MeshComponent());
+            }
+            if (rand.nextFloat() < 0.25f) {
+                entityData.add(new BlockComponent());
+            }
+            entityIds.add(entityManager.create(entityData).getId());
+        }
+    }
+
+    @Override
+    public void run() {
+        Iterable<EntityRef> entities = linearScan
+                ? scanAllEntities(MeshComponent.class, LocationComponent.class)
+                : entityManager.getEntitiesWith(MeshComponent.class, LocationComponent.class);
+        for (EntityRef entity : entities) {
+            entity.getComponent(LocationComponent.class).getLocalPosition();
+        }
+    }
+
+    /**
+     * The former implementation of getEntitiesWith, over the ids of all entities of the entity manager.
+     */
+    @SafeVarargs
+    private final Iterable<EntityRef> scanAllEntities(Class<? extends Component>... componentClasses) {
+        ComponentTable componentStore = entityManager.getComponentStore();
+        return () -> entityIds.stream()
+                .filter(id -> Arrays.stream(componentClasses)
+                        .allMatch(component -> componentStore.get(id, component) != null))
+                .map(id -> entityManager.getEntity(id))
+                .iterator();
+    }
+
+    @Override
+    public void finish(boolean aborted) {
+        entityManager.clear();
+        entityManager = null;
+        entityIds = null;
+    }
+}
@@ -40,6 +40,11 @@ public static void main(String[] args) {
         benchmarks.add(new EntityCreateBenchmark());
         benchmarks.add(new IterateSingleComponentBenchmark());
         benchmarks.add(new IterateMultipleComponentBenchmark());
+        for (int entityCount : new int[]{10000, 100000, 1000000}) {
+            benchmarks.add(new EntityQueryBenchmark(entityCount, true));
+            benchmarks.add(new EntityQueryBenchmark(entityCount, false));
+        }
+        benchmarks.add(new EventSendBenchmark());
         Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
 
     }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.terasology.benchmark.entitySystem;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.config.Config;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.entitySystem.event.Event;
+import org.terasology.entitySystem.event.EventPriority;
+import org.terasology.entitySystem.event.ReceiveEvent;
+import org.terasology.entitySystem.event.internal.EventSystemImpl;
+import org.terasology.entitySystem.metadata.EntitySystemLibrary;
+import org.terasology.entitySystem.prefab.internal.PojoPrefabManager;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.network.internal.NetworkSystemImpl;
+import org.terasology.persistence.typeHandling.TypeSerializationLibrary;
+import org.terasology.reflection.copy.CopyStrategyLibrary;
+import org.terasology.reflection.reflect.ReflectFactory;
+import org.terasology.reflection.reflect.ReflectionReflectFactory;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.rendering.logic.MeshComponent;
+import org.terasology.world.block.BlockComponent;
+
+/**
+ * Measures how many events per second can be sent to entities through the event system. Each repetition sends one
+ * event to each of a small set of entities with differing components, so the handler selection has to cope with
+ * several component combinations.
+ */
+public class EventSendBenchmark extends AbstractBenchmark {
+
+    private static final int ENTITY_COUNT = 16;
+
+    private EventSystemImpl eventSystem;
+    private EntityRef[] entities;
+
+    public EventSendBenchmark() {
+        super("Send events (" + ENTITY_COUNT + " sends per repetition)", 10000, new int[]{100000});
+    }
+
+    @Override
+    public void setup() {
+        ContextImpl context = new ContextImpl();
+        CoreRegistry.setContext(context);
+        context.put(Config.class, new Config());
+        ReflectFactory reflectFactory = new ReflectionReflectFactory();
+        CopyStrategyLibrary copyStrategies = new CopyStrategyLibrary(reflectFactory);
+        TypeSerializationLibrary serializationLibrary = new TypeSerializationLibrary(reflectFactory, copyStrategies);
+
+        EntitySystemLibrary entitySystemLibrary = new EntitySystemLibrary(context, serializationLibrary);
+        PojoEntityManager entityManager = new PojoEntityManager();
+        entityManager.setComponentLibrary(entitySystemLibrary.getComponentLibrary());
+        entityManager.setPrefabManager(new PojoPrefabManager(context));
+        eventSystem = new EventSystemImpl(entitySystemLibrary.getEventLibrary(), new NetworkSystemImpl(null, context));
+        entityManager.setEventSystem(eventSystem);
+
+        eventSystem.registerEventHandler(new CountingHandler());
+
+        entities = new EntityRef[ENTITY_COUNT];
+        for (int i = 0; i < ENTITY_COUNT; ++i) {
+            entities[i] = entityManager.create();
+            if ((i & 1) != 0) {
+                entities[i].addComponent(new LocationComponent());
+            }
+            if ((i & 2) != 0) {
+                entities[i].addComponent(new MeshComponent());
+            }
+            if ((i & 4) != 0) {
+                entities[i].addComponent(new BlockComponent());
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        BenchmarkEvent event = new BenchmarkEvent();
+        for (EntityRef entity : entities) {
+            eventSystem.send(entity, event);
+        }
+    }
+
+    public static class BenchmarkEvent implements Event {
+    }
+
+    public static class CountingHandler extends BaseComponentSystem {
+        private long count;
+
+        @ReceiveEvent
+        public void onAny(BenchmarkEvent event, EntityRef entity) {
+            count++;
+        }
+
+        @ReceiveEvent(components = LocationComponent.class, priority = EventPriority.PRIORITY_HIGH)
+        public void onLocation(BenchmarkEvent event, EntityRef entity) {
+            count++;
+        }
+
+        @ReceiveEvent(components = {LocationComponent.class, MeshComponent.class})
+        public void onLocationAndMesh(BenchmarkEvent event, EntityRef entity, MeshComponent mesh) {
+            count++;
+        }
+
+        @ReceiveEvent(components = BlockComponent.class, priority = EventPriority.PRIORITY_LOW)
+        public void onBlock(BenchmarkEvent event, EntityRef entity) {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.noise;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.utilities.procedural.Noise;
+
+/**
+ * Fills a 2D grid, the size of a chunk column, and a 3D grid, the size of a chunk, with noise either one position at a
+ * time or with the batch methods. After the measured repetitions the samples per second get printed.
+ */
+public class BenchmarkNoise extends AbstractBenchmark {
+
+    private static final int SIZE_X = 32;
+    private static final int SIZE_Y = 64;
+    private static final int SIZE_Z = 32;
+    private static final int ORIGIN = 50;
+    private static final float STEP = 0.01f;
+
+    private final Noise noise;
+    private final boolean batch;
+
+    private float[] values2D;
+    private float[] values3D;
+    private float checksum;
+
+    private long samples;
+    private long elapsedNanos;
+
+    public BenchmarkNoise(String name, Noise noise, boolean batch) {
+        super((batch ? "Batch " : "Scalar ") + name + " noise", 10, new int[]{100});
+        this.noise = noise;
+        this.batch = batch;
+    }
+
+    @Override
+    public void setup() {
+        values2D = new float[SIZE_X * SIZE_Z];
+        values3D = new float[SIZE_X * SIZE_Y * SIZE_Z];
+    }
+
+    @Override
+    public void prerun() {
+        samples = 0;
+        elapsedNanos = 0;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        if (batch) {
+            noise.noise(values2D, ORIGIN, ORIGIN, 1, 1, STEP, STEP, SIZE_X, SIZE_Z);
+            noise.noise(values3D, ORIGIN, ORIGIN, ORIGIN, 1, 1, 1, STEP, STEP, STEP, SIZE_X, SIZE_Y, SIZE_Z);
+        } else {
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int x = 0; x < SIZE_X; x++) {
+                    values2D[x + z * SIZE_X] = noise.noise((ORIGIN + x) * STEP, (ORIGIN + z) * STEP);
+                }
+            }
+            for (int z = 0; z < SIZE_Z; z++) {
+                for (int y = 0; y < SIZE_Y; y++) {
+                    for (int x = 0; x < SIZE_X; x++) {
+                        values3D[x + SIZE_X * (y + SIZE_Y * z)] = noise.noise((ORIGIN + x) * STEP, (ORIGIN + y) * STEP, (ORIGIN + z) * STEP);
+                    }
+                }
+            }
+        }
+        elapsedNanos += System.nanoTime() - start;
+        samples += values2D.length + values3D.length;
+        checksum += values2D[values2D.length - 1] + values3D[values3D.length - 1];
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %.0f samples per second (checksum %f)", getTitle(), samples * 1e9 / elapsedNanos, checksum));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.noise;
+
+import com.google.common.collect.Lists;
+import org.terasology.benchmark.Benchmark;
+import org.terasology.benchmark.Benchmarks;
+import org.terasology.benchmark.PrintToConsoleCallback;
+import org.terasology.utilities.procedural.BrownianNoise;
+import org.terasology.utilities.procedural.PerlinNoise;
+import org.terasology.utilities.procedural.SimplexNoise;
+
+import java.util.List;
+
+/**
+ * Compares the scalar and the batch evaluation of the noise types used by the facet providers.
+ */
+public final class NoiseBenchmark {
+
+    private NoiseBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        final List<Benchmark> benchmarks = Lists.newArrayList();
+
+        for (boolean batch : new boolean[]{false, true}) {
+            benchmarks.add(new BenchmarkNoise("Perlin", new PerlinNoise(0xCAFE), batch));
+            benchmarks.add(new BenchmarkNoise("Simplex", new SimplexNoise(0xCAFE), batch));
+            benchmarks.add(new BenchmarkNoise("Brownian Perlin (8 octaves)", new BrownianNoise(new PerlinNoise(0xCAFE), 8), batch));
+            benchmarks.add(new BenchmarkNoise("Brownian Simplex (8 octaves)", new BrownianNoise(new SimplexNoise(0xCAFE), 8), batch));
+        }
+        Benchmarks.execute(benchmarks, new PrintToConsoleCallback());
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.physics;
+
+import com.bulletphysics.collision.broadphase.DbvtBroadphase;
+import com.bulletphysics.collision.dispatch.CollisionDispatcher;
+import com.bulletphysics.collision.dispatch.CollisionObject;
+import com.bulletphysics.collision.dispatch.CollisionWorld;
+import com.bulletphysics.collision.dispatch.DefaultCollisionConfiguration;
+import com.bulletphysics.collision.shapes.BoxShape;
+import com.bulletphysics.collision.shapes.SphereShape;
+import com.bulletphysics.collision.shapes.voxel.VoxelWorldShape;
+import com.bulletphysics.linearmath.Transform;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.benchmark.BenchmarkBlockManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.physics.engine.PhysicsWorldWrapper;
+import org.terasology.utilities.random.FastRandom;
+import org.terasology.utilities.random.Random;
+import org.terasology.world.block.Block;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.ChunkProvider;
+import org.terasology.world.chunks.ChunkRegionListener;
+import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.internal.ChunkViewCore;
+
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Quat4f;
+import java.util.Collection;
+
+/**
+ * Casts rays or sweeps spheres over a hilly terrain of 4x4 chunks, like projectiles and dropped items do. After the
+ * measured repetitions the queries per second get printed.
+ */
+public class BenchmarkVoxelCollision extends AbstractBenchmark {
+
+    private static final int CHUNKS = 4;
+    private static final int QUERIES = 10000;
+    private static final int MARGIN = 4;
+
+    private final boolean sweep;
+
+    private CollisionWorld collisionWorld;
+    private SphereShape sphere;
+    private javax.vecmath.Vector3f[] from;
+    private javax.vecmath.Vector3f[] to;
+
+    private long queries;
+    private long elapsedNanos;
+
+    public BenchmarkVoxelCollision(boolean sweep) {
+        super("Voxel world " + (sweep ? "sphere sweeps" : "ray casts") + " (" + QUERIES + " per repetition)", 3, new int[]{10});
+        this.sweep = sweep;
+    }
+
+    @Override
+    public void setup() {
+        Block air = new Block();
+        air.setId((short) 0);
+        air.setPenetrable(true);
+        Block stone = new Block();
+        stone.setId((short) 1);
+        stone.setCollision(new Vector3f(), new BoxShape(new javax.vecmath.Vector3f(0.5f, 0.5f, 0.5f)));
+        BenchmarkBlockManager blockManager = new BenchmarkBlockManager(air, stone);
+
+        Random random = new FastRandom(0);
+        BenchmarkChunkProvider chunkProvider = new BenchmarkChunkProvider();
+        for (int chunkX = 0; chunkX < CHUNKS; chunkX++) {
+            for (int chunkZ = 0; chunkZ < CHUNKS; chunkZ++) {
+                ChunkImpl chunk = new ChunkImpl(new Vector3i(chunkX, 0, chunkZ), blockManager, null);
+                for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+                    for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                        int height = ChunkConstants.SIZE_Y / 4 + random.nextInt(4);
+                        for (int y = 0; y < height; y++) {
+                            chunk.setBlock(x, y, z, stone);
+                        }
+                    }
+                }
+                chunkProvider.chunks[chunkX][chunkZ] = chunk;
+            }
+        }
+
+        DefaultCollisionConfiguration collisionConfiguration = new DefaultCollisionConfiguration();
+        collisionWorld = new CollisionWorld(new CollisionDispatcher(collisionConfiguration), new DbvtBroadphase(),
+                collisionConfiguration);
+        CollisionObject worldObject = new CollisionObject();
+        worldObject.setCollisionShape(new VoxelWorldShape(new PhysicsWorldWrapper(null, chunkProvider, blockManager)));
+        worldObject.setWorldTransform(createTransform(new javax.vecmath.Vector3f()));
+        collisionWorld.addCollisionObject(worldObject);
+        sphere = new SphereShape(0.3f);
+
+        // queries stay within the chunks, everything outside isn't available
+        int extent = CHUNKS * ChunkConstants.SIZE_X - 2 * MARGIN;
+        from = new javax.vecmath.Vector3f[QUERIES];
+        to = new javax.vecmath.Vector3f[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            float height = ChunkConstants.SIZE_Y / 4 + random.nextFloat(-2, 6);
+            from[i] = new javax.vecmath.Vector3f(MARGIN + random.nextInt(extent), height, MARGIN + random.nextInt(extent));
+            to[i] = new javax.vecmath.Vector3f(MARGIN + random.nextInt(extent), height - random.nextFloat(0, 4),
+                    MARGIN + random.nextInt(extent));
+        }
+    }
+
+    private static Transform createTransform(javax.vecmath.Vector3f position) {
+        return new Transform(new Matrix4f(new Quat4f(0, 0, 0, 1), position, 1.0f));
+    }
+
+    @Override
+    public void prerun() {
+        queries = 0;
+        elapsedNanos = 0;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            if (sweep) {
+                CollisionWorld.ClosestConvexResultCallback callback = new CollisionWorld.ClosestConvexResultCallback(from[i], to[i]);
+                collisionWorld.convexSweepTest(sphere, createTransform(from[i]), createTransform(to[i]), callback);
+            } else {
+                CollisionWorld.ClosestRayResultCallback callback = new CollisionWorld.ClosestRayResultCallback(from[i], to[i]);
+                collisionWorld.rayTest(from[i], to[i], callback);
+            }
+        }
+        elapsedNanos += System.nanoTime() - start;
+        queries += QUERIES;
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %.0f queries per second", getTitle(), queries * 1e9 / elapsedNanos));
+    }
+
+    /**
+     * Knows just air and stone.
+     */
+
+    /**
+     * Provides a fixed layer of chunks, only supports looking up chunks.
+     */
+    private static final class BenchmarkChunkProvider implements ChunkProvider {
+        private final Chunk[][] chunks = new Chunk[CHUNKS][CHUNKS];
+
+        @Override
+        public Chunk getChunk(int x, int y, int z) {
+            if (y != 0 || x < 0 || z < 0 || x >= CHUNKS || z >= CHUNKS) {
+                return null;
+            }
+            return chunks[x][z];
+        }
+
+        @Override
+        public Chunk getChunk(Vector3i chunkPos) {
+            return getChunk(chunkPos.x, chunkPos.y, chunkPos.z);
+        }
+
+        @Override
+        public ChunkViewCore getLocalView(Vector3i centerChunkPos) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChunkViewCore getSubviewAroundBlock(Vector3i blockPos, int extent) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChunkViewCore getSubviewAroundChunk(Vector3i chunkPos) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setWorldEntity(EntityRef entity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addRelevanceEntity(EntityRef entity, Vector3i distance) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addRelevanceEntity(EntityRef entity, Vector3i distance, ChunkRegionListener listener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateRelevanceEntity(EntityRef entity, Vector3i distance) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeRelevanceEntity(EntityRef entity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void completeUpdate() {
+        }
+
+        @Override
+        public void beginUpdate() {
+        }
+
+        @Override
+        public boolean reloadChunk(Vector3i pos) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void purgeWorld() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isChunkReady(Vector3i pos) {
+            return getChunk(pos) != null;
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public Collection<Chunk> getAllChunks() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void restart() {
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.propagation;
+
+import com.google.common.collect.Lists;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.math.Side;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.utilities.random.FastRandom;
+import org.terasology.utilities.random.Random;
+import org.terasology.world.block.Block;
+import org.terasology.world.propagation.BatchPropagator;
+import org.terasology.world.propagation.BlockChange;
+import org.terasology.world.propagation.PackedBatchPropagator;
+import org.terasology.world.propagation.PropagatorWorldView;
+import org.terasology.world.propagation.StandardBatchPropagator;
+import org.terasology.world.propagation.light.LightPropagationRules;
+
+import java.util.List;
+
+/**
+ * Fills and clears a cube of stone between randomly placed torches, like a large setBlocks call or an explosion would.
+ * After the measured repetitions the changed blocks per second get printed.
+ */
+public class BenchmarkLightPropagation extends AbstractBenchmark {
+
+    private static final int WORLD_SIZE = 96;
+    private static final int CUBE_SIZE = 24;
+    private static final int TORCH_COUNT = 256;
+
+    private final boolean packed;
+
+    private BenchmarkWorldView worldView;
+    private BatchPropagator propagator;
+    private List<BlockChange> fillChanges;
+    private List<BlockChange> clearChanges;
+
+    private long changedBlocks;
+    private long elapsedNanos;
+
+    public BenchmarkLightPropagation(boolean packed) {
+        super((packed ? "Packed" : "Standard") + " light propagation (" + CUBE_SIZE + "^3 blocks filled and cleared per repetition)",
+                5, new int[]{20});
+        this.packed = packed;
+    }
+
+    @Override
+    public void setup() {
+        Block air = new Block();
+        air.setTranslucent(true);
+        Block stone = new Block();
+        for (Side side : Side.values()) {
+            stone.setFullSide(side, true);
+        }
+        Block torch = new Block();
+        torch.setTranslucent(true);
+        torch.setLuminance((byte) 15);
+
+        worldView = new BenchmarkWorldView(air);
+        LightPropagationRules rules = new LightPropagationRules();
+        propagator = packed ? new PackedBatchPropagator(rules, worldView) : new StandardBatchPropagator(rules, worldView);
+
+        Random random = new FastRandom(0);
+        List<BlockChange> torches = Lists.newArrayList();
+        for (int i = 0; i < TORCH_COUNT; i++) {
+            Vector3i pos = new Vector3i(random.nextInt(WORLD_SIZE), random.nextInt(WORLD_SIZE), random.nextInt(WORLD_SIZE));
+            if (worldView.getBlockAt(pos) == air) {
+                worldView.setBlockAt(pos, torch);
+                torches.add(new BlockChange(pos, air, torch));
+            }
+        }
+        propagator.process(torches);
+
+        fillChanges = Lists.newArrayList();
+        clearChanges = Lists.newArrayList();
+        int min = (WORLD_SIZE - CUBE_SIZE) / 2;
+        for (int x = min; x < min + CUBE_SIZE; x++) {
+            for (int y = min; y < min + CUBE_SIZE; y++) {
+                for (int z = min; z < min + CUBE_SIZE; z++) {
+                    Vector3i pos = new Vector3i(x, y, z);
+                    Block block = worldView.getBlockAt(pos);
+                    fillChanges.add(new BlockChange(pos, block, stone));
+                    clearChanges.add(new BlockChange(pos, stone, block));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void prerun() {
+        changedBlocks = 0;
+        elapsedNanos = 0;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        apply(fillChanges);
+        apply(clearChanges);
+        elapsedNanos += System.nanoTime() - start;
+        changedBlocks += fillChanges.size() + clearChanges.size();
+    }
+
+    private void apply(List<BlockChange> changes) {
+        for (BlockChange change : changes) {
+            worldView.setBlockAt(change.getPosition(), change.getTo());
+        }
+        propagator.process(changes);
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %.0f blocks per second", getTitle(), changedBlocks * 1e9 / elapsedNanos));
+    }
+
+    /**
+     * Array backed world view, everything outside of it is unavailable.
+     */
+    private static final class BenchmarkWorldView implements PropagatorWorldView {
+        private final Block[] blocks = new Block[WORLD_SIZE * WORLD_SIZE * WORLD_SIZE];
+        private final byte[] values = new byte[blocks.length];
+
+        BenchmarkWorldView(Block air) {
+            for (int i = 0; i < blocks.length; i++) {
+                blocks[i] = air;
+            }
+        }
+
+        private static int index(int x, int y, int z) {
+            return (y * WORLD_SIZE + z) * WORLD_SIZE + x;
+        }
+
+        private static boolean contains(int x, int y, int z) {
+            return x >= 0 && y >= 0 && z >= 0 && x < WORLD_SIZE && y < WORLD_SIZE && z < WORLD_SIZE;
+        }
+
+        void setBlockAt(Vector3i pos, Block block) {
+            blocks[index(pos.x, pos.y, pos.z)] = block;
+        }
+
+        @Override
+        public byte getValueAt(Vector3i pos) {
+            return getValueAt(pos.x, pos.y, pos.z);
+        }
+
+        @Override
+        public byte getValueAt(int x, int y, int z) {
+            return contains(x, y, z) ? values[index(x, y, z)] : UNAVAILABLE;
+        }
+
+        @Override
+        public void setValueAt(Vector3i pos, byte value) {
+            setValueAt(pos.x, pos.y, pos.z, value);
+        }
+
+        @Override
+        public void setValueAt(int x, int y, int z, byte value) {
+            values[index(x, y, z)] = value;
+        }
+
+        @Override
+        public Block getBlockAt(Vector3i pos) {
+            return getBlockAt(pos.x, pos.y, pos.z);
+        }
+
+        @Override
+        public Block getBlockAt(int x, int y, int z) {
+            return contains(x, y, z) ? blocks[index(x, y, z)] : null;
+        }
+    }
+}
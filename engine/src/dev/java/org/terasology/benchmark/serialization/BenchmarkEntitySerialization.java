@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.serialization;
+
+import com.google.common.collect.ImmutableMap;
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.config.Config;
+import org.terasology.context.internal.ContextImpl;
+import org.terasology.engine.SimpleUri;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.entitySystem.event.internal.EventSystemImpl;
+import org.terasology.entitySystem.metadata.ComponentLibrary;
+import org.terasology.entitySystem.metadata.EntitySystemLibrary;
+import org.terasology.entitySystem.prefab.internal.PojoPrefabManager;
+import org.terasology.logic.characters.CharacterMovementComponent;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.geom.Quat4f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.network.internal.NetworkSystemImpl;
+import org.terasology.persistence.serializers.EntitySerializer;
+import org.terasology.persistence.serializers.FieldSerializeCheck;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.persistence.typeHandling.TypeSerializationLibrary;
+import org.terasology.protobuf.EntityData;
+import org.terasology.reflection.copy.CopyStrategyLibrary;
+import org.terasology.reflection.reflect.ReflectFactory;
+import org.terasology.reflection.reflect.ReflectionReflectFactory;
+import org.terasology.registry.CoreRegistry;
+import org.terasology.utilities.random.FastRandom;
+
+/**
+ * Serializes entities with a location and a character movement component, either through the type handlers only or
+ * with the direct protobuf serialization of the fields with standard type handlers. Saving and loading go through the
+ * entity serializer of the storage, replication serializes the entities for the network and deserializes them onto
+ * new entity builders. After the measured repetitions the throughput in entities per second gets printed.
+ */
+public class BenchmarkEntitySerialization extends AbstractBenchmark {
+
+    private static final int ENTITY_COUNT = 1000;
+
+    /**
+     * The serialization path to measure.
+     */
+    public enum Operation {
+        SAVE,
+        LOAD,
+        REPLICATE
+    }
+
+    private final Operation operation;
+    private final boolean direct;
+
+    private PojoEntityManager entityManager;
+    private EntitySerializer entitySerializer;
+    private NetworkEntitySerializer networkSerializer;
+    private EntityRef[] entities;
+    private EntityData.Entity[] savedEntities;
+
+    private long entitiesProcessed;
+    private long nanos;
+
+    public BenchmarkEntitySerialization(Operation operation, boolean direct) {
+        super(operation + " entities " + (direct ? "with direct serialization" : "through type handlers")
+                + " (" + ENTITY_COUNT + " entities per repetition)", 20, new int[]{200});
+        this.operation = operation;
+        this.direct = direct;
+    }
+
+    @Override
+    public void setup() {
+        ContextImpl context = new ContextImpl();
+        CoreRegistry.setContext(context);
+        context.put(Config.class, new Config());
+        ReflectFactory reflectFactory = new ReflectionReflectFactory();
+        CopyStrategyLibrary copyStrategies = new CopyStrategyLibrary(reflectFactory);
+        TypeSerializationLibrary serializationLibrary = TypeSerializationLibrary.createDefaultLibrary(reflectFactory, copyStrategies);
+
+        EntitySystemLibrary entitySystemLibrary = new EntitySystemLibrary(context, serializationLibrary);
+        ComponentLibrary componentLibrary = entitySystemLibrary.getComponentLibrary();
+        componentLibrary.register(new SimpleUri("engine:location"), LocationComponent.class);
+        componentLibrary.register(new SimpleUri("engine:characterMovement"), CharacterMovementComponent.class);
+        entityManager = new PojoEntityManager();
+        entityManager.setComponentLibrary(componentLibrary);
+        entityManager.setPrefabManager(new PojoPrefabManager(context));
+        entityManager.setEventSystem(new EventSystemImpl(entitySystemLibrary.getEventLibrary(), new NetworkSystemImpl(null, context)));
+
+        entitySerializer = new EntitySerializer(entityManager, componentLibrary, serializationLibrary);
+        entitySerializer.setIgnoringEntityId(true);
+        entitySerializer.setUsingDirectSerialization(direct);
+        networkSerializer = new NetworkEntitySerializer(entityManager, componentLibrary, serializationLibrary);
+        networkSerializer.setIdMapping(ImmutableMap.<Class<? extends Component>, Integer>of(
+                LocationComponent.class, 1, CharacterMovementComponent.class, 2));
+        networkSerializer.setUsingDirectSerialization(direct);
+
+        FastRandom random = new FastRandom(0L);
+        entities = new EntityRef[ENTITY_COUNT];
+        savedEntities = new EntityData.Entity[ENTITY_COUNT];
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            LocationComponent location = new LocationComponent();
+            location.setWorldPosition(new Vector3f(random.nextFloat(-100, 100), random.nextFloat(0, 50), random.nextFloat(-100, 100)));
+            location.setWorldRotation(new Quat4f(random.nextFloat(0, 6.28f), 0, 0));
+            CharacterMovementComponent movement = new CharacterMovementComponent();
+            movement.grounded = random.nextBoolean();
+            movement.footstepDelta = random.nextFloat();
+            entities[i] = entityManager.create(location, movement);
+            savedEntities[i] = entitySerializer.serialize(entities[i]);
+        }
+    }
+
+    @Override
+    public void prerun() {
+        entitiesProcessed = 0;
+        nanos = 0;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        switch (operation) {
+            case SAVE:
+                for (EntityRef entity : entities) {
+                    entitySerializer.serialize(entity);
+                }
+                break;
+            case LOAD:
+                for (EntityData.Entity savedEntity : savedEntities) {
+                    entitySerializer.deserialize(savedEntity).destroy();
+                }
+                break;
+            case REPLICATE:
+                for (EntityRef entity : entities) {
+                    EntityData.PackedEntity packedEntity = networkSerializer.serialize(entity, false,
+                            FieldSerializeCheck.NullCheck.<Component>newInstance()).build();
+                    networkSerializer.deserializeOnto(entityManager.newBuilder(), packedEntity);
+                }
+                break;
+            default:
+                break;
+        }
+        nanos += System.nanoTime() - start;
+        entitiesProcessed += ENTITY_COUNT;
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %.0f entities/s", getTitle(), entitiesProcessed * 1e9 / nanos));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.worldgen;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.CoreChunk;
+import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.generation.Region;
+import org.terasology.world.generation.WorldBuilder;
+import org.terasology.world.generation.WorldImpl;
+import org.terasology.world.generation.WorldRasterizer;
+import org.terasology.world.generation.facets.DensityFacet;
+import org.terasology.world.generation.facets.SurfaceHumidityFacet;
+import org.terasology.world.generation.facets.SurfaceTemperatureFacet;
+
+/**
+ * Rasterizes columns of vertically stacked chunks of the world of {@link BenchmarkFacetProviders}. After the measured
+ * repetitions the chunks per second and the column facet cache statistics get printed.
+ */
+public class BenchmarkChunkGeneration extends AbstractBenchmark {
+
+    private static final int COLUMNS = 4;
+    private static final int CHUNKS_PER_COLUMN = 8;
+
+    private final int cacheCapacity;
+
+    private WorldImpl world;
+    private CoreChunk[] chunks;
+
+    private long generatedChunks;
+    private long elapsedNanos;
+
+    public BenchmarkChunkGeneration(int cacheCapacity) {
+        super("Chunk generation " + (cacheCapacity > 0 ? "with" : "without") + " column facet cache ("
+                + COLUMNS * COLUMNS * CHUNKS_PER_COLUMN + " chunks per repetition)", 2, new int[]{10});
+        this.cacheCapacity = cacheCapacity;
+    }
+
+    @Override
+    public void setup() {
+        WorldBuilder builder = BenchmarkFacetProviders.createWorldBuilder()
+                .addRasterizer(new DensityRasterizer())
+                .setColumnFacetCacheCapacity(cacheCapacity);
+        world = (WorldImpl) builder.build();
+        world.initialize();
+
+        chunks = new CoreChunk[COLUMNS * COLUMNS * CHUNKS_PER_COLUMN];
+        int index = 0;
+        for (int x = 0; x < COLUMNS; x++) {
+            for (int z = 0; z < COLUMNS; z++) {
+                for (int y = 0; y < CHUNKS_PER_COLUMN; y++) {
+                    chunks[index++] = new ChunkImpl(x, y - CHUNKS_PER_COLUMN / 2, z, null, null);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void prerun() {
+        generatedChunks = 0;
+        elapsedNanos = 0;
+    }
+
+    @Override
+    public void run() {
+        // every repetition starts with an empty cache, like a freshly explored area
+        world.initialize();
+        long start = System.nanoTime();
+        for (CoreChunk chunk : chunks) {
+            world.rasterizeChunk(chunk, entity -> { });
+        }
+        elapsedNanos += System.nanoTime() - start;
+        generatedChunks += chunks.length;
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %.0f chunks per second, %d cache hits, %d cache misses", getTitle(),
+                generatedChunks * 1e9 / elapsedNanos, world.getColumnFacetCacheHits(), world.getColumnFacetCacheMisses()));
+    }
+
+    /**
+     * Reads all facets like a rasterizer placing blocks would, without depending on registered blocks.
+     */
+    private static final class DensityRasterizer implements WorldRasterizer {
+        private float checksum;
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public void generateChunk(CoreChunk chunk, Region chunkRegion) {
+            DensityFacet density = chunkRegion.getFacet(DensityFacet.class);
+            SurfaceTemperatureFacet temperature = chunkRegion.getFacet(SurfaceTemperatureFacet.class);
+            SurfaceHumidityFacet humidity = chunkRegion.getFacet(SurfaceHumidityFacet.class);
+            for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+                for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                    float climate = temperature.get(x, z) * humidity.get(x, z);
+                    for (int y = 0; y < ChunkConstants.SIZE_Y; y++) {
+                        if (density.get(x, y, z) > 0) {
+                            checksum += climate;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
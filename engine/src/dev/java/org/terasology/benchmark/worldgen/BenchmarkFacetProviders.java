@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.worldgen;
+
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector2f;
+import org.terasology.utilities.procedural.BrownianNoise;
+import org.terasology.utilities.procedural.SimplexNoise;
+import org.terasology.utilities.procedural.SubSampledNoise;
+import org.terasology.world.generation.Border3D;
+import org.terasology.world.generation.Facet;
+import org.terasology.world.generation.FacetProvider;
+import org.terasology.world.generation.GeneratingRegion;
+import org.terasology.world.generation.Produces;
+import org.terasology.world.generation.Requires;
+import org.terasology.world.generation.WorldBuilder;
+import org.terasology.world.generation.facets.DensityFacet;
+import org.terasology.world.generation.facets.SurfaceHeightFacet;
+import org.terasology.world.generation.facets.SurfaceHumidityFacet;
+import org.terasology.world.generation.facets.SurfaceTemperatureFacet;
+import org.terasology.world.generation.facets.base.BaseFieldFacet2D;
+
+/**
+ * A noise based world for the world generation benchmarks. The providers follow the surface, climate and density
+ * providers of the perlin faceted world generator of the Core module, which the engine can't depend on.
+ */
+public final class BenchmarkFacetProviders {
+
+    private BenchmarkFacetProviders() {
+    }
+
+    public static WorldBuilder createWorldBuilder() {
+        WorldBuilder builder = new WorldBuilder(null)
+                .addProvider(new SurfaceProvider())
+                .addProvider(new TemperatureProvider())
+                .addProvider(new HumidityProvider())
+                .addProvider(new DensityProvider())
+                .addProvider(new BiomeProvider());
+        builder.setSeed(12);
+        return builder;
+    }
+
+    @Produces(SurfaceHeightFacet.class)
+    private static final class SurfaceProvider implements FacetProvider {
+        private SubSampledNoise surfaceNoise;
+
+        @Override
+        public void setSeed(long seed) {
+            surfaceNoise = new SubSampledNoise(new BrownianNoise(new SimplexNoise(seed), 8), new Vector2f(0.004f, 0.004f), 4);
+        }
+
+        @Override
+        public void process(GeneratingRegion region) {
+            Border3D border = region.getBorderForFacet(SurfaceHeightFacet.class);
+            SurfaceHeightFacet facet = new SurfaceHeightFacet(region.getRegion(), border);
+            float[] noise = surfaceNoise.noise(facet.getWorldRegion());
+            for (int i = 0; i < noise.length; i++) {
+                noise[i] = 32 + noise[i] * 40;
+            }
+            facet.set(noise);
+            region.setRegionFacet(SurfaceHeightFacet.class, facet);
+        }
+    }
+
+    @Produces(SurfaceTemperatureFacet.class)
+    private static final class TemperatureProvider implements FacetProvider {
+        private SubSampledNoise temperatureNoise;
+
+        @Override
+        public void setSeed(long seed) {
+            temperatureNoise = new SubSampledNoise(new BrownianNoise(new SimplexNoise(seed + 5), 8), new Vector2f(0.0005f, 0.0005f), 4);
+        }
+
+        @Override
+        public void process(GeneratingRegion region) {
+            Border3D border = region.getBorderForFacet(SurfaceTemperatureFacet.class);
+            SurfaceTemperatureFacet facet = new SurfaceTemperatureFacet(region.getRegion(), border);
+            facet.set(temperatureNoise.noise(facet.getWorldRegion()));
+            region.setRegionFacet(SurfaceTemperatureFacet.class, facet);
+        }
+    }
+
+    @Produces(SurfaceHumidityFacet.class)
+    private static final class HumidityProvider implements FacetProvider {
+        private SubSampledNoise humidityNoise;
+
+        @Override
+        public void setSeed(long seed) {
+            humidityNoise = new SubSampledNoise(new BrownianNoise(new SimplexNoise(seed + 6), 8), new Vector2f(0.0005f, 0.0005f), 4);
+        }
+
+        @Override
+        public void process(GeneratingRegion region) {
+            Border3D border = region.getBorderForFacet(SurfaceHumidityFacet.class);
+            SurfaceHumidityFacet facet = new SurfaceHumidityFacet(region.getRegion(), border);
+            facet.set(humidityNoise.noise(facet.getWorldRegion()));
+            region.setRegionFacet(SurfaceHumidityFacet.class, facet);
+        }
+    }
+
+    @Produces(DensityFacet.class)
+    @Requires(@Facet(SurfaceHeightFacet.class))
+    private static final class DensityProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            SurfaceHeightFacet surface = region.getRegionFacet(SurfaceHeightFacet.class);
+            DensityFacet density = new DensityFacet(region.getRegion(), region.getBorderForFacet(DensityFacet.class));
+            Region3i area = region.getRegion();
+            for (int x = area.minX(); x <= area.maxX(); x++) {
+                for (int z = area.minZ(); z <= area.maxZ(); z++) {
+                    float height = surface.getWorld(x, z);
+                    for (int y = area.minY(); y <= area.maxY(); y++) {
+                        density.setWorld(x, y, z, height - y);
+                    }
+                }
+            }
+            region.setRegionFacet(DensityFacet.class, density);
+        }
+    }
+
+    /**
+     * Stands in for the biome facet of the Core module, which combines the surface and climate facets.
+     */
+    static final class BiomeFacet extends BaseFieldFacet2D {
+        BiomeFacet(Region3i targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    @Produces(BiomeFacet.class)
+    @Requires({@Facet(SurfaceHeightFacet.class), @Facet(SurfaceTemperatureFacet.class), @Facet(SurfaceHumidityFacet.class)})
+    private static final class BiomeProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            float[] height = region.getRegionFacet(SurfaceHeightFacet.class).getInternal();
+            float[] temperature = region.getRegionFacet(SurfaceTemperatureFacet.class).getInternal();
+            float[] humidity = region.getRegionFacet(SurfaceHumidityFacet.class).getInternal();
+            BiomeFacet facet = new BiomeFacet(region.getRegion(), region.getBorderForFacet(BiomeFacet.class));
+            float[] biome = facet.getInternal();
+            for (int i = 0; i < biome.length; i++) {
+                biome[i] = (height[i] > 32) ? temperature[i] : temperature[i] * humidity[i];
+            }
+            region.setRegionFacet(BiomeFacet.class, facet);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.benchmark.worldgen;
+
+import org.terasology.benchmark.AbstractBenchmark;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.generation.World;
+import org.terasology.world.generation.WorldBuilder;
+
+/**
+ * Generates the biome facet for an area of 32x32 chunks at once, like a pre-generation run would, with the facet
+ * providers processed either sequentially or in parallel. After the measured repetitions the time per area gets printed.
+ */
+public class BenchmarkRegionGeneration extends AbstractBenchmark {
+
+    private static final int AREA_CHUNKS = 32;
+
+    private final boolean parallel;
+
+    private World world;
+    private Region3i area;
+
+    private long generatedAreas;
+    private long elapsedNanos;
+
+    public BenchmarkRegionGeneration(boolean parallel) {
+        super((parallel ? "Parallel" : "Sequential") + " facet providers (" + AREA_CHUNKS + "x" + AREA_CHUNKS + " chunk area)",
+                2, new int[]{10});
+        this.parallel = parallel;
+    }
+
+    @Override
+    public void setup() {
+        WorldBuilder builder = BenchmarkFacetProviders.createWorldBuilder()
+                .setColumnFacetCacheCapacity(0)
+                .setParallelFacetProviders(parallel);
+        world = builder.build();
+        world.initialize();
+        area = Region3i.createFromMinAndSize(new Vector3i(),
+                new Vector3i(AREA_CHUNKS * ChunkConstants.SIZE_X, 1, AREA_CHUNKS * ChunkConstants.SIZE_Z));
+    }
+
+    @Override
+    public void prerun() {
+        generatedAreas = 0;
+        elapsedNanos = 0;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        world.getWorldData(area).getFacet(BenchmarkFacetProviders.BiomeFacet.class);
+        elapsedNanos += System.nanoTime() - start;
+        generatedAreas++;
+    }
+
+    @Override
+    public void postrun() {
+        System.out.println(String.format("%s: %.1f ms per area", getTitle(), elapsedNanos / 1e6 / generatedAreas));
+    }
+}
@@ -28,9 +28,13 @@ public class SystemConfig {
     private int maxThreads;
     private int maxSecondsBetweenSaves;
     private int maxUnloadedChunksPercentageTillSave;
+    private int maxChunksIntegratedPerFrame;
+    private int chunkIntegrationBudgetInMs;
     private boolean debugEnabled;
     private boolean monitoringEnabled;
     private boolean writeSaveGamesEnabled;
+    private boolean regionChunkStorageEnabled;
+    private String storeCompression;
     private String locale;
 
     public long getDayNightLengthInMs() {
@@ -65,6 +69,22 @@ public void setMaxUnloadedChunksPercentageTillSave(int maxUnloadedChunksPercenta
         this.maxUnloadedChunksPercentageTillSave = maxUnloadedChunksPercentageTillSave;
     }
 
+    public int getMaxChunksIntegratedPerFrame() {
+        return maxChunksIntegratedPerFrame;
+    }
+
+    public void setMaxChunksIntegratedPerFrame(int maxChunksIntegratedPerFrame) {
+        this.maxChunksIntegratedPerFrame = maxChunksIntegratedPerFrame;
+    }
+
+    public int getChunkIntegrationBudgetInMs() {
+        return chunkIntegrationBudgetInMs;
+    }
+
+    public void setChunkIntegrationBudgetInMs(int chunkIntegrationBudgetInMs) {
+        this.chunkIntegrationBudgetInMs = chunkIntegrationBudgetInMs;
+    }
+
     public boolean isDebugEnabled() {
         return debugEnabled;
     }
@@ -93,6 +113,33 @@ public void setWriteSaveGamesEnabled(boolean writeSaveGamesEnabled) {
         this.writeSaveGamesEnabled = writeSaveGamesEnabled;
     }
 
+    /**
+     * @return true if chunks should be stored in region files instead of chunk zips. Existing chunk zips of a save
+     * game get migrated when it is loaded with this setting enabled.
+     */
+    public boolean isRegionChunkStorageEnabled() {
+        return regionChunkStorageEnabled;
+    }
+
+    public void setRegionChunkStorageEnabled(boolean regionChunkStorageEnabled) {
+        this.regionChunkStorageEnabled = regionChunkStorageEnabled;
+    }
+
+    /**
+     * @return the name of the codec chunk and player stores get compressed with when they are saved, one of "none",
+     * "gzip" and "lz4". Stores written with another codec can still be loaded.
+     */
+    public String getStoreCompression() {
+        if (storeCompression == null) {
+            storeCompression = "gzip";
+        }
+        return storeCompression;
+    }
+
+    public void setStoreCompression(String storeCompression) {
+        this.storeCompression = storeCompression;
+    }
+
     public Locale getLocale() {
         if (locale == null) {
             setLocale(Locale.getDefault(Category.DISPLAY));
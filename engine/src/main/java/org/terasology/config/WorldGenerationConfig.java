@@ -26,6 +26,11 @@ public class WorldGenerationConfig {
      */
     private SimpleUri defaultGenerator = new SimpleUri();
 
+    /**
+     * Whether facet providers that don't depend on each other get processed in parallel.
+     */
+    private boolean parallelFacetProviders;
+
     /**
      * @return Returns the title of the world
      */
@@ -67,4 +72,18 @@ public SimpleUri getDefaultGenerator() {
     public void setDefaultGenerator(SimpleUri defaultGenerator) {
         this.defaultGenerator = defaultGenerator;
     }
+
+    /**
+     * @return Returns whether independent facet providers get processed in parallel
+     */
+    public boolean isParallelFacetProviders() {
+        return parallelFacetProviders;
+    }
+
+    /**
+     * @param parallelFacetProviders Sets whether independent facet providers get processed in parallel
+     */
+    public void setParallelFacetProviders(boolean parallelFacetProviders) {
+        this.parallelFacetProviders = parallelFacetProviders;
+    }
 }
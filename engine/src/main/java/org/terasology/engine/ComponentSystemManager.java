@@ -22,6 +22,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.context.Context;
+import org.terasology.engine.module.ModuleManager;
+import org.terasology.engine.module.ModuleTypeCache;
 import org.terasology.engine.subsystem.DisplayDevice;
 import org.terasology.entitySystem.entity.EntityManager;
 import org.terasology.entitySystem.systems.ComponentSystem;
@@ -75,8 +77,9 @@ public void loadSystems(ModuleEnvironment environment, NetworkMode netMode) {
         DisplayDevice display = context.get(DisplayDevice.class);
         boolean isHeadless = display.isHeadless();
 
+        ModuleTypeCache typeCache = context.get(ModuleManager.class).getTypeCache();
         ListMultimap<Name, Class<?>> systemsByModule = ArrayListMultimap.create();
-        for (Class<?> type : environment.getTypesAnnotatedWith(RegisterSystem.class)) {
+        for (Class<?> type : typeCache.getTypesAnnotatedWith(environment, RegisterSystem.class)) {
             if (!ComponentSystem.class.isAssignableFrom(type)) {
                 logger.error("Cannot load {}, must be a subclass of ComponentSystem", type.getSimpleName());
                 continue;
@@ -103,6 +106,7 @@ public void loadSystems(ModuleEnvironment environment, NetworkMode netMode) {
                 }
             }
         }
+        typeCache.save();
     }
 
     private boolean areOptionalRequirementsContained(RegisterSystem registerSystem, ModuleEnvironment environment) {
@@ -41,12 +41,12 @@ public <T> Iterable<Class<? extends T>> getSubtypesOf(Class<T> superClass, Strin
 
     @Override
     public <U> Iterable<Class<? extends U>> getSubtypesOf(Class<U> type) {
-        return moduleManager.getEnvironment().getSubtypesOf(type);
+        return moduleManager.getTypeCache().getSubtypesOf(moduleManager.getEnvironment(), type);
     }
 
     @Override
     public Iterable<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
-        return moduleManager.getEnvironment().getTypesAnnotatedWith(annotation);
+        return moduleManager.getTypeCache().getTypesAnnotatedWith(moduleManager.getEnvironment(), annotation);
     }
 
     @Override
@@ -19,6 +19,7 @@
 import org.terasology.context.Context;
 import org.terasology.engine.SimpleUri;
 import org.terasology.engine.module.ModuleManager;
+import org.terasology.engine.module.ModuleTypeCache;
 import org.terasology.entitySystem.Component;
 import org.terasology.entitySystem.entity.EntityManager;
 import org.terasology.entitySystem.entity.EntityRef;
@@ -123,12 +124,14 @@ public static void addEntityManagementRelatedClasses(Context context) {
         context.put(NodesClassLibrary.class, nodesClassLibrary);
         nodesClassLibrary.scan(environment);
 
-        registerComponents(library.getComponentLibrary(), environment);
-        registerEvents(entityManager.getEventSystem(), environment);
+        ModuleTypeCache typeCache = context.get(ModuleManager.class).getTypeCache();
+        registerComponents(library.getComponentLibrary(), environment, typeCache);
+        registerEvents(entityManager.getEventSystem(), environment, typeCache);
+        typeCache.save();
     }
 
-    private static void registerComponents(ComponentLibrary library, ModuleEnvironment environment) {
-        for (Class<? extends Component> componentType : environment.getSubtypesOf(Component.class)) {
+    private static void registerComponents(ComponentLibrary library, ModuleEnvironment environment, ModuleTypeCache typeCache) {
+        for (Class<? extends Component> componentType : typeCache.getSubtypesOf(environment, Component.class)) {
             if (componentType.getAnnotation(DoNotAutoRegister.class) == null) {
                 String componentName = MetadataUtil.getComponentClassName(componentType);
                 library.register(new SimpleUri(environment.getModuleProviding(componentType), componentName), componentType);
@@ -136,8 +139,8 @@ private static void registerComponents(ComponentLibrary library, ModuleEnvironme
         }
     }
 
-    private static void registerEvents(EventSystem eventSystem, ModuleEnvironment environment) {
-        for (Class<? extends Event> type : environment.getSubtypesOf(Event.class)) {
+    private static void registerEvents(EventSystem eventSystem, ModuleEnvironment environment, ModuleTypeCache typeCache) {
+        for (Class<? extends Event> type : typeCache.getSubtypesOf(environment, Event.class)) {
             if (type.getAnnotation(DoNotAutoRegister.class) == null) {
                 eventSystem.registerEvent(new SimpleUri(environment.getModuleProviding(type), type.getSimpleName()), type);
             }
@@ -24,6 +24,7 @@
 import org.terasology.context.Context;
 import org.terasology.engine.SimpleUri;
 import org.terasology.engine.module.ModuleManager;
+import org.terasology.engine.module.ModuleTypeCache;
 import org.terasology.entitySystem.Component;
 import org.terasology.entitySystem.metadata.ComponentLibrary;
 import org.terasology.entitySystem.metadata.EntitySystemLibrary;
@@ -66,10 +67,11 @@ public EnvironmentSwitchHandler() {
 
     public void handleSwitchToGameEnvironment(Context context) {
         ModuleManager moduleManager = context.get(ModuleManager.class);
+        ModuleTypeCache typeCache = moduleManager.getTypeCache();
 
         CopyStrategyLibrary copyStrategyLibrary = context.get(CopyStrategyLibrary.class);
         copyStrategyLibrary.clear();
-        for (Class<? extends CopyStrategy> copyStrategy : moduleManager.getEnvironment().getSubtypesOf(CopyStrategy.class)) {
+        for (Class<? extends CopyStrategy> copyStrategy : typeCache.getSubtypesOf(moduleManager.getEnvironment(), CopyStrategy.class)) {
             if (copyStrategy.getAnnotation(RegisterCopyStrategy.class) == null) {
                 continue;
             }
@@ -98,11 +100,12 @@ public void handleSwitchToGameEnvironment(Context context) {
         context.put(EventLibrary.class, library.getEventLibrary());
         context.put(ClassMetaLibrary.class, new ClassMetaLibraryImpl(context));
 
-        registerComponents(componentLibrary, moduleManager.getEnvironment());
-        registerTypeHandlers(context, typeSerializationLibrary, moduleManager.getEnvironment());
+        registerComponents(componentLibrary, moduleManager.getEnvironment(), typeCache);
+        registerTypeHandlers(context, typeSerializationLibrary, moduleManager.getEnvironment(), typeCache);
 
         BlockFamilyFactoryRegistry blockFamilyFactoryRegistry = context.get(BlockFamilyFactoryRegistry.class);
-        loadFamilies((DefaultBlockFamilyFactoryRegistry) blockFamilyFactoryRegistry, moduleManager.getEnvironment());
+        loadFamilies((DefaultBlockFamilyFactoryRegistry) blockFamilyFactoryRegistry, moduleManager.getEnvironment(), typeCache);
+        typeCache.save();
 
         ModuleAwareAssetTypeManager assetTypeManager = context.get(ModuleAwareAssetTypeManager.class);
 
@@ -143,7 +146,7 @@ public void handleSwitchToPreviewEnvironment(Context context, ModuleEnvironment
         ComponentLibrary library = new ComponentLibrary(context);
         context.put(ComponentLibrary.class, library);
 
-        registerComponents(library, environment);
+        registerComponents(library, environment, context.get(ModuleManager.class).getTypeCache());
     }
 
     public void handleSwitchBackFromPreviewEnvironment(Context context) {
@@ -169,9 +172,9 @@ private void unregisterPrefabFormats(ModuleAwareAssetTypeManager assetTypeManage
         }
     }
 
-    private static void loadFamilies(DefaultBlockFamilyFactoryRegistry registry, ModuleEnvironment environment) {
+    private static void loadFamilies(DefaultBlockFamilyFactoryRegistry registry, ModuleEnvironment environment, ModuleTypeCache typeCache) {
         registry.clear();
-        for (Class<?> blockFamilyFactory : environment.getTypesAnnotatedWith(RegisterBlockFamilyFactory.class)) {
+        for (Class<?> blockFamilyFactory : typeCache.getTypesAnnotatedWith(environment, RegisterBlockFamilyFactory.class)) {
             if (!BlockFamilyFactory.class.isAssignableFrom(blockFamilyFactory)) {
                 logger.error("Cannot load {}, must be a subclass of BlockFamilyFactory", blockFamilyFactory.getSimpleName());
                 continue;
@@ -190,8 +193,8 @@ private static void loadFamilies(DefaultBlockFamilyFactoryRegistry registry, Mod
         }
     }
 
-    private static void registerComponents(ComponentLibrary library, ModuleEnvironment environment) {
-        for (Class<? extends Component> componentType : environment.getSubtypesOf(Component.class)) {
+    private static void registerComponents(ComponentLibrary library, ModuleEnvironment environment, ModuleTypeCache typeCache) {
+        for (Class<? extends Component> componentType : typeCache.getSubtypesOf(environment, Component.class)) {
             if (componentType.getAnnotation(DoNotAutoRegister.class) == null) {
                 String componentName = MetadataUtil.getComponentClassName(componentType);
                 library.register(new SimpleUri(environment.getModuleProviding(componentType), componentName), componentType);
@@ -200,8 +203,9 @@ private static void registerComponents(ComponentLibrary library, ModuleEnvironme
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private static void registerTypeHandlers(Context context, TypeSerializationLibrary library, ModuleEnvironment environment) {
-        for (Class<? extends TypeHandler> handler : environment.getSubtypesOf(TypeHandler.class)) {
+    private static void registerTypeHandlers(Context context, TypeSerializationLibrary library, ModuleEnvironment environment,
+                                             ModuleTypeCache typeCache) {
+        for (Class<? extends TypeHandler> handler : typeCache.getSubtypesOf(environment, TypeHandler.class)) {
             RegisterTypeHandler register = handler.getAnnotation(RegisterTypeHandler.class);
             if (register != null) {
                 Optional<Type> opt = GenericsUtil.getTypeParameterBindingForInheritedClass(handler, TypeHandler.class, 0);
@@ -67,6 +67,7 @@
 import org.terasology.rendering.nui.layers.mainMenu.loadingScreen.LoadingScreen;
 
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 
 /**
  */
@@ -88,6 +89,10 @@ public class StateLoading implements GameState {
     private int progress;
     private int maxProgress;
 
+    private long loadStartTime;
+    private long currentStartTime;
+    private StringBuilder timingReport;
+
     /**
      * Constructor for server or single player games
      *
@@ -140,6 +145,8 @@ public void init(GameEngine engine) {
             maxProgress += process.getExpectedCost();
         }
 
+        loadStartTime = System.nanoTime();
+        timingReport = new StringBuilder();
         popStep();
         loadingScreen = nuiManager.pushScreen("engine:loadingScreen", LoadingScreen.class);
         loadingScreen.updateStatus(current.getMessage(), current.getProgress());
@@ -213,13 +220,17 @@ private void initHost() {
     }
 
     private void popStep() {
+        long now = System.nanoTime();
         if (current != null) {
             progress += current.getExpectedCost();
+            timingReport.append(String.format("%n  %-40s%6d ms", current.getClass().getSimpleName(),
+                    TimeUnit.NANOSECONDS.toMillis(now - currentStartTime)));
         }
         current = null;
         if (!loadProcesses.isEmpty()) {
             current = loadProcesses.remove();
             logger.debug(current.getMessage());
+            currentStartTime = now;
             current.begin();
         }
     }
@@ -245,6 +256,8 @@ public void update(float delta) {
             }
         }
         if (current == null) {
+            logger.info("Load processes took {} ms:{}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStartTime),
+                    timingReport);
             nuiManager.closeScreen(loadingScreen);
             nuiManager.setHUDVisible(true);
             context.get(GameEngine.class).changeState(new StateIngame(gameManifest, context));
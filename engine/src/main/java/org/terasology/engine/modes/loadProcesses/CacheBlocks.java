@@ -25,6 +25,7 @@
 /**
  */
 public class CacheBlocks extends StepBasedLoadProcess {
+    private static final int FAMILIES_PER_STEP = 32;
 
     private final Context context;
     private Iterator<BlockFamily> blockFamilyIterator;
@@ -40,7 +41,8 @@ public String getMessage() {
 
     @Override
     public boolean step() {
-        if (blockFamilyIterator.hasNext()) {
+        // caching a single family is cheap, so several are cached per step to keep the per step overhead small
+        for (int i = 0; i < FAMILIES_PER_STEP && blockFamilyIterator.hasNext(); i++) {
             BlockFamily family = blockFamilyIterator.next();
             family.getArchetypeBlock().getMeshGenerator();
             stepDone();
@@ -19,6 +19,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.config.Config;
+import org.terasology.config.SystemConfig;
 import org.terasology.context.Context;
 import org.terasology.engine.ComponentSystemManager;
 import org.terasology.engine.GameEngine;
@@ -33,8 +34,10 @@
 import org.terasology.logic.players.LocalPlayer;
 import org.terasology.module.ModuleEnvironment;
 import org.terasology.persistence.StorageManager;
+import org.terasology.persistence.internal.ChunkStorageFormat;
 import org.terasology.persistence.internal.ReadOnlyStorageManager;
 import org.terasology.persistence.internal.ReadWriteStorageManager;
+import org.terasology.persistence.internal.StoreCompression;
 import org.terasology.rendering.backdrop.BackdropProvider;
 import org.terasology.rendering.backdrop.BackdropRenderer;
 import org.terasology.rendering.backdrop.Skysphere;
@@ -115,12 +118,21 @@ public boolean step() {
         // Init. a new world
         EngineEntityManager entityManager = (EngineEntityManager) context.get(EntityManager.class);
         boolean writeSaveGamesEnabled = context.get(Config.class).getSystem().isWriteSaveGamesEnabled();
+        ChunkStorageFormat chunkStorageFormat = context.get(Config.class).getSystem().isRegionChunkStorageEnabled()
+                ? ChunkStorageFormat.REGION_FILES : ChunkStorageFormat.CHUNK_ZIPS;
         Path savePath = PathManager.getInstance().getSavePath(gameManifest.getTitle());
         StorageManager storageManager;
         try {
-            storageManager = writeSaveGamesEnabled
-                    ? new ReadWriteStorageManager(savePath, environment, entityManager, blockManager, biomeManager)
-                    : new ReadOnlyStorageManager(savePath, environment, entityManager, blockManager, biomeManager);
+            if (writeSaveGamesEnabled) {
+                ReadWriteStorageManager readWriteStorageManager = new ReadWriteStorageManager(savePath, environment,
+                        entityManager, blockManager, biomeManager, chunkStorageFormat);
+                readWriteStorageManager.setStoreCompression(
+                        StoreCompression.forName(context.get(Config.class).getSystem().getStoreCompression()));
+                storageManager = readWriteStorageManager;
+            } else {
+                storageManager = new ReadOnlyStorageManager(savePath, environment, entityManager, blockManager,
+                        biomeManager, chunkStorageFormat);
+            }
         } catch (IOException e) {
             logger.error("Unable to create storage manager!", e);
             context.get(GameEngine.class).changeState(new StateMainMenu("Unable to create storage manager!"));
@@ -129,6 +141,8 @@ public boolean step() {
         context.put(StorageManager.class, storageManager);
         LocalChunkProvider chunkProvider = new LocalChunkProvider(storageManager, entityManager, worldGenerator,
                 blockManager, biomeManager);
+        SystemConfig systemConfig = context.get(Config.class).getSystem();
+        chunkProvider.setIntegrationBudget(systemConfig.getMaxChunksIntegratedPerFrame(), systemConfig.getChunkIntegrationBudgetInMs());
         context.get(ComponentSystemManager.class).register(new RelevanceSystem(chunkProvider), "engine:relevanceSystem");
         Block unloadedBlock = blockManager.getBlock(BlockManager.UNLOADED_ID);
         WorldProviderCoreImpl worldProviderCore = new WorldProviderCoreImpl(worldInfo, chunkProvider, unloadedBlock, context);
@@ -35,4 +35,9 @@ public interface ModuleManager {
     ModuleEnvironment loadEnvironment(Set<Module> modules, boolean asPrimary);
 
     ModuleMetadataJsonAdapter getModuleMetadataReader();
+
+    /**
+     * @return the cache to discover the types provided by the modules of an environment with.
+     */
+    ModuleTypeCache getTypeCache();
 }
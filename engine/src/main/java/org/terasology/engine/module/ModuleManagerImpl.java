@@ -40,6 +40,7 @@
 import java.io.Reader;
 import java.lang.reflect.ReflectPermission;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 import java.security.Policy;
 import java.util.Collections;
 import java.util.Set;
@@ -47,13 +48,25 @@
 
 public class ModuleManagerImpl implements ModuleManager {
 
+    private static final String TYPE_CACHE_FILE = "moduleTypeCache.json";
+
     private StandardPermissionProviderFactory permissionProviderFactory = new StandardPermissionProviderFactory();
 
     private ModuleRegistry registry;
     private ModuleEnvironment environment;
     private ModuleMetadataJsonAdapter metadataReader;
+    private final ModuleTypeCache typeCache;
 
     public ModuleManagerImpl() {
+        this(PathManager.getInstance().getHomePath().resolve(TYPE_CACHE_FILE));
+    }
+
+    /**
+     * @param typeCacheFile the file to persist the types discovered in the modules in, or null to only keep them in
+     *                      memory.
+     */
+    public ModuleManagerImpl(Path typeCacheFile) {
+        typeCache = new ModuleTypeCache(typeCacheFile);
         metadataReader = new ModuleMetadataJsonAdapter();
         for (ModuleExtension ext : StandardModuleExtension.values()) {
             metadataReader.registerExtension(ext.getKey(), ext.getValueType());
@@ -126,4 +139,9 @@ public ModuleEnvironment loadEnvironment(Set<Module> modules, boolean asPrimary)
     public ModuleMetadataJsonAdapter getModuleMetadataReader() {
         return metadataReader;
     }
+
+    @Override
+    public ModuleTypeCache getTypeCache() {
+        return typeCache;
+    }
 }
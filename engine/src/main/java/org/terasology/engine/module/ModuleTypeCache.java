@@ -0,0 +1,338 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.engine.module;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.TerasologyConstants;
+import org.terasology.module.DependencyInfo;
+import org.terasology.module.Module;
+import org.terasology.module.ModuleEnvironment;
+import org.terasology.naming.Name;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Persistent cache of the types the engine discovers in module environments, like components, events, component
+ * systems, type handlers and block family factories.
+ * <br><br>
+ * The discovered type names are stored per module, keyed by the module id, version and a checksum of its locations,
+ * which are the module's jar or its class directories, and of the keys of the code modules it depends on. When every
+ * code module of an environment has an up to date entry for a query, the types are loaded by name instead of being
+ * looked up in the environment. Otherwise, or if a loaded type doesn't match the query, the environment is queried
+ * and the result gets recorded.
+ * <br><br>
+ * The types of modules on the classpath are loaded by the engine's class loader, the sandbox would hide most of them
+ * from the class loader of the environment. The types of the other modules are loaded by the environment.
+ */
+public class ModuleTypeCache {
+    private static final Logger logger = LoggerFactory.getLogger(ModuleTypeCache.class);
+
+    private static final Type ENTRIES_TYPE = new TypeToken<Map<String, Map<String, List<String>>>>() { }.getType();
+
+    private final Path cacheFile;
+    private final ClassLoader classLoader;
+    private final Gson gson = new Gson();
+
+    private Map<String, Map<String, List<String>>> entries;
+    private final Map<Module, String> locationChecksums = Maps.newHashMap();
+    private boolean dirty;
+
+    private int hits;
+    private int misses;
+    private long discoveryNanos;
+
+    /**
+     * @param cacheFile the file to persist the cache in, or null to only keep it in memory.
+     */
+    public ModuleTypeCache(Path cacheFile) {
+        this(cacheFile, ModuleTypeCache.class.getClassLoader());
+    }
+
+    ModuleTypeCache(Path cacheFile, ClassLoader classLoader) {
+        this.cacheFile = cacheFile;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return the subtypes of the given type provided by the modules of the environment.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> Iterable<Class<? extends T>> getSubtypesOf(ModuleEnvironment environment, Class<T> type) {
+        List<Class<?>> result = getTypes(environment, "subtypes:" + type.getName(), type::isAssignableFrom, () -> environment.getSubtypesOf(type));
+        return (Iterable<Class<? extends T>>) (Iterable<?>) result;
+    }
+
+    /**
+     * @return the types annotated with the given annotation provided by the modules of the environment.
+     */
+    public synchronized Iterable<Class<?>> getTypesAnnotatedWith(ModuleEnvironment environment, Class<? extends Annotation> annotation) {
+        return getTypes(environment, "annotated:" + annotation.getName(), cls -> cls.isAnnotationPresent(annotation),
+                () -> environment.getTypesAnnotatedWith(annotation));
+    }
+
+    private List<Class<?>> getTypes(ModuleEnvironment environment, String query, Predicate<Class<?>> matchesQuery,
+                                    Supplier<Iterable<? extends Class<?>>> scan) {
+        long start = System.nanoTime();
+        Map<Module, String> moduleKeys = getModuleKeys(environment);
+        List<Class<?>> result = loadCachedTypes(environment, moduleKeys, query, matchesQuery);
+        if (result != null) {
+            hits++;
+        } else {
+            misses++;
+            result = Lists.newArrayList(scan.get());
+            recordTypes(environment, moduleKeys, query, result);
+        }
+        discoveryNanos += System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * @return the cached types for the query, or null if any code module of the environment lacks an up to date entry
+     * or a cached type can't be loaded or doesn't match the query.
+     */
+    private List<Class<?>> loadCachedTypes(ModuleEnvironment environment, Map<Module, String> moduleKeys, String query,
+                                           Predicate<Class<?>> matchesQuery) {
+        Map<String, ClassLoader> typeNames = Maps.newLinkedHashMap();
+        for (Module module : environment.getModulesOrderedByDependencies()) {
+            if (!module.isCodeModule()) {
+                continue;
+            }
+            Map<String, List<String>> moduleEntry = getEntries().get(moduleKeys.get(module));
+            List<String> moduleTypes = (moduleEntry != null) ? moduleEntry.get(query) : null;
+            if (moduleTypes == null) {
+                return null;
+            }
+            ClassLoader moduleClassLoader = module.isOnClasspath() ? classLoader : environment.getClassLoader();
+            for (String typeName : moduleTypes) {
+                typeNames.put(typeName, moduleClassLoader);
+            }
+        }
+
+        List<Class<?>> result = Lists.newArrayListWithCapacity(typeNames.size());
+        for (Map.Entry<String, ClassLoader> typeName : typeNames.entrySet()) {
+            Class<?> type;
+            try {
+                type = Class.forName(typeName.getKey(), false, typeName.getValue());
+            } catch (ClassNotFoundException | LinkageError e) {
+                logger.warn("Cached type '{}' could not be loaded, scanning the environment instead", typeName.getKey());
+                return null;
+            }
+            if (!matchesQuery.test(type)) {
+                logger.warn("Cached type '{}' doesn't match '{}', scanning the environment instead", typeName.getKey(), query);
+                return null;
+            }
+            result.add(type);
+        }
+        return result;
+    }
+
+    private void recordTypes(ModuleEnvironment environment, Map<Module, String> moduleKeys, String query, List<Class<?>> types) {
+        ListMultimap<Name, String> typesByModule = ArrayListMultimap.create();
+        for (Class<?> type : types) {
+            Name moduleId = environment.getModuleProviding(type);
+            if (moduleId == null) {
+                return;
+            }
+            typesByModule.put(moduleId, type.getName());
+        }
+        for (Module module : environment.getModulesOrderedByDependencies()) {
+            if (!module.isCodeModule()) {
+                continue;
+            }
+            String moduleKey = moduleKeys.get(module);
+            if (moduleKey == null) {
+                continue;
+            }
+            Map<String, List<String>> moduleEntry = getEntries().get(moduleKey);
+            if (moduleEntry == null) {
+                // Entries of other versions or builds of the module are outdated
+                String modulePrefix = module.getId() + ":";
+                getEntries().keySet().removeIf(key -> key.startsWith(modulePrefix));
+                moduleEntry = Maps.newHashMap();
+                getEntries().put(moduleKey, moduleEntry);
+            }
+            moduleEntry.put(query, Lists.newArrayList(typesByModule.get(module.getId())));
+            dirty = true;
+        }
+    }
+
+    private Map<String, Map<String, List<String>>> getEntries() {
+        if (entries == null) {
+            entries = Maps.newHashMap();
+            if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+                try (Reader reader = Files.newBufferedReader(cacheFile, TerasologyConstants.CHARSET)) {
+                    Map<String, Map<String, List<String>>> loaded = gson.fromJson(reader, ENTRIES_TYPE);
+                    if (loaded != null) {
+                        entries.putAll(loaded);
+                    }
+                } catch (IOException | JsonParseException e) {
+                    logger.warn("Failed to read module type cache '{}', discarding it", cacheFile, e);
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Determines the entry keys of the code modules of the environment. A key covers the module's locations and the
+     * keys of the code modules it depends on in the environment, so an entry gets outdated when a dependency changes.
+     *
+     * @return the key of each code module, null for modules whose checksum or a dependency's key could not be determined.
+     */
+    private Map<Module, String> getModuleKeys(ModuleEnvironment environment) {
+        Map<Module, String> moduleKeys = Maps.newHashMap();
+        for (Module module : environment.getModulesOrderedByDependencies()) {
+            if (!module.isCodeModule()) {
+                continue;
+            }
+            String locationChecksum = getLocationChecksum(module);
+            if (locationChecksum == null) {
+                moduleKeys.put(module, null);
+                continue;
+            }
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+            hasher.putUnencodedChars(locationChecksum);
+            boolean dependenciesKnown = true;
+            for (DependencyInfo dependencyInfo : module.getMetadata().getDependencies()) {
+                Module dependency = environment.get(dependencyInfo.getId());
+                if (dependency != null && dependency.isCodeModule()) {
+                    String dependencyKey = moduleKeys.get(dependency);
+                    if (dependencyKey == null) {
+                        dependenciesKnown = false;
+                        break;
+                    }
+                    hasher.putUnencodedChars(dependencyKey);
+                }
+            }
+            moduleKeys.put(module, dependenciesKnown ? module.getId() + ":" + module.getVersion() + ":" + hasher.hash() : null);
+        }
+        return moduleKeys;
+    }
+
+    /**
+     * @return the checksum of the module's locations, or null if it could not be determined.
+     */
+    private String getLocationChecksum(Module module) {
+        if (locationChecksums.containsKey(module)) {
+            return locationChecksums.get(module);
+        }
+        String checksum;
+        try {
+            Hasher hasher = Hashing.murmur3_128().newHasher();
+            for (Path location : module.getLocations()) {
+                hashLocation(hasher, location);
+            }
+            checksum = hasher.hash().toString();
+        } catch (IOException e) {
+            logger.warn("Failed to compute the checksum of module '{}', its types won't be cached", module, e);
+            checksum = null;
+        }
+        locationChecksums.put(module, checksum);
+        return checksum;
+    }
+
+    /**
+     * Archives are hashed by content. For directories the relative path, size and modification time of the files
+     * contained are hashed, so classes compiled by an IDE invalidate the entry without reading every class file.
+     */
+    private static void hashLocation(Hasher hasher, Path location) throws IOException {
+        hasher.putUnencodedChars(location.toString());
+        if (Files.isRegularFile(location)) {
+            try (InputStream in = Files.newInputStream(location);
+                 OutputStream out = Funnels.asOutputStream(hasher)) {
+                ByteStreams.copy(in, out);
+            }
+        } else if (Files.isDirectory(location)) {
+            try (Stream<Path> files = Files.walk(location)) {
+                Iterator<Path> iterator = files.filter(Files::isRegularFile).sorted().iterator();
+                while (iterator.hasNext()) {
+                    Path file = iterator.next();
+                    hasher.putUnencodedChars(location.relativize(file).toString());
+                    hasher.putLong(Files.size(file));
+                    hasher.putLong(Files.getLastModifiedTime(file).toMillis());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the cache to disk if entries were recorded since it was loaded or last saved.
+     */
+    public synchronized void save() {
+        logger.info("Module type discovery took {}ms ({} cached queries, {} scanned)", discoveryNanos / 1_000_000, hits, misses);
+        if (!dirty || cacheFile == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (Writer writer = Files.newBufferedWriter(cacheFile, TerasologyConstants.CHARSET)) {
+                gson.toJson(entries, ENTRIES_TYPE, writer);
+            }
+            dirty = false;
+        } catch (IOException e) {
+            logger.warn("Failed to write module type cache '{}'", cacheFile, e);
+        }
+    }
+
+    /**
+     * Discards the entries in memory and on disk.
+     */
+    public synchronized void clear() {
+        entries = Maps.newHashMap();
+        dirty = false;
+        if (cacheFile != null) {
+            try {
+                Files.deleteIfExists(cacheFile);
+            } catch (IOException e) {
+                logger.warn("Failed to delete module type cache '{}'", cacheFile, e);
+            }
+        }
+    }
+
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    public synchronized int getMisses() {
+        return misses;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.terasology.entitySystem.entity.internal;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import gnu.trove.iterator.TLongIterator;
@@ -27,14 +28,27 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A table for storing entities and components. Focused on allowing iteration across a components of a given type
+ * <br><br>
+ * Queries over multiple component types are answered from a query index: the first time a set of component types is
+ * requested the matching entities are collected, and from then on the set is kept up to date as components are added
+ * and removed, so later queries only touch the matching entities. At most {@link #MAX_QUERIES} sets are kept, the least
+ * recently queried one gets dropped when another one is needed.
  *
  */
 public class ComponentTable {
+    static final int MAX_QUERIES = 64;
+
     private Map<Class<?>, TLongObjectMap<Component>> store = Maps.newConcurrentMap();
 
+    private Map<Set<Class<? extends Component>>, ComponentQuery> queries = Maps.newConcurrentMap();
+    private Map<Class<?>, List<ComponentQuery>> queriesByComponent = Maps.newConcurrentMap();
+    private final AtomicLong queryCounter = new AtomicLong();
+
     public <T extends Component> T get(long entityId, Class<T> componentClass) {
         TLongObjectMap<Component> entityMap = store.get(componentClass);
         if (entityMap != null) {
@@ -49,7 +63,11 @@ public Component put(long entityId, Component component) {
             entityMap = new TLongObjectHashMap<>();
             store.put(component.getClass(), entityMap);
         }
-        return entityMap.put(entityId, component);
+        Component oldComponent = entityMap.put(entityId, component);
+        if (oldComponent == null) {
+            onComponentAdded(entityId, component.getClass());
+        }
+        return oldComponent;
     }
 
     /**
@@ -60,7 +78,11 @@ public Component put(long entityId, Component component) {
     public <T extends Component> Component remove(long entityId, Class<T> componentClass) {
         TLongObjectMap<Component> entityMap = store.get(componentClass);
         if (entityMap != null) {
-            return entityMap.remove(entityId);
+            Component removed = entityMap.remove(entityId);
+            if (removed != null) {
+                onComponentRemoved(entityId, componentClass);
+            }
+            return removed;
         }
         return null;
     }
@@ -74,6 +96,7 @@ public List<Component> removeAndReturnComponentsOf(long entityId) {
                 componentList.add(component);
             }
         }
+        removeFromQueries(entityId);
         return componentList;
     }
 
@@ -81,10 +104,14 @@ public void remove(long entityId) {
         for (TLongObjectMap<Component> entityMap : store.values()) {
             entityMap.remove(entityId);
         }
+        removeFromQueries(entityId);
     }
 
     public void clear() {
         store.clear();
+        for (ComponentQuery query : queries.values()) {
+            query.entities.clear();
+        }
     }
 
     public int getComponentCount(Class<? extends Component> componentClass) {
@@ -149,4 +176,142 @@ public int numEntities() {
         return idSet.size();
     }
 
+    /**
+     * Returns the ids of all entities that have every one of the given components, at the time of the call.
+     * <br><br>
+     * The returned array is a snapshot, so components may be freely added and removed while iterating over it.
+     *
+     * @param componentClasses the component types to match. Must contain at least one type.
+     * @return the ids of the matching entities
+     */
+    public long[] getEntityIdsWith(Class<? extends Component>[] componentClasses) {
+        if (componentClasses.length == 1) {
+            TLongObjectMap<Component> entityMap = store.get(componentClasses[0]);
+            return (entityMap == null) ? new long[0] : entityMap.keys();
+        }
+        return getQuery(componentClasses).entities.toArray();
+    }
+
+    /**
+     * @param componentClasses the component types to match. Must contain at least one type.
+     * @return the number of entities that have every one of the given components
+     */
+    public int getEntityCountWith(Class<? extends Component>[] componentClasses) {
+        if (componentClasses.length == 1) {
+            return getComponentCount(componentClasses[0]);
+        }
+        return getQuery(componentClasses).entities.size();
+    }
+
+    private ComponentQuery getQuery(Class<? extends Component>[] componentClasses) {
+        Set<Class<? extends Component>> key = ImmutableSet.copyOf(componentClasses);
+        ComponentQuery query = queries.computeIfAbsent(key, k -> {
+            ComponentQuery newQuery = new ComponentQuery(k);
+            populate(newQuery);
+            for (Class<? extends Component> componentClass : k) {
+                queriesByComponent.computeIfAbsent(componentClass, c -> Lists.newCopyOnWriteArrayList()).add(newQuery);
+            }
+            return newQuery;
+        });
+        query.lastUsed = queryCounter.incrementAndGet();
+        if (queries.size() > MAX_QUERIES) {
+            evictLeastRecentlyUsedQuery();
+        }
+        return query;
+    }
+
+    private void evictLeastRecentlyUsedQuery() {
+        ComponentQuery leastRecentlyUsed = null;
+        for (ComponentQuery query : queries.values()) {
+            if (leastRecentlyUsed == null || query.lastUsed < leastRecentlyUsed.lastUsed) {
+                leastRecentlyUsed = query;
+            }
+        }
+        if (leastRecentlyUsed != null && queries.remove(leastRecentlyUsed.components, leastRecentlyUsed)) {
+            for (Class<? extends Component> componentClass : leastRecentlyUsed.components) {
+                List<ComponentQuery> componentQueries = queriesByComponent.get(componentClass);
+                if (componentQueries != null) {
+                    componentQueries.remove(leastRecentlyUsed);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of component sets currently kept in the query index.
+     */
+    int getIndexedQueryCount() {
+        return queries.size();
+    }
+
+    private void populate(ComponentQuery query) {
+        TLongObjectMap<Component> smallest = null;
+        for (Class<? extends Component> componentClass : query.components) {
+            TLongObjectMap<Component> entityMap = store.get(componentClass);
+            if (entityMap == null) {
+                return;
+            }
+            if (smallest == null || entityMap.size() < smallest.size()) {
+                smallest = entityMap;
+            }
+        }
+        if (smallest != null) {
+            TLongIterator iterator = smallest.keySet().iterator();
+            while (iterator.hasNext()) {
+                long entityId = iterator.next();
+                if (hasAll(entityId, query.components)) {
+                    query.entities.add(entityId);
+                }
+            }
+        }
+    }
+
+    private boolean hasAll(long entityId, Set<Class<? extends Component>> componentClasses) {
+        for (Class<? extends Component> componentClass : componentClasses) {
+            TLongObjectMap<Component> entityMap = store.get(componentClass);
+            if (entityMap == null || !entityMap.containsKey(entityId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void onComponentAdded(long entityId, Class<?> componentClass) {
+        List<ComponentQuery> affected = queriesByComponent.get(componentClass);
+        if (affected != null) {
+            for (ComponentQuery query : affected) {
+                if (hasAll(entityId, query.components)) {
+                    query.entities.add(entityId);
+                }
+            }
+        }
+    }
+
+    private void onComponentRemoved(long entityId, Class<?> componentClass) {
+        List<ComponentQuery> affected = queriesByComponent.get(componentClass);
+        if (affected != null) {
+            for (ComponentQuery query : affected) {
+                query.entities.remove(entityId);
+            }
+        }
+    }
+
+    private void removeFromQueries(long entityId) {
+        for (ComponentQuery query : queries.values()) {
+            query.entities.remove(entityId);
+        }
+    }
+
+    /**
+     * The maintained set of entities that have all of a given set of components.
+     */
+    private static final class ComponentQuery {
+        private final Set<Class<? extends Component>> components;
+        private final TLongSet entities = new TLongHashSet();
+        private volatile long lastUsed;
+
+        private ComponentQuery(Set<Class<? extends Component>> components) {
+            this.components = components;
+        }
+    }
 }
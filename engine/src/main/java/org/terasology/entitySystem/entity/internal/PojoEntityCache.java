@@ -15,7 +15,6 @@
  */
 package org.terasology.entitySystem.entity.internal;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.MapMaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -366,24 +365,25 @@ private EntityRef createEntityRef(long entityId) {
     @SafeVarargs
     @Override
     public final Iterable<EntityRef> getEntitiesWith(Class<? extends Component>... componentClasses) {
-        return () -> entityStore.keySet().stream()
-                //Keep entities which have all of the required components
+        if (componentClasses.length == 0) {
+            return () -> entityStore.keySet().stream()
+                    .map(id -> createEntityRef(id))
+                    .iterator();
+        }
+        return () -> Arrays.stream(componentStore.getEntityIdsWith(componentClasses))
+                //Skip entities that lost a required component since the iteration started
                 .filter(id -> Arrays.stream(componentClasses)
                         .allMatch(component -> componentStore.get(id, component) != null))
-                .map(id -> createEntityRef(id))
+                .mapToObj(id -> createEntityRef(id))
                 .iterator();
     }
 
     @Override
     public int getCountOfEntitiesWith(Class<? extends Component>[] componentClasses) {
-        switch (componentClasses.length) {
-            case 0:
-                return componentStore.numEntities();
-            case 1:
-                return componentStore.getComponentCount(componentClasses[0]);
-            default:
-                return Lists.newArrayList(getEntitiesWith(componentClasses)).size();
+        if (componentClasses.length == 0) {
+            return componentStore.numEntities();
         }
+        return componentStore.getEntityCountWith(componentClasses);
     }
 
     @Override
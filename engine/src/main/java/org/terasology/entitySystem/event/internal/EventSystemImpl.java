@@ -27,6 +27,8 @@
 import com.google.common.collect.Queues;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import org.reflections.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +78,10 @@ public class EventSystemImpl implements EventSystem {
     private SetMultimap<Class<? extends Event>, EventHandlerInfo> generalHandlers = HashMultimap.create();
     private Comparator<EventHandlerInfo> priorityComparator = new EventHandlerPriorityComparator();
 
+    // Pre-sorted handlers, built on first use and discarded whenever the registered handlers change
+    private Map<Class<? extends Event>, EventDispatchTable> dispatchTables = Maps.newHashMap();
+    private Map<Class<? extends Event>, Map<Class<? extends Component>, EventHandlerInfo[]>> componentDispatchTables = Maps.newHashMap();
+
     // Event metadata
     private BiMap<SimpleUri, Class<? extends Event>> eventIdMap = HashBiMap.create();
     private SetMultimap<Class<? extends Event>, Class<? extends Event>> childEvents = HashMultimap.create();
@@ -106,6 +112,7 @@ public void process() {
     @Override
     public void registerEvent(SimpleUri uri, Class<? extends Event> eventType) {
         eventIdMap.put(uri, eventType);
+        invalidateDispatchTables();
         logger.debug("Registering event {}", eventType.getSimpleName());
         for (Class parent : ReflectionUtils.getAllSuperTypes(eventType, Predicates.assignableFrom(Event.class))) {
             if (!AbstractConsumableEvent.class.equals(parent) && !Event.class.equals(parent)) {
@@ -138,6 +145,7 @@ public void registerEventHandler(ComponentSystem handler) {
         }
 
         logger.debug("Registering event handler " + handlerClass.getName());
+        invalidateDispatchTables();
         for (Method method : handlerClass.getMethods()) {
             ReceiveEvent receiveEventAnnotation = method.getAnnotation(ReceiveEvent.class);
             if (receiveEventAnnotation != null) {
@@ -174,6 +182,7 @@ public void registerEventHandler(ComponentSystem handler) {
 
     @Override
     public void unregisterEventHandler(ComponentSystem handler) {
+        invalidateDispatchTables();
         for (SetMultimap<Class<? extends Component>, EventHandlerInfo> eventHandlers : componentSpecificHandlers.values()) {
             Iterator<EventHandlerInfo> eventHandlerIterator = eventHandlers.values().iterator();
             while (eventHandlerIterator.hasNext()) {
@@ -226,12 +235,14 @@ public <T extends Event> void registerEventReceiver(EventReceiver<T> eventReceiv
     @Override
     public <T extends Event> void registerEventReceiver(EventReceiver<T> eventReceiver, Class<T> eventClass, int priority, Class<? extends Component>... componentTypes) {
         EventHandlerInfo info = new ReceiverEventHandlerInfo<>(eventReceiver, priority, componentTypes);
+        invalidateDispatchTables();
         addEventHandler(eventClass, info, Arrays.asList(componentTypes));
     }
 
     @Override
     public <T extends Event> void unregisterEventReceiver(EventReceiver<T> eventReceiver, Class<T> eventClass, Class<? extends Component>... componentTypes) {
         SetMultimap<Class<? extends Component>, EventHandlerInfo> eventHandlerMap = componentSpecificHandlers.get(eventClass);
+        invalidateDispatchTables();
         if (eventHandlerMap != null) {
             ReceiverEventHandlerInfo testReceiver = new ReceiverEventHandlerInfo<>(eventReceiver, 0, componentTypes);
             for (Class<? extends Component> c : componentTypes) {
@@ -250,9 +261,7 @@ public void send(EntityRef entity, Event event) {
         } else {
             networkReplicate(entity, event);
 
-            Set<EventHandlerInfo> selectedHandlersSet = selectEventHandlers(event.getClass(), entity);
-            List<EventHandlerInfo> selectedHandlers = Lists.newArrayList(selectedHandlersSet);
-            Collections.sort(selectedHandlers, priorityComparator);
+            EventHandlerInfo[] selectedHandlers = getDispatchTable(event.getClass()).select(entity);
 
             if (event instanceof ConsumableEvent) {
                 sendConsumableEvent(entity, event, selectedHandlers);
@@ -262,7 +271,7 @@ public void send(EntityRef entity, Event event) {
         }
     }
 
-    private void sendStandardEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
+    private void sendStandardEvent(EntityRef entity, Event event, EventHandlerInfo[] selectedHandlers) {
         for (EventHandlerInfo handler : selectedHandlers) {
             // Check isValid at each stage in case components were removed.
             if (handler.isValidFor(entity)) {
@@ -271,7 +280,7 @@ private void sendStandardEvent(EntityRef entity, Event event, List<EventHandlerI
         }
     }
 
-    private void sendConsumableEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
+    private void sendConsumableEvent(EntityRef entity, Event event, EventHandlerInfo[] selectedHandlers) {
         ConsumableEvent consumableEvent = (ConsumableEvent) event;
         for (EventHandlerInfo handler : selectedHandlers) {
             // Check isValid at each stage in case components were removed.
@@ -348,19 +357,53 @@ public void send(EntityRef entity, Event event, Component component) {
         if (Thread.currentThread() != mainThread) {
             pendingEvents.offer(new PendingEvent(entity, event, component));
         } else {
-            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(event.getClass());
-            if (handlers != null) {
-                List<EventHandlerInfo> eventHandlers = Lists.newArrayList(handlers.get(component.getClass()));
-                Collections.sort(eventHandlers, priorityComparator);
-                for (EventHandlerInfo eventHandler : eventHandlers) {
-                    if (eventHandler.isValidFor(entity)) {
-                        eventHandler.invoke(entity, event);
-                    }
+            for (EventHandlerInfo eventHandler : getComponentDispatchTable(event.getClass(), component.getClass())) {
+                if (eventHandler.isValidFor(entity)) {
+                    eventHandler.invoke(entity, event);
                 }
             }
         }
     }
 
+    private void invalidateDispatchTables() {
+        dispatchTables.clear();
+        componentDispatchTables.clear();
+    }
+
+    private EventDispatchTable getDispatchTable(Class<? extends Event> eventType) {
+        EventDispatchTable table = dispatchTables.get(eventType);
+        if (table == null) {
+            table = new EventDispatchTable(eventType);
+            dispatchTables.put(eventType, table);
+        }
+        return table;
+    }
+
+    private EventHandlerInfo[] getComponentDispatchTable(Class<? extends Event> eventType, Class<? extends Component> componentType) {
+        Map<Class<? extends Component>, EventHandlerInfo[]> tables = componentDispatchTables.get(eventType);
+        if (tables == null) {
+            tables = Maps.newHashMap();
+            componentDispatchTables.put(eventType, tables);
+        }
+        EventHandlerInfo[] result = tables.get(componentType);
+        if (result == null) {
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
+            if (handlers != null) {
+                result = sortByPriority(handlers.get(componentType));
+            } else {
+                result = new EventHandlerInfo[0];
+            }
+            tables.put(componentType, result);
+        }
+        return result;
+    }
+
+    private EventHandlerInfo[] sortByPriority(Collection<EventHandlerInfo> handlers) {
+        List<EventHandlerInfo> sortedHandlers = Lists.newArrayList(handlers);
+        Collections.sort(sortedHandlers, priorityComparator);
+        return sortedHandlers.toArray(new EventHandlerInfo[sortedHandlers.size()]);
+    }
+
     private Set<EventHandlerInfo> selectEventHandlers(Class<? extends Event> eventType, EntityRef entity) {
         Set<EventHandlerInfo> result = Sets.newHashSet();
         result.addAll(generalHandlers.get(eventType));
@@ -381,6 +424,67 @@ private Set<EventHandlerInfo> selectEventHandlers(Class<? extends Event> eventTy
         return result;
     }
 
+    /**
+     * The handlers for one event type, pre-selected and sorted by priority for each combination of relevant components
+     * an entity can have. The relevant components are those any component-specific handler for the event filters on,
+     * so an entity's signature is one bit per relevant component.
+     */
+    private final class EventDispatchTable {
+        private final Class<? extends Event> eventType;
+        private final Class<? extends Component>[] components;
+        private final TLongObjectMap<EventHandlerInfo[]> handlersBySignature = new TLongObjectHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        EventDispatchTable(Class<? extends Event> eventType) {
+            this.eventType = eventType;
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
+            if (handlers != null) {
+                this.components = handlers.keySet().toArray(new Class[handlers.keySet().size()]);
+            } else {
+                this.components = new Class[0];
+            }
+        }
+
+        EventHandlerInfo[] select(EntityRef entity) {
+            if (components.length > Long.SIZE) {
+                return sortByPriority(selectEventHandlers(eventType, entity));
+            }
+            long signature = 0;
+            for (int i = 0; i < components.length; ++i) {
+                if (entity.hasComponent(components[i])) {
+                    signature |= 1L << i;
+                }
+            }
+            EventHandlerInfo[] result = handlersBySignature.get(signature);
+            if (result == null) {
+                result = build(signature);
+                handlersBySignature.put(signature, result);
+            }
+            return result;
+        }
+
+        private EventHandlerInfo[] build(long signature) {
+            Set<Class<? extends Component>> present = Sets.newHashSet();
+            for (int i = 0; i < components.length; ++i) {
+                if ((signature & (1L << i)) != 0) {
+                    present.add(components[i]);
+                }
+            }
+            Set<EventHandlerInfo> result = Sets.newHashSet(generalHandlers.get(eventType));
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
+            if (handlers != null) {
+                for (Class<? extends Component> compClass : present) {
+                    for (EventHandlerInfo eventHandler : handlers.get(compClass)) {
+                        if (present.containsAll(eventHandler.getFilterComponents())) {
+                            result.add(eventHandler);
+                        }
+                    }
+                }
+            }
+            return sortByPriority(result);
+        }
+    }
+
     private static class EventHandlerPriorityComparator implements Comparator<EventHandlerInfo> {
 
         @Override
@@ -397,6 +501,8 @@ private interface EventHandlerInfo {
         int getPriority();
 
         Object getHandler();
+
+        Collection<Class<? extends Component>> getFilterComponents();
     }
 
     private static class ReflectedEventHandlerInfo implements EventHandlerInfo {
@@ -452,6 +558,11 @@ public int getPriority() {
         public ComponentSystem getHandler() {
             return handler;
         }
+
+        @Override
+        public Collection<Class<? extends Component>> getFilterComponents() {
+            return filterComponents;
+        }
     }
 
     private static class ByteCodeEventHandlerInfo implements EventHandlerInfo {
@@ -523,6 +634,11 @@ public int getPriority() {
         public ComponentSystem getHandler() {
             return handler;
         }
+
+        @Override
+        public Collection<Class<? extends Component>> getFilterComponents() {
+            return filterComponents;
+        }
     }
 
     private static class ReceiverEventHandlerInfo<T extends Event> implements EventHandlerInfo {
@@ -579,5 +695,10 @@ public int hashCode() {
         public Object getHandler() {
             return receiver;
         }
+
+        @Override
+        public Collection<Class<? extends Component>> getFilterComponents() {
+            return Arrays.asList(components);
+        }
     }
 }
@@ -19,6 +19,7 @@
 import org.slf4j.LoggerFactory;
 import org.terasology.config.Config;
 import org.terasology.engine.GameEngine;
+import org.terasology.engine.paths.PathManager;
 import org.terasology.entitySystem.entity.EntityManager;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.systems.BaseComponentSystem;
@@ -32,6 +33,7 @@
 import org.terasology.logic.permission.PermissionManager;
 import org.terasology.logic.players.PlayerUtil;
 import org.terasology.math.geom.Vector3i;
+import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.network.Client;
 import org.terasology.network.ClientComponent;
 import org.terasology.network.ClientInfoComponent;
@@ -41,6 +43,12 @@
 import org.terasology.registry.In;
 import org.terasology.world.chunks.ChunkProvider;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
 /**
  * Commands to administer a remote server
  *
@@ -205,4 +213,27 @@ public String reloadChunk(@CommandParam("x") int x, @CommandParam("y") int y, @C
     public void purgeWorld() {
         chunkProvider.purgeWorld();
     }
+
+    @Command(shortDescription = "Enables or disables the performance monitor", runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String monitorPerformance(@CommandParam("enabled") boolean enabled) {
+        PerformanceMonitor.setEnabled(enabled);
+        return "Performance monitor " + (enabled ? "enabled" : "disabled");
+    }
+
+    @Command(shortDescription = "Writes the recent activities of the performance monitor to a trace file",
+            helpText = "Writes the most recent activities of all threads recorded by the performance monitor to a file "
+                    + "in the log directory, which can be opened with the Chrome trace viewer (chrome://tracing).",
+            runOnServer = true, requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String exportPerformanceTrace() throws IOException {
+        if (!PerformanceMonitor.isEnabled()) {
+            return "The performance monitor is disabled, enable it with 'monitorPerformance true' first";
+        }
+        Path logPath = PathManager.getInstance().getLogPath();
+        Files.createDirectories(logPath);
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        Path tracePath = logPath.resolve("trace_" + timestamp + ".json");
+        PerformanceMonitor.exportTrace(tracePath);
+        return "Performance trace written to " + tracePath;
+    }
 }
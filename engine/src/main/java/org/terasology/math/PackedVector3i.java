@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.math;
+
+import org.terasology.math.geom.BaseVector3i;
+import org.terasology.math.geom.Vector3i;
+
+/**
+ * Packs integer positions into longs, to be used as keys of primitive long maps and sets instead of {@link Vector3i}
+ * objects. Each coordinate takes 21 bits, so positions with coordinates between {@link #MIN_COORDINATE} and
+ * {@link #MAX_COORDINATE} are packed without collisions. That covers the chunk positions of blocks up to 33 million
+ * blocks away from the origin, but block positions only up to a million blocks away. Users of block positions have to
+ * check {@link #isPackable(BaseVector3i)} and keep other positions elsewhere.
+ */
+public final class PackedVector3i {
+    public static final int MIN_COORDINATE = -(1 << 20);
+    public static final int MAX_COORDINATE = (1 << 20) - 1;
+
+    private static final int BITS = 21;
+    private static final long MASK = (1L << BITS) - 1;
+
+    private PackedVector3i() {
+    }
+
+    /**
+     * @return whether the position can be packed without colliding with another position.
+     */
+    public static boolean isPackable(int x, int y, int z) {
+        return x >= MIN_COORDINATE && x <= MAX_COORDINATE
+                && y >= MIN_COORDINATE && y <= MAX_COORDINATE
+                && z >= MIN_COORDINATE && z <= MAX_COORDINATE;
+    }
+
+    public static boolean isPackable(BaseVector3i pos) {
+        return isPackable(pos.x(), pos.y(), pos.z());
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((x & MASK) << (2 * BITS)) | ((y & MASK) << BITS) | (z & MASK);
+    }
+
+    public static long pack(BaseVector3i pos) {
+        return pack(pos.x(), pos.y(), pos.z());
+    }
+
+    public static int unpackX(long packed) {
+        return (int) (packed << (64 - 3 * BITS) >> (64 - BITS));
+    }
+
+    public static int unpackY(long packed) {
+        return (int) (packed << (64 - 2 * BITS) >> (64 - BITS));
+    }
+
+    public static int unpackZ(long packed) {
+        return (int) (packed << (64 - BITS) >> (64 - BITS));
+    }
+
+    public static Vector3i unpack(long packed) {
+        return new Vector3i(unpackX(packed), unpackY(packed), unpackZ(packed));
+    }
+}
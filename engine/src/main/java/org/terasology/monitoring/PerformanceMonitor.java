@@ -20,6 +20,12 @@
 import org.terasology.monitoring.impl.PerformanceMonitorImpl;
 import org.terasology.monitoring.impl.PerformanceMonitorInternal;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 /**
  * Maintains a running average of execution times and memory allocated by different activities.
  * Activities call to denote when they start and stop.
@@ -27,8 +33,11 @@
  * Activities may be nested, and while a nested activity is running the collection of data from outer activities
  * is paused: time passing and allocated memory are not assigned to them.
  * <br><br>
- * Performance monitor is intended only for use by the main thread of Terasology, and does not handle
- * activities being started and ended on other threads at this time.
+ * Activities may be started and ended on any thread, but an activity must end on the thread it started on. Every
+ * thread has its own nesting of activities. The metrics of activities with the same name are combined over all
+ * threads, so activities running concurrently on several threads add up.
+ * <br><br>
+ * Execution times are measured with nanosecond resolution and allocated memory per thread, where the JVM supports it.
  */
 public final class PerformanceMonitor {
     private static PerformanceMonitorInternal instance;
@@ -97,7 +106,8 @@ public static void rollCycle() {
     }
 
     /**
-     * Returns a mapping from the name of an activity to a running mean of its execution times, over a number of cycles.
+     * Returns a mapping from the name of an activity to a running mean of its execution times in milliseconds, over a
+     * number of cycles.
      * <br><br>
      * Activities may be nested, and while a nested activity is running the collection of data from outer activities
      * is paused and time passing is not assigned to them.
@@ -140,6 +150,45 @@ public static TObjectDoubleMap<String> getAllocationMean() {
         return instance.getAllocationMean();
     }
 
+    /**
+     * Records the current value of a gauge, a named quantity such as the length of a queue or the share of a time
+     * budget used during the last frame. Newer values replace older ones.
+     * <br><br>
+     * Unlike activities, gauges may be set from any thread.
+     *
+     * @param gaugeName the name of the gauge
+     * @param value the current value of the gauge
+     */
+    public static void setGauge(String gaugeName, double value) {
+        instance.setGauge(gaugeName, value);
+    }
+
+    /**
+     * @return a mapping from the name of a gauge to the latest value recorded for it.
+     */
+    public static TObjectDoubleMap<String> getGauges() {
+        return instance.getGauges();
+    }
+
+    /**
+     * Writes the most recent activities of all threads as a trace in the trace event format of the Chrome trace
+     * viewer (chrome://tracing), for offline analysis. Writes an empty trace while the monitor is disabled.
+     *
+     * @param path the file to write the trace to, replacing an existing one.
+     */
+    public static void exportTrace(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            instance.exportTrace(writer);
+        }
+    }
+
+    /**
+     * @return true if the Performance Monitoring system is enabled.
+     */
+    public static boolean isEnabled() {
+        return instance instanceof PerformanceMonitorImpl;
+    }
+
     /**
      * Enables or disables the Performance Monitoring system.
      * <br><br>
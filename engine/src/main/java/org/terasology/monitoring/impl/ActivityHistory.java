@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.monitoring.impl;
+
+import com.google.gson.stream.JsonWriter;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Ring buffer of the most recent activities of all threads, which can be written as a trace for offline analysis.
+ * Once full, the oldest activities get overwritten.
+ */
+final class ActivityHistory implements ActivityRecorder.ActivityConsumer {
+    private static final int PROCESS_ID = 1;
+
+    private final long originTime;
+    private final String[] names;
+    private final long[] threadIds;
+    private final long[] startTimes;
+    private final long[] durations;
+    private final long[] ownTimes;
+    private final long[] ownAllocations;
+    private final TLongObjectMap<String> threadNames = new TLongObjectHashMap<>();
+    private long written;
+
+    /**
+     * @param originTime the {@link System#nanoTime()} the timestamps of the trace are relative to.
+     */
+    ActivityHistory(int capacity, long originTime) {
+        this.originTime = originTime;
+        this.names = new String[capacity];
+        this.threadIds = new long[capacity];
+        this.startTimes = new long[capacity];
+        this.durations = new long[capacity];
+        this.ownTimes = new long[capacity];
+        this.ownAllocations = new long[capacity];
+    }
+
+    @Override
+    public synchronized void accept(ActivityRecorder recorder, String name, long startTime, long duration, long ownTime,
+                                    long ownAllocation, int depth) {
+        int index = (int) (written % names.length);
+        Thread thread = recorder.getThread();
+        names[index] = name;
+        threadIds[index] = thread.getId();
+        startTimes[index] = startTime;
+        durations[index] = duration;
+        ownTimes[index] = ownTime;
+        ownAllocations[index] = ownAllocation;
+        threadNames.put(thread.getId(), thread.getName());
+        written++;
+    }
+
+    synchronized int size() {
+        return (int) Math.min(written, names.length);
+    }
+
+    /**
+     * Writes the activities in the trace event format of the Chrome trace viewer (chrome://tracing). Every activity
+     * becomes a complete event of the thread it ran on, with its own time and allocated bytes as arguments.
+     */
+    synchronized void writeChromeTrace(Writer out) throws IOException {
+        JsonWriter writer = new JsonWriter(out);
+        writer.beginObject();
+        writer.name("displayTimeUnit").value("ms");
+        writer.name("traceEvents").beginArray();
+        TLongObjectIterator<String> threads = threadNames.iterator();
+        while (threads.hasNext()) {
+            threads.advance();
+            writer.beginObject();
+            writer.name("name").value("thread_name");
+            writer.name("ph").value("M");
+            writer.name("pid").value(PROCESS_ID);
+            writer.name("tid").value(threads.key());
+            writer.name("args").beginObject().name("name").value(threads.value()).endObject();
+            writer.endObject();
+        }
+        for (long position = written - size(); position < written; position++) {
+            int index = (int) (position % names.length);
+            writer.beginObject();
+            writer.name("name").value(names[index]);
+            writer.name("cat").value("activity");
+            writer.name("ph").value("X");
+            writer.name("ts").value((startTimes[index] - originTime) / 1000.0);
+            writer.name("dur").value(durations[index] / 1000.0);
+            writer.name("pid").value(PROCESS_ID);
+            writer.name("tid").value(threadIds[index]);
+            writer.name("args").beginObject()
+                    .name("ownMs").value(ownTimes[index] / 1e6)
+                    .name("allocatedBytes").value(ownAllocations[index])
+                    .endObject();
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+        writer.flush();
+    }
+}
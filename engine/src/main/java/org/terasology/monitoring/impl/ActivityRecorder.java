@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.monitoring.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the activities of a single thread with {@link System#nanoTime()} resolution, together with the bytes
+ * allocated by the thread while they ran.
+ * <br><br>
+ * Only the recorded thread starts and ends activities. Ended activities get queued in a ring buffer until the main
+ * thread drains them, the two threads only synchronize through the ordered writes of the buffer positions. While the
+ * buffer is full further activities get dropped and counted.
+ */
+final class ActivityRecorder {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATION_SUPPORTED = isAllocationSupported();
+
+    private final Thread thread;
+    private final int capacity;
+
+    // Stack of the running activities, only used by the recorded thread
+    private String[] runningNames = new String[8];
+    private long[] runningStartTimes = new long[8];
+    private long[] runningStartAllocations = new long[8];
+    private long[] runningNestedTimes = new long[8];
+    private long[] runningNestedAllocations = new long[8];
+    private int depth;
+
+    // Ring buffer of the ended activities, written by the recorded thread and read by the main thread
+    private final String[] names;
+    private final long[] startTimes;
+    private final long[] durations;
+    private final long[] ownTimes;
+    private final long[] ownAllocations;
+    private final int[] depths;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    ActivityRecorder(Thread thread, int capacity) {
+        this.thread = thread;
+        this.capacity = capacity;
+        this.names = new String[capacity];
+        this.startTimes = new long[capacity];
+        this.durations = new long[capacity];
+        this.ownTimes = new long[capacity];
+        this.ownAllocations = new long[capacity];
+        this.depths = new int[capacity];
+    }
+
+    private static boolean isAllocationSupported() {
+        if (!(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+        try {
+            if (bean.isThreadAllocatedMemorySupported() && !bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled();
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the bytes allocated by the current thread since it started, or 0 if the JVM can't tell.
+     */
+    private static long allocatedBytes() {
+        if (ALLOCATION_SUPPORTED) {
+            return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    Thread getThread() {
+        return thread;
+    }
+
+    void start(String name) {
+        if (depth == runningNames.length) {
+            int newLength = depth * 2;
+            runningNames = Arrays.copyOf(runningNames, newLength);
+            runningStartTimes = Arrays.copyOf(runningStartTimes, newLength);
+            runningStartAllocations = Arrays.copyOf(runningStartAllocations, newLength);
+            runningNestedTimes = Arrays.copyOf(runningNestedTimes, newLength);
+            runningNestedAllocations = Arrays.copyOf(runningNestedAllocations, newLength);
+        }
+        runningNames[depth] = name;
+        runningNestedTimes[depth] = 0;
+        runningNestedAllocations[depth] = 0;
+        runningStartAllocations[depth] = allocatedBytes();
+        runningStartTimes[depth] = System.nanoTime();
+        depth++;
+    }
+
+    void end() {
+        long endTime = System.nanoTime();
+        long endAllocation = allocatedBytes();
+        if (depth == 0) {
+            return;
+        }
+        depth--;
+        long duration = endTime - runningStartTimes[depth];
+        long allocation = endAllocation - runningStartAllocations[depth];
+        if (depth > 0) {
+            // the time and memory of nested activities are not assigned to the outer ones
+            runningNestedTimes[depth - 1] += duration;
+            runningNestedAllocations[depth - 1] += allocation;
+        }
+
+        long position = written.get();
+        if (position - read.get() >= capacity) {
+            dropped.incrementAndGet();
+        } else {
+            int index = (int) (position % capacity);
+            names[index] = runningNames[depth];
+            startTimes[index] = runningStartTimes[depth];
+            durations[index] = duration;
+            ownTimes[index] = duration - runningNestedTimes[depth];
+            ownAllocations[index] = allocation - runningNestedAllocations[depth];
+            depths[index] = depth;
+            written.lazySet(position + 1);
+        }
+        runningNames[depth] = null;
+    }
+
+    /**
+     * Passes the activities ended since the last call to the consumer. Must only be called by one thread at a time.
+     */
+    void drain(ActivityConsumer consumer) {
+        long end = written.get();
+        for (long position = read.get(); position < end; position++) {
+            int index = (int) (position % capacity);
+            consumer.accept(this, names[index], startTimes[index], durations[index], ownTimes[index],
+                    ownAllocations[index], depths[index]);
+            names[index] = null;
+        }
+        read.lazySet(end);
+    }
+
+    /**
+     * @return the number of ended activities that got dropped as the ring buffer was full, since the last call.
+     */
+    long takeDroppedCount() {
+        return dropped.getAndSet(0);
+    }
+
+    interface ActivityConsumer {
+        /**
+         * @param startTime the {@link System#nanoTime()} at the start of the activity.
+         * @param duration the time in ns between the start and end of the activity.
+         * @param ownTime the duration without the time taken by nested activities.
+         * @param ownAllocation the bytes allocated by the thread during the activity, without nested activities.
+         * @param depth the number of activities the activity was nested in.
+         */
+        void accept(ActivityRecorder recorder, String name, long startTime, long duration, long ownTime,
+                    long ownAllocation, int depth);
+    }
+}
@@ -19,6 +19,9 @@
 import gnu.trove.map.hash.TObjectDoubleHashMap;
 import org.terasology.monitoring.Activity;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  */
 public class NullPerformanceMonitor implements PerformanceMonitorInternal {
@@ -53,4 +56,19 @@ public TObjectDoubleMap<String> getAllocationMean() {
         return metrics;
     }
 
+    @Override
+    public void setGauge(String gaugeName, double value) {
+    }
+
+    @Override
+    public TObjectDoubleMap<String> getGauges() {
+        return metrics;
+    }
+
+    @Override
+    public void exportTrace(Writer writer) throws IOException {
+        writer.write("{\"traceEvents\":[]}");
+        writer.flush();
+    }
+
 }
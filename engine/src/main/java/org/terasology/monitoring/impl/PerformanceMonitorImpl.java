@@ -16,38 +16,47 @@
 package org.terasology.monitoring.impl;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Queues;
+import com.google.common.collect.Maps;
 import gnu.trove.map.TObjectDoubleMap;
 import gnu.trove.map.TObjectLongMap;
 import gnu.trove.map.hash.TObjectDoubleHashMap;
 import gnu.trove.map.hash.TObjectLongHashMap;
 import gnu.trove.procedure.TObjectDoubleProcedure;
 import gnu.trove.procedure.TObjectLongProcedure;
-import org.terasology.engine.EngineTime;
-import org.terasology.engine.Time;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.terasology.monitoring.Activity;
-import org.terasology.registry.CoreRegistry;
 
-import java.util.Deque;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Active implementation of Performance Monitor
+ * <br><br>
+ * Every thread records its activities with its own {@link ActivityRecorder}, which get drained once per cycle.
+ * Execution times are measured in nanoseconds and reported in milliseconds.
  */
 // TODO: Check to ensure activities are being started and stopped correctly
 // TODO: Remove activities with 0 time
 public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceMonitorImpl.class);
     private static final int RETAINED_CYCLES = 60;
     private static final double DECAY_RATE = 0.98;
-    private static final Activity OFF_THREAD_ACTIVITY = new NullActivity();
-    // NullActivity instances are used by the NullPerformanceMonitor and for processes NOT running
-    // on the main thread. Not strictly necessary (these processes are ignored by the PerformanceMonitor
-    // anyway) an instance of this class offers a slight performance improvement over standard Activity
-    // implementations as it doesn't call the PerformanceMonitor.endActivity() method.
+    private static final double NANOS_PER_MS = 1e6;
+    private static final int RECORDER_CAPACITY = 4096;
+    private static final int HISTORY_CAPACITY = 1 << 16;
 
     private final Activity activityInstance = new ActivityInstance();
 
-    private final Deque<ActivityInfo> activityStack;
+    private final ThreadLocal<ActivityRecorder> recorder = ThreadLocal.withInitial(this::createRecorder);
+    private final Queue<ActivityRecorder> recorders = new ConcurrentLinkedQueue<>();
+    private final ActivityHistory history;
+    private final ActivityRecorder.ActivityConsumer collectActivity;
 
     private final List<TObjectLongMap<String>> executionData;
     private final List<TObjectLongMap<String>> allocationData;
@@ -57,6 +66,7 @@ public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
     private final TObjectLongMap<String> runningExecutionTotals;
     private final TObjectLongMap<String> runningAllocationTotals;
     private final TObjectDoubleMap<String> spikeData;
+    private final Map<String, Double> gauges = Maps.newConcurrentMap();
 
     private final TObjectDoubleProcedure<String> decayLargestExecutionTime;
     private final TObjectLongProcedure<String> updateExecutionTimeTotalAndSpikeData;
@@ -67,11 +77,7 @@ public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
     private final SetterOfActivityToRunningMeanMapEntry setExecutionTimeRunningMean;
     private final SetterOfActivityToRunningMeanMapEntry setAllocatedMemoryRunningMean;
 
-    private final Thread mainThread;
-    private final EngineTime timer;
-
     public PerformanceMonitorImpl() {
-        activityStack  = Queues.newArrayDeque();
         executionData  = Lists.newLinkedList();
         allocationData = Lists.newLinkedList();
         currentExecutionData = new TObjectLongHashMap<>();
@@ -79,6 +85,8 @@ public PerformanceMonitorImpl() {
         runningExecutionTotals = new TObjectLongHashMap<>();
         runningAllocationTotals = new TObjectLongHashMap<>();
         spikeData = new TObjectDoubleHashMap<>();
+        history = new ActivityHistory(HISTORY_CAPACITY, System.nanoTime());
+        collectActivity = new CollectorOfEndedActivity();
 
         decayLargestExecutionTime  = new DecayerOfActivityLargestExecutionTime();
         updateExecutionTimeTotalAndSpikeData = new UpdaterOfActivityExecutionTimeTotalAndSpikeData();
@@ -88,13 +96,18 @@ public PerformanceMonitorImpl() {
 
         setExecutionTimeRunningMean = new SetterOfActivityToRunningMeanMapEntry();
         setAllocatedMemoryRunningMean = new SetterOfActivityToRunningMeanMapEntry();
+    }
 
-        timer = (EngineTime) CoreRegistry.get(Time.class);
-        mainThread = Thread.currentThread();
+    private ActivityRecorder createRecorder() {
+        ActivityRecorder result = new ActivityRecorder(Thread.currentThread(), RECORDER_CAPACITY);
+        recorders.add(result);
+        return result;
     }
 
     @Override
     public void rollCycle() {
+        drainRecorders();
+
         executionData.add(currentExecutionData);
         allocationData.add(currentAllocationData);
 
@@ -116,52 +129,42 @@ public void rollCycle() {
         currentAllocationData = new TObjectLongHashMap<>();
     }
 
-    @Override
-    public Activity startActivity(String activityName) {
-        if (Thread.currentThread() != mainThread) {
-            return OFF_THREAD_ACTIVITY;
-        }
-
-        ActivityInfo newActivity = new ActivityInfo(activityName).initialize();
-
-        if (!activityStack.isEmpty()) {
-            ActivityInfo currentActivity = activityStack.peek();
-            currentActivity.ownTime += newActivity.startTime - ((currentActivity.resumeTime > 0) ? currentActivity.resumeTime : currentActivity.startTime);
-            currentActivity.ownMem += (currentActivity.startMem - newActivity.startMem > 0) ? currentActivity.startMem - newActivity.startMem : 0;
+    /**
+     * Collects the activities ended on all threads since the last call, forgetting the recorders of ended threads.
+     */
+    private synchronized void drainRecorders() {
+        Iterator<ActivityRecorder> iterator = recorders.iterator();
+        while (iterator.hasNext()) {
+            ActivityRecorder threadRecorder = iterator.next();
+            boolean alive = threadRecorder.getThread().isAlive();
+            threadRecorder.drain(collectActivity);
+            long dropped = threadRecorder.takeDroppedCount();
+            if (dropped > 0) {
+                logger.warn("Dropped {} activities of thread {}, as they ended faster than they got collected", dropped,
+                        threadRecorder.getThread().getName());
+            }
+            if (!alive) {
+                iterator.remove();
+            }
         }
+    }
 
-        activityStack.push(newActivity);
+    @Override
+    public Activity startActivity(String activityName) {
+        recorder.get().start(activityName);
         return activityInstance;
     }
 
     @Override
     public void endActivity() {
-        if (Thread.currentThread() != mainThread || activityStack.isEmpty()) {
-            return;
-        }
-
-        ActivityInfo oldActivity = activityStack.pop();
-
-        long endTime = timer.getRealTimeInMs();
-        long totalTime = (oldActivity.resumeTime > 0) ? oldActivity.ownTime + endTime - oldActivity.resumeTime : endTime - oldActivity.startTime;
-        currentExecutionData.adjustOrPutValue(oldActivity.name, totalTime, totalTime);
-        
-        long endMem = Runtime.getRuntime().freeMemory();
-        long totalMem = (oldActivity.startMem - endMem > 0) ? oldActivity.startMem - endMem + oldActivity.ownMem : oldActivity.ownMem;
-        currentAllocationData.adjustOrPutValue(oldActivity.name, totalMem, totalMem);
-
-        if (!activityStack.isEmpty()) {
-            ActivityInfo currentActivity = activityStack.peek();
-            currentActivity.resumeTime = endTime;
-            currentActivity.startMem = endMem;
-        }
+        recorder.get().end();
     }
 
     @Override
     public TObjectDoubleMap<String> getRunningMean() {
         TObjectDoubleMap<String> activityToMeanMap = new TObjectDoubleHashMap<>();
         setExecutionTimeRunningMean.setActivityToMeanMap(activityToMeanMap);
-        setExecutionTimeRunningMean.setFactor(1.0 / executionData.size());
+        setExecutionTimeRunningMean.setFactor(1.0 / executionData.size() / NANOS_PER_MS);
 
         runningExecutionTotals.forEachEntry(setExecutionTimeRunningMean);
 
@@ -184,22 +187,33 @@ public TObjectDoubleMap<String> getAllocationMean() {
         return activityToMeanMap;
     }
 
-    private class ActivityInfo {
-        public String name;
-        public long startTime;
-        public long resumeTime;
-        public long ownTime;
-        public long startMem;
-        public long ownMem;
+    @Override
+    public void setGauge(String gaugeName, double value) {
+        gauges.put(gaugeName, value);
+    }
 
-         ActivityInfo(String activityName) {
-            this.name = activityName;
+    @Override
+    public TObjectDoubleMap<String> getGauges() {
+        TObjectDoubleMap<String> result = new TObjectDoubleHashMap<>();
+        for (Map.Entry<String, Double> gauge : gauges.entrySet()) {
+            result.put(gauge.getKey(), gauge.getValue());
         }
+        return result;
+    }
 
-        public ActivityInfo initialize() {
-            this.startTime = timer.getRealTimeInMs();
-            this.startMem = Runtime.getRuntime().freeMemory();
-            return this;
+    @Override
+    public void exportTrace(Writer writer) throws IOException {
+        drainRecorders();
+        history.writeChromeTrace(writer);
+    }
+
+    private class CollectorOfEndedActivity implements ActivityRecorder.ActivityConsumer {
+        @Override
+        public void accept(ActivityRecorder threadRecorder, String name, long startTime, long duration, long ownTime,
+                           long ownAllocation, int depth) {
+            currentExecutionData.adjustOrPutValue(name, ownTime, ownTime);
+            currentAllocationData.adjustOrPutValue(name, ownAllocation, ownAllocation);
+            history.accept(threadRecorder, name, startTime, duration, ownTime, ownAllocation, depth);
         }
     }
 
@@ -226,8 +240,9 @@ private class UpdaterOfActivityExecutionTimeTotalAndSpikeData implements TObject
         public boolean execute(String activityName, long latestExecutionTime) {
             runningExecutionTotals.adjustOrPutValue(activityName, latestExecutionTime, latestExecutionTime);
             latestSpike = spikeData.get(activityName);
-            if (latestExecutionTime > latestSpike) {
-                spikeData.put(activityName, latestExecutionTime);
+            double latestExecutionTimeInMs = latestExecutionTime / NANOS_PER_MS;
+            if (latestExecutionTimeInMs > latestSpike) {
+                spikeData.put(activityName, latestExecutionTimeInMs);
             }
             return true;
         }
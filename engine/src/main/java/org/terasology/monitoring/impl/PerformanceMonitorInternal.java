@@ -18,6 +18,9 @@
 import gnu.trove.map.TObjectDoubleMap;
 import org.terasology.monitoring.Activity;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Base interface for performance monitor implementations.
  *
@@ -34,4 +37,10 @@ public interface PerformanceMonitorInternal {
     TObjectDoubleMap<String> getDecayingSpikes();
 
     TObjectDoubleMap<String> getAllocationMean();
+
+    void setGauge(String gaugeName, double value);
+
+    TObjectDoubleMap<String> getGauges();
+
+    void exportTrace(Writer writer) throws IOException;
 }
@@ -42,4 +42,19 @@ public interface NetMetricSource {
      * @return The amount of bytes sent since last time this method was called
      */
     int getSentBytesSinceLastCall();
+
+    /**
+     * @return The amount of entities currently replicated over the connection
+     */
+    int getReplicatedEntities();
+
+    /**
+     * @return The amount of entities that started being replicated since last time this method was called
+     */
+    int getAddedEntitiesSinceLastCall();
+
+    /**
+     * @return The amount of entities that stopped being replicated since last time this method was called
+     */
+    int getRemovedEntitiesSinceLastCall();
 }
@@ -29,7 +29,7 @@ public class NetworkComponent implements Component {
 
     public enum ReplicateMode {
         ALWAYS, // Always replicate this entity to all clients
-        RELEVANT, // Replicate to client which this entity is relevant to (based on distance)
+        RELEVANT, // Replicate to its owner and to the clients that have received the chunk this entity is in
         OWNER // Always replicate this entity to its owner
     }
 
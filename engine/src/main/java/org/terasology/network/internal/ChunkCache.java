@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.EntityData;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Client side cache of the encoded chunks received from a server, kept across connections to it.
+ * <br><br>
+ * On join the client reports the hashes of its cached chunks. The server then only references chunks that have not
+ * changed since, instead of sending them again. This only saves bandwidth: the server still encodes every chunk it
+ * streams and hashes the ones the client reported. Reported chunks are pinned, so they can't get evicted before the
+ * server made use of them.
+ * <br><br>
+ * Chunks get dropped from the cache as soon as the server reports a change to them, so that the cache only holds chunks
+ * as the server sent them.
+ */
+class ChunkCache {
+    private final int capacity;
+    private final Map<Vector3i, EntityData.ChunkStore> chunks = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Vector3i> pinned = Sets.newHashSet();
+
+    ChunkCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return the hash under which a chunk gets reported to the server. Both sides hash the encoded chunk.
+     */
+    static long hash(EntityData.ChunkStore encodedChunk) {
+        return Hashing.murmur3_128().hashBytes(encodedChunk.toByteArray()).asLong();
+    }
+
+    synchronized void put(Vector3i pos, EntityData.ChunkStore encodedChunk) {
+        chunks.put(pos, encodedChunk);
+        pinned.remove(pos);
+        Iterator<Vector3i> eldest = chunks.keySet().iterator();
+        while (chunks.size() > capacity && eldest.hasNext()) {
+            if (!pinned.contains(eldest.next())) {
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops the chunk from the cache, as the cached copy no longer matches the chunk of the server.
+     */
+    synchronized void invalidate(Vector3i chunkPos) {
+        chunks.remove(chunkPos);
+        pinned.remove(chunkPos);
+    }
+
+    /**
+     * @return the cached chunk the server referred to, or null if it is not cached.
+     */
+    synchronized EntityData.ChunkStore use(Vector3i pos) {
+        pinned.remove(pos);
+        return chunks.get(pos);
+    }
+
+    /**
+     * Pins all cached chunks until they get used or {@link #unpinAll()} gets called.
+     *
+     * @return the hashes of all cached chunks.
+     */
+    synchronized Map<Vector3i, Long> pinAll() {
+        Map<Vector3i, Long> hashes = Maps.newHashMapWithExpectedSize(chunks.size());
+        for (Map.Entry<Vector3i, EntityData.ChunkStore> entry : chunks.entrySet()) {
+            hashes.put(entry.getKey(), hash(entry.getValue()));
+        }
+        pinned.addAll(chunks.keySet());
+        return hashes;
+    }
+
+    synchronized void unpinAll() {
+        pinned.clear();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.Lists;
+import gnu.trove.map.TLongLongMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.terasology.math.PackedVector3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.protobuf.EntityData;
+import org.terasology.protobuf.NetData;
+import org.terasology.world.chunks.Chunk;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Server side queue of the chunks that became relevant to a client but have not been sent to it yet.
+ * <br><br>
+ * Each net tick the chunks nearest to the client get sent until the byte budget of the tick is used up. Unused budget
+ * carries over for a few ticks, so that a large chunk does not stall the queue. Chunks the client reported as cached
+ * get referenced instead of sent, if they did not change since. Every sent chunk still gets encoded, to compare it
+ * against the hash the client reported.
+ */
+class ChunkStreamer {
+    /**
+     * The estimated size of a reference to a cached chunk in a message.
+     */
+    private static final int CACHED_CHUNK_SIZE = 16;
+    private static final int MAX_SAVED_TICKS = 4;
+
+    private final TLongObjectMap<Chunk> pendingChunks = new TLongObjectHashMap<>();
+    private final TLongLongMap clientCachedChunks = new TLongLongHashMap();
+    private PriorityQueue<Vector3i> queue;
+    private Vector3i queueCenter;
+    private int byteAllowance;
+
+    public void add(Vector3i pos, Chunk chunk) {
+        if (pendingChunks.put(PackedVector3i.pack(pos), chunk) == null && queue != null) {
+            queue.add(pos);
+        }
+    }
+
+    /**
+     * Removes the chunk from the queue. Entries of the priority queue get dropped lazily once they reach its head.
+     */
+    public void remove(Vector3i pos) {
+        pendingChunks.remove(PackedVector3i.pack(pos));
+    }
+
+    public boolean isEmpty() {
+        return pendingChunks.isEmpty();
+    }
+
+    /**
+     * @param cachedChunks the hashes of the chunks the client has cached, see {@link ChunkCache#hash}.
+     */
+    public void setClientCachedChunks(Map<Vector3i, Long> cachedChunks) {
+        clientCachedChunks.clear();
+        for (Map.Entry<Vector3i, Long> entry : cachedChunks.entrySet()) {
+            clientCachedChunks.put(PackedVector3i.pack(entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Adds the nearest pending chunks to the message.
+     *
+     * @param center       the chunk the client is in.
+     * @param bytesPerTick the byte budget of a tick.
+     * @return the positions of the chunks added to the message.
+     */
+    public List<Vector3i> sendChunks(Vector3i center, int bytesPerTick, NetData.NetMessage.Builder message) {
+        if (pendingChunks.isEmpty()) {
+            queue = null;
+            byteAllowance = 0;
+            return Collections.emptyList();
+        }
+        byteAllowance = Math.min(byteAllowance + bytesPerTick, bytesPerTick * MAX_SAVED_TICKS);
+        if (queue == null || !center.equals(queueCenter)) {
+            rebuildQueue(center);
+        }
+
+        List<Vector3i> sentChunks = Lists.newArrayList();
+        while (byteAllowance > 0 && !queue.isEmpty()) {
+            Vector3i pos = queue.poll();
+            long key = PackedVector3i.pack(pos);
+            Chunk chunk = pendingChunks.remove(key);
+            if (chunk == null) {
+                continue;
+            }
+            EntityData.ChunkStore encodedChunk = chunk.encode().build();
+            boolean cached = clientCachedChunks.containsKey(key);
+            long cachedHash = clientCachedChunks.remove(key);
+            if (cached && cachedHash == ChunkCache.hash(encodedChunk)) {
+                message.addCachedChunk(NetMessageUtil.convert(pos));
+                byteAllowance -= CACHED_CHUNK_SIZE;
+            } else {
+                message.addChunkInfo(encodedChunk);
+                byteAllowance -= encodedChunk.getSerializedSize();
+            }
+            sentChunks.add(pos);
+        }
+        return sentChunks;
+    }
+
+    private void rebuildQueue(Vector3i center) {
+        queueCenter = new Vector3i(center);
+        Comparator<Vector3i> byDistance = Comparator.comparingInt(pos -> pos.distanceSquared(queueCenter));
+        queue = new PriorityQueue<>(Math.max(1, pendingChunks.size()), byDistance);
+        pendingChunks.forEachKey(key -> queue.add(PackedVector3i.unpack(key)));
+    }
+}
@@ -28,6 +28,7 @@
 import org.terasology.engine.Time;
 import org.terasology.engine.module.ModuleManager;
 import org.terasology.engine.paths.PathManager;
+import org.terasology.math.geom.Vector3i;
 import org.terasology.module.ModuleLoader;
 import org.terasology.naming.Name;
 import org.terasology.naming.Version;
@@ -41,6 +42,7 @@
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 
@@ -259,6 +261,11 @@ private void sendJoin(ChannelHandlerContext channelHandlerContext) {
         bldr.setName(config.getPlayer().getName());
         bldr.setViewDistanceLevel(config.getRendering().getViewDistance().getIndex());
         bldr.setColor(clrbldr.setRgba(config.getPlayer().getColor().rgba()).build());
+        for (Map.Entry<Vector3i, Long> cachedChunk : networkSystem.getChunkCache().pinAll().entrySet()) {
+            bldr.addCachedChunk(NetData.CachedChunk.newBuilder()
+                    .setPos(NetMessageUtil.convert(cachedChunk.getKey()))
+                    .setHash(cachedChunk.getValue()));
+        }
 
         channelHandlerContext.getChannel().write(NetData.NetMessage.newBuilder().setJoin(bldr).build());
     }
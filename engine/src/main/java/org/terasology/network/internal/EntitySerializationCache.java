@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.network.serialization.ServerComponentFieldCheck;
+import org.terasology.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serializes the network entities sent to the clients during a network tick, so that an entity replicated to several
+ * clients only gets serialized once per view of it. The owner of an entity sees other fields than the other clients,
+ * and an update differs with the components that got added, changed or removed since the client got the entity last.
+ * <br><br>
+ * The serialized entities are immutable and get shared by the messages of all clients they are sent to. The cache
+ * must be cleared at the start of every network tick, and the entries of an entity must be invalidated whenever one of
+ * its components changes during the tick, e.g. while the messages of a client get processed.
+ */
+class EntitySerializationCache {
+    private final NetworkEntitySerializer entitySerializer;
+    private final TIntObjectMap<List<Entry>> entriesByNetId = new TIntObjectHashMap<>();
+
+    private long hits;
+    private long misses;
+    private long savedBytes;
+    private long tickHits;
+    private long tickMisses;
+    private long tickSavedBytes;
+
+    EntitySerializationCache(NetworkEntitySerializer entitySerializer) {
+        this.entitySerializer = entitySerializer;
+    }
+
+    /**
+     * @return the serialized entity, for the creation of the entity on a client.
+     */
+    EntityData.PackedEntity getInitialEntity(EntityRef entity, int netId, boolean owner) {
+        Entry entry = find(netId, owner, null, null, null);
+        if (entry == null) {
+            EntityData.PackedEntity result = entitySerializer.serialize(entity, true,
+                    new ServerComponentFieldCheck(owner, true)).build();
+            entry = add(netId, new Entry(owner, null, null, null, result));
+        }
+        return entry.entity;
+    }
+
+    /**
+     * @return the serialized changes of the entity, or null if none of the components contain fields to send.
+     */
+    EntityData.PackedEntity getEntityUpdate(EntityRef entity, int netId, boolean owner,
+                                            Set<Class<? extends Component>> added,
+                                            Set<Class<? extends Component>> changed,
+                                            Set<Class<? extends Component>> removed) {
+        Entry entry = find(netId, owner, added, changed, removed);
+        if (entry == null) {
+            EntityData.PackedEntity result = entitySerializer.serialize(entity, added, changed, removed,
+                    new ServerComponentFieldCheck(owner, false));
+            entry = add(netId, new Entry(owner, ImmutableSet.copyOf(added), ImmutableSet.copyOf(changed),
+                    ImmutableSet.copyOf(removed), result));
+        }
+        return entry.entity;
+    }
+
+    private Entry find(int netId, boolean owner, Set<Class<? extends Component>> added,
+                       Set<Class<? extends Component>> changed, Set<Class<? extends Component>> removed) {
+        List<Entry> entries = entriesByNetId.get(netId);
+        if (entries != null) {
+            for (Entry entry : entries) {
+                if (entry.matches(owner, added, changed, removed)) {
+                    hits++;
+                    tickHits++;
+                    savedBytes += entry.serializedSize;
+                    tickSavedBytes += entry.serializedSize;
+                    return entry;
+                }
+            }
+        }
+        misses++;
+        tickMisses++;
+        return null;
+    }
+
+    private Entry add(int netId, Entry entry) {
+        List<Entry> entries = entriesByNetId.get(netId);
+        if (entries == null) {
+            entries = Lists.newArrayListWithCapacity(2);
+            entriesByNetId.put(netId, entries);
+        }
+        entries.add(entry);
+        return entry;
+    }
+
+    /**
+     * Drops the serialized versions of the entity, as its components changed.
+     */
+    void invalidate(int netId) {
+        entriesByNetId.remove(netId);
+    }
+
+    /**
+     * Drops all serialized entities and the metrics of the tick, for the start of a new network tick.
+     */
+    void clear() {
+        entriesByNetId.clear();
+        tickHits = 0;
+        tickMisses = 0;
+        tickSavedBytes = 0;
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the size of the serialized entities that got reused instead of being serialized again.
+     */
+    long getSavedBytes() {
+        return savedBytes;
+    }
+
+    /**
+     * @return the share of the lookups since the start of the tick that got served from the cache, between 0 and 1.
+     */
+    double getTickHitRatio() {
+        long lookups = tickHits + tickMisses;
+        return (lookups > 0) ? (double) tickHits / lookups : 0;
+    }
+
+    long getTickSavedBytes() {
+        return tickSavedBytes;
+    }
+
+    /**
+     * A serialized view of an entity. The component sets are null for the serialization of the whole entity.
+     */
+    private static final class Entry {
+        private final boolean owner;
+        private final Set<Class<? extends Component>> added;
+        private final Set<Class<? extends Component>> changed;
+        private final Set<Class<? extends Component>> removed;
+        private final EntityData.PackedEntity entity;
+        private final int serializedSize;
+
+        Entry(boolean owner, Set<Class<? extends Component>> added, Set<Class<? extends Component>> changed,
+              Set<Class<? extends Component>> removed, EntityData.PackedEntity entity) {
+            this.owner = owner;
+            this.added = added;
+            this.changed = changed;
+            this.removed = removed;
+            this.entity = entity;
+            this.serializedSize = (entity != null) ? entity.getSerializedSize() : 0;
+        }
+
+        boolean matches(boolean otherOwner, Set<Class<? extends Component>> otherAdded,
+                        Set<Class<? extends Component>> otherChanged, Set<Class<? extends Component>> otherRemoved) {
+            return owner == otherOwner && sameComponents(added, otherAdded) && sameComponents(changed, otherChanged)
+                    && sameComponents(removed, otherRemoved);
+        }
+
+        private static boolean sameComponents(Set<Class<? extends Component>> a, Set<Class<? extends Component>> b) {
+            return (a == null) ? b == null : a.equals(b);
+        }
+    }
+}
@@ -36,6 +36,9 @@ public class MetricRecordingHandler extends SimpleChannelHandler implements NetM
     private AtomicInteger receivedBytes = new AtomicInteger();
     private AtomicInteger sentMessages = new AtomicInteger();
     private AtomicInteger sentBytes = new AtomicInteger();
+    private AtomicInteger addedEntities = new AtomicInteger();
+    private AtomicInteger removedEntities = new AtomicInteger();
+    private volatile int replicatedEntities;
 
     @Override
     public void messageReceived(ChannelHandlerContext ctx, MessageEvent e) throws Exception {
@@ -53,6 +56,18 @@ public void writeRequested(ChannelHandlerContext ctx, MessageEvent e) throws Exc
         ctx.sendDownstream(e);
     }
 
+    void recordAddedEntities(int amount) {
+        addedEntities.addAndGet(amount);
+    }
+
+    void recordRemovedEntities(int amount) {
+        removedEntities.addAndGet(amount);
+    }
+
+    void setReplicatedEntities(int amount) {
+        replicatedEntities = amount;
+    }
+
     @Override
     public int getReceivedMessagesSinceLastCall() {
         return receivedMessages.getAndSet(0);
@@ -72,4 +87,19 @@ public int getSentMessagesSinceLastCall() {
     public int getSentBytesSinceLastCall() {
         return sentBytes.getAndSet(0);
     }
+
+    @Override
+    public int getReplicatedEntities() {
+        return replicatedEntities;
+    }
+
+    @Override
+    public int getAddedEntitiesSinceLastCall() {
+        return addedEntities.getAndSet(0);
+    }
+
+    @Override
+    public int getRemovedEntitiesSinceLastCall() {
+        return removedEntities.getAndSet(0);
+    }
 }
@@ -19,14 +19,15 @@
 import com.google.common.base.Objects;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 
 import gnu.trove.iterator.TIntIterator;
 import gnu.trove.set.TIntSet;
+import gnu.trove.set.TLongSet;
 import gnu.trove.set.hash.TIntHashSet;
+import gnu.trove.set.hash.TLongHashSet;
 
 import org.jboss.netty.channel.Channel;
 import org.slf4j.Logger;
@@ -44,6 +45,7 @@
 import org.terasology.logic.common.DisplayNameComponent;
 import org.terasology.logic.location.LocationComponent;
 import org.terasology.math.ChunkMath;
+import org.terasology.math.PackedVector3i;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.network.Client;
 import org.terasology.network.ClientComponent;
@@ -85,6 +87,7 @@
 public class NetClient extends AbstractClient implements WorldChangeListener {
     private static final Logger logger = LoggerFactory.getLogger(NetClient.class);
     private static final float NET_TICK_RATE = 0.05f;
+    private static final int BYTES_PER_KILOBYTE = 1024;
 
     private Time time;
     private NetworkSystemImpl networkSystem;
@@ -92,11 +95,11 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private NetworkEntitySerializer entitySerializer;
     private EventSerializer eventSerializer;
     private EventLibrary eventLibrary;
-    private NetMetricSource metricSource;
+    private MetricRecordingHandler metricSource;
     private BiomeManager biomeManager;
 
     // Relevance
-    private Set<Vector3i> relevantChunks = Sets.newHashSet();
+    private TLongSet relevantChunks = new TLongHashSet();
     private TIntSet netRelevant = new TIntHashSet();
 
     // Entity replication data
@@ -110,9 +113,6 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private String preferredName = "Player";
     private long lastReceivedTime;
     private ViewDistance viewDistance = ViewDistance.NEAR;
-    private float chunkSendCounter = 1.0f;
-
-    private float chunkSendRate = 0.05469f;
 
     private PublicIdentityCertificate identity;
 
@@ -122,7 +122,7 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private List<NetData.EventMessage> queuedOutgoingEvents = Lists.newArrayList();
     private final List<BlockFamily> newlyRegisteredFamilies = Lists.newArrayList();
 
-    private Map<Vector3i, Chunk> readyChunks = Maps.newLinkedHashMap();
+    private ChunkStreamer chunkStreamer = new ChunkStreamer();
     private Set<Vector3i> invalidatedChunks = Sets.newLinkedHashSet();
 
 
@@ -138,7 +138,7 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
 
     public NetClient(Channel channel, NetworkSystemImpl networkSystem, PublicIdentityCertificate identity) {
         this.channel = channel;
-        metricSource = (NetMetricSource) channel.getPipeline().get(MetricRecordingHandler.NAME);
+        metricSource = (MetricRecordingHandler) channel.getPipeline().get(MetricRecordingHandler.NAME);
         this.networkSystem = networkSystem;
         this.time = CoreRegistry.get(Time.class);
         this.identity = identity;
@@ -245,30 +245,18 @@ private void sendRegisteredBlocks(NetData.NetMessage.Builder message) {
     }
 
     private void sendNewChunks(NetData.NetMessage.Builder message) {
-        if (!readyChunks.isEmpty()) {
-            chunkSendCounter += chunkSendRate * NET_TICK_RATE * networkSystem.getBandwidthPerClient();
-            if (chunkSendCounter > 1.0f) {
-                chunkSendCounter -= 1.0f;
-                Vector3i center = new Vector3i();
-                LocationComponent loc = getEntity().getComponent(ClientComponent.class).character.getComponent(LocationComponent.class);
-                if (loc != null) {
-                    center.set(ChunkMath.calcChunkPos(new Vector3i(loc.getWorldPosition(), RoundingMode.HALF_UP)));
-                }
-                Vector3i pos = null;
-                int distance = Integer.MAX_VALUE;
-                for (Vector3i chunkPos : readyChunks.keySet()) {
-                    int chunkDistance = chunkPos.distanceSquared(center);
-                    if (pos == null || chunkDistance < distance) {
-                        pos = chunkPos;
-                        distance = chunkDistance;
-                    }
-                }
-                Chunk chunk = readyChunks.remove(pos);
-                relevantChunks.add(pos);
-                message.addChunkInfo(chunk.encode());
-            }
-        } else {
-            chunkSendCounter = 1.0f;
+        if (chunkStreamer.isEmpty()) {
+            return;
+        }
+        Vector3i center = new Vector3i();
+        LocationComponent loc = getEntity().getComponent(ClientComponent.class).character.getComponent(LocationComponent.class);
+        if (loc != null) {
+            center.set(ChunkMath.calcChunkPos(new Vector3i(loc.getWorldPosition(), RoundingMode.HALF_UP)));
+        }
+        int bytesPerTick = (int) (networkSystem.getBandwidthPerClient() * BYTES_PER_KILOBYTE * NET_TICK_RATE);
+        for (Vector3i pos : chunkStreamer.sendChunks(center, bytesPerTick, message)) {
+            relevantChunks.add(PackedVector3i.pack(pos));
+            networkSystem.updateRelevance(this, pos);
         }
     }
 
@@ -277,7 +265,9 @@ private void sendChunkInvalidations(NetData.NetMessage.Builder message) {
         while (i.hasNext()) {
             Vector3i pos = i.next();
             i.remove();
-            relevantChunks.remove(pos);
+            if (relevantChunks.remove(PackedVector3i.pack(pos))) {
+                networkSystem.updateRelevance(this, pos);
+            }
             message.addInvalidateChunk(NetData.InvalidateChunkMessage.newBuilder().setPos(NetMessageUtil.convert(pos)));
         }
         invalidatedChunks.clear();
@@ -288,7 +278,7 @@ public void setNetInitial(int netId) {
     }
 
     public void setNetRemoved(int netId) {
-        if (!netInitial.remove(netId)) {
+        if (!netInitial.remove(netId) && netRelevant.contains(netId)) {
             netRemoved.add(netId);
         }
         dirtyComponents.keySet().remove(netId);
@@ -298,6 +288,25 @@ public void setNetRemoved(int netId) {
         netRelevant.remove(netId);
     }
 
+    /**
+     * @return true if the entity has been or is about to be sent to the client.
+     */
+    public boolean isReplicated(int netId) {
+        return netRelevant.contains(netId) || netInitial.contains(netId);
+    }
+
+    /**
+     * @return true if the chunk has been sent to the client.
+     */
+    public boolean isChunkRelevant(Vector3i chunkPos) {
+        return relevantChunks.contains(PackedVector3i.pack(chunkPos));
+    }
+
+    private boolean isBlockInRelevantChunk(Vector3i blockPos) {
+        return relevantChunks.contains(PackedVector3i.pack(ChunkMath.calcChunkPosX(blockPos.x),
+                ChunkMath.calcChunkPosY(blockPos.y), ChunkMath.calcChunkPosZ(blockPos.z)));
+    }
+
     public void setComponentAdded(int networkId, Class<? extends Component> component) {
         if (netRelevant.contains(networkId) && !netInitial.contains(networkId)) {
             if (removedComponents.remove(networkId, component)) {
@@ -341,7 +350,7 @@ public void send(Event event, EntityRef target) {
         try {
             BlockComponent blockComp = target.getComponent(BlockComponent.class);
             if (blockComp != null) {
-                if (relevantChunks.contains(ChunkMath.calcChunkPos(blockComp.getPosition()))) {
+                if (isBlockInRelevantChunk(blockComp.getPosition())) {
                     queuedOutgoingEvents.add(NetData.EventMessage.newBuilder()
                             .setTargetBlockPos(NetMessageUtil.convert(blockComp.getPosition()))
                             .setEvent(eventSerializer.serialize(event)).build());
@@ -381,19 +390,25 @@ void send(NetData.NetMessage data) {
     @Override
     public void onChunkRelevant(Vector3i pos, Chunk chunk) {
         invalidatedChunks.remove(pos);
-        readyChunks.put(pos, chunk);
+        chunkStreamer.add(pos, chunk);
     }
 
     @Override
     public void onChunkIrrelevant(Vector3i pos) {
-        readyChunks.remove(pos);
+        chunkStreamer.remove(pos);
         invalidatedChunks.add(pos);
     }
 
+    /**
+     * @param cachedChunks the hashes of the chunks the client has cached from an earlier connection.
+     */
+    public void setClientCachedChunks(Map<Vector3i, Long> cachedChunks) {
+        chunkStreamer.setClientCachedChunks(cachedChunks);
+    }
+
     @Override
     public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
-        if (relevantChunks.contains(chunkPos)) {
+        if (isBlockInRelevantChunk(pos)) {
             queuedOutgoingBlockChanges.add(NetData.BlockChangeMessage.newBuilder()
                     .setPos(NetMessageUtil.convert(pos))
                     .setNewBlock(newBlock.getId())
@@ -403,8 +418,7 @@ public void onBlockChanged(Vector3i pos, Block newBlock, Block originalBlock) {
 
     @Override
     public void onBiomeChanged(Vector3i pos, Biome newBiome, Biome originalBiome) {
-        Vector3i chunkPos = ChunkMath.calcChunkPos(pos);
-        if (relevantChunks.contains(chunkPos)) {
+        if (isBlockInRelevantChunk(pos)) {
             queuedOutgoingBiomeChanges.add(NetData.BiomeChangeMessage.newBuilder()
                     .setPos(NetMessageUtil.convert(pos))
                     .setNewBiome(biomeManager.getBiomeShortId(newBiome))
@@ -457,8 +471,8 @@ private void sendDirtyEntities(NetData.NetMessage.Builder message) {
                 logger.error("Sending non-existent entity update for netId {}", netId);
             }
             boolean isOwner = networkSystem.getOwner(entity) == this;
-            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, addedComponents.get(netId), dirtyComponents.get(netId), removedComponents.get(netId),
-                    new ServerComponentFieldCheck(isOwner, false));
+            EntityData.PackedEntity entityData = networkSystem.getEntitySerializationCache().getEntityUpdate(entity, netId, isOwner,
+                    addedComponents.get(netId), dirtyComponents.get(netId), removedComponents.get(netId));
             if (entityData != null) {
                 message.addUpdateEntity(NetData.UpdateEntityMessage.newBuilder().setEntity(entityData).setNetId(netId));
             }
@@ -474,6 +488,7 @@ private void sendRemovedEntities(NetData.NetMessage.Builder message) {
         while (initialIterator.hasNext()) {
             message.addRemoveEntity(NetData.RemoveEntityMessage.newBuilder().setNetId(initialIterator.next()));
         }
+        metricSource.recordRemovedEntities(netRemoved.size());
         netRemoved.clear();
     }
 
@@ -490,7 +505,7 @@ private void sendInitialEntities(NetData.NetMessage.Builder message) {
             }
             // Note: Send owner->server fields on initial create
             Client owner = networkSystem.getOwner(entity);
-            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, true, new ServerComponentFieldCheck(owner == this, true)).build();
+            EntityData.PackedEntity entityData = networkSystem.getEntitySerializationCache().getInitialEntity(entity, netId, owner == this);
             NetData.CreateEntityMessage.Builder createMessage = NetData.CreateEntityMessage.newBuilder().setEntity(entityData);
             BlockComponent blockComponent = entity.getComponent(BlockComponent.class);
             if (blockComponent != null) {
@@ -498,7 +513,8 @@ private void sendInitialEntities(NetData.NetMessage.Builder message) {
             }
             message.addCreateEntity(createMessage);
         }
-
+        metricSource.recordAddedEntities(initial.length);
+        metricSource.setReplicatedEntities(netRelevant.size());
     }
 
     private void processEvents(NetData.NetMessage message) {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.network.internal;
+
+import com.google.common.collect.Maps;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.terasology.math.geom.Vector3i;
+
+import java.util.Map;
+
+/**
+ * Spatial index of the network entities that get replicated based on relevance, keyed by the chunk they are in.
+ * Network entities without a position in the world are not part of the index.
+ */
+class NetEntityChunkIndex {
+    private static final TIntSet EMPTY = new TIntHashSet(0);
+
+    private final TIntObjectMap<Vector3i> chunkByNetId = new TIntObjectHashMap<>();
+    private final Map<Vector3i, TIntSet> netIdsByChunk = Maps.newHashMap();
+
+    /**
+     * @return the chunk the entity was last placed in or null if it has no position in the world.
+     */
+    public Vector3i getChunk(int netId) {
+        return chunkByNetId.get(netId);
+    }
+
+    /**
+     * @return the network ids of the entities in the chunk. The set must not be modified.
+     */
+    public TIntSet getNetIds(Vector3i chunkPos) {
+        TIntSet netIds = netIdsByChunk.get(chunkPos);
+        return netIds != null ? netIds : EMPTY;
+    }
+
+    /**
+     * Moves an entity to a chunk.
+     *
+     * @param chunkPos the new chunk of the entity, null if it has no position in the world.
+     * @return true if the chunk of the entity changed.
+     */
+    public boolean update(int netId, Vector3i chunkPos) {
+        Vector3i previous = chunkByNetId.get(netId);
+        if (previous == null ? chunkPos == null : previous.equals(chunkPos)) {
+            return false;
+        }
+        remove(netId);
+        if (chunkPos != null) {
+            chunkByNetId.put(netId, chunkPos);
+            netIdsByChunk.computeIfAbsent(chunkPos, k -> new TIntHashSet()).add(netId);
+        }
+        return true;
+    }
+
+    public void remove(int netId) {
+        Vector3i previous = chunkByNetId.remove(netId);
+        if (previous != null) {
+            TIntSet netIds = netIdsByChunk.get(previous);
+            netIds.remove(netId);
+            if (netIds.isEmpty()) {
+                netIdsByChunk.remove(previous);
+            }
+        }
+    }
+
+    public void clear() {
+        chunkByNetId.clear();
+        netIdsByChunk.clear();
+    }
+}
@@ -57,6 +57,10 @@
 import org.terasology.entitySystem.metadata.ComponentMetadata;
 import org.terasology.entitySystem.metadata.EventLibrary;
 import org.terasology.entitySystem.metadata.EventMetadata;
+import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.ChunkMath;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
 import org.terasology.module.Module;
 import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.network.Client;
@@ -116,6 +120,7 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private static final int OWNER_DEPTH_LIMIT = 50;
     private static final int NET_TICK_RATE = 50;
     private static final int NULL_NET_ID = 0;
+    private static final int CHUNK_CACHE_CAPACITY = 2048;
 
     // Shared
     private Context context;
@@ -127,6 +132,7 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private EventLibrary eventLibrary;
     private EventSerializer eventSerializer;
     private NetworkEntitySerializer entitySerializer;
+    private EntitySerializationCache entitySerializationCache;
     private BlockManager blockManager;
     private BiomeManager biomeManager;
     private OwnershipHelper ownershipHelper;
@@ -149,10 +155,14 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private Map<EntityRef, Client> clientPlayerLookup = Maps.newHashMap();
     private Map<EntityRef, EntityRef> ownerLookup = Maps.newHashMap();
     private SetMultimap<EntityRef, EntityRef> ownedLookup = HashMultimap.create();
+    private NetEntityChunkIndex relevanceIndex = new NetEntityChunkIndex();
+    private Set<EntityRef> movedEntities = Sets.newLinkedHashSet();
     private StorageManager storageManager;
 
     // Client only
     private ServerImpl server;
+    private Map<String, ChunkCache> chunkCaches = Maps.newHashMap();
+    private ChunkCache chunkCache = new ChunkCache(0);
 
     public NetworkSystemImpl(Time time, Context context) {
         this.time = time;
@@ -220,6 +230,7 @@ public JoinStatus join(String address, int port) throws InterruptedException {
             if (hibernationSettings.isPresent()) {
                 hibernationSettings.get().setHibernationAllowed(false);
             }
+            chunkCache = chunkCaches.computeIfAbsent(address + ":" + port, k -> new ChunkCache(CHUNK_CACHE_CAPACITY));
             factory = new NioClientSocketChannelFactory(Executors.newCachedThreadPool(), Executors.newCachedThreadPool());
             ClientBootstrap bootstrap = new ClientBootstrap(factory);
             bootstrap.setPipelineFactory(new TerasologyClientPipelineFactory(this));
@@ -264,6 +275,7 @@ public void shutdown() {
         processPendingDisconnects();
         clientList.forEach(this::processRemovedClient);
         server = null;
+        chunkCache.unpinAll();
         nextNetId = 1;
         netIdToEntityId.clear();
         if (mode != NetworkMode.CLIENT) {
@@ -282,12 +294,15 @@ public void shutdown() {
         componentLibrary = null;
         eventSerializer = null;
         entitySerializer = null;
+        entitySerializationCache = null;
         clientList.clear();
         netClientList.clear();
         blockManager = null;
         biomeManager = null;
         ownerLookup.clear();
         ownedLookup.clear();
+        relevanceIndex.clear();
+        movedEntities.clear();
         ownershipHelper = null;
         storageManager = null;
         logger.info("Network shutdown");
@@ -314,11 +329,20 @@ public void update() {
                     nextNetworkTick += NET_TICK_RATE;
                     netTick = true;
                 }
+                if (netTick) {
+                    entitySerializationCache.clear();
+                }
+                processMovedEntities();
                 PerformanceMonitor.startActivity("Client update");
                 for (Client client : clientList) {
                     client.update(netTick);
                 }
                 PerformanceMonitor.endActivity();
+                if (netTick && !netClientList.isEmpty()) {
+                    PerformanceMonitor.setGauge("Entity serialization cache hit ratio (%)",
+                            100 * entitySerializationCache.getTickHitRatio());
+                    PerformanceMonitor.setGauge("Entity serialization bytes saved", entitySerializationCache.getTickSavedBytes());
+                }
                 if (server != null) {
                     server.update(netTick);
                 }
@@ -394,6 +418,20 @@ public EntityRef getOwnerEntity(EntityRef entity) {
         return owner;
     }
 
+    /**
+     * @return the cache for the chunks of the server this client is connected to.
+     */
+    ChunkCache getChunkCache() {
+        return chunkCache;
+    }
+
+    /**
+     * @return the serialized entities of the current network tick, shared by the clients they get sent to.
+     */
+    EntitySerializationCache getEntitySerializationCache() {
+        return entitySerializationCache;
+    }
+
     @Override
     public void setRemoteWorldProvider(RemoteChunkProvider remoteWorldProvider) {
         server.setRemoteWorldProvider(remoteWorldProvider);
@@ -425,9 +463,18 @@ public void registerNetworkEntity(EntityRef entity) {
                         clientPlayer.setNetInitial(netComponent.getNetworkId());
                     }
                     break;
+                case RELEVANT:
+                    Vector3i chunkPos = calcRelevanceChunk(entity);
+                    relevanceIndex.update(netComponent.getNetworkId(), chunkPos);
+                    EntityRef entityOwner = getOwnerEntity(entity);
+                    for (NetClient client : netClientList) {
+                        if (isRelevant(client, entityOwner, chunkPos)) {
+                            client.setNetInitial(netComponent.getNetworkId());
+                        }
+                    }
+                    break;
                 default:
                     for (NetClient client : netClientList) {
-                        // TODO: Relevance Check
                         client.setNetInitial(netComponent.getNetworkId());
                     }
                     break;
@@ -494,6 +541,16 @@ private void recursiveUpdateOwnership(EntityRef entity, NetClient lastOwner, Net
                 if (newOwner != null) {
                     newOwner.setNetInitial(networkComponent.getNetworkId());
                 }
+            } else if (networkComponent.replicateMode == NetworkComponent.ReplicateMode.RELEVANT) {
+                int netId = networkComponent.getNetworkId();
+                Vector3i chunkPos = relevanceIndex.getChunk(netId);
+                EntityRef ownerEntity = getOwnerEntity(entity);
+                if (lastOwner != null) {
+                    updateRelevance(lastOwner, netId, ownerEntity, chunkPos);
+                }
+                if (newOwner != null) {
+                    updateRelevance(newOwner, netId, ownerEntity, chunkPos);
+                }
             }
             for (EntityRef owned : ownedLookup.get(entity)) {
                 recursiveUpdateOwnership(owned, lastOwner, newOwner);
@@ -511,6 +568,9 @@ public void unregisterNetworkEntity(EntityRef entity) {
             if (netComponent != null) {
                 logger.debug("Unregistering network entity: {} with netId {}", entity, netComponent.getNetworkId());
                 netIdToEntityId.remove(netComponent.getNetworkId());
+                if (netComponent.replicateMode == NetworkComponent.ReplicateMode.RELEVANT) {
+                    relevanceIndex.remove(netComponent.getNetworkId());
+                }
                 if (mode.isServer()) {
                     for (NetClient client : netClientList) {
                         client.setNetRemoved(netComponent.getNetworkId());
@@ -546,6 +606,7 @@ public void connectToEntitySystem(EngineEntityManager newEntityManager, EventLib
         eventSerializer = new EventSerializer(eventLibrary, typeSerializationLibrary);
         entitySerializer = new NetworkEntitySerializer(newEntityManager, entityManager.getComponentLibrary(), typeSerializationLibrary);
         entitySerializer.setComponentSerializeCheck(new NetComponentSerializeCheck());
+        entitySerializationCache = new EntitySerializationCache(entitySerializer);
 
         if (mode == NetworkMode.CLIENT) {
             entityManager.setEntityRefStrategy(new NetworkClientRefStrategy(this));
@@ -564,6 +625,7 @@ public void onEntityComponentAdded(EntityRef entity, Class<? extends Component>
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
             if (mode.isServer()) {
                 if (metadata.isReplicated()) {
+                    entitySerializationCache.invalidate(netComp.getNetworkId());
                     for (NetClient client : netClientList) {
                         logger.info("Component {} added to {}", component, entity);
                         client.setComponentAdded(netComp.getNetworkId(), component);
@@ -571,6 +633,9 @@ public void onEntityComponentAdded(EntityRef entity, Class<? extends Component>
                 }
             }
         }
+        if (component == LocationComponent.class && mode.isServer()) {
+            movedEntities.add(entity);
+        }
         updatedOwnedEntities(entity, component, metadata);
     }
 
@@ -581,6 +646,7 @@ public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
             if (mode.isServer()) {
                 if (metadata.isReplicated()) {
+                    entitySerializationCache.invalidate(netComp.getNetworkId());
                     for (NetClient client : netClientList) {
                         logger.info("Component {} removed from {}", component, entity);
                         client.setComponentRemoved(netComp.getNetworkId(), component);
@@ -588,6 +654,9 @@ public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component
                 }
             }
         }
+        if (component == LocationComponent.class && mode.isServer()) {
+            movedEntities.add(entity);
+        }
         if (mode.isAuthority() && metadata.isReferenceOwner()) {
             ownershipHelper.listOwnedEntities(entity.getComponent(component)).forEach(EntityRef::destroy);
         }
@@ -612,10 +681,14 @@ public void onEntityComponentChange(EntityRef entity, Class<? extends Component>
                 case LISTEN_SERVER:
                 case DEDICATED_SERVER:
                     if (metadata.isReplicated()) {
+                        entitySerializationCache.invalidate(netComp.getNetworkId());
                         for (NetClient client : netClientList) {
                             client.setComponentDirty(netComp.getNetworkId(), component);
                         }
                     }
+                    if (component == LocationComponent.class) {
+                        movedEntities.add(entity);
+                    }
                     break;
                 case CLIENT:
                     if (server != null && metadata.isReplicatedFromOwner() && getOwnerEntity(entity).equals(server.getClientEntity())) {
@@ -629,6 +702,87 @@ public void onEntityComponentChange(EntityRef entity, Class<? extends Component>
         updatedOwnedEntities(entity, component, metadata);
     }
 
+    /**
+     * Updates the relevance of the entities whose location changed since the last update. An entity that moved several
+     * times gets processed once.
+     */
+    private void processMovedEntities() {
+        if (movedEntities.isEmpty()) {
+            return;
+        }
+        for (EntityRef entity : movedEntities) {
+            if (entity.exists()) {
+                updateRelevance(entity);
+            }
+        }
+        movedEntities.clear();
+    }
+
+    /**
+     * Updates the position of the entity and its location children in the relevance index and replicates them
+     * to, or removes them from, the clients they became (ir)relevant to. Only entities that change chunk cause
+     * any work per client.
+     */
+    private void updateRelevance(EntityRef entity) {
+        NetworkComponent netComp = entity.getComponent(NetworkComponent.class);
+        if (netComp != null && netComp.getNetworkId() != NULL_NET_ID
+                && netComp.replicateMode == NetworkComponent.ReplicateMode.RELEVANT) {
+            Vector3i chunkPos = calcRelevanceChunk(entity);
+            if (relevanceIndex.update(netComp.getNetworkId(), chunkPos)) {
+                EntityRef owner = getOwnerEntity(entity);
+                for (NetClient client : netClientList) {
+                    updateRelevance(client, netComp.getNetworkId(), owner, chunkPos);
+                }
+            }
+        }
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        if (location != null) {
+            for (EntityRef child : location.getChildren()) {
+                updateRelevance(child);
+            }
+        }
+    }
+
+    /**
+     * Replicates the entities of a chunk to a client, or removes them from it, after the client gained or lost the
+     * chunk.
+     */
+    void updateRelevance(NetClient client, Vector3i chunkPos) {
+        for (int netId : relevanceIndex.getNetIds(chunkPos).toArray()) {
+            updateRelevance(client, netId, getOwnerEntity(getEntity(netId)), chunkPos);
+        }
+    }
+
+    private void updateRelevance(NetClient client, int netId, EntityRef owner, Vector3i chunkPos) {
+        boolean replicated = client.isReplicated(netId);
+        boolean relevant = isRelevant(client, owner, chunkPos);
+        if (relevant && !replicated) {
+            client.setNetInitial(netId);
+        } else if (!relevant && replicated) {
+            client.setNetRemoved(netId);
+        }
+    }
+
+    /**
+     * Entities without a position in the world and entities owned by the client are always relevant to it,
+     * others only if the client has received the chunk they are in.
+     */
+    private boolean isRelevant(NetClient client, EntityRef owner, Vector3i chunkPos) {
+        return chunkPos == null || client.isChunkRelevant(chunkPos) || client.getEntity().equals(owner);
+    }
+
+    private static Vector3i calcRelevanceChunk(EntityRef entity) {
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        if (location == null) {
+            return null;
+        }
+        Vector3f worldPosition = location.getWorldPosition();
+        if (!Float.isFinite(worldPosition.x) || !Float.isFinite(worldPosition.y) || !Float.isFinite(worldPosition.z)) {
+            return null;
+        }
+        return ChunkMath.calcChunkPos(worldPosition);
+    }
+
     private void updatedOwnedEntities(EntityRef entity, Class<? extends Component> component, ComponentMetadata<? extends Component> metadata) {
         if (mode.isAuthority() && metadata.isReferenceOwner()) {
             for (EntityRef ownedEntity : ownershipHelper.listOwnedEntities(entity.getComponent(component))) {
@@ -817,8 +971,12 @@ private void processNewClient(NetClient client) {
                             client.setNetInitial(netComp.getNetworkId());
                         }
                         break;
+                    case RELEVANT:
+                        if (isRelevant(client, getOwnerEntity(netEntity), relevanceIndex.getChunk(netComp.getNetworkId()))) {
+                            client.setNetInitial(netComp.getNetworkId());
+                        }
+                        break;
                     default:
-                        // TODO: Relevance Check
                         client.setNetInitial(netComp.getNetworkId());
                         break;
                 }
@@ -15,6 +15,7 @@
  */
 package org.terasology.network.internal;
 
+import com.google.common.collect.Maps;
 import com.google.common.io.ByteStreams;
 import com.google.protobuf.ByteString;
 import org.jboss.netty.channel.ChannelHandlerContext;
@@ -25,6 +26,7 @@
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.module.ModuleManager;
 import org.terasology.identity.PublicIdentityCertificate;
+import org.terasology.math.geom.Vector3i;
 import org.terasology.module.Module;
 import org.terasology.naming.Name;
 import org.terasology.protobuf.NetData;
@@ -38,6 +40,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 
 /**
  */
@@ -132,6 +135,11 @@ private void receivedConnect(NetData.JoinMessage message) {
         client.setPreferredName(message.getName());
         client.setColor(new Color(message.getColor().getRgba()));
         client.setViewDistanceMode(ViewDistance.forIndex(message.getViewDistanceLevel()));
+        Map<Vector3i, Long> cachedChunks = Maps.newHashMapWithExpectedSize(message.getCachedChunkCount());
+        for (NetData.CachedChunk cachedChunk : message.getCachedChunkList()) {
+            cachedChunks.put(NetMessageUtil.convert(cachedChunk.getPos()), cachedChunk.getHash());
+        }
+        client.setClientCachedChunks(cachedChunks);
         channelHandlerContext.getPipeline().remove(this);
         serverHandler.connectionComplete(client);
     }
@@ -82,7 +82,8 @@ public class ServerImpl implements Server {
 
     private NetworkSystemImpl networkSystem;
     private Channel channel;
-    private NetMetricSource metricsSource;
+    private MetricRecordingHandler metricsSource;
+    private int replicatedEntities;
     private BlockingQueue<NetData.NetMessage> queuedMessages = Queues.newLinkedBlockingQueue();
     private List<NetData.EventMessage> queuedOutgoingEvents = Lists.newArrayList();
     private NetData.ServerInfoMessage serverInfo;
@@ -106,7 +107,7 @@ public class ServerImpl implements Server {
 
     public ServerImpl(NetworkSystemImpl system, Channel channel) {
         this.channel = channel;
-        metricsSource = (NetMetricSource) channel.getPipeline().get(MetricRecordingHandler.NAME);
+        metricsSource = (MetricRecordingHandler) channel.getPipeline().get(MetricRecordingHandler.NAME);
         this.networkSystem = system;
         this.time = (EngineTime) CoreRegistry.get(Time.class);
     }
@@ -270,6 +271,7 @@ private void processMessages() {
             processBiomeChanges(message);
             processRemoveEntities(message);
             message.getCreateEntityList().forEach(this::createEntityMessage);
+            recordEntityMetrics(message);
             message.getUpdateEntityList().forEach(this::updateEntity);
             for (NetData.EventMessage event : message.getEventList()) {
                 try {
@@ -281,6 +283,13 @@ private void processMessages() {
         }
     }
 
+    private void recordEntityMetrics(NetData.NetMessage message) {
+        metricsSource.recordAddedEntities(message.getCreateEntityCount());
+        metricsSource.recordRemovedEntities(message.getRemoveEntityCount());
+        replicatedEntities += message.getCreateEntityCount() - message.getRemoveEntityCount();
+        metricsSource.setReplicatedEntities(replicatedEntities);
+    }
+
     private void processRemoveEntities(NetData.NetMessage message) {
         for (NetData.RemoveEntityMessage removeEntity : message.getRemoveEntityList()) {
             int netId = removeEntity.getNetId();
@@ -300,6 +309,7 @@ private void processBlockChanges(NetData.NetMessage message) {
             // TODO: Store changes to blocks that aren't ready to be modified (the surrounding chunks aren't available)
             WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
             Vector3i pos = NetMessageUtil.convert(blockChange.getPos());
+            networkSystem.getChunkCache().invalidate(ChunkMath.calcChunkPos(pos));
             if (worldProvider.isBlockRelevant(pos)) {
                 worldProvider.setBlock(pos, newBlock);
             } else {
@@ -314,6 +324,7 @@ private void processBiomeChanges(NetData.NetMessage message) {
             // TODO: Store changes to blocks that aren't ready to be modified (the surrounding chunks aren't available)
             WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
             Vector3i pos = NetMessageUtil.convert(biomeChange.getPos());
+            networkSystem.getChunkCache().invalidate(ChunkMath.calcChunkPos(pos));
             if (worldProvider.isBlockRelevant(pos)) {
                 Biome newBiome = biomeManager.getBiomeByShortId((short) biomeChange.getNewBiome());
                 worldProvider.setBiome(pos, newBiome);
@@ -333,10 +344,21 @@ private void processInvalidatedChunks(NetData.NetMessage message) {
     }
 
     private void processReceivedChunks(NetData.NetMessage message) {
+        ChunkCache chunkCache = networkSystem.getChunkCache();
         for (EntityData.ChunkStore chunkInfo : message.getChunkInfoList()) {
+            chunkCache.put(new Vector3i(chunkInfo.getX(), chunkInfo.getY(), chunkInfo.getZ()), chunkInfo);
             Chunk chunk = ChunkSerializer.decode(chunkInfo, blockManager, biomeManager);
             chunkQueue.offer(chunk);
         }
+        for (NetData.Vector3iData cachedChunkPos : message.getCachedChunkList()) {
+            Vector3i pos = NetMessageUtil.convert(cachedChunkPos);
+            EntityData.ChunkStore chunkInfo = chunkCache.use(pos);
+            if (chunkInfo == null) {
+                logger.error("Server referred to chunk {} which is not cached", pos);
+            } else {
+                chunkQueue.offer(ChunkSerializer.decode(chunkInfo, blockManager, biomeManager));
+            }
+        }
     }
 
     private void processBlockRegistrations(NetData.NetMessage message) {
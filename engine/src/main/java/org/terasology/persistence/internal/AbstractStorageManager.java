@@ -37,7 +37,6 @@
 import org.terasology.world.chunks.Chunk;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.FileSystem;
@@ -46,7 +45,6 @@
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
 
 /**
  * An abstract implementation of {@link StorageManager} that is able
@@ -66,31 +64,77 @@ public abstract class AbstractStorageManager implements StorageManager {
     private final PrefabSerializer prefabSerializer;
     private final OwnershipHelper helper;
 
-    private boolean storeChunksInZips = true;
+    private final ChunkRegionStore chunkRegionStore;
+
+    private ChunkStorageFormat chunkStorageFormat;
 
     public AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                   BlockManager blockManager, BiomeManager biomeManager, boolean storeChunksInZips) {
+        this(savePath, environment, entityManager, blockManager, biomeManager,
+                ChunkStorageFormat.fromStoreChunksInZips(storeChunksInZips));
+    }
+
+    public AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                  BlockManager blockManager, BiomeManager biomeManager,
+                                  ChunkStorageFormat chunkStorageFormat) {
         this.entityManager = entityManager;
         this.environment = environment;
-        this.storeChunksInZips = storeChunksInZips;
         this.prefabSerializer = new PrefabSerializer(entityManager.getComponentLibrary(), entityManager.getTypeSerializerLibrary());
         this.blockManager = blockManager;
         this.biomeManager = biomeManager;
 
         this.storagePathProvider = new StoragePathProvider(savePath);
+        this.chunkRegionStore = new ChunkRegionStore(storagePathProvider);
+        this.chunkStorageFormat = resolveChunkStorageFormat(chunkStorageFormat);
         this.helper = new OwnershipHelper(entityManager.getComponentLibrary());
     }
 
+    /**
+     * Worlds whose chunks are already in region files keep using them. The other formats can't read region files, so
+     * switching away from them would make every stored chunk disappear.
+     */
+    private ChunkStorageFormat resolveChunkStorageFormat(ChunkStorageFormat requestedFormat) {
+        if (requestedFormat == ChunkStorageFormat.REGION_FILES) {
+            return requestedFormat;
+        }
+        try {
+            if (storagePathProvider.hasChunkRegionFiles()) {
+                logger.warn("The chunks of {} are stored in region files, keeping them instead of switching to {}",
+                        storagePathProvider.getWorldPath(), requestedFormat);
+                return ChunkStorageFormat.REGION_FILES;
+            }
+        } catch (IOException e) {
+            logger.error("Failed to check for chunk region files in {}", storagePathProvider.getWorldPath(), e);
+        }
+        return requestedFormat;
+    }
+
     @Override
     public void loadGlobalStore() throws IOException {
+        List<EntityData.GlobalStore> stores = Lists.newArrayList();
         Path globalDataFile = storagePathProvider.getGlobalEntityStorePath();
+        long compactedSequence = -1;
         if (Files.isRegularFile(globalDataFile)) {
-            try (InputStream in = new BufferedInputStream(Files.newInputStream(globalDataFile))) {
-                EntityData.GlobalStore store = EntityData.GlobalStore.parseFrom(in);
-                GlobalStoreLoader loader = new GlobalStoreLoader(environment, entityManager, prefabSerializer);
-                loader.load(store);
+            EntityData.GlobalStore store = readGlobalStore(globalDataFile);
+            compactedSequence = store.getLogSequence();
+            stores.add(store);
+        }
+        // Entries of the global store log that are newer than the global store itself
+        for (long sequence : storagePathProvider.listGlobalEntityStoreLogSequences()) {
+            if (sequence > compactedSequence) {
+                stores.add(readGlobalStore(storagePathProvider.getGlobalEntityStoreLogPath(sequence)));
             }
         }
+        if (!stores.isEmpty()) {
+            GlobalStoreLoader loader = new GlobalStoreLoader(environment, entityManager, prefabSerializer);
+            loader.load(stores);
+        }
+    }
+
+    private static EntityData.GlobalStore readGlobalStore(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return EntityData.GlobalStore.parseFrom(in);
+        }
     }
 
     @Override
@@ -107,9 +151,10 @@ public ChunkStore loadChunkStore(Vector3i chunkPos) {
         byte[] chunkData = loadCompressedChunk(chunkPos);
         ChunkStore store = null;
         if (chunkData != null) {
-            ByteArrayInputStream bais = new ByteArrayInputStream(chunkData);
-            try (GZIPInputStream gzipIn = new GZIPInputStream(bais)) {
-                EntityData.ChunkStore storeData = EntityData.ChunkStore.parseFrom(gzipIn);
+            try {
+                // chunks were always compressed with gzip before the codec got recorded
+                byte[] encodedStore = StoreCompression.decode(chunkData, StoreCompression.GZIP);
+                EntityData.ChunkStore storeData = EntityData.ChunkStore.parseFrom(encodedStore);
                 store = new ChunkStoreInternal(storeData, entityManager, blockManager, biomeManager);
             } catch (IOException e) {
                 logger.error("Failed to read existing saved chunk {}", chunkPos);
@@ -118,6 +163,31 @@ public ChunkStore loadChunkStore(Vector3i chunkPos) {
         return store;
     }
 
+    /**
+     * @return whether a chunk has been stored at the position, checked without reading and decoding the chunk.
+     */
+    public boolean isChunkStored(Vector3i chunkPos) {
+        if (chunkStorageFormat == ChunkStorageFormat.REGION_FILES) {
+            try {
+                return chunkRegionStore.contains(chunkPos);
+            } catch (IOException e) {
+                logger.error("Failed to look up chunk {}", chunkPos, e);
+            }
+        } else if (isStoreChunksInZips()) {
+            Path chunkPath = storagePathProvider.getChunkZipPath(storagePathProvider.getChunkZipPosition(chunkPos));
+            if (Files.isRegularFile(chunkPath)) {
+                try (FileSystem chunkZip = FileSystems.newFileSystem(chunkPath, null)) {
+                    return Files.isRegularFile(chunkZip.getPath(storagePathProvider.getChunkFilename(chunkPos)));
+                } catch (IOException e) {
+                    logger.error("Failed to look up chunk {} in {}", chunkPos, chunkPath, e);
+                }
+            }
+        } else {
+            return Files.isRegularFile(storagePathProvider.getChunkPath(chunkPos));
+        }
+        return false;
+    }
+
     protected byte[] loadChunkZip(Vector3i chunkPos) {
         byte[] chunkData = null;
         Vector3i chunkZipPos = storagePathProvider.getChunkZipPosition(chunkPos);
@@ -140,18 +210,50 @@ public void update() {
     }
 
     public boolean isStoreChunksInZips() {
-        return storeChunksInZips;
+        return chunkStorageFormat == ChunkStorageFormat.CHUNK_ZIPS;
+    }
+
+    public ChunkStorageFormat getChunkStorageFormat() {
+        return chunkStorageFormat;
     }
 
     /**
      * For tests only
      */
     void setStoreChunksInZips(boolean storeChunksInZips) {
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageFormat = ChunkStorageFormat.fromStoreChunksInZips(storeChunksInZips);
+    }
+
+    /**
+     * For tests only
+     */
+    void setChunkStorageFormat(ChunkStorageFormat chunkStorageFormat) {
+        this.chunkStorageFormat = chunkStorageFormat;
+    }
+
+    /**
+     * @return the store for the region files of the world. Only in use with {@link ChunkStorageFormat#REGION_FILES}.
+     */
+    protected ChunkRegionStore getChunkRegionStore() {
+        return chunkRegionStore;
+    }
+
+    protected void closeChunkRegionFiles() {
+        try {
+            chunkRegionStore.close();
+        } catch (IOException e) {
+            logger.error("Failed to close chunk region files", e);
+        }
     }
 
     protected byte[] loadCompressedChunk(Vector3i chunkPos) {
-        if (isStoreChunksInZips()) {
+        if (chunkStorageFormat == ChunkStorageFormat.REGION_FILES) {
+            try {
+                return chunkRegionStore.read(chunkPos);
+            } catch (IOException e) {
+                logger.error("Failed to load chunk {}", chunkPos, e);
+            }
+        } else if (isStoreChunksInZips()) {
             return loadChunkZip(chunkPos);
         } else {
             Path chunkPath = storagePathProvider.getChunkPath(chunkPos);
@@ -170,8 +272,10 @@ protected byte[] loadCompressedChunk(Vector3i chunkPos) {
     protected EntityData.PlayerStore loadPlayerStoreData(String playerId) {
         Path storePath = storagePathProvider.getPlayerFilePath(playerId);
         if (Files.isRegularFile(storePath)) {
-            try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(storePath))) {
-                return EntityData.PlayerStore.parseFrom(inputStream);
+            try {
+                // player stores weren't compressed before the codec got recorded
+                byte[] encodedStore = StoreCompression.decode(Files.readAllBytes(storePath), StoreCompression.NONE);
+                return EntityData.PlayerStore.parseFrom(encodedStore);
             } catch (IOException e) {
                 logger.error("Failed to load player data for {}", playerId, e);
             }
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Stores the encoded chunks of one region in fixed slots of a single file.
+ * <br><br>
+ * The file consists of 4 KiB sectors. The first sector holds a small header, the following sectors an index with one
+ * 8 byte entry per slot (first sector and byte length of the chunk record). The index is memory mapped, so looking up
+ * a chunk costs no system call. Each chunk record starts with its length and a CRC32 of the data.
+ * <br><br>
+ * Records are never overwritten in place: a changed chunk gets written into free sectors first, the data gets forced
+ * to disk and only then does the index entry get switched over to the new record. An interrupted write thus leaves
+ * either the old or the new chunk, never a mix of both. Sectors that are not referenced by the index are free and
+ * get reused by later writes.
+ */
+final class ChunkRegionFile implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRegionFile.class);
+
+    private static final int MAGIC = 0x54524731;
+    private static final int VERSION = 1;
+    private static final int SECTOR_SIZE = 4096;
+    private static final int ENTRY_SIZE = Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Path path;
+    private final int slotCount;
+    private final int firstDataSector;
+    private final FileChannel channel;
+    private final MappedByteBuffer index;
+    private final BitSet usedSectors = new BitSet();
+    private boolean closed;
+
+    private ChunkRegionFile(Path path, int slotCount) throws IOException {
+        this.path = path;
+        this.slotCount = slotCount;
+        int indexSize = slotCount * ENTRY_SIZE;
+        this.firstDataSector = 1 + (indexSize + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        try {
+            if (channel.size() == 0) {
+                writeHeader();
+            } else {
+                checkHeader();
+            }
+            this.index = channel.map(FileChannel.MapMode.READ_WRITE, SECTOR_SIZE, indexSize);
+            collectUsedSectors();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the region file at the given path, creating it if it does not exist yet.
+     *
+     * @param slotCount the number of chunks the region can hold. Must be the same every time the file gets opened.
+     */
+    static ChunkRegionFile open(Path path, int slotCount) throws IOException {
+        return new ChunkRegionFile(path, slotCount);
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(3 * Integer.BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(slotCount).flip();
+        writeFully(header, 0);
+        // Extend the file over the whole index, so that all of it can be mapped
+        writeFully(ByteBuffer.allocate(1), (long) firstDataSector * SECTOR_SIZE - 1);
+        channel.force(true);
+    }
+
+    private void checkHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(3 * Integer.BYTES);
+        readFully(header, 0);
+        header.flip();
+        int magic = header.getInt();
+        int version = header.getInt();
+        int storedSlotCount = header.getInt();
+        if (magic != MAGIC || version != VERSION || storedSlotCount != slotCount) {
+            throw new IOException("Not a chunk region file of the expected format: " + path);
+        }
+        if (channel.size() < (long) firstDataSector * SECTOR_SIZE) {
+            throw new IOException("Truncated chunk region file: " + path);
+        }
+    }
+
+    private void collectUsedSectors() throws IOException {
+        long sectorsInFile = (channel.size() + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        usedSectors.set(0, firstDataSector);
+        for (int slot = 0; slot < slotCount; slot++) {
+            long entry = index.getLong(slot * ENTRY_SIZE);
+            if (entry == 0) {
+                continue;
+            }
+            int sector = sectorOf(entry);
+            int sectors = sectorsFor(lengthOf(entry));
+            if (sector < firstDataSector || sector + sectors > sectorsInFile) {
+                logger.warn("Dropping invalid index entry for slot {} of {}", slot, path);
+                index.putLong(slot * ENTRY_SIZE, 0);
+            } else {
+                usedSectors.set(sector, sector + sectors);
+            }
+        }
+    }
+
+    /**
+     * @return whether data is stored in the slot, without reading it.
+     */
+    synchronized boolean contains(int slot) {
+        checkOpen();
+        return index.getLong(slot * ENTRY_SIZE) != 0;
+    }
+
+    /**
+     * @return the data stored in the slot or null if the slot is empty.
+     * @throws IOException if the record can't be read or does not match its checksum.
+     */
+    synchronized byte[] read(int slot) throws IOException {
+        checkOpen();
+        long entry = index.getLong(slot * ENTRY_SIZE);
+        if (entry == 0) {
+            return null;
+        }
+        int length = lengthOf(entry);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+        readFully(record, (long) sectorOf(entry) * SECTOR_SIZE);
+        record.flip();
+        int storedLength = record.getInt();
+        int storedChecksum = record.getInt();
+        byte[] data = new byte[length];
+        record.get(data);
+        if (storedLength != length || storedChecksum != checksum(data)) {
+            throw new IOException("Corrupt record in slot " + slot + " of " + path);
+        }
+        return data;
+    }
+
+    synchronized void write(int slot, byte[] data) throws IOException {
+        writeAll(Collections.singletonMap(slot, data));
+    }
+
+    /**
+     * Writes multiple slots with a single pair of forced disk writes.
+     */
+    synchronized void writeAll(Map<Integer, byte[]> dataBySlot) throws IOException {
+        checkOpen();
+        if (dataBySlot.isEmpty()) {
+            return;
+        }
+        Map<Integer, Long> newEntries = Maps.newHashMapWithExpectedSize(dataBySlot.size());
+        try {
+            for (Map.Entry<Integer, byte[]> entry : dataBySlot.entrySet()) {
+                byte[] data = entry.getValue();
+                long newEntry = ((long) allocate(sectorsFor(data.length)) << 32) | (data.length & 0xFFFFFFFFL);
+                newEntries.put(entry.getKey(), newEntry);
+                writeRecord(newEntry, data);
+            }
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            // The index still references the old records, so the new ones can simply be dropped
+            for (long newEntry : newEntries.values()) {
+                release(newEntry);
+            }
+            throw e;
+        }
+        commit(newEntries);
+    }
+
+    private void writeRecord(long entry, byte[] data) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + data.length);
+        record.putInt(data.length).putInt(checksum(data)).put(data).flip();
+        writeFully(record, (long) sectorOf(entry) * SECTOR_SIZE);
+    }
+
+    private void release(long entry) {
+        int sector = sectorOf(entry);
+        usedSectors.clear(sector, sector + sectorsFor(lengthOf(entry)));
+    }
+
+    /**
+     * Points the index to the durable records and releases the sectors of the replaced records.
+     */
+    private void commit(Map<Integer, Long> newEntries) throws IOException {
+        long[] oldEntries = new long[newEntries.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Long> entry : newEntries.entrySet()) {
+            int position = entry.getKey() * ENTRY_SIZE;
+            oldEntries[i++] = index.getLong(position);
+            index.putLong(position, entry.getValue());
+        }
+        index.force();
+        for (long oldEntry : oldEntries) {
+            if (oldEntry != 0) {
+                release(oldEntry);
+            }
+        }
+    }
+
+    /**
+     * Finds the first run of free sectors that is long enough. Sectors behind the end of the file are always free.
+     */
+    private int allocate(int sectors) {
+        int start = usedSectors.nextClearBit(firstDataSector);
+        int nextUsed = usedSectors.nextSetBit(start);
+        while (nextUsed != -1 && nextUsed - start < sectors) {
+            start = usedSectors.nextClearBit(nextUsed);
+            nextUsed = usedSectors.nextSetBit(start);
+        }
+        usedSectors.set(start, start + sectors);
+        return start;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of " + path);
+            }
+            offset += read;
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    private static int sectorOf(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int lengthOf(long entry) {
+        return (int) entry;
+    }
+
+    private static int sectorsFor(int length) {
+        return (RECORD_HEADER_SIZE + length + SECTOR_SIZE - 1) / SECTOR_SIZE;
+    }
+
+    private static int checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Chunk region file is closed: " + path);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            index.force();
+        } finally {
+            try {
+                channel.close();
+            } finally {
+                unmap(index);
+            }
+        }
+    }
+
+    /**
+     * Releases the mapping right away instead of when the buffer gets garbage collected. Some platforms, notably
+     * Windows, keep a mapped file locked, so it couldn't be deleted or replaced after closing otherwise. The buffer must
+     * not be used afterwards.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Unable to unmap the index buffer, it gets released once garbage collected", e);
+        }
+    }
+}
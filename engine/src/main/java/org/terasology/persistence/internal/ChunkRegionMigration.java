@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.math.geom.Vector3i;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves the chunks of a save game from the chunk zip (or single chunk file) layout into region files.
+ * <br><br>
+ * The chunks of each zip get committed to the region files before the zip gets deleted, so an interrupted migration
+ * can simply be started again.
+ */
+public final class ChunkRegionMigration {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRegionMigration.class);
+
+    private ChunkRegionMigration() {
+    }
+
+    /**
+     * Migrates the main world of a save game.
+     *
+     * @return the number of migrated chunks.
+     */
+    public static int migrate(StoragePathProvider storagePathProvider, ChunkRegionStore regionStore) throws IOException {
+        Path worldPath = storagePathProvider.getWorldPath();
+        if (!Files.isDirectory(worldPath)) {
+            return 0;
+        }
+        int migratedChunks = 0;
+        for (Path chunkZipPath : listFiles(worldPath, "*.chunks.zip")) {
+            try (FileSystem chunkZip = FileSystems.newFileSystem(chunkZipPath, null)) {
+                for (Path root : chunkZip.getRootDirectories()) {
+                    migratedChunks += migrateChunkFiles(listFiles(root, "*.chunk"), storagePathProvider, regionStore);
+                }
+            }
+            Files.delete(chunkZipPath);
+        }
+        List<Path> chunkFiles = listFiles(worldPath, "*.chunk");
+        migratedChunks += migrateChunkFiles(chunkFiles, storagePathProvider, regionStore);
+        for (Path chunkFile : chunkFiles) {
+            Files.delete(chunkFile);
+        }
+        if (migratedChunks > 0) {
+            logger.info("Migrated {} chunks of {} to region files", migratedChunks, worldPath);
+        }
+        return migratedChunks;
+    }
+
+    /**
+     * Writes the given chunk files into the region store, committing each region once.
+     *
+     * @return the number of written chunks.
+     */
+    static int migrateChunkFiles(List<Path> chunkFiles, StoragePathProvider storagePathProvider,
+                                 ChunkRegionStore regionStore) throws IOException {
+        Map<Vector3i, Map<Vector3i, Path>> filesByRegion = Maps.newHashMap();
+        for (Path chunkFile : chunkFiles) {
+            Vector3i chunkPos = storagePathProvider.getChunkPositionFromFilename(chunkFile.getFileName().toString());
+            if (chunkPos == null) {
+                logger.warn("Skipping file with unexpected name {}", chunkFile);
+                continue;
+            }
+            filesByRegion.computeIfAbsent(storagePathProvider.getChunkRegionPosition(chunkPos), k -> Maps.newHashMap())
+                    .put(chunkPos, chunkFile);
+        }
+        int writtenChunks = 0;
+        for (Map.Entry<Vector3i, Map<Vector3i, Path>> region : filesByRegion.entrySet()) {
+            Map<Vector3i, byte[]> encodedChunks = Maps.newHashMap();
+            for (Map.Entry<Vector3i, Path> chunkFile : region.getValue().entrySet()) {
+                encodedChunks.put(chunkFile.getKey(), Files.readAllBytes(chunkFile.getValue()));
+            }
+            regionStore.writeRegion(region.getKey(), encodedChunks);
+            writtenChunks += encodedChunks.size();
+        }
+        return writtenChunks;
+    }
+
+    private static List<Path> listFiles(Path directory, String glob) throws IOException {
+        List<Path> result = Lists.newArrayList();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path path : stream) {
+                if (Files.isRegularFile(path)) {
+                    result.add(path);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Migrates the save game in the directory given as only argument. The game must not be running on that save.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ChunkRegionMigration <save game directory>");
+            System.exit(1);
+        }
+        StoragePathProvider storagePathProvider = new StoragePathProvider(Paths.get(args[0]));
+        try (ChunkRegionStore regionStore = new ChunkRegionStore(storagePathProvider)) {
+            int migratedChunks = migrate(storagePathProvider, regionStore);
+            System.out.println("Migrated " + migratedChunks + " chunks");
+        }
+    }
+}
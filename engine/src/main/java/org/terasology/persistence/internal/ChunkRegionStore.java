@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Maps;
+import org.terasology.math.geom.Vector3i;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Reads and writes the chunks of a world through {@link ChunkRegionFile}s, keeping the region files open between
+ * accesses. Region files get created by the first write into them.
+ */
+public class ChunkRegionStore implements Closeable {
+    private final StoragePathProvider storagePathProvider;
+    private final Map<Vector3i, ChunkRegionFile> openRegions = Maps.newHashMap();
+
+    public ChunkRegionStore(StoragePathProvider storagePathProvider) {
+        this.storagePathProvider = storagePathProvider;
+    }
+
+    /**
+     * @return the encoded chunk or null if the chunk has not been stored yet.
+     */
+    public byte[] read(Vector3i chunkPos) throws IOException {
+        ChunkRegionFile region = getRegion(storagePathProvider.getChunkRegionPosition(chunkPos), false);
+        if (region == null) {
+            return null;
+        }
+        return region.read(storagePathProvider.getChunkRegionSlot(chunkPos));
+    }
+
+    /**
+     * @return whether the chunk has been stored, without reading it.
+     */
+    public boolean contains(Vector3i chunkPos) throws IOException {
+        ChunkRegionFile region = getRegion(storagePathProvider.getChunkRegionPosition(chunkPos), false);
+        return region != null && region.contains(storagePathProvider.getChunkRegionSlot(chunkPos));
+    }
+
+    public void write(Vector3i chunkPos, byte[] encodedChunk) throws IOException {
+        ChunkRegionFile region = getRegion(storagePathProvider.getChunkRegionPosition(chunkPos), true);
+        region.write(storagePathProvider.getChunkRegionSlot(chunkPos), encodedChunk);
+    }
+
+    /**
+     * Writes the given chunks, which must all be in the same region, with a single commit of the region file.
+     */
+    public void writeRegion(Vector3i chunkRegionPos, Map<Vector3i, byte[]> encodedChunks) throws IOException {
+        Map<Integer, byte[]> dataBySlot = Maps.newHashMapWithExpectedSize(encodedChunks.size());
+        for (Map.Entry<Vector3i, byte[]> entry : encodedChunks.entrySet()) {
+            if (!storagePathProvider.getChunkRegionPosition(entry.getKey()).equals(chunkRegionPos)) {
+                throw new IllegalArgumentException("Chunk " + entry.getKey() + " is not in region " + chunkRegionPos);
+            }
+            dataBySlot.put(storagePathProvider.getChunkRegionSlot(entry.getKey()), entry.getValue());
+        }
+        getRegion(chunkRegionPos, true).writeAll(dataBySlot);
+    }
+
+    private synchronized ChunkRegionFile getRegion(Vector3i chunkRegionPos, boolean create) throws IOException {
+        ChunkRegionFile region = openRegions.get(chunkRegionPos);
+        if (region == null) {
+            Path path = storagePathProvider.getChunkRegionPath(chunkRegionPos);
+            if (!create && !Files.isRegularFile(path)) {
+                return null;
+            }
+            Files.createDirectories(path.getParent());
+            region = ChunkRegionFile.open(path, storagePathProvider.getChunkRegionSlotCount());
+            openRegions.put(new Vector3i(chunkRegionPos), region);
+        }
+        return region;
+    }
+
+    /**
+     * Closes all open region files. The store can still be used afterwards and reopens the files on demand.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        IOException firstException = null;
+        for (ChunkRegionFile region : openRegions.values()) {
+            try {
+                region.close();
+            } catch (IOException e) {
+                if (firstException == null) {
+                    firstException = e;
+                }
+            }
+        }
+        openRegions.clear();
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+/**
+ * The on-disk layouts a {@link AbstractStorageManager} can use for the chunks of a world.
+ */
+public enum ChunkStorageFormat {
+    /**
+     * One file per chunk.
+     */
+    CHUNK_FILES,
+    /**
+     * One zip file per region of chunks. Every save rewrites the complete zip of a region with a changed chunk.
+     */
+    CHUNK_ZIPS,
+    /**
+     * One {@link ChunkRegionFile} per region of chunks. Changed chunks get updated in place.
+     */
+    REGION_FILES;
+
+    public static ChunkStorageFormat fromStoreChunksInZips(boolean storeChunksInZips) {
+        return storeChunksInZips ? CHUNK_ZIPS : CHUNK_FILES;
+    }
+}
@@ -22,6 +22,7 @@
 import org.terasology.world.biomes.BiomeManager;
 import org.terasology.world.block.BlockManager;
 import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.internal.ChunkImpl;
 import org.terasology.world.chunks.internal.ChunkSerializer;
 
 /**
@@ -41,6 +42,10 @@ final class ChunkStoreInternal implements ChunkStore {
 
         this.chunk = ChunkSerializer.decode(chunkData, blockManager, biomeManager);
         this.entityStore = chunkData.getStore();
+        if (chunk instanceof ChunkImpl) {
+            ChunkImpl chunkImpl = (ChunkImpl) chunk;
+            chunkImpl.markSaved(chunkImpl.getDataVersion(), CompressedChunkBuilder.checksumOf(entityStore), null);
+        }
     }
 
     @Override
@@ -15,16 +15,16 @@
  */
 package org.terasology.persistence.internal;
 
+import com.google.common.hash.Hashing;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.protobuf.EntityData;
 import org.terasology.world.chunks.internal.ChunkImpl;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Provides an easy to get a compressed version of a chunk. Either the chunk most have a snapshot of it's state
@@ -37,6 +37,10 @@ public class CompressedChunkBuilder {
     private boolean viaSnapshot;
     private byte[] result;
     private Set<EntityRef> storedEntities;
+    private TLongSet storedEntityIds;
+    private int dataVersion;
+    private long entityStoreChecksum;
+    private StoreCompression compression;
 
     /**
      *
@@ -44,18 +48,35 @@ public class CompressedChunkBuilder {
      * @param chunkUnloaded if true the chunk data will be used directly.  If deactivate is false then the chunk will be
      *                      but in snapshot mode so that concurrent modifications (and possibly future unload) is
      *                      possible.
+     * @param compression the codec to compress the encoded chunk with.
      */
     public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk,
                                   Collection<EntityRef> entitiesToSave,
-                                  boolean chunkUnloaded) {
+                                  boolean chunkUnloaded, StoreCompression compression) {
+        this(entityManager, chunk, chunk.getDataVersion(), entitiesToSave, chunkUnloaded, compression);
+    }
+
+    /**
+     * @param dataVersion the {@link ChunkImpl#getDataVersion()} of the chunk, obtained by the thread modifying it.
+     *                    No snapshot is taken of a loaded chunk whose state is already saved, as it doesn't need
+     *                    to be encoded.
+     */
+    public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk, int dataVersion,
+                                  Collection<EntityRef> entitiesToSave,
+                                  boolean chunkUnloaded, StoreCompression compression) {
         EntityStorer storer = new EntityStorer(entityManager);
         entitiesToSave.stream().filter(EntityRef::isPersistent).forEach(storer::store);
         storedEntities = storer.getStoredEntities();
+        storedEntityIds = new TLongHashSet(storedEntities.size());
+        storedEntities.forEach(entity -> storedEntityIds.add(entity.getId()));
         this.entityStore = storer.finaliseStore();
+        this.entityStoreChecksum = checksumOf(entityStore);
+        this.dataVersion = dataVersion;
 
         this.chunk = chunk;
         this.viaSnapshot = !chunkUnloaded;
-        if (viaSnapshot) {
+        this.compression = compression;
+        if (viaSnapshot && !isSaved()) {
             this.chunk.createSnapshot();
         }
     }
@@ -65,11 +86,35 @@ public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk
      * @param entityStore encoded entities to be stored.
      * @param chunk       chunk for which {@link ChunkImpl#createSnapshot()} has been called.
      * @param viaSnapshot specifies if the previously taken snapshot will be encoded or if
+     * @param compression the codec to compress the encoded chunk with.
      */
-    public CompressedChunkBuilder(EntityData.EntityStore entityStore, ChunkImpl chunk, boolean viaSnapshot) {
+    public CompressedChunkBuilder(EntityData.EntityStore entityStore, ChunkImpl chunk, boolean viaSnapshot,
+                                  StoreCompression compression) {
         this.entityStore = entityStore;
+        this.entityStoreChecksum = checksumOf(entityStore);
+        this.dataVersion = chunk.getDataVersion();
         this.chunk = chunk;
         this.viaSnapshot = viaSnapshot;
+        this.compression = compression;
+    }
+
+    static long checksumOf(EntityData.EntityStore entityStore) {
+        return Hashing.murmur3_128().hashBytes(entityStore.toByteArray()).asLong();
+    }
+
+    /**
+     * @return true if the chunk data and the entities to store equal the ones last written to the save game, so
+     * there is no need to write the chunk again.
+     */
+    public boolean isSaved() {
+        return chunk.isSaved(dataVersion, entityStoreChecksum);
+    }
+
+    /**
+     * Records that the chunk data and entities of this builder got written to the save game.
+     */
+    public void markSaved() {
+        chunk.markSaved(dataVersion, entityStoreChecksum, storedEntityIds);
     }
 
     public synchronized byte[] buildEncodedChunk() {
@@ -83,22 +128,11 @@ public synchronized byte[] buildEncodedChunk() {
             }
             encoded.setStore(entityStore);
             EntityData.ChunkStore store = encoded.build();
-            result = compressChunkStore(store);
+            result = compression.encode(store);
         }
         return result;
     }
 
-    private byte[] compressChunkStore(EntityData.ChunkStore store) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
-            store.writeTo(gzipOut);
-        } catch (IOException e) {
-            // as no real IO is involved this should not happen
-            throw new RuntimeException(e);
-        }
-        return baos.toByteArray();
-    }
-
     public Set<EntityRef> getStoredEntities() {
         return storedEntities;
     }
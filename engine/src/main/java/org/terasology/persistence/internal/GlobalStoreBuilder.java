@@ -42,6 +42,16 @@ final class GlobalStoreBuilder {
     }
     
     public EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<EntityRef> entities) {
+        return build(entityManager, entities, new HashSet<>()).build();
+    }
+
+    /**
+     * @param storedPrefabs names of the prefabs that have already been stored and don't need to be added again. The
+     *                      names of the prefabs added by this method get added to it.
+     * @return a builder for the store of the given entities, to which further fields can be added.
+     */
+    public EntityData.GlobalStore.Builder build(EngineEntityManager entityManager, Iterable<EntityRef> entities,
+                                                Set<String> storedPrefabs) {
         EntityData.GlobalStore.Builder store = EntityData.GlobalStore.newBuilder();
 
         Map<Class<? extends Component>, Integer> componentIdTable = Maps.newHashMap();
@@ -62,7 +72,9 @@ public EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<
             }
         }
         for (Prefab prefab: prefabsRequiredForEntityStorage) {
-            store.addPrefab(prefabSerializer.serialize(prefab));
+            if (storedPrefabs.add(prefab.getName())) {
+                store.addPrefab(prefabSerializer.serialize(prefab));
+            }
         }
 
         EntitySerializer entitySerializer = new EntitySerializer(entityManager);
@@ -73,7 +85,11 @@ public EntityData.GlobalStore build(EngineEntityManager entityManager, Iterable<
             }
         }
         store.setNextEntityId(nextEntityId);
-        return store.build();
+        return store;
+    }
+
+    public long getNextEntityId() {
+        return nextEntityId;
     }
 
 
@@ -16,6 +16,8 @@
 package org.terasology.persistence.internal;
 
 import com.google.common.collect.Maps;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.utilities.Assets;
@@ -35,6 +37,8 @@
 import org.terasology.persistence.serializers.PrefabSerializer;
 import org.terasology.protobuf.EntityData;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -61,14 +65,38 @@ final class GlobalStoreLoader {
     }
 
     public void load(EntityData.GlobalStore globalStore) {
+        load(Collections.singletonList(globalStore));
+    }
+
+    /**
+     * Loads a global store followed by the entries of its log. An entity stored by a later entry replaces the one
+     * stored before, and the entities listed as removed by an entry don't get loaded.
+     */
+    public void load(List<EntityData.GlobalStore> globalStores) {
+        TLongObjectMap<EntityData.GlobalStore> latestStoreOfEntity = new TLongObjectHashMap<>();
+        long nextEntityId = 0;
+        for (EntityData.GlobalStore globalStore : globalStores) {
+            for (EntityData.Entity entityData : globalStore.getEntityList()) {
+                latestStoreOfEntity.put(entityData.getId(), globalStore);
+            }
+            for (long removedEntityId : globalStore.getRemovedEntityList()) {
+                latestStoreOfEntity.remove(removedEntityId);
+            }
+            nextEntityId = Math.max(nextEntityId, globalStore.getNextEntityId());
+        }
+
         entityManager.clear();
-        entityManager.setNextId(globalStore.getNextEntityId());
+        entityManager.setNextId(nextEntityId);
 
-        loadComponentMapping(globalStore);
-        loadMissingPrefabs(globalStore);
+        for (EntityData.GlobalStore globalStore : globalStores) {
+            loadComponentMapping(globalStore);
+            loadMissingPrefabs(globalStore);
 
-        for (EntityData.Entity entityData : globalStore.getEntityList()) {
-            entitySerializer.deserialize(entityData);
+            for (EntityData.Entity entityData : globalStore.getEntityList()) {
+                if (latestStoreOfEntity.get(entityData.getId()) == globalStore) {
+                    entitySerializer.deserialize(entityData);
+                }
+            }
         }
     }
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import com.google.common.collect.Sets;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.protobuf.EntityData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps track of what the global entity store of a save game contains, so that saves only need to write the global
+ * entities that changed.
+ * <br><br>
+ * A save appends an entry to the log of the global store, containing the global entities that changed or became
+ * global and the ids of those that are no longer global. The log gets compacted into the global store once it has
+ * grown larger than the store itself, as well as on the first save after the game got loaded. The global store
+ * records the sequence number of the last log entry it contains, so that older entries are ignored and deleted.
+ * <br><br>
+ * Instances are shared by the consecutive {@link SaveTransaction}s of a storage manager and must only be used by the
+ * thread running them.
+ */
+final class GlobalStoreLog {
+    private final StoragePathProvider storagePathProvider;
+
+    private boolean initialised;
+    private long sequence;
+    private TLongSet storedEntityIds = new TLongHashSet();
+    private Set<String> storedPrefabs = Sets.newHashSet();
+    private long storedNextEntityId;
+    private long storeBytes;
+    private long logBytes;
+
+    // State of the prepared but not yet committed save:
+    private boolean compacting;
+    private TLongSet preparedEntityIds;
+    private Set<String> preparedPrefabs;
+    private long preparedNextEntityId;
+
+    GlobalStoreLog(StoragePathProvider storagePathProvider) {
+        this.storagePathProvider = storagePathProvider;
+    }
+
+    /**
+     * Creates the global store or the log entry that needs to be written to store the given global entities.
+     *
+     * @param globalEntities   the persistent entities that are neither stored in a chunk nor with a player.
+     * @param changedEntityIds the entities that changed since the previous save.
+     * @return the global store, the log entry or null if nothing changed since the previous save.
+     */
+    EntityData.GlobalStore prepare(GlobalStoreBuilder builder, EngineEntityManager entityManager,
+                                   Collection<EntityRef> globalEntities, TLongSet changedEntityIds) throws IOException {
+        initialise();
+
+        preparedEntityIds = new TLongHashSet();
+        for (EntityRef entity : globalEntities) {
+            preparedEntityIds.add(entity.getId());
+        }
+        preparedNextEntityId = builder.getNextEntityId();
+
+        compacting = storeBytes == 0 || logBytes > storeBytes;
+        if (compacting) {
+            preparedPrefabs = Sets.newHashSet();
+            return builder.build(entityManager, globalEntities, preparedPrefabs)
+                    .setLogSequence(sequence)
+                    .build();
+        }
+
+        List<EntityRef> entitiesToStore = globalEntities.stream()
+                .filter(entity -> changedEntityIds.contains(entity.getId()) || !storedEntityIds.contains(entity.getId()))
+                .collect(Collectors.toList());
+        TLongSet removedEntityIds = new TLongHashSet(storedEntityIds);
+        removedEntityIds.removeAll(preparedEntityIds);
+        preparedPrefabs = Sets.newHashSet(storedPrefabs);
+        EntityData.GlobalStore.Builder entry = builder.build(entityManager, entitiesToStore, preparedPrefabs);
+        if (entitiesToStore.isEmpty() && removedEntityIds.isEmpty() && entry.getPrefabCount() == 0
+                && preparedNextEntityId == storedNextEntityId) {
+            return null;
+        }
+        removedEntityIds.forEach(id -> {
+            entry.addRemovedEntity(id);
+            return true;
+        });
+        return entry.setLogSequence(sequence + 1).build();
+    }
+
+    /**
+     * Creates the log entry that records only the next entity id, for saves that leave the global entities as they
+     * are stored.
+     *
+     * @return the log entry or null if the next entity id is already stored.
+     */
+    EntityData.GlobalStore prepareNextEntityId(long nextEntityId) throws IOException {
+        initialise();
+
+        preparedEntityIds = storedEntityIds;
+        preparedPrefabs = storedPrefabs;
+        preparedNextEntityId = nextEntityId;
+        compacting = false;
+        if (nextEntityId <= storedNextEntityId) {
+            return null;
+        }
+        return EntityData.GlobalStore.newBuilder()
+                .setNextEntityId(nextEntityId)
+                .setLogSequence(sequence + 1)
+                .build();
+    }
+
+    private void initialise() throws IOException {
+        if (!initialised) {
+            List<Long> existingSequences = storagePathProvider.listGlobalEntityStoreLogSequences();
+            if (!existingSequences.isEmpty()) {
+                sequence = existingSequences.get(existingSequences.size() - 1);
+            }
+            initialised = true;
+        }
+    }
+
+    /**
+     * @return true if the prepared store is a compacted global store, false if it is a log entry.
+     */
+    boolean isCompacting() {
+        return compacting;
+    }
+
+    /**
+     * Deletes the log entries contained in the compacted global store.
+     */
+    void deleteCompactedEntries() throws IOException {
+        for (long compactedSequence : storagePathProvider.listGlobalEntityStoreLogSequences()) {
+            if (compactedSequence <= sequence) {
+                Files.deleteIfExists(storagePathProvider.getGlobalEntityStoreLogPath(compactedSequence));
+            }
+        }
+    }
+
+    /**
+     * Records that the prepared store got written to the save game.
+     *
+     * @param store the store returned by {@link #prepare}, may be null.
+     */
+    void commit(EntityData.GlobalStore store) {
+        if (store != null) {
+            if (compacting) {
+                storeBytes = Math.max(store.getSerializedSize(), 1);
+                logBytes = 0;
+            } else {
+                sequence = store.getLogSequence();
+                logBytes += store.getSerializedSize();
+            }
+            storedPrefabs = preparedPrefabs;
+            storedNextEntityId = preparedNextEntityId;
+        }
+        storedEntityIds = preparedEntityIds;
+    }
+}
@@ -44,9 +44,15 @@ public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, Engi
         super(savePath, environment, entityManager, blockManager, biomeManager, storeChunksInZips);
     }
 
+    public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                  BlockManager blockManager, BiomeManager biomeManager,
+                                  ChunkStorageFormat chunkStorageFormat) {
+        super(savePath, environment, entityManager, blockManager, biomeManager, chunkStorageFormat);
+    }
+
     @Override
     public void finishSavingAndShutdown() {
-        // don't care
+        closeChunkRegionFiles();
     }
 
     @Override
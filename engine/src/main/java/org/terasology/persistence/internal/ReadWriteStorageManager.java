@@ -78,7 +78,6 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
     private static final Logger logger = LoggerFactory.getLogger(ReadWriteStorageManager.class);
 
     private final TaskMaster<Task> saveThreadManager;
-    private final SaveTransactionHelper saveTransactionHelper;
 
     /**
      * This lock should be hold during read and write operation in the world directory. Currently it is being hold
@@ -93,6 +92,8 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
     private final Lock worldDirectoryReadLock = worldDirectoryLock.readLock();
     private final Lock worldDirectoryWriteLock = worldDirectoryLock.writeLock();
     private SaveTransaction saveTransaction;
+    private GlobalStoreLog globalStoreLog;
+    private StoreCompression storeCompression = StoreCompression.GZIP;
     private Config config;
 
     /**
@@ -100,6 +101,8 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
      */
     private Long nextAutoSave;
     private boolean saveRequested;
+    private long writtenChunkBytes;
+
     private ConcurrentMap<Vector3i, CompressedChunkBuilder> unloadedAndUnsavedChunkMap = Maps.newConcurrentMap();
     private ConcurrentMap<Vector3i, CompressedChunkBuilder> unloadedAndSavingChunkMap = Maps.newConcurrentMap();
     private ConcurrentMap<String, EntityData.PlayerStore> unloadedAndUnsavedPlayerMap = Maps.newConcurrentMap();
@@ -121,15 +124,22 @@ public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, Eng
 
     public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                    BlockManager blockManager, BiomeManager biomeManager, boolean storeChunksInZips) throws IOException {
-        super(savePath, environment, entityManager, blockManager, biomeManager, storeChunksInZips);
+        this(savePath, environment, entityManager, blockManager, biomeManager,
+                ChunkStorageFormat.fromStoreChunksInZips(storeChunksInZips));
+    }
+
+    public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                   BlockManager blockManager, BiomeManager biomeManager,
+                                   ChunkStorageFormat chunkStorageFormat) throws IOException {
+        super(savePath, environment, entityManager, blockManager, biomeManager, chunkStorageFormat);
 
         entityManager.subscribeForDestruction(this);
         entityManager.subscribeForChanges(this);
         // TODO Ensure that the component library and the type serializer library are thread save (e.g. immutable)
         this.privateEntityManager = createPrivateEntityManager(entityManager.getComponentLibrary());
         Files.createDirectories(getStoragePathProvider().getStoragePathDirectory());
-        this.saveTransactionHelper = new SaveTransactionHelper(getStoragePathProvider());
         this.saveThreadManager = TaskMaster.createFIFOTaskMaster("Saving", 1);
+        this.globalStoreLog = new GlobalStoreLog(getStoragePathProvider());
         this.config = CoreRegistry.get(Config.class);
         this.entityRefReplacingComponentLibrary = privateEntityManager.getComponentLibrary()
                 .createCopyUsingCopyStrategy(EntityRef.class, new DelayedEntityRefCopyStrategy(this));
@@ -148,6 +158,7 @@ private static EngineEntityManager createPrivateEntityManager(ComponentLibrary c
     public void finishSavingAndShutdown() {
         saveThreadManager.shutdown(new ShutdownTask(), true);
         checkSaveTransactionAndClearUpIfItIsDone();
+        closeChunkRegionFiles();
     }
 
     private void checkSaveTransactionAndClearUpIfItIsDone() {
@@ -158,6 +169,8 @@ private void checkSaveTransactionAndClearUpIfItIsDone() {
                 if (t != null) {
                     throw new RuntimeException("Saving failed", t);
                 }
+                writtenChunkBytes += saveTransaction.getWrittenChunkBytes();
+                saveTransaction.markWrittenChunksSaved();
                 saveTransaction = null;
             }
             unloadedAndSavingChunkMap.clear();
@@ -199,6 +212,24 @@ protected EntityData.PlayerStore loadPlayerStoreData(String playerId) {
 
     private void addChunksToSaveTransaction(SaveTransactionBuilder saveTransactionBuilder,
                                             ChunkProvider chunkProvider) {
+        moveUnsavedChunksToSavingChunks();
+
+        chunkProvider.getAllChunks().stream().filter(ManagedChunk::isReady).forEach(chunk -> {
+            ChunkImpl chunkImpl = (ChunkImpl) chunk;  // this storage manager can only work with ChunkImpls
+            // If there is a newer undisposed version of the chunk,we don't need to save the disposed version:
+            if (unloadedAndSavingChunkMap.remove(chunk.getPosition()) != null) {
+                // The disposed version got never written, so the undisposed one must be even if unchanged
+                chunkImpl.markUnsaved();
+            }
+            saveTransactionBuilder.addLoadedChunk(chunk.getPosition(), chunkImpl);
+        });
+
+        for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : unloadedAndSavingChunkMap.entrySet()) {
+            saveTransactionBuilder.addUnloadedChunk(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void moveUnsavedChunksToSavingChunks() {
         unloadedAndSavingChunkMap.clear();
         /**
          * New entries might be added concurrently. By using putAll + clear to transfer entries we might loose new
@@ -211,17 +242,6 @@ private void addChunksToSaveTransaction(SaveTransactionBuilder saveTransactionBu
             unloadedAndSavingChunkMap.put(entry.getKey(), entry.getValue());
             unsavedEntryIterator.remove();
         }
-
-        chunkProvider.getAllChunks().stream().filter(ManagedChunk::isReady).forEach(chunk -> {
-            // If there is a newer undisposed version of the chunk,we don't need to save the disposed version:
-            unloadedAndSavingChunkMap.remove(chunk.getPosition());
-            ChunkImpl chunkImpl = (ChunkImpl) chunk;  // this storage manager can only work with ChunkImpls
-            saveTransactionBuilder.addLoadedChunk(chunk.getPosition(), chunkImpl);
-        });
-
-        for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : unloadedAndSavingChunkMap.entrySet()) {
-            saveTransactionBuilder.addUnloadedChunk(entry.getKey(), entry.getValue());
-        }
     }
 
     @Override
@@ -235,6 +255,28 @@ public void waitForCompletionOfPreviousSaveAndStartSaving() {
         startSaving();
     }
 
+    /**
+     * Waits for the previous save to complete and starts saving only the chunks that got unloaded since then, together
+     * with the next entity id. Unlike a full save it neither takes a snapshot of the loaded chunks, the players and
+     * the global entities nor notifies the component systems, so it is cheap enough to be used for many chunks that
+     * got stored without ever being loaded.
+     */
+    public void waitForCompletionOfPreviousSaveAndStartSavingUnloadedChunks() {
+        waitForCompletionOfPreviousSave();
+        // the changes of the entities stay recorded for the next full save
+        SaveTransactionBuilder saveTransactionBuilder = new SaveTransactionBuilder(privateEntityManager,
+                new EntitySetDeltaRecorder(entityRefReplacingComponentLibrary), getChunkStorageFormat(),
+                storeCompression, getStoragePathProvider(), getChunkRegionStore(), globalStoreLog,
+                worldDirectoryWriteLock);
+        moveUnsavedChunksToSavingChunks();
+        for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : unloadedAndSavingChunkMap.entrySet()) {
+            saveTransactionBuilder.addUnloadedChunk(entry.getKey(), entry.getValue());
+        }
+        saveTransactionBuilder.setUnloadedChunksOnly(new GlobalStoreBuilder(getEntityManager(), getPrefabSerializer()));
+        saveTransaction = saveTransactionBuilder.build();
+        saveThreadManager.offer(saveTransaction);
+    }
+
     private void waitForCompletionOfPreviousSave() {
         if (saveTransaction != null && saveTransaction.getResult() == null) {
             saveThreadManager.shutdown(new ShutdownTask(), true);
@@ -245,7 +287,8 @@ private void waitForCompletionOfPreviousSave() {
 
     private SaveTransaction createSaveTransaction() {
         SaveTransactionBuilder saveTransactionBuilder = new SaveTransactionBuilder(privateEntityManager,
-                entitySetDeltaRecorder, isStoreChunksInZips(), getStoragePathProvider(), worldDirectoryWriteLock);
+                entitySetDeltaRecorder, getChunkStorageFormat(), storeCompression, getStoragePathProvider(),
+                getChunkRegionStore(), globalStoreLog, worldDirectoryWriteLock);
 
         ChunkProvider chunkProvider = CoreRegistry.get(ChunkProvider.class);
         NetworkSystem networkSystem = CoreRegistry.get(NetworkSystem.class);
@@ -305,10 +348,22 @@ private PlayerStoreBuilder createPlayerStore(Client client, EntityRef character)
 
     @Override
     public void deactivateChunk(Chunk chunk) {
-        Collection<EntityRef> entitiesOfChunk = getEntitiesOfChunk(chunk);
+        deactivateChunk(chunk, getEntitiesOfChunk(chunk));
+    }
+
+    /**
+     * Stores a chunk together with the given entities instead of all the entities within it.
+     *
+     * @param entitiesOfChunk the entities to store with the chunk, they get deactivated or destroyed.
+     */
+    public void deactivateChunk(Chunk chunk, Collection<EntityRef> entitiesOfChunk) {
         ChunkImpl chunkImpl = (ChunkImpl) chunk; // storage manager only works with ChunkImpl
-        unloadedAndUnsavedChunkMap.put(chunk.getPosition(), new CompressedChunkBuilder(getEntityManager(), chunkImpl,
-                entitiesOfChunk, true));
+        CompressedChunkBuilder compressedChunkBuilder = new CompressedChunkBuilder(getEntityManager(), chunkImpl,
+                entitiesOfChunk, true, storeCompression);
+        // Chunks that did not change since they got loaded or saved don't need to be written again
+        if (!compressedChunkBuilder.isSaved()) {
+            unloadedAndUnsavedChunkMap.put(chunk.getPosition(), compressedChunkBuilder);
+        }
 
         entitiesOfChunk.forEach(this::deactivateOrDestroyEntityRecursive);
     }
@@ -332,6 +387,19 @@ protected byte[] loadCompressedChunk(Vector3i chunkPos) {
         }
     }
 
+    @Override
+    public boolean isChunkStored(Vector3i chunkPos) {
+        if (unloadedAndUnsavedChunkMap.containsKey(chunkPos) || unloadedAndSavingChunkMap.containsKey(chunkPos)) {
+            return true;
+        }
+        worldDirectoryReadLock.lock();
+        try {
+            return super.isChunkStored(chunkPos);
+        } finally {
+            worldDirectoryReadLock.unlock();
+        }
+    }
+
     @Override
     public void onEntityDestroyed(EntityRef entity) {
         entitySetDeltaRecorder.onEntityDestroyed(entity);
@@ -388,6 +456,7 @@ private boolean isRunModeAllowSaving() {
     }
 
     private void startSaving() {
+        long startTime = System.currentTimeMillis();
         logger.info("Saving - Creating game snapshot");
         PerformanceMonitor.startActivity("Auto Saving");
         ComponentSystemManager componentSystemManager = CoreRegistry.get(ComponentSystemManager.class);
@@ -405,7 +474,7 @@ private void startSaving() {
         scheduleNextAutoSave();
         PerformanceMonitor.endActivity();
         entitySetDeltaRecorder = new EntitySetDeltaRecorder(this.entityRefReplacingComponentLibrary);
-        logger.info("Saving - Snapshot created: Writing phase starts");
+        logger.info("Saving - Snapshot created in {}ms: Writing phase starts", System.currentTimeMillis() - startTime);
     }
 
 
@@ -432,6 +501,25 @@ private void scheduleNextAutoSave() {
         nextAutoSave = System.currentTimeMillis() + msBetweenAutoSave;
     }
 
+    /**
+     * @return the compressed size of the chunks written by the completed saves since this storage manager got created.
+     */
+    public long getWrittenChunkBytes() {
+        return writtenChunkBytes;
+    }
+
+    public StoreCompression getStoreCompression() {
+        return storeCompression;
+    }
+
+    /**
+     * Sets the codec the chunk and player stores get compressed with from now on. Stores written with another codec
+     * can still be loaded.
+     */
+    public void setStoreCompression(StoreCompression storeCompression) {
+        this.storeCompression = storeCompression;
+    }
+
     @Override
     public boolean isSaving() {
         return saveTransaction != null && saveTransaction.getResult() == null;
@@ -439,10 +527,15 @@ public boolean isSaving() {
 
     @Override
     public void checkAndRepairSaveIfNecessary() throws IOException {
+        SaveTransactionHelper saveTransactionHelper = new SaveTransactionHelper(getStoragePathProvider(),
+                getChunkStorageFormat(), getChunkRegionStore());
         saveTransactionHelper.cleanupSaveTransactionDirectory();
         if (Files.exists(getStoragePathProvider().getUnmergedChangesPath())) {
             saveTransactionHelper.mergeChanges();
         }
+        if (getChunkStorageFormat() == ChunkStorageFormat.REGION_FILES) {
+            ChunkRegionMigration.migrate(getStoragePathProvider(), getChunkRegionStore());
+        }
     }
 
 
@@ -453,6 +546,8 @@ public void deleteWorld() {
         unloadedAndSavingChunkMap.clear();
         unloadedAndUnsavedPlayerMap.clear();
         unloadedAndSavingPlayerMap.clear();
+        globalStoreLog = new GlobalStoreLog(getStoragePathProvider());
+        closeChunkRegionFiles();
 
         try {
             FilesUtil.recursiveDelete(getStoragePathProvider().getWorldPath());
@@ -18,6 +18,8 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.entitySystem.Component;
@@ -66,17 +68,23 @@ public class SaveTransaction extends AbstractTask {
 
     private static final ImmutableMap<String, String> CREATE_ZIP_OPTIONS = ImmutableMap.of("create", "true", "encoding", "UTF-8");
     private final GameManifest gameManifest;
+    private final boolean unloadedChunksOnly;
     private final Lock worldDirectoryWriteLock;
     private final EngineEntityManager privateEntityManager;
     private final EntitySetDeltaRecorder deltaToSave;
     private volatile SaveTransactionResult result;
+    private volatile long writtenChunkBytes;
+    private long writtenBytes;
+    private int unchangedChunkCount;
 
     // Unprocessed data to save:
     private final Map<String, EntityData.PlayerStore> unloadedPlayers;
     private final Map<String, PlayerStoreBuilder> loadedPlayers;
     private final Map<Vector3i, CompressedChunkBuilder> unloadedChunks;
     private final Map<Vector3i, ChunkImpl> loadedChunks;
+    private final Map<Vector3i, Integer> loadedChunkVersions;
     private final GlobalStoreBuilder globalStoreBuilder;
+    private final GlobalStoreLog globalStoreLog;
 
     // processed data:
     private EntityData.GlobalStore globalStore;
@@ -85,7 +93,8 @@ public class SaveTransaction extends AbstractTask {
 
 
     // Save parameters:
-    private final boolean storeChunksInZips;
+    private final ChunkStorageFormat chunkStorageFormat;
+    private final StoreCompression storeCompression;
 
     // utility classes for saving:
     private final StoragePathProvider storagePathProvider;
@@ -96,19 +105,25 @@ public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaR
                            Map<String, EntityData.PlayerStore> unloadedPlayers,
                            Map<String, PlayerStoreBuilder> loadedPlayers, GlobalStoreBuilder globalStoreBuilder,
                            Map<Vector3i, CompressedChunkBuilder> unloadedChunks, Map<Vector3i, ChunkImpl> loadedChunks,
-                           GameManifest gameManifest, boolean storeChunksInZips,
-                           StoragePathProvider storagePathProvider, Lock worldDirectoryWriteLock) {
+                           Map<Vector3i, Integer> loadedChunkVersions, GameManifest gameManifest,
+                           boolean unloadedChunksOnly, ChunkStorageFormat chunkStorageFormat, StoreCompression storeCompression,
+                           StoragePathProvider storagePathProvider, ChunkRegionStore chunkRegionStore,
+                           GlobalStoreLog globalStoreLog, Lock worldDirectoryWriteLock) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
         this.unloadedPlayers = unloadedPlayers;
         this.loadedPlayers = loadedPlayers;
         this.unloadedChunks = unloadedChunks;
         this.loadedChunks = loadedChunks;
+        this.loadedChunkVersions = loadedChunkVersions;
         this.globalStoreBuilder = globalStoreBuilder;
+        this.globalStoreLog = globalStoreLog;
         this.gameManifest = gameManifest;
-        this.storeChunksInZips = storeChunksInZips;
+        this.unloadedChunksOnly = unloadedChunksOnly;
+        this.chunkStorageFormat = chunkStorageFormat;
+        this.storeCompression = storeCompression;
         this.storagePathProvider = storagePathProvider;
-        this.saveTransactionHelper = new SaveTransactionHelper(storagePathProvider);
+        this.saveTransactionHelper = new SaveTransactionHelper(storagePathProvider, chunkStorageFormat, chunkRegionStore);
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
     }
 
@@ -120,6 +135,7 @@ public String getName() {
 
     @Override
     public void run() {
+        long startTime = System.currentTimeMillis();
         try {
             if (Files.exists(storagePathProvider.getUnmergedChangesPath())) {
                 // should not happen, as initialization should clean it up
@@ -132,18 +148,29 @@ public void run() {
             writePlayerStores();
             writeGlobalStore();
             writeChunkStores();
-            saveGameManifest();
+            if (gameManifest != null) {
+                saveGameManifest();
+            }
             perpareChangesForMerge();
             mergeChanges();
+            globalStoreLog.commit(globalStore);
             result = SaveTransactionResult.createSuccessResult();
-            logger.info("Save game finished");
+            logger.info("Save game finished: {} chunks written, {} unchanged chunks skipped, {} bytes written in {}ms",
+                    allChunks.size(), unchangedChunkCount, writtenBytes, System.currentTimeMillis() - startTime);
         } catch (IOException | RuntimeException t) {
             logger.error("Save game creation failed", t);
             result = SaveTransactionResult.createFailureResult(t);
         }
     }
 
-    private void prepareChunksPlayersAndGlobalStore() {
+    private void prepareChunksPlayersAndGlobalStore() throws IOException {
+        if (unloadedChunksOnly) {
+            // the unloaded chunks got encoded together with their entities when they got unloaded
+            allPlayers = Maps.newHashMap(unloadedPlayers);
+            allChunks = Maps.newHashMap(unloadedChunks);
+            this.globalStore = globalStoreLog.prepareNextEntityId(globalStoreBuilder.getNextEntityId());
+            return;
+        }
         /**
          * Currently loaded persistent entities without owner that have not been saved yet.
          */
@@ -155,16 +182,21 @@ private void prepareChunksPlayersAndGlobalStore() {
         }
         preparePlayerStores(unsavedEntities);
         prepareCompressedChunkBuilders(unsavedEntities);
-        this.globalStore = globalStoreBuilder.build(privateEntityManager, unsavedEntities);
+        this.globalStore = globalStoreLog.prepare(globalStoreBuilder, privateEntityManager, unsavedEntities,
+                deltaToSave.getEntityDeltas().keySet());
     }
 
 
     /**
+     * Loaded chunks whose data didn't change since they got written and whose entities, including the ones stored
+     * last time, are all absent from the recorded entity changes, are skipped without storing their entities again.
+     *
      * @param unsavedEntities currently loaded persistent entities without owner that have not been saved yet.
      *                        This method removes entities it saves.
      */
     private void prepareCompressedChunkBuilders(Set<EntityRef> unsavedEntities) {
         Map<Vector3i, Collection<EntityRef>> chunkPosToEntitiesMap = createChunkPosToUnsavedOwnerLessEntitiesMap();
+        TLongSet changedEntityIds = getChangedEntityIds();
 
         allChunks = Maps.newHashMap();
         allChunks.putAll(unloadedChunks);
@@ -174,11 +206,26 @@ private void prepareCompressedChunkBuilders(Set<EntityRef> unsavedEntities) {
                 entitiesToStore = Collections.emptySet();
             }
             ChunkImpl chunk = chunkEntry.getValue();
+            int dataVersion = loadedChunkVersions.get(chunkEntry.getKey());
             unsavedEntities.removeAll(entitiesToStore);
+            TLongSet savedEntityIds = chunk.getSavedEntityIds();
+            if (chunk.isDataSaved(dataVersion) && savedEntityIds != null
+                    && !containsAny(changedEntityIds, savedEntityIds) && !containsAny(changedEntityIds, entitiesToStore)) {
+                savedEntityIds.forEach(entityId -> {
+                    unsavedEntities.remove(privateEntityManager.getEntity(entityId));
+                    return true;
+                });
+                unchangedChunkCount++;
+                continue;
+            }
             CompressedChunkBuilder compressedChunkBuilder = new CompressedChunkBuilder(privateEntityManager, chunk,
-                    entitiesToStore, false);
+                    dataVersion, entitiesToStore, false, storeCompression);
             unsavedEntities.removeAll(compressedChunkBuilder.getStoredEntities());
-            allChunks.put(chunkEntry.getKey(), compressedChunkBuilder);
+            if (compressedChunkBuilder.isSaved()) {
+                unchangedChunkCount++;
+            } else {
+                allChunks.put(chunkEntry.getKey(), compressedChunkBuilder);
+            }
         }
     }
 
@@ -202,6 +249,29 @@ private void preparePlayerStores(Set<EntityRef> unsavedEntities) {
         }
     }
 
+    /**
+     * @return the ids of the entities that got changed, destroyed or deactivated since the previous save.
+     */
+    private TLongSet getChangedEntityIds() {
+        TLongSet changedEntityIds = new TLongHashSet(deltaToSave.getEntityDeltas().keySet());
+        changedEntityIds.addAll(deltaToSave.getDestroyedEntities());
+        changedEntityIds.addAll(deltaToSave.getDeactivatedEntities());
+        return changedEntityIds;
+    }
+
+    private static boolean containsAny(TLongSet entityIds, TLongSet candidates) {
+        return !candidates.forEach(entityId -> !entityIds.contains(entityId));
+    }
+
+    private static boolean containsAny(TLongSet entityIds, Collection<EntityRef> candidates) {
+        for (EntityRef candidate : candidates) {
+            if (entityIds.contains(candidate.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Map<Vector3i, Collection<EntityRef>> createChunkPosToUnsavedOwnerLessEntitiesMap() {
         Map<Vector3i, Collection<EntityRef>> chunkPosToEntitiesMap = Maps.newHashMap();
         for (EntityRef entity : privateEntityManager.getEntitiesWith(LocationComponent.class)) {
@@ -332,23 +402,32 @@ private void writePlayerStores() throws IOException {
         Files.createDirectories(storagePathProvider.getPlayersTempPath());
         for (Map.Entry<String, EntityData.PlayerStore> playerStoreEntry : allPlayers.entrySet()) {
             Path playerFile = storagePathProvider.getPlayerFileTempPath(playerStoreEntry.getKey());
-            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(playerFile))) {
-                playerStoreEntry.getValue().writeTo(out);
-            }
+            byte[] encodedStore = storeCompression.encode(playerStoreEntry.getValue());
+            Files.write(playerFile, encodedStore);
+            writtenBytes += encodedStore.length;
         }
     }
 
     private void writeGlobalStore() throws IOException {
-        Path path = storagePathProvider.getGlobalEntityStoreTempPath();
+        if (globalStore == null) {
+            return;
+        }
+        Path path;
+        if (globalStoreLog.isCompacting()) {
+            path = storagePathProvider.getGlobalEntityStoreTempPath();
+        } else {
+            path = storagePathProvider.getGlobalEntityStoreLogTempPath(globalStore.getLogSequence());
+        }
         try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
             globalStore.writeTo(out);
         }
+        writtenBytes += globalStore.getSerializedSize();
     }
 
     private void writeChunkStores() throws IOException {
         Path chunksPath = storagePathProvider.getWorldTempPath();
         Files.createDirectories(chunksPath);
-        if (storeChunksInZips) {
+        if (chunkStorageFormat == ChunkStorageFormat.CHUNK_ZIPS) {
             Map<Vector3i, FileSystem> newChunkZips = Maps.newHashMap();
             for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
                 Vector3i chunkPos = entry.getKey();
@@ -366,6 +445,8 @@ private void writeChunkStores() throws IOException {
                 try (BufferedOutputStream bos = new BufferedOutputStream(Files.newOutputStream(chunkPath))) {
                     bos.write(compressedChunk);
                 }
+                writtenChunkBytes += compressedChunk.length;
+                writtenBytes += compressedChunk.length;
             }
             // Copy existing, unmodified content into the zips and close them
             for (Map.Entry<Vector3i, FileSystem> chunkZipEntry : newChunkZips.entrySet()) {
@@ -391,6 +472,7 @@ public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
                 zip.close();
             }
         } else {
+            // Region files get updated in place by the merge, only the changed chunks need to be written here
             for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
                 Vector3i chunkPos = entry.getKey();
                 CompressedChunkBuilder compressedChunkBuilder = entry.getValue();
@@ -399,6 +481,8 @@ public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
                 try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(chunkPath))) {
                     out.write(compressedChunk);
                 }
+                writtenChunkBytes += compressedChunk.length;
+                writtenBytes += compressedChunk.length;
             }
         }
     }
@@ -411,6 +495,21 @@ public SaveTransactionResult getResult() {
         return result;
     }
 
+    /**
+     * Records for the chunks written by this transaction that their current state is saved. Must be called from the
+     * thread modifying the chunks, after the transaction succeeded.
+     */
+    public void markWrittenChunksSaved() {
+        allChunks.values().forEach(CompressedChunkBuilder::markSaved);
+    }
+
+    /**
+     * @return the compressed size of the chunks written so far. Can be used from another thread.
+     */
+    public long getWrittenChunkBytes() {
+        return writtenChunkBytes;
+    }
+
     private void saveGameManifest() {
         try {
             Path path = storagePathProvider.getGameManifestTempPath();
@@ -424,6 +523,9 @@ private void mergeChanges() throws IOException {
         worldDirectoryWriteLock.lock();
         try {
             saveTransactionHelper.mergeChanges();
+            if (globalStore != null && globalStoreLog.isCompacting()) {
+                globalStoreLog.deleteCompactedEntries();
+            }
         } finally {
             worldDirectoryWriteLock.unlock();
         }
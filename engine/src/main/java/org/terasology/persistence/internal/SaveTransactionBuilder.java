@@ -37,18 +37,27 @@ class SaveTransactionBuilder {
     private Map<String, PlayerStoreBuilder> loadedPlayers = Maps.newHashMap();
     private Map<Vector3i, CompressedChunkBuilder> unloadedChunks = Maps.newHashMap();
     private Map<Vector3i, ChunkImpl> loadedChunks = Maps.newHashMap();
+    private Map<Vector3i, Integer> loadedChunkVersions = Maps.newHashMap();
     private GlobalStoreBuilder globalStoreBuilder;
-    private final boolean storeChunksInZips;
+    private final ChunkStorageFormat chunkStorageFormat;
+    private final StoreCompression storeCompression;
     private final StoragePathProvider storagePathProvider;
+    private final ChunkRegionStore chunkRegionStore;
+    private final GlobalStoreLog globalStoreLog;
     private GameManifest gameManifest;
+    private boolean unloadedChunksOnly;
 
     SaveTransactionBuilder(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
-                           boolean storeChunksInZips, StoragePathProvider storagePathProvider,
-                           Lock worldDirectoryWriteLock) {
+                           ChunkStorageFormat chunkStorageFormat, StoreCompression storeCompression,
+                           StoragePathProvider storagePathProvider, ChunkRegionStore chunkRegionStore,
+                           GlobalStoreLog globalStoreLog, Lock worldDirectoryWriteLock) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageFormat = chunkStorageFormat;
+        this.storeCompression = storeCompression;
         this.storagePathProvider = storagePathProvider;
+        this.chunkRegionStore = chunkRegionStore;
+        this.globalStoreLog = globalStoreLog;
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
     }
 
@@ -64,19 +73,32 @@ public void setGlobalStoreBuilder(GlobalStoreBuilder globalStoreBuilder) {
         this.globalStoreBuilder = globalStoreBuilder;
     }
 
+    /**
+     * Makes the transaction save only the unloaded chunks and the next entity id of the given builder, instead of the
+     * players, the loaded chunks, the global entities and the game manifest.
+     */
+    public void setUnloadedChunksOnly(GlobalStoreBuilder globalStoreBuilder) {
+        this.globalStoreBuilder = globalStoreBuilder;
+        this.unloadedChunksOnly = true;
+    }
+
     public void addUnloadedChunk(final Vector3i chunkPosition, final CompressedChunkBuilder b) {
         unloadedChunks.put(chunkPosition, b);
     }
 
 
+    /**
+     * Must be called from the thread modifying the chunk, as it obtains the version of the chunk data to save.
+     */
     public void addLoadedChunk(final Vector3i chunkPosition, final ChunkImpl chunk) {
         loadedChunks.put(chunkPosition, chunk);
+        loadedChunkVersions.put(chunkPosition, chunk.getDataVersion());
     }
 
     public SaveTransaction build() {
         return new SaveTransaction(privateEntityManager, deltaToSave, unloadedPlayers, loadedPlayers, globalStoreBuilder,
-                unloadedChunks, loadedChunks, gameManifest, storeChunksInZips, storagePathProvider,
-                worldDirectoryWriteLock);
+                unloadedChunks, loadedChunks, loadedChunkVersions, gameManifest, unloadedChunksOnly, chunkStorageFormat,
+                storeCompression, storagePathProvider, chunkRegionStore, globalStoreLog, worldDirectoryWriteLock);
 
     }
 
@@ -15,18 +15,21 @@
  */
 package org.terasology.persistence.internal;
 
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 
 /**
  * Helper class for methods around {@link SaveTransaction}s that are also needed outside of the save transaction.
@@ -35,9 +38,14 @@
 public class SaveTransactionHelper {
     private static final Logger logger = LoggerFactory.getLogger(SaveTransactionHelper.class);
     private final StoragePathProvider storagePathProvider;
+    private final ChunkStorageFormat chunkStorageFormat;
+    private final ChunkRegionStore chunkRegionStore;
 
-    public SaveTransactionHelper(StoragePathProvider storagePathProvider) {
+    public SaveTransactionHelper(StoragePathProvider storagePathProvider, ChunkStorageFormat chunkStorageFormat,
+                                 ChunkRegionStore chunkRegionStore) {
         this.storagePathProvider = storagePathProvider;
+        this.chunkStorageFormat = chunkStorageFormat;
+        this.chunkRegionStore = chunkRegionStore;
     }
 
     public void cleanupSaveTransactionDirectory() throws IOException {
@@ -70,6 +78,11 @@ public void mergeChanges() throws IOException {
         final Path sourceDirectory = storagePathProvider.getUnmergedChangesPath();
         final Path targetDirectory = storagePathProvider.getStoragePathDirectory();
 
+        if (chunkStorageFormat == ChunkStorageFormat.REGION_FILES) {
+            Path worldPath = targetDirectory.relativize(storagePathProvider.getWorldPath());
+            mergeChunksIntoRegionFiles(sourceDirectory.resolve(worldPath));
+        }
+
         Files.walkFileTree(sourceDirectory, new SimpleFileVisitor<Path>() {
             boolean atomicNotPossibleLogged;
 
@@ -122,4 +135,22 @@ public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOEx
             }
         });
     }
+
+    /**
+     * Writes the chunk files of the given directory into the region files and deletes them afterwards. The chunk
+     * files are only deleted once the region files are committed, so an interrupted merge writes them again.
+     */
+    private void mergeChunksIntoRegionFiles(Path chunksDirectory) throws IOException {
+        if (!Files.isDirectory(chunksDirectory)) {
+            return;
+        }
+        List<Path> chunkFiles = Lists.newArrayList();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(chunksDirectory, "*.chunk")) {
+            stream.forEach(chunkFiles::add);
+        }
+        ChunkRegionMigration.migrateChunkFiles(chunkFiles, storagePathProvider, chunkRegionStore);
+        for (Path chunkFile : chunkFiles) {
+            Files.delete(chunkFile);
+        }
+    }
 }
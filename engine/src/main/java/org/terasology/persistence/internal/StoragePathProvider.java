@@ -15,11 +15,19 @@
  */
 package org.terasology.persistence.internal;
 
+import com.google.common.collect.Lists;
 import org.terasology.engine.TerasologyConstants;
 import org.terasology.game.GameManifest;
 import org.terasology.math.geom.Vector3i;
 
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  */
@@ -31,6 +39,9 @@ public class StoragePathProvider {
     private static final String UNFINISHED_SAVE_TRANSACTION = "unfinished-save-transaction";
     private static final String UNMERGED_CHANGED = "unmerged-changes";
     private static final int CHUNK_ZIP_DIM = 32;
+    private static final int CHUNK_REGION_DIM = 32;
+    private static final Pattern CHUNK_FILENAME_PATTERN = Pattern.compile("(-?\\d+)\\.(-?\\d+)\\.(-?\\d+)\\.chunk");
+    private static final Pattern GLOBAL_ENTITY_STORE_LOG_FILENAME_PATTERN = Pattern.compile("global\\.(\\d+)\\.log");
 
     private final Path storagePathDirectory;
     private final Path playersPath;
@@ -98,6 +109,49 @@ public Path getGlobalEntityStoreTempPath() {
         return unfinishedSaveTransactionPath.resolve(GLOBAL_ENTITY_STORE);
     }
 
+    public Path getGlobalEntityStoreLogPath(long sequence) {
+        return storagePathDirectory.resolve(getGlobalEntityStoreLogFilename(sequence));
+    }
+
+    public Path getGlobalEntityStoreLogTempPath(long sequence) {
+        return unfinishedSaveTransactionPath.resolve(getGlobalEntityStoreLogFilename(sequence));
+    }
+
+    private String getGlobalEntityStoreLogFilename(long sequence) {
+        return String.format("global.%d.log", sequence);
+    }
+
+    /**
+     * @return the sequence number encoded in a name created by {@link #getGlobalEntityStoreLogPath(long)} or null if
+     * the name is no global entity store log filename.
+     */
+    public Long getGlobalEntityStoreLogSequenceFromFilename(String filename) {
+        Matcher matcher = GLOBAL_ENTITY_STORE_LOG_FILENAME_PATTERN.matcher(filename);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    /**
+     * @return the sequence numbers of the global entity store log entries in the save game, in ascending order.
+     */
+    public List<Long> listGlobalEntityStoreLogSequences() throws IOException {
+        List<Long> result = Lists.newArrayList();
+        if (Files.isDirectory(storagePathDirectory)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(storagePathDirectory, "global.*.log")) {
+                for (Path path : stream) {
+                    Long sequence = getGlobalEntityStoreLogSequenceFromFilename(path.getFileName().toString());
+                    if (sequence != null) {
+                        result.add(sequence);
+                    }
+                }
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
     public String getChunkFilename(Vector3i pos) {
         return String.format("%d.%d.%d.chunk", pos.x, pos.y, pos.z);
     }
@@ -122,6 +176,58 @@ public Vector3i getChunkZipPosition(Vector3i chunkPos) {
         return result;
     }
 
+    /**
+     * @return the position encoded in a name created by {@link #getChunkFilename(Vector3i)} or null if the name
+     * is no chunk filename.
+     */
+    public Vector3i getChunkPositionFromFilename(String filename) {
+        Matcher matcher = CHUNK_FILENAME_PATTERN.matcher(filename);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new Vector3i(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+                Integer.parseInt(matcher.group(3)));
+    }
+
+    private String getChunkRegionFilename(Vector3i pos) {
+        return String.format("%d.%d.%d.chunks.region", pos.x, pos.y, pos.z);
+    }
+
+    public Vector3i getChunkRegionPosition(Vector3i chunkPos) {
+        return new Vector3i(Math.floorDiv(chunkPos.x, CHUNK_REGION_DIM), Math.floorDiv(chunkPos.y, CHUNK_REGION_DIM),
+                Math.floorDiv(chunkPos.z, CHUNK_REGION_DIM));
+    }
+
+    /**
+     * @return the slot of the chunk within the region file returned by {@link #getChunkRegionPath(Vector3i)}.
+     */
+    public int getChunkRegionSlot(Vector3i chunkPos) {
+        int x = Math.floorMod(chunkPos.x, CHUNK_REGION_DIM);
+        int y = Math.floorMod(chunkPos.y, CHUNK_REGION_DIM);
+        int z = Math.floorMod(chunkPos.z, CHUNK_REGION_DIM);
+        return x + CHUNK_REGION_DIM * (y + CHUNK_REGION_DIM * z);
+    }
+
+    public int getChunkRegionSlotCount() {
+        return CHUNK_REGION_DIM * CHUNK_REGION_DIM * CHUNK_REGION_DIM;
+    }
+
+    public Path getChunkRegionPath(Vector3i chunkRegionPos) {
+        return worldPath.resolve(getChunkRegionFilename(chunkRegionPos));
+    }
+
+    /**
+     * @return whether the world already stores chunks in region files.
+     */
+    public boolean hasChunkRegionFiles() throws IOException {
+        if (!Files.isDirectory(worldPath)) {
+            return false;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(worldPath, "*.chunks.region")) {
+            return stream.iterator().hasNext();
+        }
+    }
+
     public Path getChunkPath(Vector3i chunkPos) {
         return worldPath.resolve(getChunkFilename(chunkPos));
     }
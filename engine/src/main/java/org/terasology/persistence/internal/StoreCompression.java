@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.internal;
+
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.MessageLite;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The codecs the chunk and player stores of a save game can be compressed with.
+ * <br><br>
+ * Encoded records start with a marker byte followed by the id of the codec, so that every record gets decoded with
+ * the codec it got written with, regardless of the currently configured one. The marker can't start a gzip stream or
+ * a protobuf message, as its wire type doesn't exist. Records written before codecs got recorded lack the header and
+ * get decoded with the codec that was in use for them back then.
+ */
+public enum StoreCompression {
+    /**
+     * Stores the records uncompressed, trading disk space for the shortest load and save times.
+     */
+    NONE((byte) 0) {
+        @Override
+        byte[] compress(byte[] data) {
+            return data;
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int offset) {
+            return Arrays.copyOfRange(data, offset, data.length);
+        }
+    },
+    /**
+     * The best compression ratio but the slowest codec.
+     */
+    GZIP((byte) 1) {
+        @Override
+        byte[] compress(byte[] data) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+                gzipOut.write(data);
+            } catch (IOException e) {
+                // as no real IO is involved this should not happen
+                throw new RuntimeException(e);
+            }
+            return baos.toByteArray();
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int offset) throws IOException {
+            ByteArrayInputStream bais = new ByteArrayInputStream(data, offset, data.length - offset);
+            try (GZIPInputStream gzipIn = new GZIPInputStream(bais)) {
+                return ByteStreams.toByteArray(gzipIn);
+            }
+        }
+    },
+    /**
+     * A LZ77 based codec that compresses less than gzip, but decompresses several times faster.
+     * The compressed block is preceded by the uncompressed length.
+     */
+    LZ4((byte) 2) {
+        @Override
+        byte[] compress(byte[] data) {
+            byte[] compressed = lz4().fastCompressor().compress(data);
+            return ByteBuffer.allocate(Integer.BYTES + compressed.length).putInt(data.length).put(compressed).array();
+        }
+
+        @Override
+        byte[] decompress(byte[] data, int offset) throws IOException {
+            if (data.length - offset < Integer.BYTES) {
+                throw new IOException("Truncated lz4 record");
+            }
+            int length = ByteBuffer.wrap(data, offset, Integer.BYTES).getInt();
+            if (length < 0) {
+                throw new IOException("Invalid lz4 record length " + length);
+            }
+            byte[] result = new byte[length];
+            int decompressedLength;
+            try {
+                decompressedLength = lz4().safeDecompressor().decompress(data, offset + Integer.BYTES,
+                        data.length - offset - Integer.BYTES, result, 0);
+            } catch (LZ4Exception e) {
+                throw new IOException("Corrupted lz4 record", e);
+            }
+            if (decompressedLength != length) {
+                throw new IOException("Truncated lz4 record");
+            }
+            return result;
+        }
+    };
+
+    private static final Logger logger = LoggerFactory.getLogger(StoreCompression.class);
+
+    private static final byte HEADER_MARKER = (byte) 0xFF;
+    private static final int HEADER_LENGTH = 2;
+
+    private final byte id;
+
+    StoreCompression(byte id) {
+        this.id = id;
+    }
+
+    private static LZ4Factory lz4() {
+        return LZ4Factory.fastestInstance();
+    }
+
+    abstract byte[] compress(byte[] data);
+
+    /**
+     * @param offset the index of the first byte of the compressed data within the given array.
+     */
+    abstract byte[] decompress(byte[] data, int offset) throws IOException;
+
+    /**
+     * @param name the name of a codec, like it is stored in the system config. The case is ignored.
+     * @return the codec with the given name, or gzip if there is none.
+     */
+    public static StoreCompression forName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown store compression '{}', using gzip", name);
+            return GZIP;
+        }
+    }
+
+    /**
+     * @return the message, compressed with this codec and preceded by the header identifying it.
+     */
+    public byte[] encode(MessageLite message) {
+        byte[] compressed = compress(message.toByteArray());
+        byte[] result = new byte[HEADER_LENGTH + compressed.length];
+        result[0] = HEADER_MARKER;
+        result[1] = id;
+        System.arraycopy(compressed, 0, result, HEADER_LENGTH, compressed.length);
+        return result;
+    }
+
+    /**
+     * @param record the data written by {@link #encode(MessageLite)}.
+     * @param compressionWithoutHeader the codec of records written before the codec got recorded.
+     * @return the uncompressed message data.
+     */
+    public static byte[] decode(byte[] record, StoreCompression compressionWithoutHeader) throws IOException {
+        if (record.length < HEADER_LENGTH || record[0] != HEADER_MARKER) {
+            return compressionWithoutHeader.decompress(record, 0);
+        }
+        for (StoreCompression compression : values()) {
+            if (compression.id == record[1]) {
+                return compression.decompress(record, HEADER_LENGTH);
+            }
+        }
+        throw new IOException("Unknown store compression " + record[1]);
+    }
+}
@@ -28,10 +28,10 @@
 import org.terasology.entitySystem.metadata.ComponentMetadata;
 import org.terasology.entitySystem.metadata.ReplicatedFieldMetadata;
 import org.terasology.module.Module;
-import org.terasology.persistence.typeHandling.DeserializationContext;
 import org.terasology.persistence.typeHandling.PersistedData;
 import org.terasology.persistence.typeHandling.Serializer;
 import org.terasology.persistence.typeHandling.TypeSerializationLibrary;
+import org.terasology.persistence.typeHandling.protobuf.DirectProtobufSerializer;
 import org.terasology.persistence.typeHandling.protobuf.ProtobufDeserializationContext;
 import org.terasology.persistence.typeHandling.protobuf.ProtobufPersistedData;
 import org.terasology.persistence.typeHandling.protobuf.ProtobufSerializationContext;
@@ -57,6 +57,7 @@ public class ComponentSerializer {
     private ComponentLibrary componentLibrary;
     private BiMap<Class<? extends Component>, Integer> idTable = ImmutableBiMap.<Class<? extends Component>, Integer>builder().build();
     private boolean usingFieldIds;
+    private boolean usingDirectSerialization = true;
     private TypeSerializationLibrary typeSerializationLibrary;
     private ProtobufSerializationContext serializationContext;
     private ProtobufDeserializationContext deserializationContext;
@@ -81,6 +82,20 @@ public boolean isUsingFieldIds() {
         return usingFieldIds;
     }
 
+    /**
+     * Sets whether fields with standard type handlers are serialized straight to protobuf values, see {@link DirectProtobufSerializer}.
+     * Enabled by default.
+     *
+     * @param usingDirectSerialization
+     */
+    public void setUsingDirectSerialization(boolean usingDirectSerialization) {
+        this.usingDirectSerialization = usingDirectSerialization;
+    }
+
+    public boolean isUsingDirectSerialization() {
+        return usingDirectSerialization;
+    }
+
     /**
      * Sets the mapping between component classes and the ids that are used for serialization
      *
@@ -184,8 +199,8 @@ public Component deserializeOnto(Component target, EntityData.Component componen
     private <T extends Component> Component deserializeOnto(Component targetComponent, EntityData.Component componentData,
                                                             ComponentMetadata<T> componentMetadata, FieldSerializeCheck<Component> fieldCheck) {
         Serializer serializer = typeSerializationLibrary.getSerializerFor(componentMetadata);
-        DeserializationContext context = new ProtobufDeserializationContext(typeSerializationLibrary);
-        Map<FieldMetadata<?, ?>, PersistedData> dataMap = Maps.newHashMapWithExpectedSize(componentData.getFieldCount());
+        DirectProtobufSerializer directSerializer = getDirectSerializerFor(componentMetadata);
+        Map<FieldMetadata<?, ?>, PersistedData> dataMap = null;
         for (EntityData.NameValue field : componentData.getFieldList()) {
             FieldMetadata<?, ?> fieldInfo = null;
             if (field.hasNameIndex()) {
@@ -194,12 +209,21 @@ private <T extends Component> Component deserializeOnto(Component targetComponen
                 fieldInfo = componentMetadata.getField(field.getName());
             }
             if (fieldInfo != null) {
+                if (directSerializer != null && fieldCheck.shouldDeserialize(componentMetadata, fieldInfo)
+                        && directSerializer.deserializeOnto(targetComponent, fieldInfo, field.getValue())) {
+                    continue;
+                }
+                if (dataMap == null) {
+                    dataMap = Maps.newHashMapWithExpectedSize(componentData.getFieldCount());
+                }
                 dataMap.put(fieldInfo, new ProtobufPersistedData(field.getValue()));
             } else if (field.hasName()) {
                 logger.warn("Cannot deserialize unknown field '{}' onto '{}'", field.getName(), componentMetadata.getUri());
             }
         }
-        serializer.deserializeOnto(targetComponent, dataMap, context, fieldCheck);
+        if (dataMap != null) {
+            serializer.deserializeOnto(targetComponent, dataMap, deserializationContext, fieldCheck);
+        }
         return targetComponent;
     }
 
@@ -231,11 +255,22 @@ public EntityData.Component serialize(Component component, FieldSerializeCheck<C
         serializeComponentType(componentMetadata, componentMessage);
 
         Serializer serializer = typeSerializationLibrary.getSerializerFor(componentMetadata);
+        DirectProtobufSerializer directSerializer = getDirectSerializerFor(componentMetadata);
         for (ReplicatedFieldMetadata<?, ?> field : componentMetadata.getFields()) {
             if (check.shouldSerializeField(field, component)) {
-                PersistedData result = serializer.serialize(field, component, serializationContext);
-                if (!result.isNull()) {
-                    EntityData.Value itemValue = ((ProtobufPersistedData) result).getValue();
+                EntityData.Value itemValue = null;
+                if (directSerializer != null && directSerializer.isDirect(field)) {
+                    Object rawValue = field.getValue(component);
+                    if (rawValue != null) {
+                        itemValue = directSerializer.serializeValue(field, rawValue);
+                    }
+                } else {
+                    PersistedData result = serializer.serialize(field, component, serializationContext);
+                    if (!result.isNull()) {
+                        itemValue = ((ProtobufPersistedData) result).getValue();
+                    }
+                }
+                if (itemValue != null) {
                     if (usingFieldIds) {
                         componentMessage.addField(EntityData.NameValue.newBuilder().setNameIndex(field.getId()).setValue(itemValue));
                     } else {
@@ -287,6 +322,7 @@ public EntityData.Component serialize(Component base, Component delta, FieldSeri
         serializeComponentType(componentMetadata, componentMessage);
 
         Serializer serializer = typeSerializationLibrary.getSerializerFor(componentMetadata);
+        DirectProtobufSerializer directSerializer = getDirectSerializerFor(componentMetadata);
         boolean changed = false;
         for (ReplicatedFieldMetadata field : componentMetadata.getFields()) {
             if (check.shouldSerializeField(field, delta) && serializer.getHandlerFor(field) != null) {
@@ -294,9 +330,16 @@ public EntityData.Component serialize(Component base, Component delta, FieldSeri
                 Object deltaValue = field.getValue(delta);
 
                 if (!Objects.equal(origValue, deltaValue)) {
-                    PersistedData value = serializer.serializeValue(field, deltaValue, serializationContext);
-                    if (!value.isNull()) {
-                        EntityData.Value dataValue = ((ProtobufPersistedData) value).getValue();
+                    EntityData.Value dataValue = null;
+                    if (directSerializer != null && directSerializer.isDirect(field) && deltaValue != null) {
+                        dataValue = directSerializer.serializeValue(field, deltaValue);
+                    } else {
+                        PersistedData value = serializer.serializeValue(field, deltaValue, serializationContext);
+                        if (!value.isNull()) {
+                            dataValue = ((ProtobufPersistedData) value).getValue();
+                        }
+                    }
+                    if (dataValue != null) {
                         if (usingFieldIds) {
                             componentMessage.addField(EntityData.NameValue.newBuilder().setNameIndex(field.getId()).setValue(dataValue).build());
                         } else {
@@ -315,6 +358,13 @@ public EntityData.Component serialize(Component base, Component delta, FieldSeri
         return null;
     }
 
+    private DirectProtobufSerializer getDirectSerializerFor(ComponentMetadata<?> componentMetadata) {
+        if (usingDirectSerialization) {
+            return typeSerializationLibrary.getDirectProtobufSerializerFor(componentMetadata);
+        }
+        return null;
+    }
+
     /**
      * Determines the component class that the serialized component is for.
      *
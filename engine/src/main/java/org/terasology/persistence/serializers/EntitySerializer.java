@@ -80,6 +80,14 @@ public void setUsingFieldIds(boolean usingFieldIds) {
         componentSerializer.setUsingFieldIds(usingFieldIds);
     }
 
+    public boolean isUsingDirectSerialization() {
+        return componentSerializer.isUsingDirectSerialization();
+    }
+
+    public void setUsingDirectSerialization(boolean usingDirectSerialization) {
+        componentSerializer.setUsingDirectSerialization(usingDirectSerialization);
+    }
+
     public void setComponentSerializeCheck(ComponentSerializeCheck check) {
         this.componentSerializeCheck = check;
     }
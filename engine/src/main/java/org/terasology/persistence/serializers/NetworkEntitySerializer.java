@@ -37,6 +37,7 @@
 import org.terasology.persistence.typeHandling.PersistedData;
 import org.terasology.persistence.typeHandling.Serializer;
 import org.terasology.persistence.typeHandling.TypeSerializationLibrary;
+import org.terasology.persistence.typeHandling.protobuf.DirectProtobufSerializer;
 import org.terasology.persistence.typeHandling.protobuf.ProtobufDeserializationContext;
 import org.terasology.persistence.typeHandling.protobuf.ProtobufPersistedData;
 import org.terasology.persistence.typeHandling.protobuf.ProtobufSerializationContext;
@@ -57,6 +58,7 @@ public class NetworkEntitySerializer {
     private ProtobufSerializationContext serializationContext;
     private ProtobufDeserializationContext deserializationContext;
     private BiMap<Class<? extends Component>, Integer> idTable = ImmutableBiMap.<Class<? extends Component>, Integer>builder().build();
+    private boolean usingDirectSerialization = true;
 
     public NetworkEntitySerializer(EngineEntityManager entityManager, ComponentLibrary componentLibrary, TypeSerializationLibrary typeSerializationLibrary) {
         this.entityManager = entityManager;
@@ -66,6 +68,18 @@ public NetworkEntitySerializer(EngineEntityManager entityManager, ComponentLibra
         this.deserializationContext = new ProtobufDeserializationContext(typeSerializationLibrary);
     }
 
+    /**
+     * Sets whether fields with standard type handlers are serialized straight to protobuf values, see {@link DirectProtobufSerializer}.
+     * Enabled by default.
+     */
+    public void setUsingDirectSerialization(boolean usingDirectSerialization) {
+        this.usingDirectSerialization = usingDirectSerialization;
+    }
+
+    public boolean isUsingDirectSerialization() {
+        return usingDirectSerialization;
+    }
+
     public void setComponentSerializeCheck(ComponentSerializeCheck componentSerializeCheck) {
         this.componentSerializeCheck = componentSerializeCheck;
     }
@@ -152,15 +166,24 @@ private void serializeComponentDelta(Component oldComponent, Component newCompon
 
         byte fieldCount = 0;
         Serializer serializer = typeSerializationLibrary.getSerializerFor(componentMetadata);
+        DirectProtobufSerializer directSerializer = getDirectSerializerFor(componentMetadata);
         for (ReplicatedFieldMetadata field : componentMetadata.getFields()) {
             if (fieldCheck.shouldSerializeField(field, newComponent, componentInitial)) {
                 Object oldValue = field.getValue(oldComponent);
                 Object newValue = field.getValue(newComponent);
                 if (!Objects.equal(oldValue, newValue)) {
-                    PersistedData data = serializer.serializeValue(field, newValue, serializationContext);
-                    if (!data.isNull()) {
+                    EntityData.Value value = null;
+                    if (directSerializer != null && directSerializer.isDirect(field) && newValue != null) {
+                        value = directSerializer.serializeValue(field, newValue);
+                    } else {
+                        PersistedData data = serializer.serializeValue(field, newValue, serializationContext);
+                        if (!data.isNull()) {
+                            value = ((ProtobufPersistedData) data).getValue();
+                        }
+                    }
+                    if (value != null) {
                         entityFieldIds.write(field.getId());
-                        entityData.addFieldValue(((ProtobufPersistedData) data).getValue());
+                        entityData.addFieldValue(value);
                         fieldCount++;
                     } else {
                         logger.error("Exception serializing component type: {}, field: {} - returned null", componentMetadata, field);
@@ -185,13 +208,21 @@ private void serializeComponentFull(Component component, boolean ignoreIfNoField
         }
 
         Serializer serializer = typeSerializationLibrary.getSerializerFor(componentMetadata);
+        DirectProtobufSerializer directSerializer = getDirectSerializerFor(componentMetadata);
         byte fieldCount = 0;
         for (ReplicatedFieldMetadata field : componentMetadata.getFields()) {
             if (fieldCheck.shouldSerializeField(field, component, componentInitial)) {
-                PersistedData fieldValue = serializer.serialize(field, component, serializationContext);
+                EntityData.Value value;
+                if (directSerializer != null && directSerializer.isDirect(field)) {
+                    Object rawValue = field.getValue(component);
+                    value = (rawValue != null) ? directSerializer.serializeValue(field, rawValue) : EntityData.Value.getDefaultInstance();
+                } else {
+                    PersistedData fieldValue = serializer.serialize(field, component, serializationContext);
+                    value = ((ProtobufPersistedData) fieldValue).getValue();
+                }
                 entityFieldIds.write(field.getId());
 
-                entityData.addFieldValue(((ProtobufPersistedData) fieldValue).getValue());
+                entityData.addFieldValue(value);
                 fieldCount++;
             }
         }
@@ -229,12 +260,16 @@ public void deserializeOnto(MutableComponentContainer entity, EntityData.PackedE
                 component = metadata.newInstance();
             }
             Serializer serializer = typeSerializationLibrary.getSerializerFor(metadata);
+            DirectProtobufSerializer directSerializer = getDirectSerializerFor(metadata);
             for (int fieldIndex = 0; fieldIndex < UnsignedBytes.toInt(entityData.getComponentFieldCounts().byteAt(componentIndex)); ++fieldIndex) {
                 byte fieldId = entityData.getFieldIds().byteAt(fieldPos);
                 ReplicatedFieldMetadata fieldMetadata = metadata.getField(fieldId);
                 if (fieldMetadata != null && fieldCheck.shouldDeserialize(metadata, fieldMetadata)) {
                     logger.trace("Deserializing field {} of component {} as value {}", fieldMetadata, metadata, entityData.getFieldValue(fieldPos));
-                    serializer.deserializeOnto(component, fieldMetadata, new ProtobufPersistedData(entityData.getFieldValue(fieldPos)), deserializationContext);
+                    EntityData.Value value = entityData.getFieldValue(fieldPos);
+                    if (directSerializer == null || !directSerializer.deserializeOnto(component, fieldMetadata, value)) {
+                        serializer.deserializeOnto(component, fieldMetadata, new ProtobufPersistedData(value), deserializationContext);
+                    }
                 }
                 fieldPos++;
             }
@@ -255,6 +290,13 @@ public void deserializeOnto(MutableComponentContainer entity, EntityData.PackedE
         }
     }
 
+    private DirectProtobufSerializer getDirectSerializerFor(ComponentMetadata<?> componentMetadata) {
+        if (usingDirectSerialization) {
+            return typeSerializationLibrary.getDirectProtobufSerializerFor(componentMetadata);
+        }
+        return null;
+    }
+
     public EntityRef deserialize(EntityData.PackedEntity entityData) {
         EntityBuilder target;
         if (entityData.hasParentPrefabUri()) {
@@ -66,6 +66,7 @@
 import org.terasology.persistence.typeHandling.mathTypes.Vector3fTypeHandler;
 import org.terasology.persistence.typeHandling.mathTypes.Vector3iTypeHandler;
 import org.terasology.persistence.typeHandling.mathTypes.Vector4fTypeHandler;
+import org.terasology.persistence.typeHandling.protobuf.DirectProtobufSerializer;
 import org.terasology.reflection.MappedContainer;
 import org.terasology.reflection.copy.CopyStrategyLibrary;
 import org.terasology.reflection.metadata.ClassMetadata;
@@ -103,6 +104,7 @@ public class TypeSerializationLibrary {
     private CopyStrategyLibrary copyStrategies;
 
     private Map<ClassMetadata<?, ?>, Serializer> serializerMap = Maps.newHashMap();
+    private Map<ClassMetadata<?, ?>, DirectProtobufSerializer> directProtobufSerializerMap = Maps.newHashMap();
 
     /**
      * @param factory        The factory providing reflect implementation.
@@ -188,6 +190,21 @@ public Serializer getSerializerFor(ClassMetadata<?, ?> type) {
         return serializer;
     }
 
+    /**
+     * Obtains a serializer that writes the fields of the given type with standard type handlers straight to protobuf values
+     *
+     * @param type The ClassMetadata for the type of interest
+     * @return A direct protobuf serializer for the type, to be used together with the one from {@link #getSerializerFor(ClassMetadata)}
+     */
+    public DirectProtobufSerializer getDirectProtobufSerializerFor(ClassMetadata<?, ?> type) {
+        DirectProtobufSerializer serializer = directProtobufSerializerMap.get(type);
+        if (serializer == null) {
+            serializer = new DirectProtobufSerializer(type, getSerializerFor(type));
+            directProtobufSerializerMap.put(type, serializer);
+        }
+        return serializer;
+    }
+
     /**
      * Adds a type handler that will be to serialize a specified type.
      * If a type handler was previously registered for that type, it will be replaced with the new type handler.
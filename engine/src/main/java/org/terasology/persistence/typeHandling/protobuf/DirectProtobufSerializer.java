@@ -0,0 +1,238 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.persistence.typeHandling.protobuf;
+
+import org.terasology.math.geom.Quat4f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.persistence.typeHandling.Serializer;
+import org.terasology.persistence.typeHandling.TypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.BooleanTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.DoubleTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.FloatTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.IntTypeHandler;
+import org.terasology.persistence.typeHandling.coreTypes.StringTypeHandler;
+import org.terasology.persistence.typeHandling.mathTypes.Quat4fTypeHandler;
+import org.terasology.persistence.typeHandling.mathTypes.Vector3fTypeHandler;
+import org.terasology.protobuf.EntityData;
+import org.terasology.reflection.metadata.ClassMetadata;
+import org.terasology.reflection.metadata.FieldMetadata;
+
+/**
+ * Serializes the fields of a type straight to and from protobuf values, for the field types whose standard type handler
+ * is in use. This skips the creation of a {@link ProtobufPersistedData} per field and the dispatch through the type
+ * handler, which dominate the cost of serializing components with a few primitive fields.
+ * <br><br>
+ * The values are read and written through the accessors of the field metadata, so the byte code accessors get used when
+ * the type serialization library got created with a {@link org.terasology.reflection.reflect.ByteCodeReflectFactory}.
+ * Values are encoded like the type handlers encode them. Fields with other types or a custom type handler, and values
+ * that the type handler would have to convert, are left to the {@link Serializer}.
+ */
+public final class DirectProtobufSerializer {
+    private static final int MAX_FIELDS = 256;
+
+    private final FieldCodec[] codecs = new FieldCodec[MAX_FIELDS];
+
+    public DirectProtobufSerializer(ClassMetadata<?, ?> classMetadata, Serializer serializer) {
+        for (FieldMetadata<?, ?> field : classMetadata.getFields()) {
+            TypeHandler<?> handler = serializer.getHandlerFor(field);
+            if (handler != null && field.getType() == field.getField().getType()) {
+                codecs[field.getId() & 0xFF] = FieldCodec.find(handler, field.getType());
+            }
+        }
+    }
+
+    /**
+     * @return Whether values of the field get serialized directly
+     */
+    public boolean isDirect(FieldMetadata<?, ?> field) {
+        return codecs[field.getId() & 0xFF] != null;
+    }
+
+    /**
+     * @param field    A field of the type
+     * @param rawValue The value of the field, not null
+     * @return The serialized value, or null if the field has to be serialized through its type handler
+     */
+    public EntityData.Value serializeValue(FieldMetadata<?, ?> field, Object rawValue) {
+        FieldCodec codec = codecs[field.getId() & 0xFF];
+        if (codec != null) {
+            return codec.encode(rawValue);
+        }
+        return null;
+    }
+
+    /**
+     * Deserializes the value onto the field of the target.
+     *
+     * @return Whether the value got deserialized, false if it has to be deserialized through the type handler
+     */
+    @SuppressWarnings("unchecked")
+    public boolean deserializeOnto(Object target, FieldMetadata<?, ?> field, EntityData.Value value) {
+        FieldCodec codec = codecs[field.getId() & 0xFF];
+        if (codec != null) {
+            Object result = codec.decode(value);
+            if (result != null) {
+                ((FieldMetadata<Object, Object>) field).setValue(target, result);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The encodings of the standard type handlers. Decoding returns null for values the type handler would convert or
+     * reject, the number conversions follow {@link ProtobufPersistedData}.
+     */
+    private enum FieldCodec {
+        BOOLEAN(BooleanTypeHandler.class, Boolean.class, Boolean.TYPE) {
+            @Override
+            EntityData.Value encode(Object value) {
+                return EntityData.Value.newBuilder().addBoolean((Boolean) value).build();
+            }
+
+            @Override
+            Object decode(EntityData.Value value) {
+                return (value.getBooleanCount() == 1) ? value.getBoolean(0) : null;
+            }
+        },
+        INTEGER(IntTypeHandler.class, Integer.class, Integer.TYPE) {
+            @Override
+            EntityData.Value encode(Object value) {
+                return EntityData.Value.newBuilder().addInteger((Integer) value).build();
+            }
+
+            @Override
+            Object decode(EntityData.Value value) {
+                if (value.getIntegerCount() == 1) {
+                    return value.getInteger(0);
+                } else if (value.getDoubleCount() == 1) {
+                    return (int) value.getDouble(0);
+                } else if (value.getFloatCount() == 1) {
+                    return (int) value.getFloat(0);
+                } else if (value.getLongCount() == 1) {
+                    return (int) value.getLong(0);
+                }
+                return null;
+            }
+        },
+        FLOAT(FloatTypeHandler.class, Float.class, Float.TYPE) {
+            @Override
+            EntityData.Value encode(Object value) {
+                return EntityData.Value.newBuilder().addFloat((Float) value).build();
+            }
+
+            @Override
+            Object decode(EntityData.Value value) {
+                if (value.getFloatCount() == 1) {
+                    return value.getFloat(0);
+                } else if (value.getDoubleCount() == 1) {
+                    return (float) value.getDouble(0);
+                } else if (value.getLongCount() == 1) {
+                    return (float) value.getLong(0);
+                } else if (value.getIntegerCount() == 1) {
+                    return (float) value.getInteger(0);
+                }
+                return null;
+            }
+        },
+        DOUBLE(DoubleTypeHandler.class, Double.class, Double.TYPE) {
+            @Override
+            EntityData.Value encode(Object value) {
+                return EntityData.Value.newBuilder().addDouble((Double) value).build();
+            }
+
+            @Override
+            Object decode(EntityData.Value value) {
+                if (value.getDoubleCount() == 1) {
+                    return value.getDouble(0);
+                } else if (value.getFloatCount() == 1) {
+                    return (double) value.getFloat(0);
+                } else if (value.getLongCount() == 1) {
+                    return (double) value.getLong(0);
+                } else if (value.getIntegerCount() == 1) {
+                    return (double) value.getInteger(0);
+                }
+                return null;
+            }
+        },
+        STRING(StringTypeHandler.class, String.class) {
+            @Override
+            EntityData.Value encode(Object value) {
+                return EntityData.Value.newBuilder().addString((String) value).build();
+            }
+
+            @Override
+            Object decode(EntityData.Value value) {
+                return (value.getStringCount() == 1) ? value.getString(0) : null;
+            }
+        },
+        VECTOR3F(Vector3fTypeHandler.class, Vector3f.class) {
+            @Override
+            EntityData.Value encode(Object value) {
+                Vector3f vector = (Vector3f) value;
+                return EntityData.Value.newBuilder().addFloat(vector.x).addFloat(vector.y).addFloat(vector.z).build();
+            }
+
+            @Override
+            Object decode(EntityData.Value value) {
+                if (value.getFloatCount() > 2) {
+                    return new Vector3f(value.getFloat(0), value.getFloat(1), value.getFloat(2));
+                }
+                return null;
+            }
+        },
+        QUAT4F(Quat4fTypeHandler.class, Quat4f.class) {
+            @Override
+            EntityData.Value encode(Object value) {
+                Quat4f quat = (Quat4f) value;
+                return EntityData.Value.newBuilder().addFloat(quat.x).addFloat(quat.y).addFloat(quat.z).addFloat(quat.w).build();
+            }
+
+            @Override
+            Object decode(EntityData.Value value) {
+                if (value.getFloatCount() > 3) {
+                    return new Quat4f(value.getFloat(0), value.getFloat(1), value.getFloat(2), value.getFloat(3));
+                }
+                return null;
+            }
+        };
+
+        private final Class<? extends TypeHandler> handlerType;
+        private final Class<?>[] fieldTypes;
+
+        FieldCodec(Class<? extends TypeHandler> handlerType, Class<?>... fieldTypes) {
+            this.handlerType = handlerType;
+            this.fieldTypes = fieldTypes;
+        }
+
+        abstract EntityData.Value encode(Object value);
+
+        abstract Object decode(EntityData.Value value);
+
+        static FieldCodec find(TypeHandler<?> handler, Class<?> fieldType) {
+            for (FieldCodec codec : values()) {
+                if (codec.handlerType == handler.getClass()) {
+                    for (Class<?> type : codec.fieldTypes) {
+                        if (type == fieldType) {
+                            return codec;
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
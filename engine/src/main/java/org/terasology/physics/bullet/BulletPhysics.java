@@ -79,6 +79,8 @@
 import org.terasology.registry.CoreRegistry;
 import org.terasology.world.BlockEntityRegistry;
 import org.terasology.world.WorldProvider;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.ChunkProvider;
 
 import javax.vecmath.Matrix3f;
 import javax.vecmath.Matrix4f;
@@ -99,6 +101,10 @@
 public class BulletPhysics implements PhysicsEngine {
 
     private static final Logger logger = LoggerFactory.getLogger(BulletPhysics.class);
+    /**
+     * Seconds between the checks whether rigid bodies left or entered the relevant area of the world.
+     */
+    private static final float PARKING_CHECK_INTERVAL = 1.0f;
 
     private final Deque<RigidBodyRequest> insertionQueue = Lists.newLinkedList();
     private final Deque<BulletRigidBody> removalQueue = Lists.newLinkedList();
@@ -107,12 +113,14 @@ public class BulletPhysics implements PhysicsEngine {
     private final BroadphaseInterface broadphase;
     private final DiscreteDynamicsWorld discreteDynamicsWorld;
     private final BlockEntityRegistry blockEntityRegistry;
+    private final WorldProvider worldProvider;
     private final PhysicsWorldWrapper wrapper;
     private final PhysicsLiquidWrapper liquidWrapper;
     private Map<EntityRef, BulletRigidBody> entityRigidBodies = Maps.newHashMap();
     private Map<EntityRef, BulletCharacterMoverCollider> entityColliders = Maps.newHashMap();
     private Map<EntityRef, PairCachingGhostObject> entityTriggers = Maps.newHashMap();
     private List<PhysicsSystem.CollisionPair> collisions = new ArrayList<>();
+    private float timeSinceParkingCheck;
 
     public BulletPhysics(WorldProvider world) {
         broadphase = new DbvtBroadphase();
@@ -123,8 +131,9 @@ public BulletPhysics(WorldProvider world) {
         discreteDynamicsWorld = new DiscreteDynamicsWorld(dispatcher, broadphase, sequentialImpulseConstraintSolver, defaultCollisionConfiguration);
         discreteDynamicsWorld.setGravity(new Vector3f(0f, -15f, 0f));
         blockEntityRegistry = CoreRegistry.get(BlockEntityRegistry.class);
+        worldProvider = world;
 
-        wrapper = new PhysicsWorldWrapper(world);
+        wrapper = new PhysicsWorldWrapper(world, CoreRegistry.get(ChunkProvider.class), CoreRegistry.get(BlockManager.class));
         VoxelWorldShape worldShape = new VoxelWorldShape(wrapper);
 
         liquidWrapper = new PhysicsLiquidWrapper(world);
@@ -222,8 +231,9 @@ public HitResult rayTrace(org.terasology.math.geom.Vector3f from1, org.terasolog
         // lookup all the collision item ids for these entities
         Set<Integer> excludedCollisionIds = Sets.newHashSet();
         for (EntityRef excludedEntity : excludedEntities) {
-            if (entityRigidBodies.containsKey(excludedEntity)) {
-                excludedCollisionIds.add(entityRigidBodies.get(excludedEntity).rb.getBroadphaseHandle().getUid());
+            BulletRigidBody excludedBody = entityRigidBodies.get(excludedEntity);
+            if (excludedBody != null && excludedBody.rb.getBroadphaseHandle() != null) {
+                excludedCollisionIds.add(excludedBody.rb.getBroadphaseHandle().getUid());
             }
             if (entityColliders.containsKey(excludedEntity)) {
                 excludedCollisionIds.add(entityColliders.get(excludedEntity).collider.getBroadphaseHandle().getUid());
@@ -262,6 +272,11 @@ public HitResult rayTrace(org.terasology.math.geom.Vector3f from1, org.terasolog
     @Override
     public void update(float delta) {
         processQueuedBodies();
+        timeSinceParkingCheck += delta;
+        if (timeSinceParkingCheck >= PARKING_CHECK_INTERVAL) {
+            timeSinceParkingCheck = 0;
+            updateParkedBodies();
+        }
         applyPendingImpulsesAndForces();
         try {
             PerformanceMonitor.startActivity("Step Simulation");
@@ -580,6 +595,8 @@ private CharacterCollider createCustomCollider(Vector3f pos, ConvexShape shape,
     private synchronized void processQueuedBodies() {
         while (!insertionQueue.isEmpty()) {
             RigidBodyRequest request = insertionQueue.poll();
+            request.body.groups = request.groups;
+            request.body.filter = request.filter;
             discreteDynamicsWorld.addRigidBody(request.body.rb, request.groups, request.filter);
         }
         while (!removalQueue.isEmpty()) {
@@ -588,6 +605,45 @@ private synchronized void processQueuedBodies() {
         }
     }
 
+    /**
+     * Removes the rigid bodies outside of the relevant area of the world from the simulation and adds those that are
+     * back in it again. Bodies in chunks that aren't loaded would otherwise keep being simulated against the unloaded
+     * block. Also publishes the numbers of active, sleeping and parked bodies to the performance monitor.
+     */
+    private void updateParkedBodies() {
+        int active = 0;
+        int sleeping = 0;
+        int parked = 0;
+        Vector3f position = new Vector3f();
+        for (BulletRigidBody body : entityRigidBodies.values()) {
+            if (body.rb.getBroadphaseHandle() == null && !body.parked) {
+                // not added to the simulation yet
+                continue;
+            }
+            body.rb.getCenterOfMassPosition(position);
+            boolean relevant = worldProvider.isBlockRelevant(VecMath.from(position));
+            if (body.parked && relevant) {
+                body.parked = false;
+                discreteDynamicsWorld.addRigidBody(body.rb, body.groups, body.filter);
+                body.rb.activate();
+            } else if (!body.parked && !relevant) {
+                body.parked = true;
+                discreteDynamicsWorld.removeRigidBody(body.rb);
+            }
+
+            if (body.parked) {
+                parked++;
+            } else if (body.rb.isActive()) {
+                active++;
+            } else {
+                sleeping++;
+            }
+        }
+        PerformanceMonitor.setGauge("Active rigid bodies", active);
+        PerformanceMonitor.setGauge("Sleeping rigid bodies", sleeping);
+        PerformanceMonitor.setGauge("Parked rigid bodies", parked);
+    }
+
     /**
      * Applies all pending impulses to the corresponding rigidBodies and clears
      * the pending impulses.
@@ -779,6 +835,12 @@ private static class BulletRigidBody implements RigidBody {
 
         public final com.bulletphysics.dynamics.RigidBody rb;
         public short collidesWith;
+        /**
+         * Whether the body has been removed from the simulation as it is outside of the relevant area.
+         */
+        private boolean parked;
+        private short groups;
+        private short filter;
         private final Transform pooledTransform = new Transform();
         private final Vector3f pendingImpulse = new Vector3f();
         private final Vector3f pendingForce = new Vector3f();
@@ -874,7 +936,7 @@ public void setTransform(org.terasology.math.geom.Vector3f location, org.terasol
 
         @Override
         public boolean isActive() {
-            return rb.isActive();
+            return !parked && rb.isActive();
         }
     }
 
@@ -26,10 +26,15 @@
  * This motion state is used to connect rigid body entities to their rigid body in the bullet physics engine.
  * Bullet reads the initial state of the rigid body out of the entity, and then updates its location and rotation
  * as it moves under physics.
+ * <br><br>
+ * Bullet passes the transform of every body each step, including sleeping ones. The location of the entity is only
+ * written if the transform changed since the last time.
  *
  */
 public class EntityMotionState extends MotionState {
     private EntityRef entity;
+    private final Transform lastTransform = new Transform();
+    private boolean lastTransformSet;
 
     /**
      * Only the BulletPhysics class is expected to create instances.
@@ -53,6 +58,11 @@ public Transform getWorldTransform(Transform transform) {
 
     @Override
     public void setWorldTransform(Transform transform) {
+        if (lastTransformSet && lastTransform.equals(transform)) {
+            return;
+        }
+        lastTransform.set(transform);
+        lastTransformSet = true;
         LocationComponent loc = entity.getComponent(LocationComponent.class);
         if (loc != null) {
             loc.setWorldPosition(VecMath.from(transform.origin));
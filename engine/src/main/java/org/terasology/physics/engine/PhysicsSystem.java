@@ -186,10 +186,10 @@ public void update(float delta) {
         Iterator<EntityRef> iter = physics.physicsEntitiesIterator();
         while (iter.hasNext()) {
             EntityRef entity = iter.next();
-            RigidBodyComponent comp = entity.getComponent(RigidBodyComponent.class);
             RigidBody body = physics.getRigidBody(entity);
 
             if (body.isActive()) {
+                RigidBodyComponent comp = entity.getComponent(RigidBodyComponent.class);
                 body.getLinearVelocity(comp.velocity);
                 body.getAngularVelocity(comp.angularVelocity);
 
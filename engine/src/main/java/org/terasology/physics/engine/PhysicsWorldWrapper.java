@@ -19,48 +19,178 @@
 import com.bulletphysics.collision.shapes.CollisionShape;
 import com.bulletphysics.collision.shapes.voxel.VoxelInfo;
 import com.bulletphysics.collision.shapes.voxel.VoxelPhysicsWorld;
+import org.terasology.math.ChunkMath;
 import org.terasology.math.VecMath;
-import org.terasology.math.geom.Vector3f;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.world.WorldProvider;
 import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.block.PackedBlockProperties;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.ChunkProvider;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * This class links Terasology's voxel world with the physics engine, providing it with the collision information for each block location.
- *
+ * <br><br>
+ * If created with a chunk provider and block manager, the block ids get read directly from the chunk of the last query,
+ * which is usually the chunk of the next one too. The collision information is derived once per block id and shared by
+ * all voxels of that block; only colliding or blocking voxels get an extra object carrying their position. As the
+ * block ids are read from the chunk on every query, block changes take effect immediately, while the derived
+ * information gets discarded whenever blocks get registered.
+ * <br><br>
+ * Queries may run on several threads at once: the last chunk and the derived information are immutable snapshots that
+ * get replaced as a whole, so a thread at worst looks up a chunk or derives the information of a block again.
  */
 public class PhysicsWorldWrapper implements VoxelPhysicsWorld {
 
     private WorldProvider world;
+    private ChunkProvider chunkProvider;
+    private BlockManager blockManager;
+
+    private volatile VoxelInfoCache voxelInfos = new VoxelInfoCache(null, 0);
+    private volatile LastChunk lastChunk;
 
     public PhysicsWorldWrapper(WorldProvider world) {
+        this(world, null, null);
+    }
+
+    /**
+     * @param chunkProvider the chunk provider to read the blocks from, or null to resolve every block through the world
+     * @param blockManager  the block manager the ids of the blocks get resolved with, required if a chunk provider is given
+     */
+    public PhysicsWorldWrapper(WorldProvider world, ChunkProvider chunkProvider, BlockManager blockManager) {
         this.world = world;
+        this.chunkProvider = chunkProvider;
+        this.blockManager = blockManager;
     }
 
     @Override
     public VoxelInfo getCollisionShapeAt(int x, int y, int z) {
-        Block block = world.getBlock(x, y, z);
-        return new TeraVoxelInfo(block, block.isTargetable(), !block.isPenetrable(), new Vector3i(x, y, z));
+        if (chunkProvider == null) {
+            Block block = world.getBlock(x, y, z);
+            return new PositionedVoxelInfo(new BlockVoxelInfo(block), x, y, z);
+        }
+
+        short id;
+        Chunk chunk = getChunkAt(x, y, z);
+        if (chunk != null) {
+            id = chunk.getBlockId(ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z));
+        } else {
+            id = world.getBlock(x, y, z).getId();
+        }
+        BlockVoxelInfo info = getVoxelInfo(id);
+        if (info.isColliding() || info.isBlocking()) {
+            // ray test results keep the user data, so the position can't be shared
+            return new PositionedVoxelInfo(info, x, y, z);
+        }
+        return info;
+    }
+
+    private Chunk getChunkAt(int x, int y, int z) {
+        int chunkX = ChunkMath.calcChunkPosX(x);
+        int chunkY = ChunkMath.calcChunkPosY(y);
+        int chunkZ = ChunkMath.calcChunkPosZ(z);
+        LastChunk last = lastChunk;
+        if (last != null && last.isAt(chunkX, chunkY, chunkZ) && !last.chunk.isDisposed()) {
+            return last.chunk;
+        }
+        Chunk chunk = chunkProvider.getChunk(chunkX, chunkY, chunkZ);
+        if (chunk != null) {
+            lastChunk = new LastChunk(chunk, chunkX, chunkY, chunkZ);
+        }
+        return chunk;
+    }
+
+    private BlockVoxelInfo getVoxelInfo(short id) {
+        int index = id & 0xFFFF;
+        PackedBlockProperties currentBlocks = blockManager.getBlockProperties();
+        VoxelInfoCache cache = voxelInfos;
+        if (cache.registeredBlocks != currentBlocks) {
+            cache = new VoxelInfoCache(currentBlocks, Math.max(index + 1, cache.infos.length()), null);
+            voxelInfos = cache;
+        } else if (index >= cache.infos.length()) {
+            cache = new VoxelInfoCache(currentBlocks, Math.max(index + 1, 2 * cache.infos.length()), cache);
+            voxelInfos = cache;
+        }
+        BlockVoxelInfo info = cache.infos.get(index);
+        if (info == null) {
+            info = new BlockVoxelInfo(blockManager.getBlock(id));
+            cache.infos.set(index, info);
+        }
+        return info;
     }
 
     public void dispose() {
         world = null;
+        chunkProvider = null;
+        blockManager = null;
+        lastChunk = null;
+        voxelInfos = new VoxelInfoCache(null, 0);
     }
 
-    private static class TeraVoxelInfo implements VoxelInfo {
+    /**
+     * The loaded chunk of the last query and its position.
+     */
+    private static final class LastChunk {
+        private final Chunk chunk;
+        private final int x;
+        private final int y;
+        private final int z;
 
-        private boolean colliding;
-        private boolean blocking;
-        private CollisionShape shape;
-        private Vector3i position;
-        private Vector3f offset;
+        LastChunk(Chunk chunk, int x, int y, int z) {
+            this.chunk = chunk;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        boolean isAt(int chunkX, int chunkY, int chunkZ) {
+            return x == chunkX && y == chunkY && z == chunkZ;
+        }
+    }
+
+    /**
+     * The collision information derived for the blocks of one block registration, indexed by block id.
+     */
+    private static final class VoxelInfoCache {
+        private final PackedBlockProperties registeredBlocks;
+        private final AtomicReferenceArray<BlockVoxelInfo> infos;
+
+        VoxelInfoCache(PackedBlockProperties registeredBlocks, int capacity) {
+            this.registeredBlocks = registeredBlocks;
+            this.infos = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * @param previous a cache of the same block registration to take the derived information from, or null.
+         */
+        VoxelInfoCache(PackedBlockProperties registeredBlocks, int capacity, VoxelInfoCache previous) {
+            this(registeredBlocks, capacity);
+            if (previous != null) {
+                for (int i = 0; i < previous.infos.length(); i++) {
+                    infos.set(i, previous.infos.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * The collision information of a block, shared by all voxels of the block that neither collide nor block.
+     */
+    private static class BlockVoxelInfo implements VoxelInfo {
 
-         TeraVoxelInfo(Block block, boolean colliding, boolean blocking, Vector3i position) {
+        private final boolean colliding;
+        private final boolean blocking;
+        private final CollisionShape shape;
+        private final javax.vecmath.Vector3f offset;
+
+        BlockVoxelInfo(Block block) {
             this.shape = block.getCollisionShape();
-            this.offset = block.getCollisionOffset();
-            this.colliding = shape != null && colliding;
-            this.blocking = shape != null && blocking;
-            this.position = position;
+            this.offset = VecMath.to(block.getCollisionOffset());
+            this.colliding = shape != null && block.isTargetable();
+            this.blocking = shape != null && !block.isPenetrable();
         }
 
         @Override
@@ -70,7 +200,7 @@ public boolean isColliding() {
 
         @Override
         public Object getUserData() {
-            return position;
+            return null;
         }
 
         @Override
@@ -80,7 +210,8 @@ public CollisionShape getCollisionShape() {
 
         @Override
         public javax.vecmath.Vector3f getCollisionOffset() {
-            return VecMath.to(offset);
+            // the offset is shared by all voxels of the block, so callers get a copy they may modify
+            return new javax.vecmath.Vector3f(offset);
         }
 
         @Override
@@ -88,4 +219,51 @@ public boolean isBlocking() {
             return blocking;
         }
     }
+
+    /**
+     * The collision information of a block at a specific position, which is the user data of the voxel.
+     */
+    private static class PositionedVoxelInfo implements VoxelInfo {
+
+        private final BlockVoxelInfo blockInfo;
+        private final int x;
+        private final int y;
+        private final int z;
+        private Vector3i position;
+
+        PositionedVoxelInfo(BlockVoxelInfo blockInfo, int x, int y, int z) {
+            this.blockInfo = blockInfo;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        public boolean isColliding() {
+            return blockInfo.isColliding();
+        }
+
+        @Override
+        public Object getUserData() {
+            if (position == null) {
+                position = new Vector3i(x, y, z);
+            }
+            return position;
+        }
+
+        @Override
+        public CollisionShape getCollisionShape() {
+            return blockInfo.getCollisionShape();
+        }
+
+        @Override
+        public javax.vecmath.Vector3f getCollisionOffset() {
+            return blockInfo.getCollisionOffset();
+        }
+
+        @Override
+        public boolean isBlocking() {
+            return blockInfo.isBlocking();
+        }
+    }
 }
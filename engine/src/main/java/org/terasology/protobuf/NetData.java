@@ -214,6 +214,50 @@ org.terasology.protobuf.NetData.EventMessageOrBuilder getEventOrBuilder(
     org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuilder(
         int index);
 
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    java.util.List<org.terasology.protobuf.NetData.Vector3iData> 
+        getCachedChunkList();
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    org.terasology.protobuf.NetData.Vector3iData getCachedChunk(int index);
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    int getCachedChunkCount();
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    java.util.List<? extends org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
+        getCachedChunkOrBuilderList();
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getCachedChunkOrBuilder(
+        int index);
+
     /**
      * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
      */
@@ -526,6 +570,14 @@ private NetMessage(
               biomeChange_.add(input.readMessage(org.terasology.protobuf.NetData.BiomeChangeMessage.PARSER, extensionRegistry));
               break;
             }
+            case 90: {
+              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+                cachedChunk_ = new java.util.ArrayList<org.terasology.protobuf.NetData.Vector3iData>();
+                mutable_bitField0_ |= 0x00000200;
+              }
+              cachedChunk_.add(input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry));
+              break;
+            }
             case 122: {
               org.terasology.protobuf.NetData.ServerInfoRequest.Builder subBuilder = null;
               if (((bitField0_ & 0x00000002) == 0x00000002)) {
@@ -553,9 +605,9 @@ private NetMessage(
               break;
             }
             case 138: {
-              if (!((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+              if (!((mutable_bitField0_ & 0x00001000) == 0x00001000)) {
                 blockFamilyRegistered_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage>();
-                mutable_bitField0_ |= 0x00000800;
+                mutable_bitField0_ |= 0x00001000;
               }
               blockFamilyRegistered_.add(input.readMessage(org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.PARSER, extensionRegistry));
               break;
@@ -574,9 +626,9 @@ private NetMessage(
               break;
             }
             case 154: {
-              if (!((mutable_bitField0_ & 0x00002000) == 0x00002000)) {
+              if (!((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
                 moduleRequest_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ModuleRequest>();
-                mutable_bitField0_ |= 0x00002000;
+                mutable_bitField0_ |= 0x00004000;
               }
               moduleRequest_.add(input.readMessage(org.terasology.protobuf.NetData.ModuleRequest.PARSER, extensionRegistry));
               break;
@@ -704,10 +756,13 @@ private NetMessage(
         if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
           biomeChange_ = java.util.Collections.unmodifiableList(biomeChange_);
         }
-        if (((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+        if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+          cachedChunk_ = java.util.Collections.unmodifiableList(cachedChunk_);
+        }
+        if (((mutable_bitField0_ & 0x00001000) == 0x00001000)) {
           blockFamilyRegistered_ = java.util.Collections.unmodifiableList(blockFamilyRegistered_);
         }
-        if (((mutable_bitField0_ & 0x00002000) == 0x00002000)) {
+        if (((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
           moduleRequest_ = java.util.Collections.unmodifiableList(moduleRequest_);
         }
         this.unknownFields = unknownFields.build();
@@ -1037,6 +1092,61 @@ public org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChang
       return biomeChange_.get(index);
     }
 
+    public static final int CACHEDCHUNK_FIELD_NUMBER = 11;
+    private java.util.List<org.terasology.protobuf.NetData.Vector3iData> cachedChunk_;
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    public java.util.List<org.terasology.protobuf.NetData.Vector3iData> getCachedChunkList() {
+      return cachedChunk_;
+    }
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    public java.util.List<? extends org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
+        getCachedChunkOrBuilderList() {
+      return cachedChunk_;
+    }
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    public int getCachedChunkCount() {
+      return cachedChunk_.size();
+    }
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    public org.terasology.protobuf.NetData.Vector3iData getCachedChunk(int index) {
+      return cachedChunk_.get(index);
+    }
+    /**
+     * <code>repeated .Vector3iData cachedChunk = 11;</code>
+     *
+     * <pre>
+     * Chunks to take from the client's chunk cache instead of chunkInfo
+     * </pre>
+     */
+    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getCachedChunkOrBuilder(
+        int index) {
+      return cachedChunk_.get(index);
+    }
+
     public static final int SERVERINFOREQUEST_FIELD_NUMBER = 15;
     private org.terasology.protobuf.NetData.ServerInfoRequest serverInfoRequest_;
     /**
@@ -1339,6 +1449,7 @@ private void initFields() {
       event_ = java.util.Collections.emptyList();
       time_ = 0L;
       biomeChange_ = java.util.Collections.emptyList();
+      cachedChunk_ = java.util.Collections.emptyList();
       serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
       serverInfo_ = org.terasology.protobuf.NetData.ServerInfoMessage.getDefaultInstance();
       blockFamilyRegistered_ = java.util.Collections.emptyList();
@@ -1519,6 +1630,9 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       for (int i = 0; i < biomeChange_.size(); i++) {
         output.writeMessage(10, biomeChange_.get(i));
       }
+      for (int i = 0; i < cachedChunk_.size(); i++) {
+        output.writeMessage(11, cachedChunk_.get(i));
+      }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeMessage(15, serverInfoRequest_);
       }
@@ -1601,6 +1715,10 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(10, biomeChange_.get(i));
       }
+      for (int i = 0; i < cachedChunk_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, cachedChunk_.get(i));
+      }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(15, serverInfoRequest_);
@@ -1768,6 +1886,7 @@ private void maybeForceBuilderInitialization() {
           getUpdateEntityFieldBuilder();
           getEventFieldBuilder();
           getBiomeChangeFieldBuilder();
+          getCachedChunkFieldBuilder();
           getServerInfoRequestFieldBuilder();
           getServerInfoFieldBuilder();
           getBlockFamilyRegisteredFieldBuilder();
@@ -1838,21 +1957,27 @@ public Builder clear() {
         } else {
           biomeChangeBuilder_.clear();
         }
+        if (cachedChunkBuilder_ == null) {
+          cachedChunk_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+        } else {
+          cachedChunkBuilder_.clear();
+        }
         if (serverInfoRequestBuilder_ == null) {
           serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
         } else {
           serverInfoRequestBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000200);
+        bitField0_ = (bitField0_ & ~0x00000400);
         if (serverInfoBuilder_ == null) {
           serverInfo_ = org.terasology.protobuf.NetData.ServerInfoMessage.getDefaultInstance();
         } else {
           serverInfoBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000400);
+        bitField0_ = (bitField0_ & ~0x00000800);
         if (blockFamilyRegisteredBuilder_ == null) {
           blockFamilyRegistered_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000800);
+          bitField0_ = (bitField0_ & ~0x00001000);
         } else {
           blockFamilyRegisteredBuilder_.clear();
         }
@@ -1861,10 +1986,10 @@ public Builder clear() {
         } else {
           joinBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00001000);
+        bitField0_ = (bitField0_ & ~0x00002000);
         if (moduleRequestBuilder_ == null) {
           moduleRequest_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00002000);
+          bitField0_ = (bitField0_ & ~0x00004000);
         } else {
           moduleRequestBuilder_.clear();
         }
@@ -1873,43 +1998,43 @@ public Builder clear() {
         } else {
           moduleDataHeaderBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00004000);
+        bitField0_ = (bitField0_ & ~0x00008000);
         if (moduleDataBuilder_ == null) {
           moduleData_ = org.terasology.protobuf.NetData.ModuleData.getDefaultInstance();
         } else {
           moduleDataBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00008000);
+        bitField0_ = (bitField0_ & ~0x00010000);
         if (joinCompleteBuilder_ == null) {
           joinComplete_ = org.terasology.protobuf.NetData.JoinCompleteMessage.getDefaultInstance();
         } else {
           joinCompleteBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00010000);
+        bitField0_ = (bitField0_ & ~0x00020000);
         if (handshakeHelloBuilder_ == null) {
           handshakeHello_ = org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance();
         } else {
           handshakeHelloBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00040000);
         if (newIdentityRequestBuilder_ == null) {
           newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
         } else {
           newIdentityRequestBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00040000);
+        bitField0_ = (bitField0_ & ~0x00080000);
         if (provisionIdentityBuilder_ == null) {
           provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
         } else {
           provisionIdentityBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00080000);
+        bitField0_ = (bitField0_ & ~0x00100000);
         if (handshakeVerificationBuilder_ == null) {
           handshakeVerification_ = org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
         } else {
           handshakeVerificationBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00100000);
+        bitField0_ = (bitField0_ & ~0x00200000);
         return this;
       }
 
@@ -2014,7 +2139,16 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.biomeChange_ = biomeChangeBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+        if (cachedChunkBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) == 0x00000200)) {
+            cachedChunk_ = java.util.Collections.unmodifiableList(cachedChunk_);
+            bitField0_ = (bitField0_ & ~0x00000200);
+          }
+          result.cachedChunk_ = cachedChunk_;
+        } else {
+          result.cachedChunk_ = cachedChunkBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
           to_bitField0_ |= 0x00000002;
         }
         if (serverInfoRequestBuilder_ == null) {
@@ -2022,7 +2156,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.serverInfoRequest_ = serverInfoRequestBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
           to_bitField0_ |= 0x00000004;
         }
         if (serverInfoBuilder_ == null) {
@@ -2031,15 +2165,15 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
           result.serverInfo_ = serverInfoBuilder_.build();
         }
         if (blockFamilyRegisteredBuilder_ == null) {
-          if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          if (((bitField0_ & 0x00001000) == 0x00001000)) {
             blockFamilyRegistered_ = java.util.Collections.unmodifiableList(blockFamilyRegistered_);
-            bitField0_ = (bitField0_ & ~0x00000800);
+            bitField0_ = (bitField0_ & ~0x00001000);
           }
           result.blockFamilyRegistered_ = blockFamilyRegistered_;
         } else {
           result.blockFamilyRegistered_ = blockFamilyRegisteredBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
           to_bitField0_ |= 0x00000008;
         }
         if (joinBuilder_ == null) {
@@ -2048,15 +2182,15 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
           result.join_ = joinBuilder_.build();
         }
         if (moduleRequestBuilder_ == null) {
-          if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          if (((bitField0_ & 0x00004000) == 0x00004000)) {
             moduleRequest_ = java.util.Collections.unmodifiableList(moduleRequest_);
-            bitField0_ = (bitField0_ & ~0x00002000);
+            bitField0_ = (bitField0_ & ~0x00004000);
           }
           result.moduleRequest_ = moduleRequest_;
         } else {
           result.moduleRequest_ = moduleRequestBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
           to_bitField0_ |= 0x00000010;
         }
         if (moduleDataHeaderBuilder_ == null) {
@@ -2064,7 +2198,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.moduleDataHeader_ = moduleDataHeaderBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
           to_bitField0_ |= 0x00000020;
         }
         if (moduleDataBuilder_ == null) {
@@ -2072,7 +2206,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.moduleData_ = moduleDataBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
           to_bitField0_ |= 0x00000040;
         }
         if (joinCompleteBuilder_ == null) {
@@ -2080,7 +2214,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.joinComplete_ = joinCompleteBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
           to_bitField0_ |= 0x00000080;
         }
         if (handshakeHelloBuilder_ == null) {
@@ -2088,7 +2222,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.handshakeHello_ = handshakeHelloBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
           to_bitField0_ |= 0x00000100;
         }
         if (newIdentityRequestBuilder_ == null) {
@@ -2096,7 +2230,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.newIdentityRequest_ = newIdentityRequestBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
           to_bitField0_ |= 0x00000200;
         }
         if (provisionIdentityBuilder_ == null) {
@@ -2104,7 +2238,7 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.provisionIdentity_ = provisionIdentityBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
           to_bitField0_ |= 0x00000400;
         }
         if (handshakeVerificationBuilder_ == null) {
@@ -2339,6 +2473,32 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
             }
           }
         }
+        if (cachedChunkBuilder_ == null) {
+          if (!other.cachedChunk_.isEmpty()) {
+            if (cachedChunk_.isEmpty()) {
+              cachedChunk_ = other.cachedChunk_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+            } else {
+              ensureCachedChunkIsMutable();
+              cachedChunk_.addAll(other.cachedChunk_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.cachedChunk_.isEmpty()) {
+            if (cachedChunkBuilder_.isEmpty()) {
+              cachedChunkBuilder_.dispose();
+              cachedChunkBuilder_ = null;
+              cachedChunk_ = other.cachedChunk_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+              cachedChunkBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getCachedChunkFieldBuilder() : null;
+            } else {
+              cachedChunkBuilder_.addAllMessages(other.cachedChunk_);
+            }
+          }
+        }
         if (other.hasServerInfoRequest()) {
           mergeServerInfoRequest(other.getServerInfoRequest());
         }
@@ -2349,7 +2509,7 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
           if (!other.blockFamilyRegistered_.isEmpty()) {
             if (blockFamilyRegistered_.isEmpty()) {
               blockFamilyRegistered_ = other.blockFamilyRegistered_;
-              bitField0_ = (bitField0_ & ~0x00000800);
+              bitField0_ = (bitField0_ & ~0x00001000);
             } else {
               ensureBlockFamilyRegisteredIsMutable();
               blockFamilyRegistered_.addAll(other.blockFamilyRegistered_);
@@ -2362,7 +2522,7 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
               blockFamilyRegisteredBuilder_.dispose();
               blockFamilyRegisteredBuilder_ = null;
               blockFamilyRegistered_ = other.blockFamilyRegistered_;
-              bitField0_ = (bitField0_ & ~0x00000800);
+              bitField0_ = (bitField0_ & ~0x00001000);
               blockFamilyRegisteredBuilder_ = 
                 com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
                    getBlockFamilyRegisteredFieldBuilder() : null;
@@ -2378,7 +2538,7 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
           if (!other.moduleRequest_.isEmpty()) {
             if (moduleRequest_.isEmpty()) {
               moduleRequest_ = other.moduleRequest_;
-              bitField0_ = (bitField0_ & ~0x00002000);
+              bitField0_ = (bitField0_ & ~0x00004000);
             } else {
               ensureModuleRequestIsMutable();
               moduleRequest_.addAll(other.moduleRequest_);
@@ -2391,7 +2551,7 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
               moduleRequestBuilder_.dispose();
               moduleRequestBuilder_ = null;
               moduleRequest_ = other.moduleRequest_;
-              bitField0_ = (bitField0_ & ~0x00002000);
+              bitField0_ = (bitField0_ & ~0x00004000);
               moduleRequestBuilder_ = 
                 com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
                    getModuleRequestFieldBuilder() : null;
@@ -4525,133 +4685,445 @@ public org.terasology.protobuf.NetData.BiomeChangeMessage.Builder addBiomeChange
         return biomeChangeBuilder_;
       }
 
-      private org.terasology.protobuf.NetData.ServerInfoRequest serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.ServerInfoRequest, org.terasology.protobuf.NetData.ServerInfoRequest.Builder, org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder> serverInfoRequestBuilder_;
+      private java.util.List<org.terasology.protobuf.NetData.Vector3iData> cachedChunk_ =
+        java.util.Collections.emptyList();
+      private void ensureCachedChunkIsMutable() {
+        if (!((bitField0_ & 0x00000200) == 0x00000200)) {
+          cachedChunk_ = new java.util.ArrayList<org.terasology.protobuf.NetData.Vector3iData>(cachedChunk_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> cachedChunkBuilder_;
+
       /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      public boolean hasServerInfoRequest() {
-        return ((bitField0_ & 0x00000200) == 0x00000200);
+      public java.util.List<org.terasology.protobuf.NetData.Vector3iData> getCachedChunkList() {
+        if (cachedChunkBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(cachedChunk_);
+        } else {
+          return cachedChunkBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      public org.terasology.protobuf.NetData.ServerInfoRequest getServerInfoRequest() {
-        if (serverInfoRequestBuilder_ == null) {
-          return serverInfoRequest_;
+      public int getCachedChunkCount() {
+        if (cachedChunkBuilder_ == null) {
+          return cachedChunk_.size();
         } else {
-          return serverInfoRequestBuilder_.getMessage();
+          return cachedChunkBuilder_.getCount();
         }
       }
       /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      public Builder setServerInfoRequest(org.terasology.protobuf.NetData.ServerInfoRequest value) {
-        if (serverInfoRequestBuilder_ == null) {
+      public org.terasology.protobuf.NetData.Vector3iData getCachedChunk(int index) {
+        if (cachedChunkBuilder_ == null) {
+          return cachedChunk_.get(index);
+        } else {
+          return cachedChunkBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public Builder setCachedChunk(
+          int index, org.terasology.protobuf.NetData.Vector3iData value) {
+        if (cachedChunkBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          serverInfoRequest_ = value;
+          ensureCachedChunkIsMutable();
+          cachedChunk_.set(index, value);
           onChanged();
         } else {
-          serverInfoRequestBuilder_.setMessage(value);
+          cachedChunkBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00000200;
         return this;
       }
       /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      public Builder setServerInfoRequest(
-          org.terasology.protobuf.NetData.ServerInfoRequest.Builder builderForValue) {
-        if (serverInfoRequestBuilder_ == null) {
-          serverInfoRequest_ = builderForValue.build();
+      public Builder setCachedChunk(
+          int index, org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          cachedChunk_.set(index, builderForValue.build());
           onChanged();
         } else {
-          serverInfoRequestBuilder_.setMessage(builderForValue.build());
+          cachedChunkBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000200;
         return this;
       }
       /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      public Builder mergeServerInfoRequest(org.terasology.protobuf.NetData.ServerInfoRequest value) {
-        if (serverInfoRequestBuilder_ == null) {
-          if (((bitField0_ & 0x00000200) == 0x00000200) &&
-              serverInfoRequest_ != org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance()) {
-            serverInfoRequest_ =
-              org.terasology.protobuf.NetData.ServerInfoRequest.newBuilder(serverInfoRequest_).mergeFrom(value).buildPartial();
-          } else {
-            serverInfoRequest_ = value;
+      public Builder addCachedChunk(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (cachedChunkBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureCachedChunkIsMutable();
+          cachedChunk_.add(value);
           onChanged();
         } else {
-          serverInfoRequestBuilder_.mergeFrom(value);
+          cachedChunkBuilder_.addMessage(value);
         }
-        bitField0_ |= 0x00000200;
         return this;
       }
       /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      public Builder clearServerInfoRequest() {
-        if (serverInfoRequestBuilder_ == null) {
-          serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
+      public Builder addCachedChunk(
+          int index, org.terasology.protobuf.NetData.Vector3iData value) {
+        if (cachedChunkBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCachedChunkIsMutable();
+          cachedChunk_.add(index, value);
           onChanged();
         } else {
-          serverInfoRequestBuilder_.clear();
+          cachedChunkBuilder_.addMessage(index, value);
         }
-        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
       /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
-       */
-      public org.terasology.protobuf.NetData.ServerInfoRequest.Builder getServerInfoRequestBuilder() {
-        bitField0_ |= 0x00000200;
-        onChanged();
-        return getServerInfoRequestFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      public org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder getServerInfoRequestOrBuilder() {
-        if (serverInfoRequestBuilder_ != null) {
-          return serverInfoRequestBuilder_.getMessageOrBuilder();
+      public Builder addCachedChunk(
+          org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          cachedChunk_.add(builderForValue.build());
+          onChanged();
         } else {
-          return serverInfoRequest_;
+          cachedChunkBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.ServerInfoRequest, org.terasology.protobuf.NetData.ServerInfoRequest.Builder, org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder> 
-          getServerInfoRequestFieldBuilder() {
-        if (serverInfoRequestBuilder_ == null) {
-          serverInfoRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.ServerInfoRequest, org.terasology.protobuf.NetData.ServerInfoRequest.Builder, org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder>(
-                  getServerInfoRequest(),
-                  getParentForChildren(),
-                  isClean());
-          serverInfoRequest_ = null;
+      public Builder addCachedChunk(
+          int index, org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          cachedChunk_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          cachedChunkBuilder_.addMessage(index, builderForValue.build());
         }
-        return serverInfoRequestBuilder_;
+        return this;
       }
-
-      private org.terasology.protobuf.NetData.ServerInfoMessage serverInfo_ = org.terasology.protobuf.NetData.ServerInfoMessage.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.ServerInfoMessage, org.terasology.protobuf.NetData.ServerInfoMessage.Builder, org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder> serverInfoBuilder_;
       /**
-       * <code>optional .ServerInfoMessage serverInfo = 16;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
        */
-      public boolean hasServerInfo() {
-        return ((bitField0_ & 0x00000400) == 0x00000400);
+      public Builder addAllCachedChunk(
+          java.lang.Iterable<? extends org.terasology.protobuf.NetData.Vector3iData> values) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, cachedChunk_);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.addAllMessages(values);
+        }
+        return this;
       }
       /**
-       * <code>optional .ServerInfoMessage serverInfo = 16;</code>
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public Builder clearCachedChunk() {
+        if (cachedChunkBuilder_ == null) {
+          cachedChunk_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public Builder removeCachedChunk(int index) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          cachedChunk_.remove(index);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public org.terasology.protobuf.NetData.Vector3iData.Builder getCachedChunkBuilder(
+          int index) {
+        return getCachedChunkFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getCachedChunkOrBuilder(
+          int index) {
+        if (cachedChunkBuilder_ == null) {
+          return cachedChunk_.get(index);  } else {
+          return cachedChunkBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public java.util.List<? extends org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
+           getCachedChunkOrBuilderList() {
+        if (cachedChunkBuilder_ != null) {
+          return cachedChunkBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(cachedChunk_);
+        }
+      }
+      /**
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public org.terasology.protobuf.NetData.Vector3iData.Builder addCachedChunkBuilder() {
+        return getCachedChunkFieldBuilder().addBuilder(
+            org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public org.terasology.protobuf.NetData.Vector3iData.Builder addCachedChunkBuilder(
+          int index) {
+        return getCachedChunkFieldBuilder().addBuilder(
+            index, org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Vector3iData cachedChunk = 11;</code>
+       *
+       * <pre>
+       * Chunks to take from the client's chunk cache instead of chunkInfo
+       * </pre>
+       */
+      public java.util.List<org.terasology.protobuf.NetData.Vector3iData.Builder> 
+           getCachedChunkBuilderList() {
+        return getCachedChunkFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
+          getCachedChunkFieldBuilder() {
+        if (cachedChunkBuilder_ == null) {
+          cachedChunkBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
+                  cachedChunk_,
+                  ((bitField0_ & 0x00000200) == 0x00000200),
+                  getParentForChildren(),
+                  isClean());
+          cachedChunk_ = null;
+        }
+        return cachedChunkBuilder_;
+      }
+
+      private org.terasology.protobuf.NetData.ServerInfoRequest serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.ServerInfoRequest, org.terasology.protobuf.NetData.ServerInfoRequest.Builder, org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder> serverInfoRequestBuilder_;
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      public boolean hasServerInfoRequest() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      public org.terasology.protobuf.NetData.ServerInfoRequest getServerInfoRequest() {
+        if (serverInfoRequestBuilder_ == null) {
+          return serverInfoRequest_;
+        } else {
+          return serverInfoRequestBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      public Builder setServerInfoRequest(org.terasology.protobuf.NetData.ServerInfoRequest value) {
+        if (serverInfoRequestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          serverInfoRequest_ = value;
+          onChanged();
+        } else {
+          serverInfoRequestBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      public Builder setServerInfoRequest(
+          org.terasology.protobuf.NetData.ServerInfoRequest.Builder builderForValue) {
+        if (serverInfoRequestBuilder_ == null) {
+          serverInfoRequest_ = builderForValue.build();
+          onChanged();
+        } else {
+          serverInfoRequestBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      public Builder mergeServerInfoRequest(org.terasology.protobuf.NetData.ServerInfoRequest value) {
+        if (serverInfoRequestBuilder_ == null) {
+          if (((bitField0_ & 0x00000400) == 0x00000400) &&
+              serverInfoRequest_ != org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance()) {
+            serverInfoRequest_ =
+              org.terasology.protobuf.NetData.ServerInfoRequest.newBuilder(serverInfoRequest_).mergeFrom(value).buildPartial();
+          } else {
+            serverInfoRequest_ = value;
+          }
+          onChanged();
+        } else {
+          serverInfoRequestBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000400;
+        return this;
+      }
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      public Builder clearServerInfoRequest() {
+        if (serverInfoRequestBuilder_ == null) {
+          serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
+          onChanged();
+        } else {
+          serverInfoRequestBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000400);
+        return this;
+      }
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      public org.terasology.protobuf.NetData.ServerInfoRequest.Builder getServerInfoRequestBuilder() {
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return getServerInfoRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      public org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder getServerInfoRequestOrBuilder() {
+        if (serverInfoRequestBuilder_ != null) {
+          return serverInfoRequestBuilder_.getMessageOrBuilder();
+        } else {
+          return serverInfoRequest_;
+        }
+      }
+      /**
+       * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.ServerInfoRequest, org.terasology.protobuf.NetData.ServerInfoRequest.Builder, org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder> 
+          getServerInfoRequestFieldBuilder() {
+        if (serverInfoRequestBuilder_ == null) {
+          serverInfoRequestBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.ServerInfoRequest, org.terasology.protobuf.NetData.ServerInfoRequest.Builder, org.terasology.protobuf.NetData.ServerInfoRequestOrBuilder>(
+                  getServerInfoRequest(),
+                  getParentForChildren(),
+                  isClean());
+          serverInfoRequest_ = null;
+        }
+        return serverInfoRequestBuilder_;
+      }
+
+      private org.terasology.protobuf.NetData.ServerInfoMessage serverInfo_ = org.terasology.protobuf.NetData.ServerInfoMessage.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.ServerInfoMessage, org.terasology.protobuf.NetData.ServerInfoMessage.Builder, org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder> serverInfoBuilder_;
+      /**
+       * <code>optional .ServerInfoMessage serverInfo = 16;</code>
+       */
+      public boolean hasServerInfo() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional .ServerInfoMessage serverInfo = 16;</code>
        */
       public org.terasology.protobuf.NetData.ServerInfoMessage getServerInfo() {
         if (serverInfoBuilder_ == null) {
@@ -4673,7 +5145,7 @@ public Builder setServerInfo(org.terasology.protobuf.NetData.ServerInfoMessage v
         } else {
           serverInfoBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000400;
+        bitField0_ |= 0x00000800;
         return this;
       }
       /**
@@ -4687,7 +5159,7 @@ public Builder setServerInfo(
         } else {
           serverInfoBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000400;
+        bitField0_ |= 0x00000800;
         return this;
       }
       /**
@@ -4695,7 +5167,7 @@ public Builder setServerInfo(
        */
       public Builder mergeServerInfo(org.terasology.protobuf.NetData.ServerInfoMessage value) {
         if (serverInfoBuilder_ == null) {
-          if (((bitField0_ & 0x00000400) == 0x00000400) &&
+          if (((bitField0_ & 0x00000800) == 0x00000800) &&
               serverInfo_ != org.terasology.protobuf.NetData.ServerInfoMessage.getDefaultInstance()) {
             serverInfo_ =
               org.terasology.protobuf.NetData.ServerInfoMessage.newBuilder(serverInfo_).mergeFrom(value).buildPartial();
@@ -4706,7 +5178,7 @@ public Builder mergeServerInfo(org.terasology.protobuf.NetData.ServerInfoMessage
         } else {
           serverInfoBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000400;
+        bitField0_ |= 0x00000800;
         return this;
       }
       /**
@@ -4719,14 +5191,14 @@ public Builder clearServerInfo() {
         } else {
           serverInfoBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000400);
+        bitField0_ = (bitField0_ & ~0x00000800);
         return this;
       }
       /**
        * <code>optional .ServerInfoMessage serverInfo = 16;</code>
        */
       public org.terasology.protobuf.NetData.ServerInfoMessage.Builder getServerInfoBuilder() {
-        bitField0_ |= 0x00000400;
+        bitField0_ |= 0x00000800;
         onChanged();
         return getServerInfoFieldBuilder().getBuilder();
       }
@@ -4760,9 +5232,9 @@ public org.terasology.protobuf.NetData.ServerInfoMessageOrBuilder getServerInfoO
       private java.util.List<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage> blockFamilyRegistered_ =
         java.util.Collections.emptyList();
       private void ensureBlockFamilyRegisteredIsMutable() {
-        if (!((bitField0_ & 0x00000800) == 0x00000800)) {
+        if (!((bitField0_ & 0x00001000) == 0x00001000)) {
           blockFamilyRegistered_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage>(blockFamilyRegistered_);
-          bitField0_ |= 0x00000800;
+          bitField0_ |= 0x00001000;
          }
       }
 
@@ -4912,7 +5384,7 @@ public Builder addAllBlockFamilyRegistered(
       public Builder clearBlockFamilyRegistered() {
         if (blockFamilyRegisteredBuilder_ == null) {
           blockFamilyRegistered_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000800);
+          bitField0_ = (bitField0_ & ~0x00001000);
           onChanged();
         } else {
           blockFamilyRegisteredBuilder_.clear();
@@ -4989,7 +5461,7 @@ public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.Builder addB
           blockFamilyRegisteredBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
               org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage, org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.Builder, org.terasology.protobuf.NetData.BlockFamilyRegisteredMessageOrBuilder>(
                   blockFamilyRegistered_,
-                  ((bitField0_ & 0x00000800) == 0x00000800),
+                  ((bitField0_ & 0x00001000) == 0x00001000),
                   getParentForChildren(),
                   isClean());
           blockFamilyRegistered_ = null;
@@ -5004,7 +5476,7 @@ public org.terasology.protobuf.NetData.BlockFamilyRegisteredMessage.Builder addB
        * <code>optional .JoinMessage join = 18;</code>
        */
       public boolean hasJoin() {
-        return ((bitField0_ & 0x00001000) == 0x00001000);
+        return ((bitField0_ & 0x00002000) == 0x00002000);
       }
       /**
        * <code>optional .JoinMessage join = 18;</code>
@@ -5029,7 +5501,7 @@ public Builder setJoin(org.terasology.protobuf.NetData.JoinMessage value) {
         } else {
           joinBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00001000;
+        bitField0_ |= 0x00002000;
         return this;
       }
       /**
@@ -5043,7 +5515,7 @@ public Builder setJoin(
         } else {
           joinBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00001000;
+        bitField0_ |= 0x00002000;
         return this;
       }
       /**
@@ -5051,7 +5523,7 @@ public Builder setJoin(
        */
       public Builder mergeJoin(org.terasology.protobuf.NetData.JoinMessage value) {
         if (joinBuilder_ == null) {
-          if (((bitField0_ & 0x00001000) == 0x00001000) &&
+          if (((bitField0_ & 0x00002000) == 0x00002000) &&
               join_ != org.terasology.protobuf.NetData.JoinMessage.getDefaultInstance()) {
             join_ =
               org.terasology.protobuf.NetData.JoinMessage.newBuilder(join_).mergeFrom(value).buildPartial();
@@ -5062,7 +5534,7 @@ public Builder mergeJoin(org.terasology.protobuf.NetData.JoinMessage value) {
         } else {
           joinBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00001000;
+        bitField0_ |= 0x00002000;
         return this;
       }
       /**
@@ -5075,14 +5547,14 @@ public Builder clearJoin() {
         } else {
           joinBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00001000);
+        bitField0_ = (bitField0_ & ~0x00002000);
         return this;
       }
       /**
        * <code>optional .JoinMessage join = 18;</code>
        */
       public org.terasology.protobuf.NetData.JoinMessage.Builder getJoinBuilder() {
-        bitField0_ |= 0x00001000;
+        bitField0_ |= 0x00002000;
         onChanged();
         return getJoinFieldBuilder().getBuilder();
       }
@@ -5116,9 +5588,9 @@ public org.terasology.protobuf.NetData.JoinMessageOrBuilder getJoinOrBuilder() {
       private java.util.List<org.terasology.protobuf.NetData.ModuleRequest> moduleRequest_ =
         java.util.Collections.emptyList();
       private void ensureModuleRequestIsMutable() {
-        if (!((bitField0_ & 0x00002000) == 0x00002000)) {
+        if (!((bitField0_ & 0x00004000) == 0x00004000)) {
           moduleRequest_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ModuleRequest>(moduleRequest_);
-          bitField0_ |= 0x00002000;
+          bitField0_ |= 0x00004000;
          }
       }
 
@@ -5268,7 +5740,7 @@ public Builder addAllModuleRequest(
       public Builder clearModuleRequest() {
         if (moduleRequestBuilder_ == null) {
           moduleRequest_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00002000);
+          bitField0_ = (bitField0_ & ~0x00004000);
           onChanged();
         } else {
           moduleRequestBuilder_.clear();
@@ -5345,7 +5817,7 @@ public org.terasology.protobuf.NetData.ModuleRequest.Builder addModuleRequestBui
           moduleRequestBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
               org.terasology.protobuf.NetData.ModuleRequest, org.terasology.protobuf.NetData.ModuleRequest.Builder, org.terasology.protobuf.NetData.ModuleRequestOrBuilder>(
                   moduleRequest_,
-                  ((bitField0_ & 0x00002000) == 0x00002000),
+                  ((bitField0_ & 0x00004000) == 0x00004000),
                   getParentForChildren(),
                   isClean());
           moduleRequest_ = null;
@@ -5360,7 +5832,7 @@ public org.terasology.protobuf.NetData.ModuleRequest.Builder addModuleRequestBui
        * <code>optional .ModuleDataHeader moduleDataHeader = 20;</code>
        */
       public boolean hasModuleDataHeader() {
-        return ((bitField0_ & 0x00004000) == 0x00004000);
+        return ((bitField0_ & 0x00008000) == 0x00008000);
       }
       /**
        * <code>optional .ModuleDataHeader moduleDataHeader = 20;</code>
@@ -5385,7 +5857,7 @@ public Builder setModuleDataHeader(org.terasology.protobuf.NetData.ModuleDataHea
         } else {
           moduleDataHeaderBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00008000;
         return this;
       }
       /**
@@ -5399,7 +5871,7 @@ public Builder setModuleDataHeader(
         } else {
           moduleDataHeaderBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00008000;
         return this;
       }
       /**
@@ -5407,7 +5879,7 @@ public Builder setModuleDataHeader(
        */
       public Builder mergeModuleDataHeader(org.terasology.protobuf.NetData.ModuleDataHeader value) {
         if (moduleDataHeaderBuilder_ == null) {
-          if (((bitField0_ & 0x00004000) == 0x00004000) &&
+          if (((bitField0_ & 0x00008000) == 0x00008000) &&
               moduleDataHeader_ != org.terasology.protobuf.NetData.ModuleDataHeader.getDefaultInstance()) {
             moduleDataHeader_ =
               org.terasology.protobuf.NetData.ModuleDataHeader.newBuilder(moduleDataHeader_).mergeFrom(value).buildPartial();
@@ -5418,7 +5890,7 @@ public Builder mergeModuleDataHeader(org.terasology.protobuf.NetData.ModuleDataH
         } else {
           moduleDataHeaderBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00008000;
         return this;
       }
       /**
@@ -5431,14 +5903,14 @@ public Builder clearModuleDataHeader() {
         } else {
           moduleDataHeaderBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00004000);
+        bitField0_ = (bitField0_ & ~0x00008000);
         return this;
       }
       /**
        * <code>optional .ModuleDataHeader moduleDataHeader = 20;</code>
        */
       public org.terasology.protobuf.NetData.ModuleDataHeader.Builder getModuleDataHeaderBuilder() {
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00008000;
         onChanged();
         return getModuleDataHeaderFieldBuilder().getBuilder();
       }
@@ -5476,7 +5948,7 @@ public org.terasology.protobuf.NetData.ModuleDataHeaderOrBuilder getModuleDataHe
        * <code>optional .ModuleData moduleData = 21;</code>
        */
       public boolean hasModuleData() {
-        return ((bitField0_ & 0x00008000) == 0x00008000);
+        return ((bitField0_ & 0x00010000) == 0x00010000);
       }
       /**
        * <code>optional .ModuleData moduleData = 21;</code>
@@ -5501,7 +5973,7 @@ public Builder setModuleData(org.terasology.protobuf.NetData.ModuleData value) {
         } else {
           moduleDataBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00010000;
         return this;
       }
       /**
@@ -5515,7 +5987,7 @@ public Builder setModuleData(
         } else {
           moduleDataBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00010000;
         return this;
       }
       /**
@@ -5523,7 +5995,7 @@ public Builder setModuleData(
        */
       public Builder mergeModuleData(org.terasology.protobuf.NetData.ModuleData value) {
         if (moduleDataBuilder_ == null) {
-          if (((bitField0_ & 0x00008000) == 0x00008000) &&
+          if (((bitField0_ & 0x00010000) == 0x00010000) &&
               moduleData_ != org.terasology.protobuf.NetData.ModuleData.getDefaultInstance()) {
             moduleData_ =
               org.terasology.protobuf.NetData.ModuleData.newBuilder(moduleData_).mergeFrom(value).buildPartial();
@@ -5534,7 +6006,7 @@ public Builder mergeModuleData(org.terasology.protobuf.NetData.ModuleData value)
         } else {
           moduleDataBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00010000;
         return this;
       }
       /**
@@ -5547,14 +6019,14 @@ public Builder clearModuleData() {
         } else {
           moduleDataBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00008000);
+        bitField0_ = (bitField0_ & ~0x00010000);
         return this;
       }
       /**
        * <code>optional .ModuleData moduleData = 21;</code>
        */
       public org.terasology.protobuf.NetData.ModuleData.Builder getModuleDataBuilder() {
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00010000;
         onChanged();
         return getModuleDataFieldBuilder().getBuilder();
       }
@@ -5592,7 +6064,7 @@ public org.terasology.protobuf.NetData.ModuleDataOrBuilder getModuleDataOrBuilde
        * <code>optional .JoinCompleteMessage joinComplete = 22;</code>
        */
       public boolean hasJoinComplete() {
-        return ((bitField0_ & 0x00010000) == 0x00010000);
+        return ((bitField0_ & 0x00020000) == 0x00020000);
       }
       /**
        * <code>optional .JoinCompleteMessage joinComplete = 22;</code>
@@ -5617,7 +6089,7 @@ public Builder setJoinComplete(org.terasology.protobuf.NetData.JoinCompleteMessa
         } else {
           joinCompleteBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00010000;
+        bitField0_ |= 0x00020000;
         return this;
       }
       /**
@@ -5631,7 +6103,7 @@ public Builder setJoinComplete(
         } else {
           joinCompleteBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00010000;
+        bitField0_ |= 0x00020000;
         return this;
       }
       /**
@@ -5639,7 +6111,7 @@ public Builder setJoinComplete(
        */
       public Builder mergeJoinComplete(org.terasology.protobuf.NetData.JoinCompleteMessage value) {
         if (joinCompleteBuilder_ == null) {
-          if (((bitField0_ & 0x00010000) == 0x00010000) &&
+          if (((bitField0_ & 0x00020000) == 0x00020000) &&
               joinComplete_ != org.terasology.protobuf.NetData.JoinCompleteMessage.getDefaultInstance()) {
             joinComplete_ =
               org.terasology.protobuf.NetData.JoinCompleteMessage.newBuilder(joinComplete_).mergeFrom(value).buildPartial();
@@ -5650,7 +6122,7 @@ public Builder mergeJoinComplete(org.terasology.protobuf.NetData.JoinCompleteMes
         } else {
           joinCompleteBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00010000;
+        bitField0_ |= 0x00020000;
         return this;
       }
       /**
@@ -5663,14 +6135,14 @@ public Builder clearJoinComplete() {
         } else {
           joinCompleteBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00010000);
+        bitField0_ = (bitField0_ & ~0x00020000);
         return this;
       }
       /**
        * <code>optional .JoinCompleteMessage joinComplete = 22;</code>
        */
       public org.terasology.protobuf.NetData.JoinCompleteMessage.Builder getJoinCompleteBuilder() {
-        bitField0_ |= 0x00010000;
+        bitField0_ |= 0x00020000;
         onChanged();
         return getJoinCompleteFieldBuilder().getBuilder();
       }
@@ -5712,7 +6184,7 @@ public org.terasology.protobuf.NetData.JoinCompleteMessageOrBuilder getJoinCompl
        * </pre>
        */
       public boolean hasHandshakeHello() {
-        return ((bitField0_ & 0x00020000) == 0x00020000);
+        return ((bitField0_ & 0x00040000) == 0x00040000);
       }
       /**
        * <code>optional .HandshakeHello handshakeHello = 100;</code>
@@ -5745,7 +6217,7 @@ public Builder setHandshakeHello(org.terasology.protobuf.NetData.HandshakeHello
         } else {
           handshakeHelloBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00040000;
         return this;
       }
       /**
@@ -5763,7 +6235,7 @@ public Builder setHandshakeHello(
         } else {
           handshakeHelloBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00040000;
         return this;
       }
       /**
@@ -5775,7 +6247,7 @@ public Builder setHandshakeHello(
        */
       public Builder mergeHandshakeHello(org.terasology.protobuf.NetData.HandshakeHello value) {
         if (handshakeHelloBuilder_ == null) {
-          if (((bitField0_ & 0x00020000) == 0x00020000) &&
+          if (((bitField0_ & 0x00040000) == 0x00040000) &&
               handshakeHello_ != org.terasology.protobuf.NetData.HandshakeHello.getDefaultInstance()) {
             handshakeHello_ =
               org.terasology.protobuf.NetData.HandshakeHello.newBuilder(handshakeHello_).mergeFrom(value).buildPartial();
@@ -5786,7 +6258,7 @@ public Builder mergeHandshakeHello(org.terasology.protobuf.NetData.HandshakeHell
         } else {
           handshakeHelloBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00040000;
         return this;
       }
       /**
@@ -5803,7 +6275,7 @@ public Builder clearHandshakeHello() {
         } else {
           handshakeHelloBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00040000);
         return this;
       }
       /**
@@ -5814,7 +6286,7 @@ public Builder clearHandshakeHello() {
        * </pre>
        */
       public org.terasology.protobuf.NetData.HandshakeHello.Builder getHandshakeHelloBuilder() {
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00040000;
         onChanged();
         return getHandshakeHelloFieldBuilder().getBuilder();
       }
@@ -5860,7 +6332,7 @@ public org.terasology.protobuf.NetData.HandshakeHelloOrBuilder getHandshakeHello
        * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
        */
       public boolean hasNewIdentityRequest() {
-        return ((bitField0_ & 0x00040000) == 0x00040000);
+        return ((bitField0_ & 0x00080000) == 0x00080000);
       }
       /**
        * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
@@ -5885,7 +6357,7 @@ public Builder setNewIdentityRequest(org.terasology.protobuf.NetData.NewIdentity
         } else {
           newIdentityRequestBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00040000;
+        bitField0_ |= 0x00080000;
         return this;
       }
       /**
@@ -5899,7 +6371,7 @@ public Builder setNewIdentityRequest(
         } else {
           newIdentityRequestBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00040000;
+        bitField0_ |= 0x00080000;
         return this;
       }
       /**
@@ -5907,7 +6379,7 @@ public Builder setNewIdentityRequest(
        */
       public Builder mergeNewIdentityRequest(org.terasology.protobuf.NetData.NewIdentityRequest value) {
         if (newIdentityRequestBuilder_ == null) {
-          if (((bitField0_ & 0x00040000) == 0x00040000) &&
+          if (((bitField0_ & 0x00080000) == 0x00080000) &&
               newIdentityRequest_ != org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance()) {
             newIdentityRequest_ =
               org.terasology.protobuf.NetData.NewIdentityRequest.newBuilder(newIdentityRequest_).mergeFrom(value).buildPartial();
@@ -5918,7 +6390,7 @@ public Builder mergeNewIdentityRequest(org.terasology.protobuf.NetData.NewIdenti
         } else {
           newIdentityRequestBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00040000;
+        bitField0_ |= 0x00080000;
         return this;
       }
       /**
@@ -5931,14 +6403,14 @@ public Builder clearNewIdentityRequest() {
         } else {
           newIdentityRequestBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00040000);
+        bitField0_ = (bitField0_ & ~0x00080000);
         return this;
       }
       /**
        * <code>optional .NewIdentityRequest newIdentityRequest = 101;</code>
        */
       public org.terasology.protobuf.NetData.NewIdentityRequest.Builder getNewIdentityRequestBuilder() {
-        bitField0_ |= 0x00040000;
+        bitField0_ |= 0x00080000;
         onChanged();
         return getNewIdentityRequestFieldBuilder().getBuilder();
       }
@@ -5976,7 +6448,7 @@ public org.terasology.protobuf.NetData.NewIdentityRequestOrBuilder getNewIdentit
        * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
        */
       public boolean hasProvisionIdentity() {
-        return ((bitField0_ & 0x00080000) == 0x00080000);
+        return ((bitField0_ & 0x00100000) == 0x00100000);
       }
       /**
        * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
@@ -6001,7 +6473,7 @@ public Builder setProvisionIdentity(org.terasology.protobuf.NetData.ProvisionIde
         } else {
           provisionIdentityBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00080000;
+        bitField0_ |= 0x00100000;
         return this;
       }
       /**
@@ -6015,7 +6487,7 @@ public Builder setProvisionIdentity(
         } else {
           provisionIdentityBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00080000;
+        bitField0_ |= 0x00100000;
         return this;
       }
       /**
@@ -6023,7 +6495,7 @@ public Builder setProvisionIdentity(
        */
       public Builder mergeProvisionIdentity(org.terasology.protobuf.NetData.ProvisionIdentity value) {
         if (provisionIdentityBuilder_ == null) {
-          if (((bitField0_ & 0x00080000) == 0x00080000) &&
+          if (((bitField0_ & 0x00100000) == 0x00100000) &&
               provisionIdentity_ != org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance()) {
             provisionIdentity_ =
               org.terasology.protobuf.NetData.ProvisionIdentity.newBuilder(provisionIdentity_).mergeFrom(value).buildPartial();
@@ -6034,7 +6506,7 @@ public Builder mergeProvisionIdentity(org.terasology.protobuf.NetData.ProvisionI
         } else {
           provisionIdentityBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00080000;
+        bitField0_ |= 0x00100000;
         return this;
       }
       /**
@@ -6047,14 +6519,14 @@ public Builder clearProvisionIdentity() {
         } else {
           provisionIdentityBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00080000);
+        bitField0_ = (bitField0_ & ~0x00100000);
         return this;
       }
       /**
        * <code>optional .ProvisionIdentity provisionIdentity = 102;</code>
        */
       public org.terasology.protobuf.NetData.ProvisionIdentity.Builder getProvisionIdentityBuilder() {
-        bitField0_ |= 0x00080000;
+        bitField0_ |= 0x00100000;
         onChanged();
         return getProvisionIdentityFieldBuilder().getBuilder();
       }
@@ -6092,7 +6564,7 @@ public org.terasology.protobuf.NetData.ProvisionIdentityOrBuilder getProvisionId
        * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
        */
       public boolean hasHandshakeVerification() {
-        return ((bitField0_ & 0x00100000) == 0x00100000);
+        return ((bitField0_ & 0x00200000) == 0x00200000);
       }
       /**
        * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
@@ -6117,7 +6589,7 @@ public Builder setHandshakeVerification(org.terasology.protobuf.NetData.Handshak
         } else {
           handshakeVerificationBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00100000;
+        bitField0_ |= 0x00200000;
         return this;
       }
       /**
@@ -6131,7 +6603,7 @@ public Builder setHandshakeVerification(
         } else {
           handshakeVerificationBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00100000;
+        bitField0_ |= 0x00200000;
         return this;
       }
       /**
@@ -6139,7 +6611,7 @@ public Builder setHandshakeVerification(
        */
       public Builder mergeHandshakeVerification(org.terasology.protobuf.NetData.HandshakeVerification value) {
         if (handshakeVerificationBuilder_ == null) {
-          if (((bitField0_ & 0x00100000) == 0x00100000) &&
+          if (((bitField0_ & 0x00200000) == 0x00200000) &&
               handshakeVerification_ != org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance()) {
             handshakeVerification_ =
               org.terasology.protobuf.NetData.HandshakeVerification.newBuilder(handshakeVerification_).mergeFrom(value).buildPartial();
@@ -6150,7 +6622,7 @@ public Builder mergeHandshakeVerification(org.terasology.protobuf.NetData.Handsh
         } else {
           handshakeVerificationBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00100000;
+        bitField0_ |= 0x00200000;
         return this;
       }
       /**
@@ -6163,14 +6635,14 @@ public Builder clearHandshakeVerification() {
         } else {
           handshakeVerificationBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00100000);
+        bitField0_ = (bitField0_ & ~0x00200000);
         return this;
       }
       /**
        * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
        */
       public org.terasology.protobuf.NetData.HandshakeVerification.Builder getHandshakeVerificationBuilder() {
-        bitField0_ |= 0x00100000;
+        bitField0_ |= 0x00200000;
         onChanged();
         return getHandshakeVerificationFieldBuilder().getBuilder();
       }
@@ -12933,6 +13405,30 @@ public interface JoinMessageOrBuilder extends
      * <code>optional .Color color = 4;</code>
      */
     org.terasology.protobuf.NetData.ColorOrBuilder getColorOrBuilder();
+
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    java.util.List<org.terasology.protobuf.NetData.CachedChunk> 
+        getCachedChunkList();
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    org.terasology.protobuf.NetData.CachedChunk getCachedChunk(int index);
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    int getCachedChunkCount();
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    java.util.List<? extends org.terasology.protobuf.NetData.CachedChunkOrBuilder> 
+        getCachedChunkOrBuilderList();
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    org.terasology.protobuf.NetData.CachedChunkOrBuilder getCachedChunkOrBuilder(
+        int index);
   }
   /**
    * Protobuf type {@code JoinMessage}
@@ -13017,6 +13513,14 @@ private JoinMessage(
               bitField0_ |= 0x00000008;
               break;
             }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                cachedChunk_ = new java.util.ArrayList<org.terasology.protobuf.NetData.CachedChunk>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              cachedChunk_.add(input.readMessage(org.terasology.protobuf.NetData.CachedChunk.PARSER, extensionRegistry));
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -13025,6 +13529,9 @@ private JoinMessage(
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          cachedChunk_ = java.util.Collections.unmodifiableList(cachedChunk_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -13177,11 +13684,47 @@ public org.terasology.protobuf.NetData.ColorOrBuilder getColorOrBuilder() {
       return color_;
     }
 
+    public static final int CACHEDCHUNK_FIELD_NUMBER = 5;
+    private java.util.List<org.terasology.protobuf.NetData.CachedChunk> cachedChunk_;
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    public java.util.List<org.terasology.protobuf.NetData.CachedChunk> getCachedChunkList() {
+      return cachedChunk_;
+    }
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    public java.util.List<? extends org.terasology.protobuf.NetData.CachedChunkOrBuilder> 
+        getCachedChunkOrBuilderList() {
+      return cachedChunk_;
+    }
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    public int getCachedChunkCount() {
+      return cachedChunk_.size();
+    }
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    public org.terasology.protobuf.NetData.CachedChunk getCachedChunk(int index) {
+      return cachedChunk_.get(index);
+    }
+    /**
+     * <code>repeated .CachedChunk cachedChunk = 5;</code>
+     */
+    public org.terasology.protobuf.NetData.CachedChunkOrBuilder getCachedChunkOrBuilder(
+        int index) {
+      return cachedChunk_.get(index);
+    }
+
     private void initFields() {
       name_ = "";
       version_ = "";
       viewDistanceLevel_ = 0;
       color_ = org.terasology.protobuf.NetData.Color.getDefaultInstance();
+      cachedChunk_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -13189,6 +13732,12 @@ public final boolean isInitialized() {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      for (int i = 0; i < getCachedChunkCount(); i++) {
+        if (!getCachedChunk(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       if (!extensionsAreInitialized()) {
         memoizedIsInitialized = 0;
         return false;
@@ -13215,6 +13764,9 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         output.writeMessage(4, color_);
       }
+      for (int i = 0; i < cachedChunk_.size(); i++) {
+        output.writeMessage(5, cachedChunk_.get(i));
+      }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
     }
@@ -13241,6 +13793,10 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, color_);
       }
+      for (int i = 0; i < cachedChunk_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, cachedChunk_.get(i));
+      }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -13353,6 +13909,7 @@ private Builder(
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getColorFieldBuilder();
+          getCachedChunkFieldBuilder();
         }
       }
       private static Builder create() {
@@ -13373,6 +13930,12 @@ public Builder clear() {
           colorBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000008);
+        if (cachedChunkBuilder_ == null) {
+          cachedChunk_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          cachedChunkBuilder_.clear();
+        }
         return this;
       }
 
@@ -13421,6 +13984,15 @@ public org.terasology.protobuf.NetData.JoinMessage buildPartial() {
         } else {
           result.color_ = colorBuilder_.build();
         }
+        if (cachedChunkBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            cachedChunk_ = java.util.Collections.unmodifiableList(cachedChunk_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.cachedChunk_ = cachedChunk_;
+        } else {
+          result.cachedChunk_ = cachedChunkBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -13453,12 +14025,44 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.JoinMessage other) {
         if (other.hasColor()) {
           mergeColor(other.getColor());
         }
+        if (cachedChunkBuilder_ == null) {
+          if (!other.cachedChunk_.isEmpty()) {
+            if (cachedChunk_.isEmpty()) {
+              cachedChunk_ = other.cachedChunk_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureCachedChunkIsMutable();
+              cachedChunk_.addAll(other.cachedChunk_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.cachedChunk_.isEmpty()) {
+            if (cachedChunkBuilder_.isEmpty()) {
+              cachedChunkBuilder_.dispose();
+              cachedChunkBuilder_ = null;
+              cachedChunk_ = other.cachedChunk_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              cachedChunkBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getCachedChunkFieldBuilder() : null;
+            } else {
+              cachedChunkBuilder_.addAllMessages(other.cachedChunk_);
+            }
+          }
+        }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
+        for (int i = 0; i < getCachedChunkCount(); i++) {
+          if (!getCachedChunk(i).isInitialized()) {
+            
+            return false;
+          }
+        }
         if (!extensionsAreInitialized()) {
           
           return false;
@@ -13637,163 +14241,1006 @@ public Builder setVersionBytes(
         return this;
       }
 
-      private int viewDistanceLevel_ ;
-      /**
-       * <code>optional sint32 viewDistanceLevel = 3;</code>
-       */
-      public boolean hasViewDistanceLevel() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      private int viewDistanceLevel_ ;
+      /**
+       * <code>optional sint32 viewDistanceLevel = 3;</code>
+       */
+      public boolean hasViewDistanceLevel() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional sint32 viewDistanceLevel = 3;</code>
+       */
+      public int getViewDistanceLevel() {
+        return viewDistanceLevel_;
+      }
+      /**
+       * <code>optional sint32 viewDistanceLevel = 3;</code>
+       */
+      public Builder setViewDistanceLevel(int value) {
+        bitField0_ |= 0x00000004;
+        viewDistanceLevel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint32 viewDistanceLevel = 3;</code>
+       */
+      public Builder clearViewDistanceLevel() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        viewDistanceLevel_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private org.terasology.protobuf.NetData.Color color_ = org.terasology.protobuf.NetData.Color.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Color, org.terasology.protobuf.NetData.Color.Builder, org.terasology.protobuf.NetData.ColorOrBuilder> colorBuilder_;
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      public boolean hasColor() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      public org.terasology.protobuf.NetData.Color getColor() {
+        if (colorBuilder_ == null) {
+          return color_;
+        } else {
+          return colorBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      public Builder setColor(org.terasology.protobuf.NetData.Color value) {
+        if (colorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          color_ = value;
+          onChanged();
+        } else {
+          colorBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      public Builder setColor(
+          org.terasology.protobuf.NetData.Color.Builder builderForValue) {
+        if (colorBuilder_ == null) {
+          color_ = builderForValue.build();
+          onChanged();
+        } else {
+          colorBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      public Builder mergeColor(org.terasology.protobuf.NetData.Color value) {
+        if (colorBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              color_ != org.terasology.protobuf.NetData.Color.getDefaultInstance()) {
+            color_ =
+              org.terasology.protobuf.NetData.Color.newBuilder(color_).mergeFrom(value).buildPartial();
+          } else {
+            color_ = value;
+          }
+          onChanged();
+        } else {
+          colorBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      public Builder clearColor() {
+        if (colorBuilder_ == null) {
+          color_ = org.terasology.protobuf.NetData.Color.getDefaultInstance();
+          onChanged();
+        } else {
+          colorBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      public org.terasology.protobuf.NetData.Color.Builder getColorBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getColorFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      public org.terasology.protobuf.NetData.ColorOrBuilder getColorOrBuilder() {
+        if (colorBuilder_ != null) {
+          return colorBuilder_.getMessageOrBuilder();
+        } else {
+          return color_;
+        }
+      }
+      /**
+       * <code>optional .Color color = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.terasology.protobuf.NetData.Color, org.terasology.protobuf.NetData.Color.Builder, org.terasology.protobuf.NetData.ColorOrBuilder> 
+          getColorFieldBuilder() {
+        if (colorBuilder_ == null) {
+          colorBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.Color, org.terasology.protobuf.NetData.Color.Builder, org.terasology.protobuf.NetData.ColorOrBuilder>(
+                  getColor(),
+                  getParentForChildren(),
+                  isClean());
+          color_ = null;
+        }
+        return colorBuilder_;
+      }
+
+      private java.util.List<org.terasology.protobuf.NetData.CachedChunk> cachedChunk_ =
+        java.util.Collections.emptyList();
+      private void ensureCachedChunkIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          cachedChunk_ = new java.util.ArrayList<org.terasology.protobuf.NetData.CachedChunk>(cachedChunk_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.CachedChunk, org.terasology.protobuf.NetData.CachedChunk.Builder, org.terasology.protobuf.NetData.CachedChunkOrBuilder> cachedChunkBuilder_;
+
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public java.util.List<org.terasology.protobuf.NetData.CachedChunk> getCachedChunkList() {
+        if (cachedChunkBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(cachedChunk_);
+        } else {
+          return cachedChunkBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public int getCachedChunkCount() {
+        if (cachedChunkBuilder_ == null) {
+          return cachedChunk_.size();
+        } else {
+          return cachedChunkBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public org.terasology.protobuf.NetData.CachedChunk getCachedChunk(int index) {
+        if (cachedChunkBuilder_ == null) {
+          return cachedChunk_.get(index);
+        } else {
+          return cachedChunkBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder setCachedChunk(
+          int index, org.terasology.protobuf.NetData.CachedChunk value) {
+        if (cachedChunkBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCachedChunkIsMutable();
+          cachedChunk_.set(index, value);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder setCachedChunk(
+          int index, org.terasology.protobuf.NetData.CachedChunk.Builder builderForValue) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          cachedChunk_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          cachedChunkBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder addCachedChunk(org.terasology.protobuf.NetData.CachedChunk value) {
+        if (cachedChunkBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCachedChunkIsMutable();
+          cachedChunk_.add(value);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder addCachedChunk(
+          int index, org.terasology.protobuf.NetData.CachedChunk value) {
+        if (cachedChunkBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCachedChunkIsMutable();
+          cachedChunk_.add(index, value);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder addCachedChunk(
+          org.terasology.protobuf.NetData.CachedChunk.Builder builderForValue) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          cachedChunk_.add(builderForValue.build());
+          onChanged();
+        } else {
+          cachedChunkBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder addCachedChunk(
+          int index, org.terasology.protobuf.NetData.CachedChunk.Builder builderForValue) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          cachedChunk_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          cachedChunkBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder addAllCachedChunk(
+          java.lang.Iterable<? extends org.terasology.protobuf.NetData.CachedChunk> values) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, cachedChunk_);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder clearCachedChunk() {
+        if (cachedChunkBuilder_ == null) {
+          cachedChunk_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public Builder removeCachedChunk(int index) {
+        if (cachedChunkBuilder_ == null) {
+          ensureCachedChunkIsMutable();
+          cachedChunk_.remove(index);
+          onChanged();
+        } else {
+          cachedChunkBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public org.terasology.protobuf.NetData.CachedChunk.Builder getCachedChunkBuilder(
+          int index) {
+        return getCachedChunkFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public org.terasology.protobuf.NetData.CachedChunkOrBuilder getCachedChunkOrBuilder(
+          int index) {
+        if (cachedChunkBuilder_ == null) {
+          return cachedChunk_.get(index);  } else {
+          return cachedChunkBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public java.util.List<? extends org.terasology.protobuf.NetData.CachedChunkOrBuilder> 
+           getCachedChunkOrBuilderList() {
+        if (cachedChunkBuilder_ != null) {
+          return cachedChunkBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(cachedChunk_);
+        }
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public org.terasology.protobuf.NetData.CachedChunk.Builder addCachedChunkBuilder() {
+        return getCachedChunkFieldBuilder().addBuilder(
+            org.terasology.protobuf.NetData.CachedChunk.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public org.terasology.protobuf.NetData.CachedChunk.Builder addCachedChunkBuilder(
+          int index) {
+        return getCachedChunkFieldBuilder().addBuilder(
+            index, org.terasology.protobuf.NetData.CachedChunk.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CachedChunk cachedChunk = 5;</code>
+       */
+      public java.util.List<org.terasology.protobuf.NetData.CachedChunk.Builder> 
+           getCachedChunkBuilderList() {
+        return getCachedChunkFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.terasology.protobuf.NetData.CachedChunk, org.terasology.protobuf.NetData.CachedChunk.Builder, org.terasology.protobuf.NetData.CachedChunkOrBuilder> 
+          getCachedChunkFieldBuilder() {
+        if (cachedChunkBuilder_ == null) {
+          cachedChunkBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.terasology.protobuf.NetData.CachedChunk, org.terasology.protobuf.NetData.CachedChunk.Builder, org.terasology.protobuf.NetData.CachedChunkOrBuilder>(
+                  cachedChunk_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          cachedChunk_ = null;
+        }
+        return cachedChunkBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:JoinMessage)
+    }
+
+    static {
+      defaultInstance = new JoinMessage(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:JoinMessage)
+  }
+
+  public interface CachedChunkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CachedChunk)
+      com.google.protobuf.GeneratedMessage.
+          ExtendableMessageOrBuilder<CachedChunk> {
+
+    /**
+     * <code>optional .Vector3iData pos = 1;</code>
+     */
+    boolean hasPos();
+    /**
+     * <code>optional .Vector3iData pos = 1;</code>
+     */
+    org.terasology.protobuf.NetData.Vector3iData getPos();
+    /**
+     * <code>optional .Vector3iData pos = 1;</code>
+     */
+    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
+
+    /**
+     * <code>optional fixed64 hash = 2;</code>
+     */
+    boolean hasHash();
+    /**
+     * <code>optional fixed64 hash = 2;</code>
+     */
+    long getHash();
+  }
+  /**
+   * Protobuf type {@code CachedChunk}
+   */
+  public static final class CachedChunk extends
+      com.google.protobuf.GeneratedMessage.ExtendableMessage<
+        CachedChunk> implements
+      // @@protoc_insertion_point(message_implements:CachedChunk)
+      CachedChunkOrBuilder {
+    // Use CachedChunk.newBuilder() to construct.
+    private CachedChunk(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.CachedChunk, ?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private CachedChunk(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final CachedChunk defaultInstance;
+    public static CachedChunk getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public CachedChunk getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CachedChunk(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              org.terasology.protobuf.NetData.Vector3iData.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = pos_.toBuilder();
+              }
+              pos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(pos_);
+                pos_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 17: {
+              bitField0_ |= 0x00000002;
+              hash_ = input.readFixed64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.terasology.protobuf.NetData.internal_static_CachedChunk_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.terasology.protobuf.NetData.internal_static_CachedChunk_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.terasology.protobuf.NetData.CachedChunk.class, org.terasology.protobuf.NetData.CachedChunk.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<CachedChunk> PARSER =
+        new com.google.protobuf.AbstractParser<CachedChunk>() {
+      public CachedChunk parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CachedChunk(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CachedChunk> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int POS_FIELD_NUMBER = 1;
+    private org.terasology.protobuf.NetData.Vector3iData pos_;
+    /**
+     * <code>optional .Vector3iData pos = 1;</code>
+     */
+    public boolean hasPos() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .Vector3iData pos = 1;</code>
+     */
+    public org.terasology.protobuf.NetData.Vector3iData getPos() {
+      return pos_;
+    }
+    /**
+     * <code>optional .Vector3iData pos = 1;</code>
+     */
+    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
+      return pos_;
+    }
+
+    public static final int HASH_FIELD_NUMBER = 2;
+    private long hash_;
+    /**
+     * <code>optional fixed64 hash = 2;</code>
+     */
+    public boolean hasHash() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional fixed64 hash = 2;</code>
+     */
+    public long getHash() {
+      return hash_;
+    }
+
+    private void initFields() {
+      pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+      hash_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!extensionsAreInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      com.google.protobuf.GeneratedMessage
+        .ExtendableMessage<org.terasology.protobuf.NetData.CachedChunk>.ExtensionWriter extensionWriter =
+          newExtensionWriter();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, pos_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeFixed64(2, hash_);
+      }
+      extensionWriter.writeUntil(536870912, output);
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, pos_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(2, hash_);
+      }
+      size += extensionsSerializedSize();
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.terasology.protobuf.NetData.CachedChunk parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.terasology.protobuf.NetData.CachedChunk parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.terasology.protobuf.NetData.CachedChunk prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CachedChunk}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.ExtendableBuilder<
+          org.terasology.protobuf.NetData.CachedChunk, Builder> implements
+        // @@protoc_insertion_point(builder_implements:CachedChunk)
+        org.terasology.protobuf.NetData.CachedChunkOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.terasology.protobuf.NetData.internal_static_CachedChunk_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.terasology.protobuf.NetData.internal_static_CachedChunk_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.terasology.protobuf.NetData.CachedChunk.class, org.terasology.protobuf.NetData.CachedChunk.Builder.class);
+      }
+
+      // Construct using org.terasology.protobuf.NetData.CachedChunk.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPosFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (posBuilder_ == null) {
+          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
+        } else {
+          posBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        hash_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.terasology.protobuf.NetData.internal_static_CachedChunk_descriptor;
+      }
+
+      public org.terasology.protobuf.NetData.CachedChunk getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.CachedChunk.getDefaultInstance();
       }
-      /**
-       * <code>optional sint32 viewDistanceLevel = 3;</code>
-       */
-      public int getViewDistanceLevel() {
-        return viewDistanceLevel_;
+
+      public org.terasology.protobuf.NetData.CachedChunk build() {
+        org.terasology.protobuf.NetData.CachedChunk result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-      /**
-       * <code>optional sint32 viewDistanceLevel = 3;</code>
-       */
-      public Builder setViewDistanceLevel(int value) {
-        bitField0_ |= 0x00000004;
-        viewDistanceLevel_ = value;
-        onChanged();
+
+      public org.terasology.protobuf.NetData.CachedChunk buildPartial() {
+        org.terasology.protobuf.NetData.CachedChunk result = new org.terasology.protobuf.NetData.CachedChunk(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (posBuilder_ == null) {
+          result.pos_ = pos_;
+        } else {
+          result.pos_ = posBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.hash_ = hash_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.terasology.protobuf.NetData.CachedChunk) {
+          return mergeFrom((org.terasology.protobuf.NetData.CachedChunk)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.terasology.protobuf.NetData.CachedChunk other) {
+        if (other == org.terasology.protobuf.NetData.CachedChunk.getDefaultInstance()) return this;
+        if (other.hasPos()) {
+          mergePos(other.getPos());
+        }
+        if (other.hasHash()) {
+          setHash(other.getHash());
+        }
+        this.mergeExtensionFields(other);
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>optional sint32 viewDistanceLevel = 3;</code>
-       */
-      public Builder clearViewDistanceLevel() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        viewDistanceLevel_ = 0;
-        onChanged();
+
+      public final boolean isInitialized() {
+        if (!extensionsAreInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.terasology.protobuf.NetData.CachedChunk parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.terasology.protobuf.NetData.CachedChunk) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+      private int bitField0_;
 
-      private org.terasology.protobuf.NetData.Color color_ = org.terasology.protobuf.NetData.Color.getDefaultInstance();
+      private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Color, org.terasology.protobuf.NetData.Color.Builder, org.terasology.protobuf.NetData.ColorOrBuilder> colorBuilder_;
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public boolean hasColor() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public boolean hasPos() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Color getColor() {
-        if (colorBuilder_ == null) {
-          return color_;
+      public org.terasology.protobuf.NetData.Vector3iData getPos() {
+        if (posBuilder_ == null) {
+          return pos_;
         } else {
-          return colorBuilder_.getMessage();
+          return posBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder setColor(org.terasology.protobuf.NetData.Color value) {
-        if (colorBuilder_ == null) {
+      public Builder setPos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (posBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          color_ = value;
+          pos_ = value;
           onChanged();
         } else {
-          colorBuilder_.setMessage(value);
+          posBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000008;
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder setColor(
-          org.terasology.protobuf.NetData.Color.Builder builderForValue) {
-        if (colorBuilder_ == null) {
-          color_ = builderForValue.build();
+      public Builder setPos(
+          org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
+        if (posBuilder_ == null) {
+          pos_ = builderForValue.build();
           onChanged();
         } else {
-          colorBuilder_.setMessage(builderForValue.build());
+          posBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000008;
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder mergeColor(org.terasology.protobuf.NetData.Color value) {
-        if (colorBuilder_ == null) {
-          if (((bitField0_ & 0x00000008) == 0x00000008) &&
-              color_ != org.terasology.protobuf.NetData.Color.getDefaultInstance()) {
-            color_ =
-              org.terasology.protobuf.NetData.Color.newBuilder(color_).mergeFrom(value).buildPartial();
+      public Builder mergePos(org.terasology.protobuf.NetData.Vector3iData value) {
+        if (posBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              pos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
+            pos_ =
+              org.terasology.protobuf.NetData.Vector3iData.newBuilder(pos_).mergeFrom(value).buildPartial();
           } else {
-            color_ = value;
+            pos_ = value;
           }
           onChanged();
         } else {
-          colorBuilder_.mergeFrom(value);
+          posBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000008;
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public Builder clearColor() {
-        if (colorBuilder_ == null) {
-          color_ = org.terasology.protobuf.NetData.Color.getDefaultInstance();
+      public Builder clearPos() {
+        if (posBuilder_ == null) {
+          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
           onChanged();
         } else {
-          colorBuilder_.clear();
+          posBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000008);
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Color.Builder getColorBuilder() {
-        bitField0_ |= 0x00000008;
+      public org.terasology.protobuf.NetData.Vector3iData.Builder getPosBuilder() {
+        bitField0_ |= 0x00000001;
         onChanged();
-        return getColorFieldBuilder().getBuilder();
+        return getPosFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
-      public org.terasology.protobuf.NetData.ColorOrBuilder getColorOrBuilder() {
-        if (colorBuilder_ != null) {
-          return colorBuilder_.getMessageOrBuilder();
+      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
+        if (posBuilder_ != null) {
+          return posBuilder_.getMessageOrBuilder();
         } else {
-          return color_;
+          return pos_;
         }
       }
       /**
-       * <code>optional .Color color = 4;</code>
+       * <code>optional .Vector3iData pos = 1;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Color, org.terasology.protobuf.NetData.Color.Builder, org.terasology.protobuf.NetData.ColorOrBuilder> 
-          getColorFieldBuilder() {
-        if (colorBuilder_ == null) {
-          colorBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.Color, org.terasology.protobuf.NetData.Color.Builder, org.terasology.protobuf.NetData.ColorOrBuilder>(
-                  getColor(),
+          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
+          getPosFieldBuilder() {
+        if (posBuilder_ == null) {
+          posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
+                  getPos(),
                   getParentForChildren(),
                   isClean());
-          color_ = null;
+          pos_ = null;
         }
-        return colorBuilder_;
+        return posBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:JoinMessage)
+      private long hash_ ;
+      /**
+       * <code>optional fixed64 hash = 2;</code>
+       */
+      public boolean hasHash() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional fixed64 hash = 2;</code>
+       */
+      public long getHash() {
+        return hash_;
+      }
+      /**
+       * <code>optional fixed64 hash = 2;</code>
+       */
+      public Builder setHash(long value) {
+        bitField0_ |= 0x00000002;
+        hash_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional fixed64 hash = 2;</code>
+       */
+      public Builder clearHash() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        hash_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CachedChunk)
     }
 
     static {
-      defaultInstance = new JoinMessage(true);
+      defaultInstance = new CachedChunk(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:JoinMessage)
+    // @@protoc_insertion_point(class_scope:CachedChunk)
   }
 
   public interface ColorOrBuilder extends
@@ -25336,6 +26783,11 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_JoinMessage_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CachedChunk_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CachedChunk_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Color_descriptor;
   private static
@@ -25415,7 +26867,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\020NetMessage.proto\032\020EntityData.proto\"\377\006\n" +
+      "\n\020NetMessage.proto\032\020EntityData.proto\"\243\007\n" +
       "\nNetMessage\022\036\n\tchunkInfo\030\002 \003(\0132\013.ChunkSt" +
       "ore\0220\n\017invalidateChunk\030\003 \003(\0132\027.Invalidat" +
       "eChunkMessage\022(\n\013blockChange\030\004 \003(\0132\023.Blo" +
@@ -25424,78 +26876,82 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
       "\0132\024.RemoveEntityMessage\022*\n\014updateEntity\030" +
       "\007 \003(\0132\024.UpdateEntityMessage\022\034\n\005event\030\010 \003" +
       "(\0132\r.EventMessage\022\014\n\004time\030\t \001(\003\022(\n\013biome" +
-      "Change\030\n \003(\0132\023.BiomeChangeMessage\022-\n\021ser",
-      "verInfoRequest\030\017 \001(\0132\022.ServerInfoRequest" +
-      "\022&\n\nserverInfo\030\020 \001(\0132\022.ServerInfoMessage" +
-      "\022<\n\025blockFamilyRegistered\030\021 \003(\0132\035.BlockF" +
-      "amilyRegisteredMessage\022\032\n\004join\030\022 \001(\0132\014.J" +
-      "oinMessage\022%\n\rmoduleRequest\030\023 \003(\0132\016.Modu" +
-      "leRequest\022+\n\020moduleDataHeader\030\024 \001(\0132\021.Mo" +
-      "duleDataHeader\022\037\n\nmoduleData\030\025 \001(\0132\013.Mod" +
-      "uleData\022*\n\014joinComplete\030\026 \001(\0132\024.JoinComp" +
-      "leteMessage\022\'\n\016handshakeHello\030d \001(\0132\017.Ha" +
-      "ndshakeHello\022/\n\022newIdentityRequest\030e \001(\013",
-      "2\023.NewIdentityRequest\022-\n\021provisionIdenti" +
-      "ty\030f \001(\0132\022.ProvisionIdentity\0225\n\025handshak" +
-      "eVerification\030g \001(\0132\026.HandshakeVerificat" +
-      "ion*\t\010\210\'\020\200\200\200\200\002\"a\n\016HandshakeHello\022\016\n\006rand" +
-      "om\030\001 \001(\014\022!\n\013certificate\030\002 \001(\0132\014.Certific" +
-      "ate\022\021\n\ttimestamp\030\003 \001(\022*\t\010\210\'\020\200\200\200\200\002\"H\n\022New" +
-      "IdentityRequest\022\027\n\017preMasterSecret\030\001 \001(\014" +
-      "\022\016\n\006random\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"=\n\021Provision" +
-      "Identity\022\035\n\025encryptedCertificates\030\001 \001(\014*" +
-      "\t\010\210\'\020\200\200\200\200\002\"]\n\016CertificateSet\022\'\n\021publicCe",
-      "rtificate\030\001 \001(\0132\014.Certificate\022\027\n\017private" +
-      "Exponent\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"5\n\025HandshakeVe" +
-      "rification\022\021\n\tsignature\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002" +
-      "\"Z\n\013Certificate\022\n\n\002id\030\001 \001(\t\022\017\n\007modulus\030\002" +
-      " \001(\014\022\020\n\010exponent\030\003 \001(\014\022\021\n\tsignature\030\004 \001(" +
-      "\014*\t\010\210\'\020\200\200\200\200\002\"L\n\034BlockFamilyRegisteredMes" +
-      "sage\022\020\n\010blockUri\030\001 \003(\t\022\017\n\007blockId\030\002 \003(\005*" +
-      "\t\010\210\'\020\200\200\200\200\002\"?\n\026InvalidateChunkMessage\022\032\n\003" +
-      "pos\030\001 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"M\n\022B" +
-      "lockChangeMessage\022\032\n\003pos\030\001 \001(\0132\r.Vector3",
-      "iData\022\020\n\010newBlock\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"M\n\022Bi" +
-      "omeChangeMessage\022\032\n\003pos\030\001 \001(\0132\r.Vector3i" +
-      "Data\022\020\n\010newBiome\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\014Vec" +
-      "tor3iData\022\t\n\001x\030\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\t\n\001z\030\003 \001" +
-      "(\005\"\036\n\021ServerInfoRequest*\t\010\210\'\020\200\200\200\200\002\"i\n\013Jo" +
-      "inMessage\022\014\n\004name\030\001 \001(\t\022\017\n\007version\030\002 \001(\t" +
-      "\022\031\n\021viewDistanceLevel\030\003 \001(\021\022\025\n\005color\030\004 \001" +
-      "(\0132\006.Color*\t\010\210\'\020\200\200\200\200\002\"\025\n\005Color\022\014\n\004rgba\030\001" +
-      " \001(\r\"2\n\023JoinCompleteMessage\022\020\n\010clientId\030" +
-      "\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"\261\003\n\021ServerInfoMessage\022\033",
-      "\n\006module\030\001 \003(\0132\013.ModuleInfo\022\023\n\007blockId\030\002" +
-      " \003(\021B\002\020\001\022\021\n\tblockName\030\003 \003(\t\022%\n\tcomponent" +
-      "\030\004 \003(\0132\022.SerializationInfo\022!\n\005event\030\005 \003(" +
-      "\0132\022.SerializationInfo\022\023\n\007assetId\030\006 \003(\005B\002" +
-      "\020\001\022\020\n\010assetUri\030\007 \003(\t\022\033\n\023registerBlockFam" +
-      "ily\030\010 \003(\t\022\035\n\tworldInfo\030\t \003(\0132\n.WorldInfo" +
-      "\022\030\n\014biomeShortId\030\n \003(\021B\002\020\001\022\017\n\007biomeId\030\013 " +
-      "\003(\t\022\017\n\007version\030\017 \001(\t\022\020\n\010gameName\030\020 \001(\t\022\014" +
-      "\n\004time\030\021 \001(\003\022\030\n\020reflectionHeight\030\022 \001(\002\022\014" +
-      "\n\004MOTD\030\023 \001(\t\022\033\n\023onlinePlayersAmount\030\024 \001(",
-      "\005*\t\010\210\'\020\200\200\200\200\002\"3\n\tWorldInfo\022\r\n\005title\030\001 \001(\t" +
-      "\022\014\n\004time\030\002 \001(\003*\t\010\210\'\020\200\200\200\200\002\"]\n\021Serializati" +
-      "onInfo\022\014\n\004name\030\001 \001(\t\022\n\n\002id\030\002 \001(\005\022\021\n\tfiel" +
-      "dName\030\003 \003(\t\022\020\n\010fieldIds\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002" +
-      "\"@\n\nModuleInfo\022\020\n\010moduleId\030\001 \001(\t\022\025\n\rmodu" +
-      "leVersion\030\002 \001(\t*\t\010\210\'\020\200\200\200\200\002\",\n\rModuleRequ" +
-      "est\022\020\n\010moduleId\030\001 \001(\t*\t\010\210\'\020\200\200\200\200\002\"W\n\020Modu" +
-      "leDataHeader\022\n\n\002id\030\001 \001(\t\022\017\n\007version\030\002 \001(" +
-      "\t\022\014\n\004size\030\003 \001(\003\022\r\n\005error\030\017 \001(\t*\t\010\210\'\020\200\200\200\200" +
-      "\002\"\'\n\nModuleData\022\016\n\006module\030\001 \001(\014*\t\010\210\'\020\200\200\200",
-      "\200\002\"-\n\017ModuleSendError\022\017\n\007message\030\001 \001(\t*\t" +
-      "\010\210\'\020\200\200\200\200\002\"`\n\023CreateEntityMessage\022\035\n\006enti" +
-      "ty\030\001 \001(\0132\r.PackedEntity\022\037\n\010blockPos\030\002 \001(" +
-      "\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"N\n\023UpdateEnt" +
-      "ityMessage\022\035\n\006entity\030\001 \001(\0132\r.PackedEntit" +
-      "y\022\r\n\005netId\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\023RemoveEnt" +
-      "ityMessage\022\r\n\005netId\030\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"i\n\014" +
-      "EventMessage\022\020\n\010targetId\030\001 \001(\005\022\025\n\005event\030" +
-      "\002 \001(\0132\006.Event\022%\n\016targetBlockPos\030\003 \001(\0132\r." +
-      "Vector3iData*\t\010\210\'\020\200\200\200\200\002B$\n\027org.terasolog",
-      "y.protobufB\007NetDataH\001"
+      "Change\030\n \003(\0132\023.BiomeChangeMessage\022\"\n\013cac",
+      "hedChunk\030\013 \003(\0132\r.Vector3iData\022-\n\021serverI" +
+      "nfoRequest\030\017 \001(\0132\022.ServerInfoRequest\022&\n\n" +
+      "serverInfo\030\020 \001(\0132\022.ServerInfoMessage\022<\n\025" +
+      "blockFamilyRegistered\030\021 \003(\0132\035.BlockFamil" +
+      "yRegisteredMessage\022\032\n\004join\030\022 \001(\0132\014.JoinM" +
+      "essage\022%\n\rmoduleRequest\030\023 \003(\0132\016.ModuleRe" +
+      "quest\022+\n\020moduleDataHeader\030\024 \001(\0132\021.Module" +
+      "DataHeader\022\037\n\nmoduleData\030\025 \001(\0132\013.ModuleD" +
+      "ata\022*\n\014joinComplete\030\026 \001(\0132\024.JoinComplete" +
+      "Message\022\'\n\016handshakeHello\030d \001(\0132\017.Handsh",
+      "akeHello\022/\n\022newIdentityRequest\030e \001(\0132\023.N" +
+      "ewIdentityRequest\022-\n\021provisionIdentity\030f" +
+      " \001(\0132\022.ProvisionIdentity\0225\n\025handshakeVer" +
+      "ification\030g \001(\0132\026.HandshakeVerification*" +
+      "\t\010\210\'\020\200\200\200\200\002\"a\n\016HandshakeHello\022\016\n\006random\030\001" +
+      " \001(\014\022!\n\013certificate\030\002 \001(\0132\014.Certificate\022" +
+      "\021\n\ttimestamp\030\003 \001(\022*\t\010\210\'\020\200\200\200\200\002\"H\n\022NewIden" +
+      "tityRequest\022\027\n\017preMasterSecret\030\001 \001(\014\022\016\n\006" +
+      "random\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"=\n\021ProvisionIden" +
+      "tity\022\035\n\025encryptedCertificates\030\001 \001(\014*\t\010\210\'",
+      "\020\200\200\200\200\002\"]\n\016CertificateSet\022\'\n\021publicCertif" +
+      "icate\030\001 \001(\0132\014.Certificate\022\027\n\017privateExpo" +
+      "nent\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"5\n\025HandshakeVerifi" +
+      "cation\022\021\n\tsignature\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"Z\n\013" +
+      "Certificate\022\n\n\002id\030\001 \001(\t\022\017\n\007modulus\030\002 \001(\014" +
+      "\022\020\n\010exponent\030\003 \001(\014\022\021\n\tsignature\030\004 \001(\014*\t\010" +
+      "\210\'\020\200\200\200\200\002\"L\n\034BlockFamilyRegisteredMessage" +
+      "\022\020\n\010blockUri\030\001 \003(\t\022\017\n\007blockId\030\002 \003(\005*\t\010\210\'" +
+      "\020\200\200\200\200\002\"?\n\026InvalidateChunkMessage\022\032\n\003pos\030" +
+      "\001 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"M\n\022Block",
+      "ChangeMessage\022\032\n\003pos\030\001 \001(\0132\r.Vector3iDat" +
+      "a\022\020\n\010newBlock\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"M\n\022BiomeC" +
+      "hangeMessage\022\032\n\003pos\030\001 \001(\0132\r.Vector3iData" +
+      "\022\020\n\010newBiome\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\014Vector3" +
+      "iData\022\t\n\001x\030\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\t\n\001z\030\003 \001(\005\"\036" +
+      "\n\021ServerInfoRequest*\t\010\210\'\020\200\200\200\200\002\"\214\001\n\013JoinM" +
+      "essage\022\014\n\004name\030\001 \001(\t\022\017\n\007version\030\002 \001(\t\022\031\n" +
+      "\021viewDistanceLevel\030\003 \001(\021\022\025\n\005color\030\004 \001(\0132" +
+      "\006.Color\022!\n\013cachedChunk\030\005 \003(\0132\014.CachedChu" +
+      "nk*\t\010\210\'\020\200\200\200\200\002\"B\n\013CachedChunk\022\032\n\003pos\030\001 \001(",
+      "\0132\r.Vector3iData\022\014\n\004hash\030\002 \001(\006*\t\010\210\'\020\200\200\200\200" +
+      "\002\"\025\n\005Color\022\014\n\004rgba\030\001 \001(\r\"2\n\023JoinComplete" +
+      "Message\022\020\n\010clientId\030\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"\261\003\n" +
+      "\021ServerInfoMessage\022\033\n\006module\030\001 \003(\0132\013.Mod" +
+      "uleInfo\022\023\n\007blockId\030\002 \003(\021B\002\020\001\022\021\n\tblockNam" +
+      "e\030\003 \003(\t\022%\n\tcomponent\030\004 \003(\0132\022.Serializati" +
+      "onInfo\022!\n\005event\030\005 \003(\0132\022.SerializationInf" +
+      "o\022\023\n\007assetId\030\006 \003(\005B\002\020\001\022\020\n\010assetUri\030\007 \003(\t" +
+      "\022\033\n\023registerBlockFamily\030\010 \003(\t\022\035\n\tworldIn" +
+      "fo\030\t \003(\0132\n.WorldInfo\022\030\n\014biomeShortId\030\n \003",
+      "(\021B\002\020\001\022\017\n\007biomeId\030\013 \003(\t\022\017\n\007version\030\017 \001(\t" +
+      "\022\020\n\010gameName\030\020 \001(\t\022\014\n\004time\030\021 \001(\003\022\030\n\020refl" +
+      "ectionHeight\030\022 \001(\002\022\014\n\004MOTD\030\023 \001(\t\022\033\n\023onli" +
+      "nePlayersAmount\030\024 \001(\005*\t\010\210\'\020\200\200\200\200\002\"3\n\tWorl" +
+      "dInfo\022\r\n\005title\030\001 \001(\t\022\014\n\004time\030\002 \001(\003*\t\010\210\'\020" +
+      "\200\200\200\200\002\"]\n\021SerializationInfo\022\014\n\004name\030\001 \001(\t" +
+      "\022\n\n\002id\030\002 \001(\005\022\021\n\tfieldName\030\003 \003(\t\022\020\n\010field" +
+      "Ids\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002\"@\n\nModuleInfo\022\020\n\010mo" +
+      "duleId\030\001 \001(\t\022\025\n\rmoduleVersion\030\002 \001(\t*\t\010\210\'" +
+      "\020\200\200\200\200\002\",\n\rModuleRequest\022\020\n\010moduleId\030\001 \001(",
+      "\t*\t\010\210\'\020\200\200\200\200\002\"W\n\020ModuleDataHeader\022\n\n\002id\030\001" +
+      " \001(\t\022\017\n\007version\030\002 \001(\t\022\014\n\004size\030\003 \001(\003\022\r\n\005e" +
+      "rror\030\017 \001(\t*\t\010\210\'\020\200\200\200\200\002\"\'\n\nModuleData\022\016\n\006m" +
+      "odule\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"-\n\017ModuleSendErro" +
+      "r\022\017\n\007message\030\001 \001(\t*\t\010\210\'\020\200\200\200\200\002\"`\n\023CreateE" +
+      "ntityMessage\022\035\n\006entity\030\001 \001(\0132\r.PackedEnt" +
+      "ity\022\037\n\010blockPos\030\002 \001(\0132\r.Vector3iData*\t\010\210" +
+      "\'\020\200\200\200\200\002\"N\n\023UpdateEntityMessage\022\035\n\006entity" +
+      "\030\001 \001(\0132\r.PackedEntity\022\r\n\005netId\030\002 \001(\005*\t\010\210" +
+      "\'\020\200\200\200\200\002\"/\n\023RemoveEntityMessage\022\r\n\005netId\030",
+      "\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"i\n\014EventMessage\022\020\n\010targ" +
+      "etId\030\001 \001(\005\022\025\n\005event\030\002 \001(\0132\006.Event\022%\n\016tar" +
+      "getBlockPos\030\003 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200" +
+      "\200\200\002B$\n\027org.terasology.protobufB\007NetDataH" +
+      "\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -25515,7 +26971,7 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
     internal_static_NetMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_NetMessage_descriptor,
-        new java.lang.String[] { "ChunkInfo", "InvalidateChunk", "BlockChange", "CreateEntity", "RemoveEntity", "UpdateEntity", "Event", "Time", "BiomeChange", "ServerInfoRequest", "ServerInfo", "BlockFamilyRegistered", "Join", "ModuleRequest", "ModuleDataHeader", "ModuleData", "JoinComplete", "HandshakeHello", "NewIdentityRequest", "ProvisionIdentity", "HandshakeVerification", });
+        new java.lang.String[] { "ChunkInfo", "InvalidateChunk", "BlockChange", "CreateEntity", "RemoveEntity", "UpdateEntity", "Event", "Time", "BiomeChange", "CachedChunk", "ServerInfoRequest", "ServerInfo", "BlockFamilyRegistered", "Join", "ModuleRequest", "ModuleDataHeader", "ModuleData", "JoinComplete", "HandshakeHello", "NewIdentityRequest", "ProvisionIdentity", "HandshakeVerification", });
     internal_static_HandshakeHello_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_HandshakeHello_fieldAccessorTable = new
@@ -25593,87 +27049,93 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
     internal_static_JoinMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_JoinMessage_descriptor,
-        new java.lang.String[] { "Name", "Version", "ViewDistanceLevel", "Color", });
-    internal_static_Color_descriptor =
+        new java.lang.String[] { "Name", "Version", "ViewDistanceLevel", "Color", "CachedChunk", });
+    internal_static_CachedChunk_descriptor =
       getDescriptor().getMessageTypes().get(14);
+    internal_static_CachedChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CachedChunk_descriptor,
+        new java.lang.String[] { "Pos", "Hash", });
+    internal_static_Color_descriptor =
+      getDescriptor().getMessageTypes().get(15);
     internal_static_Color_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Color_descriptor,
         new java.lang.String[] { "Rgba", });
     internal_static_JoinCompleteMessage_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_JoinCompleteMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_JoinCompleteMessage_descriptor,
         new java.lang.String[] { "ClientId", });
     internal_static_ServerInfoMessage_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_ServerInfoMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ServerInfoMessage_descriptor,
         new java.lang.String[] { "Module", "BlockId", "BlockName", "Component", "Event", "AssetId", "AssetUri", "RegisterBlockFamily", "WorldInfo", "BiomeShortId", "BiomeId", "Version", "GameName", "Time", "ReflectionHeight", "MOTD", "OnlinePlayersAmount", });
     internal_static_WorldInfo_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_WorldInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_WorldInfo_descriptor,
         new java.lang.String[] { "Title", "Time", });
     internal_static_SerializationInfo_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_SerializationInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_SerializationInfo_descriptor,
         new java.lang.String[] { "Name", "Id", "FieldName", "FieldIds", });
     internal_static_ModuleInfo_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_ModuleInfo_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleInfo_descriptor,
         new java.lang.String[] { "ModuleId", "ModuleVersion", });
     internal_static_ModuleRequest_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_ModuleRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleRequest_descriptor,
         new java.lang.String[] { "ModuleId", });
     internal_static_ModuleDataHeader_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_ModuleDataHeader_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleDataHeader_descriptor,
         new java.lang.String[] { "Id", "Version", "Size", "Error", });
     internal_static_ModuleData_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_ModuleData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleData_descriptor,
         new java.lang.String[] { "Module", });
     internal_static_ModuleSendError_descriptor =
-      getDescriptor().getMessageTypes().get(23);
+      getDescriptor().getMessageTypes().get(24);
     internal_static_ModuleSendError_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ModuleSendError_descriptor,
         new java.lang.String[] { "Message", });
     internal_static_CreateEntityMessage_descriptor =
-      getDescriptor().getMessageTypes().get(24);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_CreateEntityMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_CreateEntityMessage_descriptor,
         new java.lang.String[] { "Entity", "BlockPos", });
     internal_static_UpdateEntityMessage_descriptor =
-      getDescriptor().getMessageTypes().get(25);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_UpdateEntityMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_UpdateEntityMessage_descriptor,
         new java.lang.String[] { "Entity", "NetId", });
     internal_static_RemoveEntityMessage_descriptor =
-      getDescriptor().getMessageTypes().get(26);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_RemoveEntityMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_RemoveEntityMessage_descriptor,
         new java.lang.String[] { "NetId", });
     internal_static_EventMessage_descriptor =
-      getDescriptor().getMessageTypes().get(27);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_EventMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_EventMessage_descriptor,
@@ -39,9 +39,11 @@
 import org.terasology.rendering.assets.shader.ShaderData;
 import org.terasology.rendering.assets.shader.ShaderParameterMetadata;
 import org.terasology.rendering.assets.shader.ShaderProgramFeature;
+import org.terasology.rendering.primitives.ChunkTessellator;
 import org.terasology.rendering.primitives.ChunkVertexFlag;
 import org.terasology.rendering.shader.ShaderParametersSSAO;
 import org.terasology.rendering.world.WorldRenderer;
+import org.terasology.world.block.shapes.BlockMeshPart;
 import org.terasology.world.block.tiles.WorldAtlas;
 
 import java.io.BufferedWriter;
@@ -154,6 +156,9 @@ private StringBuilder createShaderBuilder() {
         preProcessorPreamble += "#define SSAO_NOISE_SIZE " + ShaderParametersSSAO.SSAO_NOISE_SIZE + "\n";
         // TODO: This shouldn't be hardcoded
         preProcessorPreamble += "#define TEXTURE_OFFSET_EFFECTS " + 0.0625f + "\n";
+        preProcessorPreamble += "#define TEXTURE_BORDER " + BlockMeshPart.BORDER + "\n";
+        preProcessorPreamble += "#define TILED_TEX_COORD_SCALE " + ChunkTessellator.TILED_TEX_COORD_SCALE + "\n";
+        preProcessorPreamble += "#define TILED_TEX_COORD_MARGIN " + ChunkTessellator.TILED_TEX_COORD_MARGIN + "\n";
 
         StringBuilder builder = new StringBuilder().append(preProcessorPreamble);
         if (renderConfig.isVolumetricFog()) {
@@ -117,9 +117,19 @@ public enum RenderPhase {
     private int timeToGenerateOptimizedBuffers;
 
     private GLBufferPool bufferPool;
+    private ChunkMeshBufferPool meshBufferPool;
 
     public ChunkMesh(GLBufferPool bufferPool) {
+        this(bufferPool, null);
+    }
+
+    /**
+     * @param meshBufferPool the pool the final vertex and index buffers get released to once uploaded, or null if they
+     *                       were not taken from a pool.
+     */
+    public ChunkMesh(GLBufferPool bufferPool, ChunkMeshBufferPool meshBufferPool) {
         this.bufferPool = bufferPool;
+        this.meshBufferPool = meshBufferPool;
         for (RenderType type : RenderType.values()) {
             vertexElements.put(type, new VertexElements());
         }
@@ -151,6 +161,7 @@ public boolean generateVBOs() {
                 }
 
                 // Free unused space on the heap
+                releaseFinalBuffers();
                 vertexElements = null;
                 // Calculate the final amount of triangles
                 triangleCount = (vertexCount[0] + vertexCount[1] + vertexCount[2] + vertexCount[3]) / 3;
@@ -182,6 +193,22 @@ private void generateVBO(RenderType type) {
 
     }
 
+    private void releaseFinalBuffers() {
+        if (meshBufferPool == null || vertexElements == null) {
+            return;
+        }
+        for (VertexElements elements : vertexElements.values()) {
+            if (elements.finalVertices != null) {
+                meshBufferPool.release(elements.finalVertices);
+                elements.finalVertices = null;
+            }
+            if (elements.finalIndices != null) {
+                meshBufferPool.release(elements.finalIndices);
+                elements.finalIndices = null;
+            }
+        }
+    }
+
     private void renderVbo(int id) {
         if (lock.tryLock()) {
             try {
@@ -312,6 +339,7 @@ public void dispose() {
                 }
 
                 disposed = true;
+                releaseFinalBuffers();
                 vertexElements = null;
             }
         } finally {
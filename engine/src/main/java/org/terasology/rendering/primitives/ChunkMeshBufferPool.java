@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.rendering.primitives;
+
+import com.google.common.collect.Queues;
+import org.lwjgl.BufferUtils;
+
+import java.nio.IntBuffer;
+import java.util.Deque;
+
+/**
+ * Pool of the direct buffers the vertex and index data of chunk meshes gets written into before it is uploaded.
+ * <br><br>
+ * Buffers are pooled by power of two capacities. A buffer gets handed back to the pool once its mesh was uploaded,
+ * so the mesh update threads mostly reuse buffers instead of allocating direct memory for every chunk.
+ */
+public class ChunkMeshBufferPool {
+    private static final int MIN_CAPACITY_POWER = 10;
+    private static final int MAX_CAPACITY_POWER = 30;
+    /**
+     * The number of ints the pool keeps at most, larger amounts of released buffers get left to the garbage collector.
+     */
+    private static final int MAX_POOLED_INTS = 8 * 1024 * 1024;
+
+    private final Deque<IntBuffer>[] buffersByPower;
+    private int pooledInts;
+
+    @SuppressWarnings("unchecked")
+    public ChunkMeshBufferPool() {
+        buffersByPower = new Deque[MAX_CAPACITY_POWER + 1];
+        for (int i = MIN_CAPACITY_POWER; i <= MAX_CAPACITY_POWER; i++) {
+            buffersByPower[i] = Queues.newArrayDeque();
+        }
+    }
+
+    /**
+     * @return a cleared buffer with at least the given capacity.
+     */
+    public synchronized IntBuffer get(int capacity) {
+        int power = capacityPower(capacity);
+        IntBuffer buffer = buffersByPower[power].poll();
+        if (buffer == null) {
+            return BufferUtils.createIntBuffer(1 << power);
+        }
+        pooledInts -= buffer.capacity();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Hands a buffer obtained from {@link #get(int)} back to the pool. It must not be used afterwards.
+     */
+    public synchronized void release(IntBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (Integer.bitCount(capacity) != 1 || capacity < 1 << MIN_CAPACITY_POWER
+                || pooledInts + capacity > MAX_POOLED_INTS) {
+            return;
+        }
+        buffersByPower[Integer.numberOfTrailingZeros(capacity)].push(buffer);
+        pooledInts += capacity;
+    }
+
+    public synchronized int getPooledInts() {
+        return pooledInts;
+    }
+
+    private static int capacityPower(int capacity) {
+        int power = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        if (power > MAX_CAPACITY_POWER) {
+            throw new IllegalArgumentException("Buffer capacity too large: " + capacity);
+        }
+        return Math.max(power, MIN_CAPACITY_POWER);
+    }
+}
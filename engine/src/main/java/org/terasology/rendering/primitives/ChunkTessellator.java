@@ -17,7 +17,6 @@
 
 import com.google.common.base.Stopwatch;
 import gnu.trove.iterator.TIntIterator;
-import org.lwjgl.BufferUtils;
 import org.terasology.engine.subsystem.lwjgl.GLBufferPool;
 import org.terasology.math.Direction;
 import org.terasology.math.TeraMath;
@@ -32,21 +31,44 @@
 
 /**
  * Generates tessellated chunk meshes from chunks.
- *
+ * <br><br>
+ * With greedy meshing enabled, full cube blocks get tessellated by a {@link GreedyMesher} per thread instead of their
+ * mesh generators.
  */
 public final class ChunkTessellator {
 
+    /**
+     * Merged faces encode their texture coordinates as the tile origin plus the position on the repeated tile, in
+     * tiles, divided by this scale. The scale must exceed the largest extent of a chunk in blocks, so the tile origin
+     * can be recovered in the shader.
+     */
+    public static final float TILED_TEX_COORD_SCALE = 128f;
+
+    /**
+     * Offset of the encoded position on the repeated tile, keeps the encoded values clear of the tile origin.
+     */
+    public static final float TILED_TEX_COORD_MARGIN = 0.25f;
+
     private static int statVertexArrayUpdateCount;
 
     private GLBufferPool bufferPool;
+    private final ChunkMeshBufferPool meshBufferPool = new ChunkMeshBufferPool();
+    private final boolean greedyMeshing;
+    private final ThreadLocal<GreedyMesher> greedyMeshers = ThreadLocal.withInitial(GreedyMesher::new);
 
     public ChunkTessellator(GLBufferPool bufferPool) {
+        this(bufferPool, false);
+    }
+
+    public ChunkTessellator(GLBufferPool bufferPool, boolean greedyMeshing) {
         this.bufferPool = bufferPool;
+        this.greedyMeshing = greedyMeshing;
     }
 
     public ChunkMesh generateMesh(ChunkView chunkView, int meshHeight, int verticalOffset) {
         PerformanceMonitor.startActivity("GenerateMesh");
-        ChunkMesh mesh = new ChunkMesh(bufferPool);
+        ChunkMesh mesh = new ChunkMesh(bufferPool, meshBufferPool);
+        GreedyMesher greedyMesher = greedyMeshing ? greedyMeshers.get() : null;
 
         final Stopwatch watch = Stopwatch.createStarted();
 
@@ -54,18 +76,23 @@ public ChunkMesh generateMesh(ChunkView chunkView, int meshHeight, int verticalO
             for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
                 for (int y = verticalOffset; y < verticalOffset + meshHeight; y++) {
                     Block block = chunkView.getBlock(x, y, z);
-                    if (block != null && block.getMeshGenerator() != null) {
+                    if (block != null && block.getMeshGenerator() != null
+                            && (greedyMesher == null || !greedyMesher.isMergeable(block))) {
                         block.getMeshGenerator().generateChunkMesh(chunkView, mesh, x, y, z);
                     }
                 }
             }
         }
+        if (greedyMesher != null) {
+            greedyMesher.generate(chunkView, meshHeight, verticalOffset,
+                    mesh.getVertexElements(ChunkMesh.RenderType.OPAQUE).vertexCount);
+        }
         watch.stop();
 
         mesh.setTimeToGenerateBlockVertices((int) watch.elapsed(TimeUnit.MILLISECONDS));
 
         watch.reset().start();
-        generateOptimizedBuffers(chunkView, mesh);
+        generateOptimizedBuffers(chunkView, mesh, greedyMesher);
         watch.stop();
         mesh.setTimeToGenerateOptimizedBuffers((int) watch.elapsed(TimeUnit.MILLISECONDS));
         statVertexArrayUpdateCount++;
@@ -74,20 +101,20 @@ public ChunkMesh generateMesh(ChunkView chunkView, int meshHeight, int verticalO
         return mesh;
     }
 
-    private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
+    private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh, GreedyMesher greedyMesher) {
         PerformanceMonitor.startActivity("OptimizeBuffers");
 
+        float[] result = new float[3];
         for (ChunkMesh.RenderType type : ChunkMesh.RenderType.values()) {
             ChunkMesh.VertexElements elements = mesh.getVertexElements(type);
-            // Vertices double to account for light info
-            elements.finalVertices = BufferUtils.createIntBuffer(
-                    elements.vertices.size() + /* POSITION */
-                            elements.tex.size() + /* TEX0 (UV0 and flags) */
-                            elements.tex.size() + /* TEX1 (lighting data) */
-                            elements.flags.size() + /* FLAGS */
-                            elements.color.size() + /* COLOR */
-                            elements.normals.size()  /* NORMALS */
-            );
+            boolean greedy = greedyMesher != null && type == ChunkMesh.RenderType.OPAQUE;
+            int vertexDataSize = elements.vertices.size() / 3 * GreedyMesher.VERTEX_SIZE;
+            int indexDataSize = elements.indices.size();
+            if (greedy) {
+                vertexDataSize += greedyMesher.getVertexDataSize();
+                indexDataSize += greedyMesher.getIndexDataSize();
+            }
+            elements.finalVertices = meshBufferPool.get(vertexDataSize);
 
             int cTex = 0;
             int cColor = 0;
@@ -110,7 +137,6 @@ private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
                 /* FLAGS */
                 elements.finalVertices.put(Float.floatToIntBits(elements.flags.get(cFlags)));
 
-                float[] result = new float[3];
                 Vector3f normal = new Vector3f(elements.normals.get(i), elements.normals.get(i + 1), elements.normals.get(i + 2));
                 calcLightingValuesForVertexPos(chunkView, vertexPos, result, normal);
 
@@ -133,19 +159,24 @@ private void generateOptimizedBuffers(ChunkView chunkView, ChunkMesh mesh) {
                 elements.finalVertices.put(Float.floatToIntBits(normal.z));
             }
 
-            elements.finalIndices = BufferUtils.createIntBuffer(elements.indices.size());
+            elements.finalIndices = meshBufferPool.get(indexDataSize);
             TIntIterator indexIterator = elements.indices.iterator();
             while (indexIterator.hasNext()) {
                 elements.finalIndices.put(indexIterator.next());
             }
 
+            if (greedy) {
+                greedyMesher.writeVertices(elements.finalVertices);
+                greedyMesher.writeIndices(elements.finalIndices);
+            }
+
             elements.finalVertices.flip();
             elements.finalIndices.flip();
         }
         PerformanceMonitor.endActivity();
     }
 
-    private void calcLightingValuesForVertexPos(ChunkView chunkView, Vector3f vertexPos, float[] output, Vector3f normal) {
+    static void calcLightingValuesForVertexPos(ChunkView chunkView, Vector3f vertexPos, float[] output, Vector3f normal) {
         PerformanceMonitor.startActivity("calcLighting");
         float[] lights = new float[8];
         float[] blockLights = new float[8];
@@ -24,7 +24,11 @@ public enum ChunkVertexFlag {
     LAVA(3, "BLOCK_HINT_LAVA"),
     COLOR_MASK(4, "BLOCK_HINT_GRASS"),
     WAVING(5, "BLOCK_HINT_WAVING"),
-    WAVING_BLOCK(6, "BLOCK_HINT_WAVING_BLOCK");
+    WAVING_BLOCK(6, "BLOCK_HINT_WAVING_BLOCK"),
+    /**
+     * The face covers several blocks and repeats its texture tile on each, see {@link GreedyMesher}.
+     */
+    TILED(7, "BLOCK_HINT_TILED");
 
     private int value;
     private String defineName;
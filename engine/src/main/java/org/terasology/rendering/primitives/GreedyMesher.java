@@ -0,0 +1,461 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.rendering.primitives;
+
+import com.google.common.collect.Maps;
+import org.terasology.math.Side;
+import org.terasology.math.geom.Vector2f;
+import org.terasology.math.geom.Vector3f;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.math.geom.Vector4f;
+import org.terasology.rendering.RenderMath;
+import org.terasology.world.ChunkView;
+import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockAppearance;
+import org.terasology.world.block.BlockPart;
+import org.terasology.world.block.shapes.BlockMeshPart;
+import org.terasology.world.chunks.ChunkConstants;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Tessellates the full cube blocks of a chunk, merging adjacent faces that look the same into larger quads.
+ * <br><br>
+ * Only opaque blocks with a plain cube appearance qualify, see {@link #isMergeable(Block)}. Faces get merged if they
+ * share the mesh part, the color and a lighting that is the same on all their corners, so the merged quad is lit
+ * exactly like the faces it replaces. Merged quads carry the {@link ChunkVertexFlag#TILED} flag and encode their texture
+ * coordinates such that the chunk shader repeats the tile once per block. All other faces get added unmerged, with the
+ * same vertex data the regular tessellation would produce.
+ * <br><br>
+ * An instance keeps its scratch arrays between chunks and is not thread safe.
+ */
+final class GreedyMesher {
+    /**
+     * The number of ints per vertex in the final vertex buffer of a chunk mesh.
+     */
+    static final int VERTEX_SIZE = 13;
+
+    private static final int INDICES_PER_QUAD = 6;
+    private static final int VERTICES_PER_QUAD = 4;
+    private static final float EPSILON = 0.001f;
+    private static final int MAX_MASK_SIZE = Math.max(ChunkConstants.SIZE_X, ChunkConstants.SIZE_Z) * ChunkConstants.SIZE_Y;
+
+    private final Map<Block, Boolean> mergeableBlocks = Maps.newIdentityHashMap();
+    private final Map<BlockMeshPart, FaceLayout> faceLayouts = Maps.newIdentityHashMap();
+
+    private final BlockMeshPart[] maskParts = new BlockMeshPart[MAX_MASK_SIZE];
+    private final FaceLayout[] maskLayouts = new FaceLayout[MAX_MASK_SIZE];
+    private final int[] maskColors = new int[MAX_MASK_SIZE];
+    private final float[] maskLights = new float[MAX_MASK_SIZE * 3];
+
+    private final float[] cornerLights = new float[VERTICES_PER_QUAD * 3];
+    private final float[] lightResult = new float[3];
+    private final Vector3f cornerPos = new Vector3f();
+    private final float[] corner = new float[3];
+    private final int[] pos = new int[3];
+    private final int[] min = new int[3];
+    private final int[] size = new int[3];
+
+    private int[] vertexData = new int[VERTEX_SIZE * 4096];
+    private int vertexDataSize;
+    private int[] indexData = new int[INDICES_PER_QUAD * 1024];
+    private int indexDataSize;
+    private int indexOffset;
+
+    /**
+     * @return true if the block gets tessellated by this mesher rather than by its mesh generator.
+     */
+    boolean isMergeable(Block block) {
+        if (block == null) {
+            return false;
+        }
+        Boolean mergeable = mergeableBlocks.get(block);
+        if (mergeable == null) {
+            mergeable = calcMergeable(block);
+            mergeableBlocks.put(block, mergeable);
+        }
+        return mergeable;
+    }
+
+    private boolean calcMergeable(Block block) {
+        if (block.getMeshGenerator() == null || block.getMeshGenerator().getClass() != BlockMeshGeneratorSingleShape.class
+                || block.isTranslucent() || block.isLiquid() || block.isWater() || block.isLava() || block.isIce()
+                || block.isWaving() || block.isDoubleSided()) {
+            return false;
+        }
+        BlockAppearance appearance = block.getPrimaryAppearance();
+        if (appearance == null || appearance.getPart(BlockPart.CENTER) != null) {
+            return false;
+        }
+        for (Side side : Side.values()) {
+            BlockMeshPart part = appearance.getPart(BlockPart.fromSide(side));
+            if (!block.isFullSide(side) || part == null || getFaceLayout(part, side) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tessellates the mergeable blocks of the chunk.
+     *
+     * @param indexOffset the number of vertices that precede the ones of this mesher in the final vertex buffer.
+     */
+    void generate(ChunkView chunkView, int meshHeight, int verticalOffset, int indexOffset) {
+        vertexDataSize = 0;
+        indexDataSize = 0;
+        this.indexOffset = indexOffset;
+        min[0] = 0;
+        min[1] = verticalOffset;
+        min[2] = 0;
+        size[0] = ChunkConstants.SIZE_X;
+        size[1] = meshHeight;
+        size[2] = ChunkConstants.SIZE_Z;
+        for (Side side : Side.values()) {
+            generateSide(chunkView, side);
+        }
+    }
+
+    /**
+     * @return the number of vertices generated for the last chunk.
+     */
+    int getVertexCount() {
+        return vertexDataSize / VERTEX_SIZE;
+    }
+
+    int getVertexDataSize() {
+        return vertexDataSize;
+    }
+
+    int getIndexDataSize() {
+        return indexDataSize;
+    }
+
+    void writeVertices(IntBuffer buffer) {
+        buffer.put(vertexData, 0, vertexDataSize);
+    }
+
+    void writeIndices(IntBuffer buffer) {
+        buffer.put(indexData, 0, indexDataSize);
+    }
+
+    private void generateSide(ChunkView chunkView, Side side) {
+        Vector3i dir = side.getVector3i();
+        int n = dir.x != 0 ? 0 : (dir.y != 0 ? 1 : 2);
+        int u = n == 0 ? 2 : 0;
+        int v = n == 1 ? 2 : 1;
+        int maskWidth = size[u];
+        int maskHeight = size[v];
+        BlockPart blockPart = BlockPart.fromSide(side);
+        ChunkVertexFlag sideFlag = side.isHorizontal() ? ChunkVertexFlag.COLOR_MASK : ChunkVertexFlag.NORMAL;
+
+        for (int layer = 0; layer < size[n]; layer++) {
+            for (int j = 0; j < maskHeight; j++) {
+                for (int i = 0; i < maskWidth; i++) {
+                    int index = j * maskWidth + i;
+                    maskParts[index] = null;
+                    pos[n] = min[n] + layer;
+                    pos[u] = min[u] + i;
+                    pos[v] = min[v] + j;
+                    Block block = chunkView.getBlock(pos[0], pos[1], pos[2]);
+                    if (!isMergeable(block)
+                            || !isSideVisible(chunkView.getBlock(pos[0] + dir.x, pos[1] + dir.y, pos[2] + dir.z), side)) {
+                        continue;
+                    }
+                    BlockMeshPart part = block.getPrimaryAppearance().getPart(blockPart);
+                    FaceLayout layout = getFaceLayout(part, side);
+                    Vector4f colorOffset = block.calcColorOffsetFor(blockPart, chunkView.getBiome(pos[0], pos[1], pos[2]));
+                    int color = RenderMath.packColor(colorOffset.x, colorOffset.y, colorOffset.z, colorOffset.w);
+                    ChunkVertexFlag flag = block.isGrass() ? sideFlag : ChunkVertexFlag.NORMAL;
+
+                    if (calcCornerLights(chunkView, part) && flag == ChunkVertexFlag.NORMAL) {
+                        maskParts[index] = part;
+                        maskLayouts[index] = layout;
+                        maskColors[index] = color;
+                        System.arraycopy(cornerLights, 0, maskLights, index * 3, 3);
+                    } else {
+                        addQuad(part, layout, u, v, 1, 1, color, flag, false);
+                    }
+                }
+            }
+            mergeLayer(n, u, v, layer, maskWidth, maskHeight);
+        }
+    }
+
+    private void mergeLayer(int n, int u, int v, int layer, int maskWidth, int maskHeight) {
+        for (int j = 0; j < maskHeight; j++) {
+            for (int i = 0; i < maskWidth; i++) {
+                int index = j * maskWidth + i;
+                if (maskParts[index] == null) {
+                    continue;
+                }
+                int width = 1;
+                while (i + width < maskWidth && isSameFace(index, index + width)) {
+                    width++;
+                }
+                int height = 1;
+                extendHeight:
+                while (j + height < maskHeight) {
+                    for (int k = 0; k < width; k++) {
+                        if (!isSameFace(index, index + height * maskWidth + k)) {
+                            break extendHeight;
+                        }
+                    }
+                    height++;
+                }
+
+                pos[n] = min[n] + layer;
+                pos[u] = min[u] + i;
+                pos[v] = min[v] + j;
+                System.arraycopy(maskLights, index * 3, cornerLights, 0, 3);
+                addQuad(maskParts[index], maskLayouts[index], u, v, width, height, maskColors[index],
+                        ChunkVertexFlag.NORMAL, true);
+                for (int y = 0; y < height; y++) {
+                    Arrays.fill(maskParts, index + y * maskWidth, index + y * maskWidth + width, null);
+                }
+            }
+        }
+    }
+
+    private boolean isSameFace(int index, int other) {
+        return maskParts[index] == maskParts[other] && maskColors[index] == maskColors[other]
+                && maskLights[index * 3] == maskLights[other * 3]
+                && maskLights[index * 3 + 1] == maskLights[other * 3 + 1]
+                && maskLights[index * 3 + 2] == maskLights[other * 3 + 2];
+    }
+
+    /**
+     * Mirrors the visibility check of {@link BlockMeshGeneratorSingleShape} for an opaque, still, solid block.
+     */
+    private static boolean isSideVisible(Block adjacent, Side side) {
+        return adjacent.isWaving() || adjacent.getMeshGenerator() == null || !adjacent.isFullSide(side.reverse())
+                || adjacent.isTranslucent();
+    }
+
+    /**
+     * Calculates the lighting of the corners of the face at {@link #pos} into {@link #cornerLights}.
+     *
+     * @return true if all corners are lit the same.
+     */
+    private boolean calcCornerLights(ChunkView chunkView, BlockMeshPart part) {
+        boolean uniform = true;
+        for (int i = 0; i < VERTICES_PER_QUAD; i++) {
+            Vector3f vertex = part.getVertex(i);
+            cornerPos.set(vertex.x + pos[0], vertex.y + pos[1], vertex.z + pos[2]);
+            ChunkTessellator.calcLightingValuesForVertexPos(chunkView, cornerPos, lightResult, part.getNormal(i));
+            System.arraycopy(lightResult, 0, cornerLights, i * 3, 3);
+            uniform &= lightResult[0] == cornerLights[0] && lightResult[1] == cornerLights[1]
+                    && lightResult[2] == cornerLights[2];
+        }
+        return uniform;
+    }
+
+    /**
+     * Adds a quad covering width x height faces, starting at the face at {@link #pos}.
+     *
+     * @param tiled if true, all corners use the first lighting value in {@link #cornerLights} and the texture gets
+     *              repeated per face. Otherwise each corner has its own lighting and the mesh part's texture
+     *              coordinates get used as they are.
+     */
+    private void addQuad(BlockMeshPart part, FaceLayout layout, int u, int v, int width, int height, int color,
+                         ChunkVertexFlag flag, boolean tiled) {
+        ensureCapacity();
+        int firstIndex = indexOffset + getVertexCount();
+        for (int i = 0; i < INDICES_PER_QUAD; i++) {
+            indexData[indexDataSize++] = firstIndex + part.getIndex(i);
+        }
+
+        for (int i = 0; i < VERTICES_PER_QUAD; i++) {
+            Vector3f vertex = part.getVertex(i);
+            corner[0] = vertex.x + pos[0];
+            corner[1] = vertex.y + pos[1];
+            corner[2] = vertex.z + pos[2];
+            if (layout.isMax(i, u)) {
+                corner[u] += width - 1;
+            }
+            if (layout.isMax(i, v)) {
+                corner[v] += height - 1;
+            }
+            putFloat(corner[0]);
+            putFloat(corner[1]);
+            putFloat(corner[2]);
+
+            if (tiled) {
+                putFloat(layout.encodeTiledU(i, width, height));
+                putFloat(layout.encodeTiledV(i, width, height));
+                putFloat(ChunkVertexFlag.TILED.getValue());
+                putFloat(cornerLights[0]);
+                putFloat(cornerLights[1]);
+                putFloat(cornerLights[2]);
+            } else {
+                Vector2f texCoord = part.getTexCoord(i);
+                putFloat(texCoord.x);
+                putFloat(texCoord.y);
+                putFloat(flag.getValue());
+                putFloat(cornerLights[i * 3]);
+                putFloat(cornerLights[i * 3 + 1]);
+                putFloat(cornerLights[i * 3 + 2]);
+            }
+
+            vertexData[vertexDataSize++] = color;
+
+            Vector3f normal = part.getNormal(i);
+            putFloat(normal.x);
+            putFloat(normal.y);
+            putFloat(normal.z);
+        }
+    }
+
+    private void putFloat(float value) {
+        vertexData[vertexDataSize++] = Float.floatToIntBits(value);
+    }
+
+    private void ensureCapacity() {
+        if (vertexDataSize + VERTICES_PER_QUAD * VERTEX_SIZE > vertexData.length) {
+            vertexData = Arrays.copyOf(vertexData, vertexData.length * 2);
+        }
+        if (indexDataSize + INDICES_PER_QUAD > indexData.length) {
+            indexData = Arrays.copyOf(indexData, indexData.length * 2);
+        }
+    }
+
+    private FaceLayout getFaceLayout(BlockMeshPart part, Side side) {
+        if (!faceLayouts.containsKey(part)) {
+            faceLayouts.put(part, FaceLayout.create(part, side));
+        }
+        return faceLayouts.get(part);
+    }
+
+    private static float component(Vector3f vector, int axis) {
+        switch (axis) {
+            case 0:
+                return vector.x;
+            case 1:
+                return vector.y;
+            default:
+                return vector.z;
+        }
+    }
+
+    /**
+     * Describes how the texture of a square block face is laid out on it.
+     */
+    private static final class FaceLayout {
+        private final boolean[][] max = new boolean[VERTICES_PER_QUAD][3];
+        private final float[] tileU = new float[VERTICES_PER_QUAD];
+        private final float[] tileV = new float[VERTICES_PER_QUAD];
+        private boolean texUAlongPlaneU;
+        private float originU;
+        private float originV;
+        private float tileSizeU;
+        private float tileSizeV;
+
+        /**
+         * @return the layout of the part or null if it is not a square face on the given side of the block with an
+         * axis aligned texture tile.
+         */
+        static FaceLayout create(BlockMeshPart part, Side side) {
+            if (part.size() != VERTICES_PER_QUAD || part.indicesSize() != INDICES_PER_QUAD) {
+                return null;
+            }
+            Vector3i dir = side.getVector3i();
+            int n = dir.x != 0 ? 0 : (dir.y != 0 ? 1 : 2);
+            int u = n == 0 ? 2 : 0;
+            int v = n == 1 ? 2 : 1;
+            float normalOffset = 0.5f * (dir.x + dir.y + dir.z);
+
+            float minU = Float.POSITIVE_INFINITY;
+            float minV = Float.POSITIVE_INFINITY;
+            float maxU = Float.NEGATIVE_INFINITY;
+            float maxV = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < VERTICES_PER_QUAD; i++) {
+                Vector2f texCoord = part.getTexCoord(i);
+                minU = Math.min(minU, texCoord.x);
+                minV = Math.min(minV, texCoord.y);
+                maxU = Math.max(maxU, texCoord.x);
+                maxV = Math.max(maxV, texCoord.y);
+            }
+            if (maxU - minU < EPSILON * EPSILON || maxV - minV < EPSILON * EPSILON) {
+                return null;
+            }
+
+            FaceLayout layout = new FaceLayout();
+            for (int i = 0; i < VERTICES_PER_QUAD; i++) {
+                Vector3f vertex = part.getVertex(i);
+                if (Math.abs(component(vertex, n) - normalOffset) > EPSILON
+                        || Math.abs(Math.abs(component(vertex, u)) - 0.5f) > EPSILON
+                        || Math.abs(Math.abs(component(vertex, v)) - 0.5f) > EPSILON) {
+                    return null;
+                }
+                layout.max[i][u] = component(vertex, u) > 0;
+                layout.max[i][v] = component(vertex, v) > 0;
+
+                Vector2f texCoord = part.getTexCoord(i);
+                layout.tileU[i] = Math.round((texCoord.x - minU) / (maxU - minU));
+                layout.tileV[i] = Math.round((texCoord.y - minV) / (maxV - minV));
+                if (Math.abs(minU + layout.tileU[i] * (maxU - minU) - texCoord.x) > EPSILON * (maxU - minU)
+                        || Math.abs(minV + layout.tileV[i] * (maxV - minV) - texCoord.y) > EPSILON * (maxV - minV)) {
+                    return null;
+                }
+            }
+
+            int alongU = -1;
+            for (int i = 1; i < VERTICES_PER_QUAD; i++) {
+                if (layout.max[i][u] != layout.max[0][u] && layout.max[i][v] == layout.max[0][v]) {
+                    alongU = i;
+                }
+            }
+            if (alongU < 0) {
+                return null;
+            }
+            boolean texUChangesAlongU = layout.tileU[alongU] != layout.tileU[0];
+            boolean texVChangesAlongU = layout.tileV[alongU] != layout.tileV[0];
+            if (texUChangesAlongU == texVChangesAlongU) {
+                return null;
+            }
+            layout.texUAlongPlaneU = texUChangesAlongU;
+
+            layout.tileSizeU = (maxU - minU) / (1 - 2 * BlockMeshPart.BORDER);
+            layout.tileSizeV = (maxV - minV) / (1 - 2 * BlockMeshPart.BORDER);
+            layout.originU = minU - BlockMeshPart.BORDER * layout.tileSizeU;
+            layout.originV = minV - BlockMeshPart.BORDER * layout.tileSizeV;
+            return layout;
+        }
+
+        boolean isMax(int vertex, int axis) {
+            return max[vertex][axis];
+        }
+
+        float encodeTiledU(int vertex, int width, int height) {
+            return encodeTiled(originU, tileSizeU, tileU[vertex] * (texUAlongPlaneU ? width : height));
+        }
+
+        float encodeTiledV(int vertex, int width, int height) {
+            return encodeTiled(originV, tileSizeV, tileV[vertex] * (texUAlongPlaneU ? height : width));
+        }
+
+        /**
+         * Encodes a position on a tile that gets repeated tileCount times as texture coordinate within the tile, see
+         * {@link ChunkTessellator#TILED_TEX_COORD_SCALE}.
+         */
+        private static float encodeTiled(float origin, float tileSize, float tileCount) {
+            return origin + tileSize * (tileCount + ChunkTessellator.TILED_TEX_COORD_MARGIN)
+                    / ChunkTessellator.TILED_TEX_COORD_SCALE;
+        }
+    }
+}
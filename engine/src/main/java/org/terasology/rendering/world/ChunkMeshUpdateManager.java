@@ -98,9 +98,12 @@ public boolean queueChunkUpdate(RenderableChunk chunk) {
      */
     public void setCameraPosition(Vector3f cameraPosition) {
         Vector3i chunkPos = ChunkMath.calcChunkPos(cameraPosition);
-        cameraChunkPosX = chunkPos.x;
-        cameraChunkPosY = chunkPos.y;
-        cameraChunkPosZ = chunkPos.z;
+        if (chunkPos.x != cameraChunkPosX || chunkPos.y != cameraChunkPosY || chunkPos.z != cameraChunkPosZ) {
+            cameraChunkPosX = chunkPos.x;
+            cameraChunkPosY = chunkPos.y;
+            cameraChunkPosZ = chunkPos.z;
+            chunkUpdater.reprioritize();
+        }
     }
 
     public List<RenderableChunk> availableChunksForUpdate() {
@@ -86,7 +86,7 @@ class RenderableWorldImpl implements RenderableWorld {
 
         this.worldProvider = worldProvider;
         this.chunkProvider = chunkProvider;
-        chunkTessellator = new ChunkTessellator(bufferPool);
+        chunkTessellator = new ChunkTessellator(bufferPool, renderingConfig.isGreedyMeshing());
         chunkMeshUpdateManager = new ChunkMeshUpdateManager(chunkTessellator, worldProvider);
 
         this.playerCamera = playerCamera;
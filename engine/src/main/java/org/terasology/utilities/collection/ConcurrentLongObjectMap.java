@@ -0,0 +1,271 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.utilities.collection;
+
+import com.google.common.collect.Lists;
+import gnu.trove.procedure.TLongProcedure;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A thread safe map from primitive long keys to objects, without boxing the keys on lookups.
+ * <br><br>
+ * The entries are spread over a fixed number of segments, each an open addressing hash table. Writes lock the segment
+ * of their key, so threads writing different keys rarely block each other. Reads don't lock at all: a table never
+ * moves an entry to another slot, and growing a segment builds a new table that replaces the old one as a whole.
+ * Operations covering the whole map, like {@link #size()} and {@link #values()}, visit one segment after the other and
+ * don't provide a consistent snapshot while the map is being modified. Null values are not supported.
+ */
+public final class ConcurrentLongObjectMap<V> {
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] segments;
+
+    public ConcurrentLongObjectMap() {
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> (Integer.SIZE - 4)];
+    }
+
+    /**
+     * @return the value of the key, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int hash = hash(key);
+        Object value = segmentFor(hash).table.get(key, hash);
+        return value == Table.REMOVED ? null : (V) value;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the previous value of the key, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+        int hash = hash(key);
+        return (V) segmentFor(hash).put(key, hash, value);
+    }
+
+    /**
+     * @return the removed value, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int hash = hash(key);
+        return (V) segmentFor(hash).put(key, hash, null);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return a copy of the values of the map.
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        List<V> result = Lists.newArrayListWithCapacity(size());
+        for (Segment segment : segments) {
+            Table table = segment.table;
+            for (int i = 0; i < table.keys.length; i++) {
+                Object value = table.values.get(i);
+                if (value != null && value != Table.REMOVED) {
+                    result.add((V) value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Executes the procedure for each key until it returns false. No lock is held while the procedure runs, keys
+     * that get added or removed meanwhile may or may not be visited.
+     *
+     * @return false if the procedure returned false for any key.
+     */
+    public boolean forEachKey(TLongProcedure procedure) {
+        for (Segment segment : segments) {
+            Table table = segment.table;
+            for (int i = 0; i < table.keys.length; i++) {
+                Object value = table.values.get(i);
+                if (value != null && value != Table.REMOVED && !procedure.execute(table.keys[i])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Segment of the map. Only writers lock it, readers just use the current table.
+     */
+    private static final class Segment {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private volatile Table table = new Table(INITIAL_CAPACITY);
+        private volatile int size;
+
+        /**
+         * Sets the value of the key, or removes it if the value is null.
+         *
+         * @return the previous value of the key, or null if there was none.
+         */
+        synchronized Object put(long key, int hash, Object value) {
+            Table current = table;
+            int slot = current.find(key, hash);
+            if (slot >= 0) {
+                Object previous = current.values.get(slot);
+                if (previous == Table.REMOVED) {
+                    previous = null;
+                }
+                if (value != null) {
+                    current.values.set(slot, value);
+                    if (previous == null) {
+                        size++;
+                    }
+                } else if (previous != null) {
+                    current.values.set(slot, Table.REMOVED);
+                    size--;
+                }
+                return previous;
+            }
+            if (value == null) {
+                return null;
+            }
+            if (current.usedSlots + 1 > current.keys.length * 3 / 4) {
+                current = current.rebuild(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, size + 1) * 4)));
+                table = current;
+            }
+            current.insert(key, hash, value);
+            size++;
+            return null;
+        }
+
+        synchronized void clear() {
+            table = new Table(INITIAL_CAPACITY);
+            size = 0;
+        }
+    }
+
+    /**
+     * Open addressing table with linear probing. Once a key got a slot it keeps it for the lifetime of the table;
+     * removing the key only replaces its value with {@link #REMOVED}. That way a reader never sees a key move, and
+     * the volatile write of a value publishes the key of its slot, which got written before.
+     */
+    private static final class Table {
+        static final Object REMOVED = new Object();
+
+        final long[] keys;
+        final AtomicReferenceArray<Object> values;
+        /**
+         * Slots holding a key, including removed ones. Only accessed by writers.
+         */
+        int usedSlots;
+
+        Table(int capacity) {
+            keys = new long[capacity];
+            values = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * @return the value of the key, {@link #REMOVED} if the key got removed, or null if it never was in the table.
+         */
+        Object get(long key, int hash) {
+            int mask = keys.length - 1;
+            for (int i = hash & mask; ; i = (i + 1) & mask) {
+                Object value = values.get(i);
+                if (value == null) {
+                    return null;
+                }
+                if (keys[i] == key) {
+                    return value;
+                }
+            }
+        }
+
+        /**
+         * @return the slot of the key, or -1 if it never was in the table.
+         */
+        int find(long key, int hash) {
+            int mask = keys.length - 1;
+            for (int i = hash & mask; ; i = (i + 1) & mask) {
+                if (values.get(i) == null) {
+                    return -1;
+                }
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+        }
+
+        void insert(long key, int hash, Object value) {
+            int mask = keys.length - 1;
+            int i = hash & mask;
+            while (values.get(i) != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values.set(i, value);
+            usedSlots++;
+        }
+
+        /**
+         * @return a new table with the entries of this one, without the removed keys.
+         */
+        Table rebuild(int capacity) {
+            Table result = new Table(capacity);
+            for (int i = 0; i < keys.length; i++) {
+                Object value = values.get(i);
+                if (value != null && value != REMOVED) {
+                    result.insert(keys[i], hash(keys[i]), value);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -15,22 +15,31 @@
  */
 package org.terasology.utilities.concurrency;
 
-import com.google.common.collect.Lists;
-
 import java.util.AbstractQueue;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
-import java.util.ListIterator;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
+/**
+ * An unbounded blocking queue ordered by a comparator whose ordering may change over time, e.g. because it depends on
+ * the position of the camera.
+ * <br><br>
+ * The elements are kept in a binary heap, so adding and taking elements costs O(log n). The heap is ordered according
+ * to the comparator at the time elements were added; when the ordering changes {@link #reprioritize()} should be
+ * called to re-establish it. Until then elements are still returned, just not necessarily in the best order.
+ */
 public class DynamicPriorityBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+    private static final int INITIAL_CAPACITY = 64;
+
     private Comparator<T> comparator;
-    private List<T> elements = Lists.newLinkedList();
+    private Object[] heap = new Object[INITIAL_CAPACITY];
+    private int size;
 
     /**
      * Lock used for all public operations
@@ -66,9 +75,15 @@ public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedExcepti
 
     @Override
     public boolean offer(T t) {
+        if (t == null) {
+            throw new NullPointerException();
+        }
         lock.lock();
         try {
-            elements.add(t);
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            siftUp(size++, t);
             notEmpty.signal();
             return true;
         } finally {
@@ -121,26 +136,134 @@ public T poll(long timeout, TimeUnit unit) throws InterruptedException {
     public T peek() {
         lock.lock();
         try {
-            return elements.size() == 0 ? null : elements.get(0);
+            return size == 0 ? null : elementAt(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-establishes the order of all queued elements. Should be called whenever the ordering of the comparator has
+     * changed. Costs O(n).
+     */
+    public void reprioritize() {
+        lock.lock();
+        try {
+            heapify();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all queued elements matching the filter, e.g. tasks that are no longer relevant, so they are dropped
+     * without being taken. Costs O(n).
+     *
+     * @return Whether any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        lock.lock();
+        try {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                T element = elementAt(i);
+                if (!filter.test(element)) {
+                    heap[kept++] = element;
+                }
+            }
+            if (kept == size) {
+                return false;
+            }
+            Arrays.fill(heap, kept, size, null);
+            size = kept;
+            heapify();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (o.equals(heap[i])) {
+                    removeAt(i);
+                    return true;
+                }
+            }
+            return false;
         } finally {
             lock.unlock();
         }
     }
 
     private T dequeue() {
-        if (elements.size() == 0) {
+        if (size == 0) {
             return null;
         }
-        T smallest = elements.remove(0);
-        ListIterator<T> iterator = elements.listIterator();
-        while (iterator.hasNext()) {
-            T next = iterator.next();
-            if (comparator.compare(smallest, next) > 0) {
-                iterator.set(smallest);
-                smallest = next;
+        T smallest = elementAt(0);
+        removeAt(0);
+        return smallest;
+    }
+
+    private void removeAt(int index) {
+        size--;
+        T last = elementAt(size);
+        heap[size] = null;
+        if (index != size) {
+            siftDown(index, last);
+            if (heap[index] == last) {
+                siftUp(index, last);
             }
         }
-        return smallest;
+    }
+
+    private void heapify() {
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, elementAt(i));
+        }
+    }
+
+    private void siftUp(int index, T element) {
+        int k = index;
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            T parentElement = elementAt(parent);
+            if (comparator.compare(element, parentElement) >= 0) {
+                break;
+            }
+            heap[k] = parentElement;
+            k = parent;
+        }
+        heap[k] = element;
+    }
+
+    private void siftDown(int index, T element) {
+        int k = index;
+        int half = size >>> 1;
+        while (k < half) {
+            int child = (k << 1) + 1;
+            T childElement = elementAt(child);
+            int right = child + 1;
+            if (right < size && comparator.compare(childElement, elementAt(right)) > 0) {
+                child = right;
+                childElement = elementAt(child);
+            }
+            if (comparator.compare(element, childElement) <= 0) {
+                break;
+            }
+            heap[k] = childElement;
+            k = child;
+        }
+        heap[k] = element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) heap[index];
     }
 
     @Override
@@ -150,17 +273,7 @@ public int remainingCapacity() {
 
     @Override
     public int drainTo(Collection<? super T> c) {
-        lock.lock();
-        try {
-            int count = 0;
-            while (!elements.isEmpty()) {
-                c.add(elements.remove(0));
-                count++;
-            }
-            return count;
-        } finally {
-            lock.unlock();
-        }
+        return drainTo(c, Integer.MAX_VALUE);
     }
 
     @Override
@@ -168,8 +281,8 @@ public int drainTo(Collection<? super T> c, int maxElements) {
         lock.lock();
         try {
             int count = 0;
-            while (!elements.isEmpty() && count < maxElements) {
-                c.add(elements.remove(0));
+            while (size > 0 && count < maxElements) {
+                c.add(dequeue());
                 count++;
             }
             return count;
@@ -182,7 +295,7 @@ public int drainTo(Collection<? super T> c, int maxElements) {
     public int size() {
         lock.lock();
         try {
-            return elements.size();
+            return size;
         } finally {
             lock.unlock();
         }
@@ -29,6 +29,7 @@
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  */
@@ -86,6 +87,26 @@ public void put(T task) throws InterruptedException {
         taskQueue.put(task);
     }
 
+    /**
+     * Re-establishes the order of the queued tasks. Only has an effect for task masters created with
+     * {@link #createDynamicPriorityTaskMaster}, and should be called when the ordering of their comparator changes.
+     */
+    public void reprioritize() {
+        if (taskQueue instanceof DynamicPriorityBlockingQueue) {
+            ((DynamicPriorityBlockingQueue<T>) taskQueue).reprioritize();
+        }
+    }
+
+    /**
+     * Drops queued tasks that have not started yet, so they are never run. Terminate signals are never dropped.
+     *
+     * @param filter selects the tasks to drop
+     * @return Whether any tasks were dropped
+     */
+    public boolean cancel(Predicate<? super T> filter) {
+        return taskQueue.removeIf(task -> !task.isTerminateSignal() && filter.test(task));
+    }
+
     public void shutdown(T shutdownTask, boolean awaitComplete) {
         if (!shutdownTask.isTerminateSignal()) {
             throw new IllegalArgumentException("Expected task to provide terminate signal");
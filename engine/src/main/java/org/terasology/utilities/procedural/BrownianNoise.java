@@ -107,6 +107,46 @@ public float noise(float x, float y, float z) {
         return result * scale;
     }
 
+    /**
+     * Fuses the octaves by adding one batch of the base noise per octave to the target, so the base noise gets
+     * evaluated with its own batch kernel instead of one call per position and octave. Each octave scales the same
+     * integer positions by the lacunarity once more.
+     */
+    @Override
+    public void addNoise(float[] target, float weight, int minX, int minY, int stepX, int stepY, float scaleX, float scaleY,
+                         int sizeX, int sizeY) {
+        float workingScaleX = scaleX;
+        float workingScaleY = scaleY;
+        for (int i = 0; i < getOctaves(); i++) {
+            other.addNoise(target, weight * spectralWeights[i] * scale, minX, minY, stepX, stepY,
+                    workingScaleX, workingScaleY, sizeX, sizeY);
+
+            workingScaleX *= getLacunarity();
+            workingScaleY *= getLacunarity();
+        }
+    }
+
+    /**
+     * Fuses the octaves by adding one batch of the base noise per octave to the target, so the base noise gets
+     * evaluated with its own batch kernel instead of one call per position and octave. Each octave scales the same
+     * integer positions by the lacunarity once more.
+     */
+    @Override
+    public void addNoise(float[] target, float weight, int minX, int minY, int minZ, int stepX, int stepY, int stepZ,
+                         float scaleX, float scaleY, float scaleZ, int sizeX, int sizeY, int sizeZ) {
+        float workingScaleX = scaleX;
+        float workingScaleY = scaleY;
+        float workingScaleZ = scaleZ;
+        for (int i = 0; i < getOctaves(); i++) {
+            other.addNoise(target, weight * spectralWeights[i] * scale, minX, minY, minZ, stepX, stepY, stepZ,
+                    workingScaleX, workingScaleY, workingScaleZ, sizeX, sizeY, sizeZ);
+
+            workingScaleX *= getLacunarity();
+            workingScaleY *= getLacunarity();
+            workingScaleZ *= getLacunarity();
+        }
+    }
+
     private static float computeScale(float[] spectralWeights) {
         float sum = 0;
         for (float weight : spectralWeights) {
@@ -16,6 +16,8 @@
 
 package org.terasology.utilities.procedural;
 
+import java.util.Arrays;
+
 /**
  * Provides or generates noise
  *
@@ -59,4 +61,69 @@ public interface Noise {
      * @return The noise value in the range [-1..1]
      */
     float noise(float x, float y, float z);
+
+    /**
+     * Fills the target with the noise values of a regular grid of integer positions, scaled per axis. The value at
+     * ((minX + x * stepX) * scaleX, (minY + y * stepY) * scaleY) is stored at index x + y * sizeX.
+     * <br><br>
+     * The positions are computed in integers and scaled one by one, so the value at a position doesn't depend on the
+     * origin of the grid it is part of.
+     *
+     * @param target the array to fill, at least sizeX * sizeY long
+     */
+    default void noise(float[] target, int minX, int minY, int stepX, int stepY, float scaleX, float scaleY,
+                       int sizeX, int sizeY) {
+        Arrays.fill(target, 0, sizeX * sizeY, 0);
+        addNoise(target, 1, minX, minY, stepX, stepY, scaleX, scaleY, sizeX, sizeY);
+    }
+
+    /**
+     * Fills the target with the noise values of a regular grid of integer positions, scaled per axis. The value at
+     * ((minX + x * stepX) * scaleX, (minY + y * stepY) * scaleY, (minZ + z * stepZ) * scaleZ) is stored at index
+     * x + sizeX * (y + sizeY * z).
+     *
+     * @param target the array to fill, at least sizeX * sizeY * sizeZ long
+     */
+    default void noise(float[] target, int minX, int minY, int minZ, int stepX, int stepY, int stepZ,
+                       float scaleX, float scaleY, float scaleZ, int sizeX, int sizeY, int sizeZ) {
+        Arrays.fill(target, 0, sizeX * sizeY * sizeZ, 0);
+        addNoise(target, 1, minX, minY, minZ, stepX, stepY, stepZ, scaleX, scaleY, scaleZ, sizeX, sizeY, sizeZ);
+    }
+
+    /**
+     * Adds the noise values of a regular grid of positions, multiplied by the weight, to the target. Uses the same
+     * positions and layout as {@link #noise(float[], int, int, int, int, float, float, int, int)}.
+     * <br><br>
+     * Implementations should override this with a kernel that doesn't go through the scalar method per position.
+     */
+    default void addNoise(float[] target, float weight, int minX, int minY, int stepX, int stepY, float scaleX, float scaleY,
+                          int sizeX, int sizeY) {
+        for (int y = 0; y < sizeY; y++) {
+            float posY = (minY + y * stepY) * scaleY;
+            int row = y * sizeX;
+            for (int x = 0; x < sizeX; x++) {
+                target[row + x] += weight * noise((minX + x * stepX) * scaleX, posY);
+            }
+        }
+    }
+
+    /**
+     * Adds the noise values of a regular grid of positions, multiplied by the weight, to the target. Uses the same
+     * positions and layout as {@link #noise(float[], int, int, int, int, int, int, float, float, float, int, int, int)}.
+     * <br><br>
+     * Implementations should override this with a kernel that doesn't go through the scalar method per position.
+     */
+    default void addNoise(float[] target, float weight, int minX, int minY, int minZ, int stepX, int stepY, int stepZ,
+                          float scaleX, float scaleY, float scaleZ, int sizeX, int sizeY, int sizeZ) {
+        for (int z = 0; z < sizeZ; z++) {
+            float posZ = (minZ + z * stepZ) * scaleZ;
+            for (int y = 0; y < sizeY; y++) {
+                float posY = (minY + y * stepY) * scaleY;
+                int row = sizeX * (y + sizeY * z);
+                for (int x = 0; x < sizeX; x++) {
+                    target[row + x] += weight * noise((minX + x * stepX) * scaleX, posY, posZ);
+                }
+            }
+        }
+    }
 }
@@ -77,9 +77,43 @@ public float noise(float posX, float posY, float posZ) {
         float y = posY - TeraMath.fastFloor(posY);
         float z = posZ - TeraMath.fastFloor(posZ);
 
-        float u = TeraMath.fadePerlin(x);
-        float v = TeraMath.fadePerlin(y);
-        float w = TeraMath.fadePerlin(z);
+        return noise(xInt, x, TeraMath.fadePerlin(x), yInt, y, TeraMath.fadePerlin(y), zInt, z, TeraMath.fadePerlin(z));
+    }
+
+    @Override
+    public void addNoise(float[] target, float weight, int minX, int minY, int stepX, int stepY, float scaleX, float scaleY,
+                         int sizeX, int sizeY) {
+        addNoise(target, weight, minX, minY, 0, stepX, stepY, 0, scaleX, scaleY, 0, sizeX, sizeY, 1);
+    }
+
+    /**
+     * Computes the lattice cell and fade of the y and z coordinates once per row instead of once per position.
+     */
+    @Override
+    public void addNoise(float[] target, float weight, int minX, int minY, int minZ, int stepX, int stepY, int stepZ,
+                         float scaleX, float scaleY, float scaleZ, int sizeX, int sizeY, int sizeZ) {
+        for (int iz = 0; iz < sizeZ; iz++) {
+            float posZ = (minZ + iz * stepZ) * scaleZ;
+            int zInt = (int) TeraMath.fastFloor(posZ) & 255;
+            float z = posZ - TeraMath.fastFloor(posZ);
+            float w = TeraMath.fadePerlin(z);
+            for (int iy = 0; iy < sizeY; iy++) {
+                float posY = (minY + iy * stepY) * scaleY;
+                int yInt = (int) TeraMath.fastFloor(posY) & 255;
+                float y = posY - TeraMath.fastFloor(posY);
+                float v = TeraMath.fadePerlin(y);
+                int row = sizeX * (iy + sizeY * iz);
+                for (int ix = 0; ix < sizeX; ix++) {
+                    float posX = (minX + ix * stepX) * scaleX;
+                    int xInt = (int) TeraMath.fastFloor(posX) & 255;
+                    float x = posX - TeraMath.fastFloor(posX);
+                    target[row + ix] += weight * noise(xInt, x, TeraMath.fadePerlin(x), yInt, y, v, zInt, z, w);
+                }
+            }
+        }
+    }
+
+    private float noise(int xInt, float x, float u, int yInt, float y, float v, int zInt, float z, float w) {
         int a = noisePermutations[xInt] + yInt;
         int aa = noisePermutations[a] + zInt;
         int ab = noisePermutations[(a + 1)] + zInt;
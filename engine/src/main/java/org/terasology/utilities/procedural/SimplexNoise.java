@@ -119,6 +119,50 @@ private static float dot(Grad g, float x, float y, float z, float w) {
      */
     @Override
     public float noise(float xin, float yin) {
+        return simplex(xin, yin);
+    }
+
+    /**
+     * 3D simplex noise
+     *
+     * @param xin the x input coordinate
+     * @param yin the y input coordinate
+     * @param zin the z input coordinate
+     * @return a noise value in the interval [-1,1]
+     */
+    @Override
+    public float noise(float xin, float yin, float zin) {
+        return simplex(xin, yin, zin);
+    }
+
+    @Override
+    public void addNoise(float[] target, float weight, int minX, int minY, int stepX, int stepY, float scaleX, float scaleY,
+                         int sizeX, int sizeY) {
+        for (int y = 0; y < sizeY; y++) {
+            float posY = (minY + y * stepY) * scaleY;
+            int row = y * sizeX;
+            for (int x = 0; x < sizeX; x++) {
+                target[row + x] += weight * simplex((minX + x * stepX) * scaleX, posY);
+            }
+        }
+    }
+
+    @Override
+    public void addNoise(float[] target, float weight, int minX, int minY, int minZ, int stepX, int stepY, int stepZ,
+                         float scaleX, float scaleY, float scaleZ, int sizeX, int sizeY, int sizeZ) {
+        for (int z = 0; z < sizeZ; z++) {
+            float posZ = (minZ + z * stepZ) * scaleZ;
+            for (int y = 0; y < sizeY; y++) {
+                float posY = (minY + y * stepY) * scaleY;
+                int row = sizeX * (y + sizeY * z);
+                for (int x = 0; x < sizeX; x++) {
+                    target[row + x] += weight * simplex((minX + x * stepX) * scaleX, posY, posZ);
+                }
+            }
+        }
+    }
+
+    private float simplex(float xin, float yin) {
         float n0;
         float n1;
         float n2; // Noise contributions from the three corners
@@ -188,16 +232,7 @@ public float noise(float xin, float yin) {
         return 70.0f * (n0 + n1 + n2);
     }
 
-    /**
-     * 3D simplex noise
-     *
-     * @param xin the x input coordinate
-     * @param yin the y input coordinate
-     * @param zin the z input coordinate
-     * @return a noise value in the interval [-1,1]
-     */
-    @Override
-    public float noise(float xin, float yin, float zin) {
+    private float simplex(float xin, float yin, float zin) {
         float n0;
         float n1;
         float n2;
@@ -28,4 +28,8 @@ public class BeforeDeactivateBlocks extends BlockLifecycleEvent {
     public BeforeDeactivateBlocks(TIntList positions, BlockEntityRegistry registry) {
         super(positions, registry);
     }
+
+    public BeforeDeactivateBlocks(int[] positions, int offset, int length, BlockEntityRegistry registry) {
+        super(positions, offset, length, registry);
+    }
 }
@@ -22,21 +22,39 @@
 import org.terasology.world.block.internal.BlockPositionIterator;
 
 /**
+ * Base of the events informing the entity of a block type about blocks of that type being added, activated or
+ * deactivated. The positions are stored as consecutive x, y, z triples.
+ * <br><br>
+ * The chunk provider sends these events from pooled position buffers, so the positions are only valid while the event
+ * is being sent.
  */
 public abstract class BlockLifecycleEvent implements Event {
-    private TIntList positions;
+    private int[] positions;
+    private int offset;
+    private int length;
     private BlockEntityRegistry registry;
 
     public BlockLifecycleEvent(TIntList positions, BlockEntityRegistry registry) {
+        this(positions.toArray(), 0, positions.size(), registry);
+    }
+
+    /**
+     * @param positions The array holding the x, y, z triples of the block positions
+     * @param offset    The index of the first position in the array
+     * @param length    The number of ints taken by the positions, three per block
+     */
+    public BlockLifecycleEvent(int[] positions, int offset, int length, BlockEntityRegistry registry) {
         this.registry = registry;
         this.positions = positions;
+        this.offset = offset;
+        this.length = length;
     }
 
     public Iterable<Vector3i> getBlockPositions() {
-        return () -> new BlockPositionIterator(positions, registry);
+        return () -> new BlockPositionIterator(positions, offset, offset + length, registry);
     }
 
     public int blockCount() {
-        return positions.size();
+        return length;
     }
 }
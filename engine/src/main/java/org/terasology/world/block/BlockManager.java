@@ -63,6 +63,12 @@ public abstract class BlockManager {
      */
     public abstract Block getBlock(short id);
 
+    /**
+     * @return The packed properties of the currently registered blocks, to look up by block id. A new instance gets
+     * created when blocks are registered, so it should not be kept beyond the current operation.
+     */
+    public abstract PackedBlockProperties getBlockProperties();
+
     /**
      * @return A collection of registered (in use) block uris
      */
@@ -28,4 +28,8 @@ public class OnActivatedBlocks extends BlockLifecycleEvent {
     public OnActivatedBlocks(TIntList positions, BlockEntityRegistry registry) {
         super(positions, registry);
     }
+
+    public OnActivatedBlocks(int[] positions, int offset, int length, BlockEntityRegistry registry) {
+        super(positions, offset, length, registry);
+    }
 }
@@ -28,4 +28,8 @@ public class OnAddedBlocks extends BlockLifecycleEvent {
     public OnAddedBlocks(TIntList positions, BlockEntityRegistry registry) {
         super(positions, registry);
     }
+
+    public OnAddedBlocks(int[] positions, int offset, int length, BlockEntityRegistry registry) {
+        super(positions, offset, length, registry);
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.block;
+
+import org.terasology.math.Side;
+
+/**
+ * The most queried properties of the registered blocks, packed into arrays indexed by block id. Hot loops can look up
+ * the properties of a block id read from a chunk without resolving the {@link Block} itself.
+ * <br><br>
+ * Instances are immutable, the block manager creates a new one whenever blocks get registered. Ids without a registered
+ * block have the properties of air, like {@link BlockManager#getBlock(short)} returns air for them.
+ */
+public final class PackedBlockProperties {
+    private static final byte SOLID = 0x01;
+    private static final byte TRANSLUCENT = 0x02;
+    private static final byte PENETRABLE = 0x04;
+    private static final byte LIQUID = 0x08;
+    private static final byte LIFECYCLE_EVENTS = 0x10;
+
+    private final byte[] flags;
+    private final byte[] luminance;
+    private final byte airFlags;
+    private final byte airLuminance;
+
+    /**
+     * @param blocksById the registered blocks, indexed by their id as an unsigned short. Entries may be null.
+     * @param air        the block to take the properties of unregistered ids from, or null if air isn't registered yet.
+     */
+    public PackedBlockProperties(Block[] blocksById, Block air) {
+        flags = new byte[blocksById.length];
+        luminance = new byte[blocksById.length];
+        airFlags = (air != null) ? flagsOf(air) : TRANSLUCENT | PENETRABLE;
+        airLuminance = (air != null) ? air.getLuminance() : 0;
+        for (int i = 0; i < blocksById.length; i++) {
+            Block block = blocksById[i];
+            flags[i] = (block != null) ? flagsOf(block) : airFlags;
+            luminance[i] = (block != null) ? block.getLuminance() : airLuminance;
+        }
+    }
+
+    private static byte flagsOf(Block block) {
+        byte result = 0;
+        if (isSolid(block)) {
+            result |= SOLID;
+        }
+        if (block.isTranslucent()) {
+            result |= TRANSLUCENT;
+        }
+        if (block.isPenetrable()) {
+            result |= PENETRABLE;
+        }
+        if (block.isLiquid()) {
+            result |= LIQUID;
+        }
+        if (block.isLifecycleEventsRequired()) {
+            result |= LIFECYCLE_EVENTS;
+        }
+        return result;
+    }
+
+    private static boolean isSolid(Block block) {
+        for (Side side : Side.values()) {
+            if (!block.isFullSide(side)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte flags(short id) {
+        int index = id & 0xFFFF;
+        return (index < flags.length) ? flags[index] : airFlags;
+    }
+
+    /**
+     * @return Whether every side of the block is full, see {@link Block#isFullSide(Side)}
+     */
+    public boolean isSolid(short id) {
+        return (flags(id) & SOLID) != 0;
+    }
+
+    /**
+     * @return Whether the block is translucent, see {@link Block#isTranslucent()}
+     */
+    public boolean isTranslucent(short id) {
+        return (flags(id) & TRANSLUCENT) != 0;
+    }
+
+    /**
+     * @return Whether the block is penetrable, see {@link Block#isPenetrable()}
+     */
+    public boolean isPenetrable(short id) {
+        return (flags(id) & PENETRABLE) != 0;
+    }
+
+    /**
+     * @return Whether the block is a liquid, see {@link Block#isLiquid()}
+     */
+    public boolean isLiquid(short id) {
+        return (flags(id) & LIQUID) != 0;
+    }
+
+    /**
+     * @return Whether the entity of the block receives block lifecycle events, see {@link Block#isLifecycleEventsRequired()}
+     */
+    public boolean isLifecycleEventsRequired(short id) {
+        return (flags(id) & LIFECYCLE_EVENTS) != 0;
+    }
+
+    /**
+     * @return The luminance of the block, see {@link Block#getLuminance()}
+     */
+    public byte getLuminance(short id) {
+        int index = id & 0xFFFF;
+        return (index < luminance.length) ? luminance[index] : airLuminance;
+    }
+}
@@ -34,6 +34,7 @@
 import org.terasology.world.block.BlockManager;
 import org.terasology.world.block.BlockUri;
 import org.terasology.world.block.BlockUriParseException;
+import org.terasology.world.block.PackedBlockProperties;
 import org.terasology.world.block.family.BlockFamily;
 import org.terasology.world.block.loader.BlockFamilyDefinition;
 import org.terasology.world.block.shapes.BlockShape;
@@ -182,6 +183,7 @@ protected void registerFamily(BlockFamily family) {
             for (Block block : family.getBlocks()) {
                 registerBlock(block, newState);
             }
+            newState.updateLookupTables();
             registeredBlockInfo.set(newState);
         } finally {
             lock.unlock();
@@ -315,11 +317,17 @@ public Block getBlock(BlockUri uri) {
 
     @Override
     public Block getBlock(short id) {
-        Block result = registeredBlockInfo.get().blocksById.get(id);
-        if (result == null) {
-            return getAirBlock();
+        Block[] blockTable = registeredBlockInfo.get().blockTable;
+        int index = id & 0xFFFF;
+        if (index < blockTable.length && blockTable[index] != null) {
+            return blockTable[index];
         }
-        return result;
+        return getAirBlock();
+    }
+
+    @Override
+    public PackedBlockProperties getBlockProperties() {
+        return registeredBlockInfo.get().blockProperties;
     }
 
     @Override
@@ -350,11 +358,16 @@ private static class RegisteredState {
         private final TShortObjectMap<Block> blocksById;
         private final TObjectShortMap<BlockUri> idByUri;
 
+        /* Lookup tables by unsigned block id, rebuilt from blocksById before the state gets published */
+        private Block[] blockTable;
+        private PackedBlockProperties blockProperties;
+
         RegisteredState() {
             this.registeredFamilyByUri = Maps.newHashMap();
             this.blocksByUri = Maps.newHashMap();
             this.blocksById = new TShortObjectHashMap<>();
             this.idByUri = new TObjectShortHashMap<>();
+            updateLookupTables();
         }
 
         RegisteredState(RegisteredState oldState) {
@@ -362,6 +375,21 @@ private static class RegisteredState {
             this.blocksByUri = Maps.newHashMap(oldState.blocksByUri);
             this.blocksById = new TShortObjectHashMap<>(oldState.blocksById);
             this.idByUri = new TObjectShortHashMap<>(oldState.idByUri);
+            this.blockTable = oldState.blockTable;
+            this.blockProperties = oldState.blockProperties;
+        }
+
+        void updateLookupTables() {
+            int tableSize = 0;
+            for (short id : blocksById.keys()) {
+                tableSize = Math.max(tableSize, (id & 0xFFFF) + 1);
+            }
+            blockTable = new Block[tableSize];
+            blocksById.forEachEntry((id, block) -> {
+                blockTable[id & 0xFFFF] = block;
+                return true;
+            });
+            blockProperties = new PackedBlockProperties(blockTable, blocksByUri.get(AIR_ID));
         }
     }
 
@@ -25,12 +25,22 @@
  */
 public class BlockPositionIterator implements Iterator<Vector3i> {
     private BlockEntityRegistry registry;
-    private TIntList positionList;
+    private int[] positions;
+    private int end;
     private int i;
     private Vector3i nextResult = new Vector3i();
 
     public BlockPositionIterator(TIntList positionList, BlockEntityRegistry registry) {
-        this.positionList = positionList;
+        this(positionList.toArray(), 0, positionList.size(), registry);
+    }
+
+    /**
+     * Iterates over the x, y, z triples stored in the array between start (inclusive) and end (exclusive).
+     */
+    public BlockPositionIterator(int[] positions, int start, int end, BlockEntityRegistry registry) {
+        this.positions = positions;
+        this.i = start;
+        this.end = end;
         this.registry = registry;
         iterate();
     }
@@ -49,10 +59,10 @@ public Vector3i next() {
     }
 
     private void iterate() {
-        while (i < positionList.size() - 2) {
-            nextResult.x = positionList.get(i++);
-            nextResult.y = positionList.get(i++);
-            nextResult.z = positionList.get(i++);
+        while (i < end - 2) {
+            nextResult.x = positions[i++];
+            nextResult.y = positions[i++];
+            nextResult.z = positions[i++];
             if (!registry.hasPermanentBlockEntity(nextResult)) {
                 return;
             }
@@ -30,7 +30,10 @@
  *
  */
 public class BlockMeshPart {
-    private static final float BORDER = 1f / 128f;
+    /**
+     * The part of a texture tile that is left out on each side, relative to the tile size.
+     */
+    public static final float BORDER = 1f / 128f;
 
     private Vector3f[] vertices;
     private Vector3f[] normals;
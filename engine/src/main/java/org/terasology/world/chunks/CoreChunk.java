@@ -43,6 +43,12 @@ public interface CoreChunk {
 
     Block getBlock(int x, int y, int z);
 
+    /**
+     * @return the id of the block at the given position, to look up its properties in
+     * {@link org.terasology.world.block.BlockManager#getBlockProperties()} without resolving the block.
+     */
+    short getBlockId(int x, int y, int z);
+
     Block setBlock(int x, int y, int z, Block block);
 
     Block setBlock(BaseVector3i pos, Block block);
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.internal;
+
+import org.terasology.world.block.PackedBlockProperties;
+import org.terasology.world.chunks.ChunkConstants;
+import org.terasology.world.chunks.CoreChunk;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The world positions of the blocks of a chunk that require lifecycle events, grouped by block id. The positions of all
+ * block types are stored as x, y, z triples in a single array, so the events of a chunk can be sent from it in a single
+ * pass without creating a list per block type.
+ * <br><br>
+ * Indices are built on the chunk worker threads and sent on the main thread. They are pooled: {@link #obtain()} reuses
+ * the arrays of an index returned by {@link #release()} once its events have been sent.
+ */
+public final class BlockPositionIndex {
+    private static final int MAX_POOLED = 64;
+    private static final Queue<BlockPositionIndex> POOL = new ConcurrentLinkedQueue<>();
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] entries = new long[INITIAL_CAPACITY];
+    private int[] positions = new int[3 * INITIAL_CAPACITY];
+    private short[] blockIds = new short[8];
+    private int[] starts = new int[9];
+    private int blockTypeCount;
+
+    private BlockPositionIndex() {
+    }
+
+    /**
+     * @return an empty index, reusing a released one if available.
+     */
+    public static BlockPositionIndex obtain() {
+        BlockPositionIndex index = POOL.poll();
+        return (index != null) ? index : new BlockPositionIndex();
+    }
+
+    /**
+     * @return an index of the blocks of the chunk that require lifecycle events.
+     */
+    public static BlockPositionIndex of(CoreChunk chunk, PackedBlockProperties blockProperties) {
+        BlockPositionIndex index = obtain();
+        index.build(chunk, blockProperties);
+        return index;
+    }
+
+    /**
+     * Returns the index to the pool. It must not be used afterwards.
+     */
+    public void release() {
+        blockTypeCount = 0;
+        if (POOL.size() < MAX_POOLED) {
+            POOL.offer(this);
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the blocks of the chunk that require lifecycle events.
+     */
+    public void build(CoreChunk chunk, PackedBlockProperties blockProperties) {
+        int entryCount = 0;
+        short lastId = 0;
+        boolean lastRequired = blockProperties.isLifecycleEventsRequired(lastId);
+        for (int y = 0; y < ChunkConstants.SIZE_Y; y++) {
+            for (int z = 0; z < ChunkConstants.SIZE_Z; z++) {
+                for (int x = 0; x < ChunkConstants.SIZE_X; x++) {
+                    short id = chunk.getBlockId(x, y, z);
+                    if (id != lastId) {
+                        lastId = id;
+                        lastRequired = blockProperties.isLifecycleEventsRequired(id);
+                    }
+                    if (lastRequired) {
+                        if (entryCount == entries.length) {
+                            entries = Arrays.copyOf(entries, 2 * entries.length);
+                        }
+                        int blockIndex = x + ChunkConstants.SIZE_X * (z + ChunkConstants.SIZE_Z * y);
+                        entries[entryCount++] = ((long) (id & 0xFFFF) << 32) | blockIndex;
+                    }
+                }
+            }
+        }
+        // Sorting groups the blocks by id, keeping them in block index order within a group
+        Arrays.sort(entries, 0, entryCount);
+
+        if (positions.length < 3 * entryCount) {
+            positions = new int[Math.max(3 * entryCount, 2 * positions.length)];
+        }
+        int offsetX = chunk.getChunkWorldOffsetX();
+        int offsetY = chunk.getChunkWorldOffsetY();
+        int offsetZ = chunk.getChunkWorldOffsetZ();
+        blockTypeCount = 0;
+        for (int i = 0; i < entryCount; i++) {
+            short id = (short) (entries[i] >>> 32);
+            if (blockTypeCount == 0 || blockIds[blockTypeCount - 1] != id) {
+                addBlockType(id, 3 * i);
+            }
+            int blockIndex = (int) entries[i];
+            positions[3 * i] = offsetX + blockIndex % ChunkConstants.SIZE_X;
+            positions[3 * i + 1] = offsetY + blockIndex / (ChunkConstants.SIZE_X * ChunkConstants.SIZE_Z);
+            positions[3 * i + 2] = offsetZ + (blockIndex / ChunkConstants.SIZE_X) % ChunkConstants.SIZE_Z;
+        }
+        starts[blockTypeCount] = 3 * entryCount;
+    }
+
+    private void addBlockType(short id, int start) {
+        if (blockTypeCount + 1 >= starts.length) {
+            blockIds = Arrays.copyOf(blockIds, 2 * blockIds.length);
+            starts = Arrays.copyOf(starts, 2 * starts.length);
+        }
+        blockIds[blockTypeCount] = id;
+        starts[blockTypeCount] = start;
+        blockTypeCount++;
+    }
+
+    /**
+     * @return the number of block types with at least one block in the index.
+     */
+    public int getBlockTypeCount() {
+        return blockTypeCount;
+    }
+
+    /**
+     * @return the id of the block type at the given index, between 0 and {@link #getBlockTypeCount()}.
+     */
+    public short getBlockId(int blockType) {
+        return blockIds[blockType];
+    }
+
+    /**
+     * @return the array holding the x, y, z triples of the positions of all block types.
+     */
+    public int[] getPositions() {
+        return positions;
+    }
+
+    /**
+     * @return the index in {@link #getPositions()} of the first position of the block type.
+     */
+    public int getPositionsStart(int blockType) {
+        return starts[blockType];
+    }
+
+    /**
+     * @return the number of ints taken by the positions of the block type, three per block.
+     */
+    public int getPositionsLength(int blockType) {
+        return starts[blockType + 1] - starts[blockType];
+    }
+}
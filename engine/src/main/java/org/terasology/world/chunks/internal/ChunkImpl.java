@@ -17,6 +17,7 @@
 
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import gnu.trove.set.TLongSet;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,6 +85,12 @@ public class ChunkImpl implements Chunk {
     private volatile boolean dirty;
     private boolean animated;
 
+    // Persistence
+    private int dataVersion;
+    private int savedDataVersion = -1;
+    private long savedEntityStoreChecksum;
+    private TLongSet savedEntityIds;
+
     // Rendering
     private ChunkMesh activeMesh;
     private ChunkMesh pendingMesh;
@@ -154,6 +161,11 @@ public final Block getBlock(int x, int y, int z) {
         return blockManager.getBlock(id);
     }
 
+    @Override
+    public final short getBlockId(int x, int y, int z) {
+        return (short) blockData.get(x, y, z);
+    }
+
     @Override
     public Block setBlock(int x, int y, int z, Block block) {
         if (blockData == blockDataSnapshot) {
@@ -161,6 +173,7 @@ public Block setBlock(int x, int y, int z, Block block) {
         }
         int oldValue = blockData.set(x, y, z, block.getId());
         if (oldValue != block.getId()) {
+            dataVersion++;
             if (!block.isLiquid()) {
                 setLiquid(x, y, z, new LiquidData());
             }
@@ -247,7 +260,9 @@ public void setLiquid(int x, int y, int z, LiquidData newState) {
         if (extraData == extraDataSnapshot) {
             extraData = extraData.copy();
         }
-        extraData.set(x, y, z, newValue);
+        if ((byte) extraData.set(x, y, z, newValue) != newValue) {
+            dataVersion++;
+        }
     }
 
     @Override
@@ -272,6 +287,9 @@ public Biome setBiome(int x, int y, int z, Biome biome) {
         }
         short shortId = biomeManager.getBiomeShortId(biome);
         short previousShortId = (short) biomeData.set(x, y, z, shortId);
+        if (previousShortId != shortId) {
+            dataVersion++;
+        }
         return biomeManager.getBiomeByShortId(previousShortId);
     }
 
@@ -573,6 +591,56 @@ public EntityData.ChunkStore.Builder encode() {
         return ChunkSerializer.encode(chunkPos, blockData, extraData, biomeData);
     }
 
+    /**
+     * @return a number that changes whenever the block, liquid or biome data of the chunk gets modified. Must be called
+     * from the thread modifying the chunk.
+     */
+    public int getDataVersion() {
+        return dataVersion;
+    }
+
+    /**
+     * Records that the given version of the chunk data got written to the save game, together with the checksum of
+     * the entities that got stored with it.
+     *
+     * @param entityIds the ids of the entities that got stored with the chunk, null if they are unknown.
+     */
+    public synchronized void markSaved(int version, long entityStoreChecksum, TLongSet entityIds) {
+        this.savedDataVersion = version;
+        this.savedEntityStoreChecksum = entityStoreChecksum;
+        this.savedEntityIds = entityIds;
+    }
+
+    /**
+     * @return true if the given version of the chunk data and checksum of the entities in it match the ones last
+     * written to the save game.
+     */
+    public synchronized boolean isSaved(int version, long entityStoreChecksum) {
+        return savedDataVersion == version && savedEntityStoreChecksum == entityStoreChecksum;
+    }
+
+    /**
+     * @return true if the given version of the chunk data matches the one last written to the save game.
+     */
+    public synchronized boolean isDataSaved(int version) {
+        return savedDataVersion == version;
+    }
+
+    /**
+     * @return the ids of the entities last written to the save game with the chunk, or null if they are unknown.
+     */
+    public synchronized TLongSet getSavedEntityIds() {
+        return savedEntityIds;
+    }
+
+    /**
+     * Forgets which state of the chunk got written to the save game, so that it gets written by the next save.
+     */
+    public synchronized void markUnsaved() {
+        this.savedDataVersion = -1;
+        this.savedEntityIds = null;
+    }
+
     /**
      * Calling this method results in a (cheap) snapshot to be taken of the current state of the chunk.
      * This snapshot can then be obtained and rleased by calling {@link #encodeAndReleaseSnapshot()}.
@@ -17,17 +17,19 @@
 package org.terasology.world.chunks.internal;
 
 import com.google.common.base.Objects;
-import com.google.common.collect.Sets;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.logic.location.LocationComponent;
 import org.terasology.math.ChunkMath;
+import org.terasology.math.PackedVector3i;
 import org.terasology.math.Region3i;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.world.chunks.Chunk;
 import org.terasology.world.chunks.ChunkRegionListener;
 
 import java.util.Iterator;
-import java.util.Set;
 
 /**
  */
@@ -40,7 +42,7 @@ public class ChunkRelevanceRegion {
     private Region3i previousRegion = Region3i.EMPTY;
     private ChunkRegionListener listener;
 
-    private Set<Vector3i> relevantChunks = Sets.newLinkedHashSet();
+    private TLongSet relevantChunks = new TLongHashSet();
 
     public ChunkRelevanceRegion(EntityRef entity, Vector3i relevanceDistance) {
         this.entity = entity;
@@ -72,11 +74,11 @@ public void setRelevanceDistance(Vector3i distance) {
     private void reviewRelevantChunks(Vector3i distance) {
         Vector3i extents = new Vector3i(distance.x / 2, distance.y / 2, distance.z / 2);
         Region3i retainRegion = Region3i.createFromCenterExtents(center, extents);
-        Iterator<Vector3i> iter = relevantChunks.iterator();
+        TLongIterator iter = relevantChunks.iterator();
         while (iter.hasNext()) {
-            Vector3i pos = iter.next();
-            if (!retainRegion.encompasses(pos)) {
-                sendChunkIrrelevant(pos);
+            long pos = iter.next();
+            if (!retainRegion.encompasses(PackedVector3i.unpackX(pos), PackedVector3i.unpackY(pos), PackedVector3i.unpackZ(pos))) {
+                sendChunkIrrelevant(PackedVector3i.unpack(pos));
                 iter.remove();
             }
         }
@@ -178,8 +180,7 @@ public int hashCode() {
      * chunks as relevant even when no light calculation has been performed yet.
      */
     public void checkIfChunkIsRelevant(Chunk chunk) {
-        if (currentRegion.encompasses(chunk.getPosition()) && !relevantChunks.contains(chunk.getPosition())) {
-            relevantChunks.add(chunk.getPosition());
+        if (currentRegion.encompasses(chunk.getPosition()) && relevantChunks.add(PackedVector3i.pack(chunk.getPosition()))) {
             sendChunkRelevant(chunk);
         }
     }
@@ -189,8 +190,7 @@ public Iterable<Vector3i> getNeededChunks() {
     }
 
     public void chunkUnloaded(Vector3i pos) {
-        if (relevantChunks.contains(pos)) {
-            relevantChunks.remove(pos);
+        if (relevantChunks.remove(PackedVector3i.pack(pos))) {
             sendChunkIrrelevant(pos);
         }
     }
@@ -224,7 +224,7 @@ private void calculateNext() {
             nextChunkPos = null;
             while (regionPositions.hasNext() && nextChunkPos == null) {
                 Vector3i candidate = regionPositions.next();
-                if (!relevantChunks.contains(candidate)) {
+                if (!relevantChunks.contains(PackedVector3i.pack(candidate))) {
                     nextChunkPos = candidate;
                 }
             }
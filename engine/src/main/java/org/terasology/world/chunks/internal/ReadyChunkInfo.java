@@ -17,9 +17,6 @@
 
 import java.util.List;
 
-import gnu.trove.list.TIntList;
-import gnu.trove.map.TShortObjectMap;
-
 import org.terasology.entitySystem.entity.EntityStore;
 import org.terasology.math.geom.Vector3i;
 import org.terasology.persistence.ChunkStore;
@@ -29,23 +26,23 @@
  */
 public class ReadyChunkInfo {
     private Vector3i pos;
-    private TShortObjectMap<TIntList> blockPositionMapppings;
+    private BlockPositionIndex blockPositions;
     private ChunkStore chunkStore;
     private Chunk chunk;
     private boolean newChunk;
     private List<EntityStore> entities;
 
-    public ReadyChunkInfo(Chunk chunk, TShortObjectMap<TIntList> blockPositionMapppings, List<EntityStore> entities) {
+    public ReadyChunkInfo(Chunk chunk, BlockPositionIndex blockPositions, List<EntityStore> entities) {
         this.pos = chunk.getPosition();
-        this.blockPositionMapppings = blockPositionMapppings;
+        this.blockPositions = blockPositions;
         this.newChunk = true;
         this.chunk = chunk;
         this.entities = entities;
     }
 
-    public ReadyChunkInfo(Chunk chunk, TShortObjectMap<TIntList> blockPositionMapppings, ChunkStore chunkStore, List<EntityStore> entities) {
+    public ReadyChunkInfo(Chunk chunk, BlockPositionIndex blockPositions, ChunkStore chunkStore, List<EntityStore> entities) {
         this.pos = chunk.getPosition();
-        this.blockPositionMapppings = blockPositionMapppings;
+        this.blockPositions = blockPositions;
         this.chunkStore = chunkStore;
         this.newChunk = chunkStore == null;
         this.chunk = chunk;
@@ -60,8 +57,8 @@ public Vector3i getPos() {
         return pos;
     }
 
-    public TShortObjectMap<TIntList> getBlockPositionMapppings() {
-        return blockPositionMapppings;
+    public BlockPositionIndex getBlockPositions() {
+        return blockPositions;
     }
 
     public ChunkStore getChunkStore() {
@@ -20,10 +20,8 @@
 import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 import com.google.common.collect.Sets;
-import gnu.trove.list.TIntList;
-import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.TShortObjectMap;
-import gnu.trove.map.hash.TShortObjectHashMap;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.entitySystem.Component;
@@ -32,6 +30,7 @@
 import org.terasology.entitySystem.entity.EntityStore;
 import org.terasology.entitySystem.prefab.Prefab;
 import org.terasology.math.ChunkMath;
+import org.terasology.math.PackedVector3i;
 import org.terasology.math.Region3i;
 import org.terasology.math.Side;
 import org.terasology.math.TeraMath;
@@ -40,16 +39,16 @@
 import org.terasology.monitoring.chunk.ChunkMonitor;
 import org.terasology.persistence.ChunkStore;
 import org.terasology.persistence.StorageManager;
+import org.terasology.utilities.collection.ConcurrentLongObjectMap;
 import org.terasology.utilities.concurrency.TaskMaster;
 import org.terasology.world.BlockEntityRegistry;
 import org.terasology.world.biomes.BiomeManager;
 import org.terasology.world.block.BeforeDeactivateBlocks;
-import org.terasology.world.block.Block;
+import org.terasology.world.block.BlockLifecycleEvent;
 import org.terasology.world.block.BlockManager;
 import org.terasology.world.block.OnActivatedBlocks;
 import org.terasology.world.block.OnAddedBlocks;
 import org.terasology.world.chunks.Chunk;
-import org.terasology.world.chunks.ChunkBlockIterator;
 import org.terasology.world.chunks.ChunkConstants;
 import org.terasology.world.chunks.ChunkRegionListener;
 import org.terasology.world.chunks.ManagedChunk;
@@ -57,6 +56,7 @@
 import org.terasology.world.chunks.event.OnChunkGenerated;
 import org.terasology.world.chunks.event.OnChunkLoaded;
 import org.terasology.world.chunks.event.PurgeWorldEvent;
+import org.terasology.world.chunks.internal.BlockPositionIndex;
 import org.terasology.world.chunks.internal.ChunkImpl;
 import org.terasology.world.chunks.internal.ChunkRelevanceRegion;
 import org.terasology.world.chunks.internal.GeneratingChunkProvider;
@@ -89,6 +89,8 @@ public class LocalChunkProvider implements GeneratingChunkProvider {
     private static final Logger logger = LoggerFactory.getLogger(LocalChunkProvider.class);
     private static final int UNLOAD_PER_FRAME = 64;
     private static final Vector3i UNLOAD_LEEWAY = Vector3i.one();
+    private static final int LIGHT_MERGE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final double INTEGRATION_TIME_SMOOTHING = 0.2;
 
     private StorageManager storageManager;
     private final EntityManager entityManager;
@@ -99,12 +101,12 @@ public class LocalChunkProvider implements GeneratingChunkProvider {
 
     private Map<EntityRef, ChunkRelevanceRegion> regions = Maps.newHashMap();
 
-    private Map<Vector3i, Chunk> nearCache = Maps.newConcurrentMap();
+    private ConcurrentLongObjectMap<Chunk> nearCache = new ConcurrentLongObjectMap<>();
 
     private final Set<Vector3i> preparingChunks = Sets.newHashSet();
     private final BlockingQueue<ReadyChunkInfo> readyChunks = Queues.newLinkedBlockingQueue();
     private List<ReadyChunkInfo> sortedReadyChunks = Lists.newArrayList();
-    private final BlockingQueue<TShortObjectMap<TIntList>> deactivateBlocksQueue = Queues.newLinkedBlockingQueue();
+    private final BlockingQueue<BlockPositionIndex> deactivateBlocksQueue = Queues.newLinkedBlockingQueue();
 
     private EntityRef worldEntity = EntityRef.NULL;
 
@@ -114,7 +116,12 @@ public class LocalChunkProvider implements GeneratingChunkProvider {
     private BiomeManager biomeManager;
     private BlockEntityRegistry registry;
 
-    private LightMerger<ReadyChunkInfo> lightMerger = new LightMerger<>(this);
+    private LightMerger<ReadyChunkInfo> lightMerger = new LightMerger<>(this, LIGHT_MERGE_THREADS);
+
+    private int maxChunksIntegratedPerFrame = 1;
+    private long integrationBudgetInMs;
+    private double meanIntegrationTimeInMs;
+    private double meanBlockLifecycleTimeInMs;
 
     public LocalChunkProvider(StorageManager storageManager, EntityManager entityManager, WorldGenerator generator,
                               BlockManager blockManager, BiomeManager biomeManager) {
@@ -132,6 +139,18 @@ public void setBlockEntityRegistry(BlockEntityRegistry value) {
         this.registry = value;
     }
 
+    /**
+     * Sets how many ready chunks may be merged and activated per frame. The number actually integrated is lowered
+     * from the maximum so that the main thread work of activating them is expected to fit in the time budget.
+     *
+     * @param maxChunksPerFrame the maximum number of chunks to integrate per frame
+     * @param budgetInMs        the main thread time to spend activating chunks per frame, or 0 for no time limit
+     */
+    public void setIntegrationBudget(int maxChunksPerFrame, long budgetInMs) {
+        this.maxChunksIntegratedPerFrame = Math.max(1, maxChunksPerFrame);
+        this.integrationBudgetInMs = Math.max(0, budgetInMs);
+    }
+
     @Override
     public ChunkViewCore getLocalView(Vector3i centerChunkPos) {
         Region3i region = Region3i.createFromCenterExtents(centerChunkPos, ChunkConstants.LOCAL_REGION_EXTENTS);
@@ -159,7 +178,7 @@ public ChunkViewCore getSubviewAroundChunk(Vector3i chunkPos) {
     private ChunkViewCore createWorldView(Region3i region, Vector3i offset) {
         Chunk[] chunks = new Chunk[region.sizeX() * region.sizeY() * region.sizeZ()];
         for (Vector3i chunkPos : region) {
-            Chunk chunk = nearCache.get(chunkPos);
+            Chunk chunk = nearCache.get(PackedVector3i.pack(chunkPos));
             if (chunk == null || !chunk.isReady()) {
                 return null;
             }
@@ -241,47 +260,76 @@ public void removeRelevanceEntity(EntityRef entity) {
 
     @Override
     public void completeUpdate() {
-        ReadyChunkInfo readyChunkInfo = lightMerger.completeMerge();
-        if (readyChunkInfo != null) {
-            Chunk chunk = readyChunkInfo.getChunk();
-            chunk.markReady();
-            updateAdjacentChunksReadyFieldOf(chunk);
-            updateAdjacentChunksReadyFieldOfAdjChunks(chunk);
-
-            if (readyChunkInfo.isNewChunk()) {
-                PerformanceMonitor.startActivity("Generating queued Entities");
-                readyChunkInfo.getEntities().forEach(this::generateQueuedEntities);
-                PerformanceMonitor.endActivity();
-            }
+        List<ReadyChunkInfo> mergedChunks = lightMerger.completeMerges();
+        if (mergedChunks.isEmpty()) {
+            PerformanceMonitor.setGauge("Chunk integration budget used (%)", 0);
+            return;
+        }
+        long startTime = System.nanoTime();
+        for (ReadyChunkInfo readyChunkInfo : mergedChunks) {
+            integrateChunk(readyChunkInfo);
+        }
+        double elapsedMs = (System.nanoTime() - startTime) / 1000000.0;
+        double timePerChunk = elapsedMs / mergedChunks.size();
+        if (meanIntegrationTimeInMs == 0) {
+            meanIntegrationTimeInMs = timePerChunk;
+        } else {
+            meanIntegrationTimeInMs += INTEGRATION_TIME_SMOOTHING * (timePerChunk - meanIntegrationTimeInMs);
+        }
+        if (integrationBudgetInMs > 0) {
+            PerformanceMonitor.setGauge("Chunk integration budget used (%)", 100.0 * elapsedMs / integrationBudgetInMs);
+        }
+        PerformanceMonitor.setGauge("Chunks integrated per frame", mergedChunks.size());
+    }
 
-            if (readyChunkInfo.getChunkStore() != null) {
-                readyChunkInfo.getChunkStore().restoreEntities();
-            }
+    private void integrateChunk(ReadyChunkInfo readyChunkInfo) {
+        Chunk chunk = readyChunkInfo.getChunk();
+        chunk.markReady();
+        updateAdjacentChunksReadyFieldOf(chunk);
+        updateAdjacentChunksReadyFieldOfAdjChunks(chunk);
 
-            if (!readyChunkInfo.isNewChunk()) {
-                PerformanceMonitor.startActivity("Sending OnAddedBlocks");
-                readyChunkInfo.getBlockPositionMapppings().forEachEntry((id, positions) -> {
-                    if (positions.size() > 0) {
-                        blockManager.getBlock(id).getEntity().send(new OnAddedBlocks(positions, registry));
-                    }
-                    return true;
-                });
-                PerformanceMonitor.endActivity();
-            }
+        if (readyChunkInfo.isNewChunk()) {
+            PerformanceMonitor.startActivity("Generating queued Entities");
+            readyChunkInfo.getEntities().forEach(this::generateQueuedEntities);
+            PerformanceMonitor.endActivity();
+        }
 
-            PerformanceMonitor.startActivity("Sending OnActivateBlocks");
-            readyChunkInfo.getBlockPositionMapppings().forEachEntry((id, positions) -> {
-                if (positions.size() > 0) {
-                    blockManager.getBlock(id).getEntity().send(new OnActivatedBlocks(positions, registry));
-                }
-                return true;
-            });
+        if (readyChunkInfo.getChunkStore() != null) {
+            readyChunkInfo.getChunkStore().restoreEntities();
+        }
+
+        long lifecycleStartTime = System.nanoTime();
+        BlockPositionIndex blockPositions = readyChunkInfo.getBlockPositions();
+        if (!readyChunkInfo.isNewChunk()) {
+            PerformanceMonitor.startActivity("Sending OnAddedBlocks");
+            sendBlockLifecycleEvents(blockPositions, OnAddedBlocks::new);
             PerformanceMonitor.endActivity();
+        }
 
-            if (readyChunkInfo.isNewChunk()) {
-                worldEntity.send(new OnChunkGenerated(readyChunkInfo.getPos()));
-            }
-            worldEntity.send(new OnChunkLoaded(readyChunkInfo.getPos()));
+        PerformanceMonitor.startActivity("Sending OnActivateBlocks");
+        sendBlockLifecycleEvents(blockPositions, OnActivatedBlocks::new);
+        PerformanceMonitor.endActivity();
+        blockPositions.release();
+        double lifecycleTimeInMs = (System.nanoTime() - lifecycleStartTime) / 1000000.0;
+        meanBlockLifecycleTimeInMs += INTEGRATION_TIME_SMOOTHING * (lifecycleTimeInMs - meanBlockLifecycleTimeInMs);
+        PerformanceMonitor.setGauge("Block lifecycle events per chunk (ms)", meanBlockLifecycleTimeInMs);
+
+        if (readyChunkInfo.isNewChunk()) {
+            worldEntity.send(new OnChunkGenerated(readyChunkInfo.getPos()));
+        }
+        worldEntity.send(new OnChunkLoaded(readyChunkInfo.getPos()));
+    }
+
+    /**
+     * Sends one event per block type in the index to the entity of the block type, covering the positions of all its
+     * blocks in the chunk.
+     */
+    private void sendBlockLifecycleEvents(BlockPositionIndex blockPositions, BlockLifecycleEventFactory eventFactory) {
+        int[] positions = blockPositions.getPositions();
+        for (int i = 0; i < blockPositions.getBlockTypeCount(); i++) {
+            BlockLifecycleEvent event = eventFactory.create(positions, blockPositions.getPositionsStart(i),
+                    blockPositions.getPositionsLength(i), registry);
+            blockManager.getBlock(blockPositions.getBlockId(i)).getEntity().send(event);
         }
     }
 
@@ -315,7 +363,7 @@ private void makeChunksAvailable() {
         List<ReadyChunkInfo> newReadyChunks = Lists.newArrayListWithExpectedSize(readyChunks.size());
         readyChunks.drainTo(newReadyChunks);
         for (ReadyChunkInfo readyChunkInfo : newReadyChunks) {
-            nearCache.put(readyChunkInfo.getPos(), readyChunkInfo.getChunk());
+            nearCache.put(PackedVector3i.pack(readyChunkInfo.getPos()), readyChunkInfo.getChunk());
             preparingChunks.remove(readyChunkInfo.getPos());
         }
         updateRelevanceRegionsWithNewChunks(newReadyChunks);
@@ -323,18 +371,39 @@ private void makeChunksAvailable() {
             sortedReadyChunks.addAll(newReadyChunks);
             Collections.sort(sortedReadyChunks, new ReadyChunkRelevanceComparator());
         }
-        if (!sortedReadyChunks.isEmpty()) {
-            boolean loaded = false;
-            for (int i = sortedReadyChunks.size() - 1; i >= 0 && !loaded; i--) {
-                ReadyChunkInfo chunkInfo = sortedReadyChunks.get(i);
-                PerformanceMonitor.startActivity("Make Chunk Available");
-                if (makeChunkAvailable(chunkInfo)) {
-                    sortedReadyChunks.remove(i);
-                    loaded = true;
-                }
-                PerformanceMonitor.endActivity();
+        int chunksToIntegrate = chunksToIntegrateThisFrame();
+        List<Vector3i> mergingChunks = Lists.newArrayListWithCapacity(chunksToIntegrate);
+        for (int i = sortedReadyChunks.size() - 1; i >= 0 && mergingChunks.size() < chunksToIntegrate; i--) {
+            ReadyChunkInfo chunkInfo = sortedReadyChunks.get(i);
+            if (!canMergeConcurrently(chunkInfo.getPos(), mergingChunks)) {
+                continue;
+            }
+            PerformanceMonitor.startActivity("Make Chunk Available");
+            if (makeChunkAvailable(chunkInfo)) {
+                sortedReadyChunks.remove(i);
+                mergingChunks.add(chunkInfo.getPos());
+            }
+            PerformanceMonitor.endActivity();
+        }
+        PerformanceMonitor.setGauge("Ready chunk queue", sortedReadyChunks.size());
+        PerformanceMonitor.setGauge("Chunks in generation", preparingChunks.size());
+    }
+
+    private int chunksToIntegrateThisFrame() {
+        if (integrationBudgetInMs == 0 || meanIntegrationTimeInMs == 0) {
+            return maxChunksIntegratedPerFrame;
+        }
+        int withinBudget = (int) (integrationBudgetInMs / meanIntegrationTimeInMs);
+        return TeraMath.clamp(withinBudget, 1, maxChunksIntegratedPerFrame);
+    }
+
+    private boolean canMergeConcurrently(Vector3i chunkPos, List<Vector3i> mergingChunks) {
+        for (Vector3i mergingChunk : mergingChunks) {
+            if (!LightMerger.canMergeConcurrently(chunkPos, mergingChunk)) {
+                return false;
             }
         }
+        return true;
     }
 
     private void updateRelevanceRegionsWithNewChunks(List<ReadyChunkInfo> newReadyChunks) {
@@ -346,48 +415,47 @@ private void updateRelevanceRegionsWithNewChunks(List<ReadyChunkInfo> newReadyCh
     }
 
     private void deactivateBlocks() {
-        List<TShortObjectMap<TIntList>> deactivatedBlockSets = Lists.newArrayListWithExpectedSize(deactivateBlocksQueue.size());
+        List<BlockPositionIndex> deactivatedBlockSets = Lists.newArrayListWithExpectedSize(deactivateBlocksQueue.size());
         deactivateBlocksQueue.drainTo(deactivatedBlockSets);
-        for (TShortObjectMap<TIntList> deactivatedBlockSet : deactivatedBlockSets) {
-            deactivatedBlockSet.forEachEntry((id, positions) -> {
-                if (positions.size() > 0) {
-                    blockManager.getBlock(id).getEntity().send(new BeforeDeactivateBlocks(positions, registry));
-                }
-                return true;
-            });
+        for (BlockPositionIndex deactivatedBlockSet : deactivatedBlockSets) {
+            sendBlockLifecycleEvents(deactivatedBlockSet, BeforeDeactivateBlocks::new);
+            deactivatedBlockSet.release();
         }
     }
 
     private void checkForUnload() {
         PerformanceMonitor.startActivity("Unloading irrelevant chunks");
-        int unloaded = 0;
         logger.debug("Compacting cache");
-        Iterator<Vector3i> iterator = nearCache.keySet().iterator();
-        while (iterator.hasNext()) {
-            Vector3i pos = iterator.next();
-            boolean keep = false;
-            for (ChunkRelevanceRegion region : regions.values()) {
-                if (region.getCurrentRegion().expand(UNLOAD_LEEWAY).encompasses(pos)) {
-                    keep = true;
-                    break;
+        List<Region3i> keptRegions = Lists.newArrayListWithCapacity(regions.size());
+        for (ChunkRelevanceRegion region : regions.values()) {
+            keptRegions.add(region.getCurrentRegion().expand(UNLOAD_LEEWAY));
+        }
+        TLongList irrelevantChunks = new TLongArrayList();
+        nearCache.forEachKey(key -> {
+            int x = PackedVector3i.unpackX(key);
+            int y = PackedVector3i.unpackY(key);
+            int z = PackedVector3i.unpackZ(key);
+            for (Region3i region : keptRegions) {
+                if (region.encompasses(x, y, z)) {
+                    return true;
                 }
             }
-            if (!keep) {
-                // TODO: need some way to not dispose chunks being edited or processed (or do so safely)
-                // Note: Above won't matter if all changes are on the main thread
-                if (unloadChunkInternal(pos)) {
-                    iterator.remove();
-                    if (++unloaded >= UNLOAD_PER_FRAME) {
-                        break;
-                    }
-                }
+            irrelevantChunks.add(key);
+            return irrelevantChunks.size() < UNLOAD_PER_FRAME;
+        });
+        for (int i = 0; i < irrelevantChunks.size(); i++) {
+            long key = irrelevantChunks.get(i);
+            // TODO: need some way to not dispose chunks being edited or processed (or do so safely)
+            // Note: Above won't matter if all changes are on the main thread
+            if (unloadChunkInternal(PackedVector3i.unpack(key))) {
+                nearCache.remove(key);
             }
         }
         PerformanceMonitor.endActivity();
     }
 
     private boolean unloadChunkInternal(Vector3i pos) {
-        Chunk chunk = nearCache.get(pos);
+        Chunk chunk = nearCache.get(PackedVector3i.pack(pos));
         if (!chunk.isReady()) {
             // Chunk hasn't been finished or changed, so just drop it.
             Iterator<ReadyChunkInfo> infoIterator = sortedReadyChunks.iterator();
@@ -421,7 +489,7 @@ private boolean areAdjacentChunksReady(Chunk chunk) {
         Vector3i centerChunkPos = chunk.getPosition();
         for (Side side : Side.values()) {
             Vector3i adjChunkPos = side.getAdjacentPos(centerChunkPos);
-            Chunk adjChunk = nearCache.get(adjChunkPos);
+            Chunk adjChunk = nearCache.get(PackedVector3i.pack(adjChunkPos));
             boolean adjChunkReady = (adjChunk != null && adjChunk.isReady());
             if (!adjChunkReady) {
                 return false;
@@ -438,7 +506,7 @@ private void updateAdjacentChunksReadyFieldOfAdjChunks(Chunk chunkInCenter) {
         Vector3i centerChunkPos = chunkInCenter.getPosition();
         for (Side side : Side.values()) {
             Vector3i adjChunkPos = side.getAdjacentPos(centerChunkPos);
-            Chunk adjChunk = nearCache.get(adjChunkPos);
+            Chunk adjChunk = nearCache.get(PackedVector3i.pack(adjChunkPos));
             if (adjChunk != null) {
                 updateAdjacentChunksReadyFieldOf(adjChunk);
             }
@@ -447,11 +515,13 @@ private void updateAdjacentChunksReadyFieldOfAdjChunks(Chunk chunkInCenter) {
 
 
     private void updateRelevance() {
+        boolean relevanceChanged = false;
         for (ChunkRelevanceRegion chunkRelevanceRegion : regions.values()) {
             chunkRelevanceRegion.update();
             if (chunkRelevanceRegion.isDirty()) {
+                relevanceChanged = true;
                 for (Vector3i pos : chunkRelevanceRegion.getNeededChunks()) {
-                    Chunk chunk = nearCache.get(pos);
+                    Chunk chunk = nearCache.get(PackedVector3i.pack(pos));
                     if (chunk != null) {
                         chunkRelevanceRegion.checkIfChunkIsRelevant(chunk);
                     } else {
@@ -461,15 +531,44 @@ private void updateRelevance() {
                 chunkRelevanceRegion.setUpToDate();
             }
         }
+        if (relevanceChanged) {
+            cancelIrrelevantChunkTasks();
+            pipeline.reprioritize();
+        }
+    }
+
+    /**
+     * Drops queued chunk loads for chunks that are no longer inside any relevance region, so they can be requested
+     * again if they become relevant later.
+     */
+    private void cancelIrrelevantChunkTasks() {
+        List<Vector3i> cancelled = Lists.newArrayList();
+        pipeline.cancel(task -> {
+            if (isRelevant(task.getPosition())) {
+                return false;
+            }
+            cancelled.add(task.getPosition());
+            return true;
+        });
+        preparingChunks.removeAll(cancelled);
+    }
+
+    private boolean isRelevant(Vector3i chunkPos) {
+        for (ChunkRelevanceRegion region : regions.values()) {
+            if (region.getCurrentRegion().expand(UNLOAD_LEEWAY).encompasses(chunkPos)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private boolean makeChunkAvailable(final ReadyChunkInfo readyChunkInfo) {
-        final Chunk chunk = nearCache.get(readyChunkInfo.getPos());
+        final Chunk chunk = nearCache.get(PackedVector3i.pack(readyChunkInfo.getPos()));
         if (chunk == null) {
             return false;
         }
         for (Vector3i pos : Region3i.createFromCenterExtents(readyChunkInfo.getPos(), 1)) {
-            if (nearCache.get(pos) == null) {
+            if (nearCache.get(PackedVector3i.pack(pos)) == null) {
                 return false;
             }
         }
@@ -479,37 +578,24 @@ private boolean makeChunkAvailable(final ReadyChunkInfo readyChunkInfo) {
 
     void gatherBlockPositionsForDeactivate(Chunk chunk) {
         try {
-            deactivateBlocksQueue.put(createBatchBlockEventMappings(chunk));
+            deactivateBlocksQueue.put(BlockPositionIndex.of(chunk, blockManager.getBlockProperties()));
         } catch (InterruptedException e) {
             logger.error("Failed to queue deactivation of blocks for {}", chunk.getPosition());
         }
     }
 
-    private TShortObjectMap<TIntList> createBatchBlockEventMappings(Chunk chunk) {
-        TShortObjectMap<TIntList> batchBlockMap = new TShortObjectHashMap<>();
-        blockManager.listRegisteredBlocks().stream().filter(Block::isLifecycleEventsRequired).forEach(block ->
-                batchBlockMap.put(block.getId(), new TIntArrayList()));
-
-        ChunkBlockIterator i = chunk.getBlockIterator();
-        while (i.next()) {
-            if (i.getBlock().isLifecycleEventsRequired()) {
-                TIntList positionList = batchBlockMap.get(i.getBlock().getId());
-                positionList.add(i.getBlockPos().x);
-                positionList.add(i.getBlockPos().y);
-                positionList.add(i.getBlockPos().z);
-            }
-        }
-        return batchBlockMap;
-    }
-
     @Override
     public Chunk getChunk(int x, int y, int z) {
-        return getChunk(new Vector3i(x, y, z));
+        Chunk chunk = nearCache.get(PackedVector3i.pack(x, y, z));
+        if (isChunkReady(chunk)) {
+            return chunk;
+        }
+        return null;
     }
 
     @Override
     public Chunk getChunk(Vector3i pos) {
-        Chunk chunk = nearCache.get(pos);
+        Chunk chunk = nearCache.get(PackedVector3i.pack(pos));
         if (isChunkReady(chunk)) {
             return chunk;
         }
@@ -554,12 +640,12 @@ public void dispose() {
 
     @Override
     public boolean reloadChunk(Vector3i coords) {
-        if (!nearCache.containsKey(coords)) {
+        if (!nearCache.containsKey(PackedVector3i.pack(coords))) {
             return false;
         }
 
         if (unloadChunkInternal(coords)) {
-            nearCache.remove(coords);
+            nearCache.remove(PackedVector3i.pack(coords));
             createOrLoadChunk(coords);
             return true;
         }
@@ -588,7 +674,7 @@ public void purgeWorld() {
 
         pipeline = new ChunkGenerationPipeline(new ChunkTaskRelevanceComparator());
         unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 8);
-        lightMerger = new LightMerger<>(this);
+        lightMerger = new LightMerger<>(this, LIGHT_MERGE_THREADS);
         lightMerger.restart();
         ChunkMonitor.fireChunkProviderInitialized(this);
 
@@ -601,7 +687,7 @@ public void purgeWorld() {
     }
 
     private void createOrLoadChunk(Vector3i chunkPos) {
-        Chunk chunk = nearCache.get(chunkPos);
+        Chunk chunk = nearCache.get(PackedVector3i.pack(chunkPos));
         if (chunk == null && !preparingChunks.contains(chunkPos)) {
             preparingChunks.add(chunkPos);
             pipeline.doTask(new AbstractChunkTask(chunkPos) {
@@ -624,8 +710,8 @@ public void run() {
 
                     InternalLightProcessor.generateInternalLighting(chunk);
                     chunk.deflate();
-                    TShortObjectMap<TIntList> mappings = createBatchBlockEventMappings(chunk);
-                    readyChunks.offer(new ReadyChunkInfo(chunk, mappings, chunkStore, buffer.getAll()));
+                    BlockPositionIndex blockPositions = BlockPositionIndex.of(chunk, blockManager.getBlockProperties());
+                    readyChunks.offer(new ReadyChunkInfo(chunk, blockPositions, chunkStore, buffer.getAll()));
                 }
             });
         }
@@ -634,17 +720,26 @@ public void run() {
 
     @Override
     public void onChunkIsReady(Chunk chunk) {
-        readyChunks.offer(new ReadyChunkInfo(chunk, createBatchBlockEventMappings(chunk), Collections.emptyList()));
+        readyChunks.offer(new ReadyChunkInfo(chunk, BlockPositionIndex.of(chunk, blockManager.getBlockProperties()), Collections.emptyList()));
     }
 
     @Override
     public Chunk getChunkUnready(Vector3i pos) {
-        return nearCache.get(pos);
+        return nearCache.get(PackedVector3i.pack(pos));
     }
 
     @Override
     public boolean isChunkReady(Vector3i pos) {
-        return isChunkReady(nearCache.get(pos));
+        return isChunkReady(nearCache.get(PackedVector3i.pack(pos)));
+    }
+
+    /**
+     * Must only be called from the main thread.
+     *
+     * @return whether the chunk is loaded, even if not ready yet, or getting loaded or generated.
+     */
+    public boolean isChunkLoadedOrPreparing(Vector3i pos) {
+        return nearCache.get(PackedVector3i.pack(pos)) != null || preparingChunks.contains(pos);
     }
 
     private boolean isChunkReady(Chunk chunk) {
@@ -716,4 +811,8 @@ private int distFromRegion(Vector3i pos, Vector3i regionCenter) {
         }
     }
 
+    @FunctionalInterface
+    private interface BlockLifecycleEventFactory {
+        BlockLifecycleEvent create(int[] positions, int offset, int length, BlockEntityRegistry registry);
+    }
 }
@@ -21,6 +21,7 @@
 import org.terasology.utilities.concurrency.TaskMaster;
 
 import java.util.Comparator;
+import java.util.function.Predicate;
 
 /**
  */
@@ -31,7 +32,14 @@ public class ChunkGenerationPipeline {
     private TaskMaster<ChunkTask> chunkGenerator;
 
     public ChunkGenerationPipeline(Comparator<ChunkTask> taskComparator) {
-        chunkGenerator = TaskMaster.createDynamicPriorityTaskMaster("Chunk-Generator", NUM_TASK_THREADS, taskComparator);
+        this(taskComparator, NUM_TASK_THREADS);
+    }
+
+    /**
+     * @param threads the number of threads processing the tasks
+     */
+    public ChunkGenerationPipeline(Comparator<ChunkTask> taskComparator, int threads) {
+        chunkGenerator = TaskMaster.createDynamicPriorityTaskMaster("Chunk-Generator", threads, taskComparator);
     }
 
     public void doTask(ChunkTask task) {
@@ -42,6 +50,22 @@ public void doTask(ChunkTask task) {
         }
     }
 
+    /**
+     * Re-establishes the order of the queued tasks after the relevance of chunks has changed.
+     */
+    public void reprioritize() {
+        chunkGenerator.reprioritize();
+    }
+
+    /**
+     * Drops queued tasks that have not started yet.
+     *
+     * @param filter selects the tasks to drop
+     */
+    public void cancel(Predicate<ChunkTask> filter) {
+        chunkGenerator.cancel(filter);
+    }
+
     public void shutdown() {
         chunkGenerator.shutdown(new ShutdownChunkTask(), false);
     }
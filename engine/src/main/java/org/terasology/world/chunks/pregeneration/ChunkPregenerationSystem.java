@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.pregeneration;
+
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.systems.BaseComponentSystem;
+import org.terasology.entitySystem.systems.RegisterMode;
+import org.terasology.entitySystem.systems.RegisterSystem;
+import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.logic.console.commandSystem.annotations.Command;
+import org.terasology.logic.console.commandSystem.annotations.CommandParam;
+import org.terasology.logic.permission.PermissionManager;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.persistence.StorageManager;
+import org.terasology.persistence.internal.ReadWriteStorageManager;
+import org.terasology.registry.In;
+import org.terasology.world.biomes.BiomeManager;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.ChunkProvider;
+import org.terasology.world.chunks.localChunkProvider.LocalChunkProvider;
+import org.terasology.world.generator.WorldGenerator;
+
+/**
+ * Provides commands to pre-generate the chunks around the world origin, e.g. on a headless server before players join.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class ChunkPregenerationSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    private static final int MAX_QUEUED_CHUNKS = 256;
+    private static final int CHUNKS_PER_SAVE = 1024;
+
+    @In
+    private WorldGenerator worldGenerator;
+    @In
+    private StorageManager storageManager;
+    @In
+    private ChunkProvider chunkProvider;
+    @In
+    private EntityManager entityManager;
+    @In
+    private BlockManager blockManager;
+    @In
+    private BiomeManager biomeManager;
+
+    private ChunkPregenerator pregenerator;
+
+    @Override
+    public void update(float delta) {
+        if (pregenerator != null && pregenerator.update()) {
+            pregenerator = null;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (pregenerator != null) {
+            pregenerator.cancel();
+            pregenerator = null;
+        }
+    }
+
+    @Command(shortDescription = "Generates and saves the chunks around the world origin",
+            helpText = "Generates all chunks within the given horizontal chunk radius around the world origin and "
+                    + "between the given vertical chunk positions, and saves them. Chunks already saved are skipped.",
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION, runOnServer = true)
+    public String pregenerate(@CommandParam("chunkRadius") int chunkRadius, @CommandParam("minChunkY") int minChunkY,
+                              @CommandParam("maxChunkY") int maxChunkY) {
+        if (pregenerator != null) {
+            return "Pre-generation already running: " + pregenerator.getStatus();
+        }
+        if (!(storageManager instanceof ReadWriteStorageManager)) {
+            return "Pre-generation requires saving to be enabled";
+        }
+        if (!(chunkProvider instanceof LocalChunkProvider)) {
+            return "Pre-generation requires the chunks to be generated locally";
+        }
+        if (chunkRadius < 0 || minChunkY > maxChunkY) {
+            return "Invalid region: the radius must not be negative and minChunkY not above maxChunkY";
+        }
+        Region3i region = Region3i.createFromMinMax(new Vector3i(-chunkRadius, minChunkY, -chunkRadius),
+                new Vector3i(chunkRadius, maxChunkY, chunkRadius));
+        pregenerator = new ChunkPregenerator(region, worldGenerator, (ReadWriteStorageManager) storageManager,
+                (LocalChunkProvider) chunkProvider, entityManager, blockManager, biomeManager, MAX_QUEUED_CHUNKS, CHUNKS_PER_SAVE);
+        pregenerator.start();
+        return "Pre-generating chunks " + region;
+    }
+
+    @Command(shortDescription = "Shows the progress of the chunk pre-generation",
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION, runOnServer = true)
+    public String pregenerationStatus() {
+        if (pregenerator == null) {
+            return "No pre-generation running";
+        }
+        return pregenerator.getStatus();
+    }
+
+    @Command(shortDescription = "Stops the chunk pre-generation",
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION, runOnServer = true)
+    public String cancelPregeneration() {
+        if (pregenerator == null) {
+            return "No pre-generation running";
+        }
+        pregenerator.cancel();
+        String status = pregenerator.getStatus();
+        pregenerator = null;
+        return "Pre-generation cancelled: " + status;
+    }
+}
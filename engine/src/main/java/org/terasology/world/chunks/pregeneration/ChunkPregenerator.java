@@ -0,0 +1,286 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.chunks.pregeneration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.entitySystem.Component;
+import org.terasology.entitySystem.entity.EntityManager;
+import org.terasology.entitySystem.entity.EntityRef;
+import org.terasology.entitySystem.entity.EntityStore;
+import org.terasology.entitySystem.prefab.Prefab;
+import org.terasology.math.Region3i;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.persistence.internal.ReadWriteStorageManager;
+import org.terasology.world.biomes.BiomeManager;
+import org.terasology.world.block.BlockManager;
+import org.terasology.world.chunks.Chunk;
+import org.terasology.world.chunks.internal.ChunkImpl;
+import org.terasology.world.chunks.localChunkProvider.LocalChunkProvider;
+import org.terasology.world.chunks.pipeline.AbstractChunkTask;
+import org.terasology.world.chunks.pipeline.ChunkGenerationPipeline;
+import org.terasology.world.generation.impl.EntityBufferImpl;
+import org.terasology.world.generator.WorldGenerator;
+import org.terasology.world.propagation.light.InternalLightProcessor;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Generates all chunks of a region that haven't been stored yet and stores them, without the chunks having to become
+ * relevant to a player first. Meant to prepare the world of a server before players join.
+ * <br><br>
+ * The chunks are generated on a pipeline with one thread per core. The finished chunks get handed to the storage
+ * manager on the main thread, which gets asked to save just these chunks once enough have accumulated. Only a
+ * bounded number of chunks is queued or waiting to be saved at any time, so the memory use doesn't grow with the size
+ * of the region.
+ * <br><br>
+ * Chunks the chunk provider loads or stores in the meantime take precedence: a generated chunk is dropped if its
+ * position got loaded, started loading or got stored while it was generated.
+ */
+public class ChunkPregenerator {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkPregenerator.class);
+    private static final long REPORT_INTERVAL_MS = 5000;
+
+    private final Region3i chunkRegion;
+    private final WorldGenerator generator;
+    private final ReadWriteStorageManager storageManager;
+    private final LocalChunkProvider chunkProvider;
+    private final EntityManager entityManager;
+    private final BlockManager blockManager;
+    private final BiomeManager biomeManager;
+    private final int maxQueuedChunks;
+    private final int chunksPerSave;
+
+    private final Queue<GeneratedChunk> generatedChunks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completedTasks = new AtomicInteger();
+    private final AtomicInteger skippedChunks = new AtomicInteger();
+
+    private ChunkGenerationPipeline pipeline;
+    private Iterator<Vector3i> remainingPositions;
+    private int submittedTasks;
+    private int storedChunks;
+    private int unsavedChunks;
+    private boolean finished;
+
+    private long startTime;
+    private long lastReportTime;
+    private long startWrittenBytes;
+
+    /**
+     * @param chunkRegion     the positions of the chunks to generate
+     * @param maxQueuedChunks the maximum number of chunks queued for or in generation
+     * @param chunksPerSave   the number of generated chunks after which saving gets started
+     */
+    public ChunkPregenerator(Region3i chunkRegion, WorldGenerator generator, ReadWriteStorageManager storageManager,
+                             LocalChunkProvider chunkProvider, EntityManager entityManager, BlockManager blockManager,
+                             BiomeManager biomeManager, int maxQueuedChunks, int chunksPerSave) {
+        this.chunkRegion = chunkRegion;
+        this.generator = generator;
+        this.storageManager = storageManager;
+        this.chunkProvider = chunkProvider;
+        this.entityManager = entityManager;
+        this.blockManager = blockManager;
+        this.biomeManager = biomeManager;
+        this.maxQueuedChunks = maxQueuedChunks;
+        this.chunksPerSave = chunksPerSave;
+    }
+
+    public void start() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        Vector3i center = new Vector3i(chunkRegion.minX() + chunkRegion.sizeX() / 2,
+                chunkRegion.minY() + chunkRegion.sizeY() / 2, chunkRegion.minZ() + chunkRegion.sizeZ() / 2);
+        // generate from the center outwards, so an interrupted run leaves a smaller finished square
+        Comparator<Vector3i> byDistance = Comparator.comparingInt(pos -> pos.gridDistance(center));
+        pipeline = new ChunkGenerationPipeline((task1, task2) -> {
+            if (task1.isTerminateSignal() || task2.isTerminateSignal()) {
+                return Boolean.compare(!task1.isTerminateSignal(), !task2.isTerminateSignal());
+            }
+            return byDistance.compare(task1.getPosition(), task2.getPosition());
+        }, threads);
+        remainingPositions = chunkRegion.iterator();
+        startTime = System.currentTimeMillis();
+        lastReportTime = startTime;
+        startWrittenBytes = storageManager.getWrittenChunkBytes();
+        logger.info("Pre-generating {} chunks of {} on {} threads", getChunkCount(), chunkRegion, threads);
+    }
+
+    /**
+     * Stores the generated chunks, saves if enough accumulated and queues more chunks. Has to be called regularly from
+     * the main thread.
+     *
+     * @return whether all chunks have been generated and saved.
+     */
+    public boolean update() {
+        if (finished) {
+            return true;
+        }
+        storeGeneratedChunks();
+        if (unsavedChunks >= chunksPerSave && !storageManager.isSaving()) {
+            storageManager.waitForCompletionOfPreviousSaveAndStartSavingUnloadedChunks();
+            unsavedChunks = 0;
+        }
+        queueChunks();
+
+        long now = System.currentTimeMillis();
+        if (now - lastReportTime >= REPORT_INTERVAL_MS) {
+            lastReportTime = now;
+            logger.info(getStatus());
+        }
+
+        if (!remainingPositions.hasNext() && completedTasks.get() == submittedTasks && generatedChunks.isEmpty()
+                && !storageManager.isSaving()) {
+            if (unsavedChunks > 0) {
+                storageManager.waitForCompletionOfPreviousSaveAndStartSavingUnloadedChunks();
+                unsavedChunks = 0;
+            } else {
+                finished = true;
+                pipeline.shutdown();
+                logger.info("Pre-generation finished: {}", getStatus());
+            }
+        }
+        return finished;
+    }
+
+    /**
+     * Stops generating further chunks. The chunks generated so far get stored with the next save.
+     */
+    public void cancel() {
+        if (!finished) {
+            finished = true;
+            pipeline.cancel(task -> true);
+            pipeline.shutdown();
+            storeGeneratedChunks();
+            logger.info("Pre-generation cancelled: {}", getStatus());
+        }
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * @return the progress, the chunks generated per second, the queue depth and the bytes written since the start.
+     */
+    public String getStatus() {
+        double seconds = Math.max(1, System.currentTimeMillis() - startTime) / 1000.0;
+        int processed = storedChunks + skippedChunks.get();
+        return String.format("%d/%d chunks (%d already present), %.1f chunks/s, %d queued, %d unsaved, %.1f MB written",
+                processed, getChunkCount(), skippedChunks.get(), storedChunks / seconds,
+                submittedTasks - completedTasks.get(), unsavedChunks + generatedChunks.size(),
+                (storageManager.getWrittenChunkBytes() - startWrittenBytes) / (1024.0 * 1024.0));
+    }
+
+    private int getChunkCount() {
+        return chunkRegion.sizeX() * chunkRegion.sizeY() * chunkRegion.sizeZ();
+    }
+
+    private void storeGeneratedChunks() {
+        // while a save is running the stored chunks stay in memory until the next save, so only store up to a batch
+        while (unsavedChunks < chunksPerSave || !storageManager.isSaving()) {
+            GeneratedChunk generated = generatedChunks.poll();
+            if (generated == null) {
+                return;
+            }
+            Vector3i pos = generated.chunk.getPosition();
+            if (chunkProvider.isChunkLoadedOrPreparing(pos) || storageManager.isChunkStored(pos)) {
+                // the chunk provider got to the chunk first, storing this one would replace its chunk and entities
+                generated.chunk.dispose();
+                skippedChunks.incrementAndGet();
+                continue;
+            }
+            List<EntityRef> entities = generated.entities.stream().map(this::generateQueuedEntity)
+                    .collect(Collectors.toList());
+            storageManager.deactivateChunk(generated.chunk, entities);
+            generated.chunk.dispose();
+            storedChunks++;
+            unsavedChunks++;
+            if (unsavedChunks >= chunksPerSave && !storageManager.isSaving()) {
+                return;
+            }
+        }
+    }
+
+    private void queueChunks() {
+        while (remainingPositions.hasNext() && submittedTasks - completedTasks.get() < maxQueuedChunks
+                && generatedChunks.size() < maxQueuedChunks) {
+            Vector3i pos = remainingPositions.next();
+            if (chunkProvider.isChunkLoadedOrPreparing(pos)) {
+                // loaded chunks get saved by the chunk provider
+                skippedChunks.incrementAndGet();
+                continue;
+            }
+            submittedTasks++;
+            pipeline.doTask(new AbstractChunkTask(pos) {
+                @Override
+                public String getName() {
+                    return "Pre-generate Chunk";
+                }
+
+                @Override
+                public void run() {
+                    try {
+                        generateChunk(getPosition());
+                    } finally {
+                        completedTasks.incrementAndGet();
+                    }
+                }
+            });
+        }
+    }
+
+    private void generateChunk(Vector3i pos) {
+        if (storageManager.isChunkStored(pos)) {
+            skippedChunks.incrementAndGet();
+            return;
+        }
+        Chunk chunk = new ChunkImpl(pos, blockManager, biomeManager);
+        EntityBufferImpl buffer = new EntityBufferImpl();
+        generator.createChunk(chunk, buffer);
+        InternalLightProcessor.generateInternalLighting(chunk);
+        chunk.deflate();
+        generatedChunks.offer(new GeneratedChunk(chunk, buffer.getAll()));
+    }
+
+    private EntityRef generateQueuedEntity(EntityStore store) {
+        Prefab prefab = store.getPrefab();
+        EntityRef entity;
+        if (prefab != null) {
+            entity = entityManager.create(prefab);
+        } else {
+            entity = entityManager.create();
+        }
+        for (Component component : store.iterateComponents()) {
+            entity.addComponent(component);
+        }
+        return entity;
+    }
+
+    private static final class GeneratedChunk {
+        private final Chunk chunk;
+        private final List<EntityStore> entities;
+
+        GeneratedChunk(Chunk chunk, List<EntityStore> entities) {
+            this.chunk = chunk;
+            this.entities = entities;
+        }
+    }
+}
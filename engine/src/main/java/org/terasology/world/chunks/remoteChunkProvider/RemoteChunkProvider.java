@@ -17,7 +17,6 @@
 package org.terasology.world.chunks.remoteChunkProvider;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 
 import org.slf4j.Logger;
@@ -25,6 +24,7 @@
 import org.terasology.entitySystem.entity.EntityRef;
 import org.terasology.logic.players.LocalPlayer;
 import org.terasology.math.ChunkMath;
+import org.terasology.math.PackedVector3i;
 import org.terasology.math.Region3i;
 import org.terasology.math.Side;
 import org.terasology.math.TeraMath;
@@ -32,6 +32,7 @@
 import org.terasology.math.geom.Vector3i;
 import org.terasology.monitoring.PerformanceMonitor;
 import org.terasology.monitoring.chunk.ChunkMonitor;
+import org.terasology.utilities.collection.ConcurrentLongObjectMap;
 import org.terasology.world.block.BlockManager;
 import org.terasology.world.chunks.Chunk;
 import org.terasology.world.chunks.ChunkConstants;
@@ -52,7 +53,6 @@
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
 /**
@@ -61,7 +61,7 @@ public class RemoteChunkProvider implements ChunkProvider, GeneratingChunkProvid
 
     private static final int LOAD_PER_FRAME = 1;
     private static final Logger logger = LoggerFactory.getLogger(RemoteChunkProvider.class);
-    private Map<Vector3i, Chunk> chunkCache = Maps.newHashMap();
+    private ConcurrentLongObjectMap<Chunk> chunkCache = new ConcurrentLongObjectMap<>();
     private final BlockingQueue<Chunk> readyChunks = Queues.newLinkedBlockingQueue();
     private List<Chunk> sortedReadyChunks = Lists.newArrayList();
     private ChunkReadyListener listener;
@@ -103,7 +103,7 @@ public void run() {
     }
 
     public void invalidateChunks(Vector3i pos) {
-        Chunk removed = chunkCache.remove(pos);
+        Chunk removed = chunkCache.remove(PackedVector3i.pack(pos));
         if (removed != null && !removed.isReady()) {
             sortedReadyChunks.remove(removed);
         }
@@ -119,7 +119,7 @@ public void beginUpdate() {
                 sortedReadyChunks.addAll(newReadyChunks);
                 Collections.sort(sortedReadyChunks, new ReadyChunkRelevanceComparator());
                 for (Chunk chunk : newReadyChunks) {
-                    Chunk oldChunk = chunkCache.put(chunk.getPosition(), chunk);
+                    Chunk oldChunk = chunkCache.put(PackedVector3i.pack(chunk.getPosition()), chunk);
                     if (oldChunk != null) {
                         oldChunk.dispose();
                         updateAdjacentChunksReadyFieldOfAdjChunks(chunk);
@@ -143,7 +143,7 @@ public void beginUpdate() {
 
     private boolean makeChunkAvailable(final Chunk chunk) {
         for (Vector3i pos : Region3i.createFromCenterExtents(chunk.getPosition(), 1)) {
-            if (chunkCache.get(pos) == null) {
+            if (chunkCache.get(PackedVector3i.pack(pos)) == null) {
                 return false;
             }
         }
@@ -155,12 +155,16 @@ private boolean makeChunkAvailable(final Chunk chunk) {
 
     @Override
     public Chunk getChunk(int x, int y, int z) {
-        return getChunk(new Vector3i(x, y, z));
+        Chunk chunk = chunkCache.get(PackedVector3i.pack(x, y, z));
+        if (chunk != null && chunk.isReady()) {
+            return chunk;
+        }
+        return null;
     }
 
     @Override
     public Chunk getChunk(Vector3i chunkPos) {
-        Chunk chunk = chunkCache.get(chunkPos);
+        Chunk chunk = chunkCache.get(PackedVector3i.pack(chunkPos));
         if (chunk != null && chunk.isReady()) {
             return chunk;
         }
@@ -169,7 +173,7 @@ public Chunk getChunk(Vector3i chunkPos) {
 
     @Override
     public boolean isChunkReady(Vector3i pos) {
-        Chunk chunk = chunkCache.get(pos);
+        Chunk chunk = chunkCache.get(PackedVector3i.pack(pos));
         return chunk != null && chunk.isReady();
     }
 
@@ -231,7 +235,7 @@ public ChunkViewCore getSubviewAroundChunk(Vector3i chunkPos) {
     private ChunkViewCore createWorldView(Region3i region, Vector3i offset) {
         Chunk[] chunks = new Chunk[region.size().x * region.size().y * region.size().z];
         for (Vector3i chunkPos : region) {
-            Chunk chunk = chunkCache.get(chunkPos);
+            Chunk chunk = chunkCache.get(PackedVector3i.pack(chunkPos));
             if (chunk == null || !chunk.isReady()) {
                 return null;
             }
@@ -286,14 +290,14 @@ public void onChunkIsReady(Chunk chunk) {
 
     @Override
     public Chunk getChunkUnready(Vector3i pos) {
-        return chunkCache.get(pos);
+        return chunkCache.get(PackedVector3i.pack(pos));
     }
 
     private boolean areAdjacentChunksReady(Chunk chunk) {
         Vector3i centerChunkPos = chunk.getPosition();
         for (Side side : Side.values()) {
             Vector3i adjChunkPos = side.getAdjacentPos(centerChunkPos);
-            Chunk adjChunk = chunkCache.get(adjChunkPos);
+            Chunk adjChunk = chunkCache.get(PackedVector3i.pack(adjChunkPos));
             boolean adjChunkReady = (adjChunk != null && adjChunk.isReady());
             if (!adjChunkReady) {
                 return false;
@@ -310,7 +314,7 @@ private void updateAdjacentChunksReadyFieldOfAdjChunks(Chunk chunkInCenter) {
         Vector3i centerChunkPos = chunkInCenter.getPosition();
         for (Side side : Side.values()) {
             Vector3i adjChunkPos = side.getAdjacentPos(centerChunkPos);
-            Chunk adjChunk = chunkCache.get(adjChunkPos);
+            Chunk adjChunk = chunkCache.get(PackedVector3i.pack(adjChunkPos));
             if (adjChunk != null) {
                 updateAdjacentChunksReadyFieldOf(adjChunk);
             }
@@ -15,7 +15,9 @@
  */
 package org.terasology.world.generation;
 
+import org.terasology.config.Config;
 import org.terasology.engine.SimpleUri;
+import org.terasology.registry.CoreRegistry;
 import org.terasology.world.chunks.CoreChunk;
 import org.terasology.world.generator.WorldConfigurator;
 import org.terasology.world.generator.WorldGenerator;
@@ -77,6 +79,10 @@ public WorldConfigurator getConfigurator() {
     public World getWorld() {
         // build the world as late as possible so that we can do configuration and 2d previews
         if (world == null) {
+            Config config = CoreRegistry.get(Config.class);
+            if (config != null) {
+                getWorldBuilder().setParallelFacetProviders(config.getWorldGeneration().isParallelFacetProviders());
+            }
             world = getWorldBuilder().build();
         }
         return world;
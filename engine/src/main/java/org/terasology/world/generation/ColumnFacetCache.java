@@ -0,0 +1,247 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.generation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.terasology.math.Region3i;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of 2D facets, shared by the regions of the chunks in the same column.
+ * <br><br>
+ * A 2D facet is cached if it is a column facet: all providers in its chain only require, produce and update 2D facets,
+ * and every facet they produce or update is completed by the chain. The facets produced by the chain of a column facet
+ * then only depend on the horizontal extent of the region, so they get computed once per column and reused for the
+ * chunks stacked above each other. Cached facets are shared between regions and must not be modified after their chain
+ * completed.
+ * <br><br>
+ * The least recently used columns get evicted once the capacity is exceeded.
+ */
+final class ColumnFacetCache {
+
+    private final Map<ColumnKey, Map<Class<? extends WorldFacet>, WorldFacet>> entries;
+    private final ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains;
+    private final Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> facetsOfColumnChains = Maps.newHashMap();
+    private final Map<Class<? extends WorldFacet>, List<Class<? extends WorldFacet>>> columnFacetsByFacet = Maps.newHashMap();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    ColumnFacetCache(int capacity, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains) {
+        this.facetProviderChains = facetProviderChains;
+        this.entries = new LinkedHashMap<ColumnKey, Map<Class<? extends WorldFacet>, WorldFacet>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ColumnKey, Map<Class<? extends WorldFacet>, WorldFacet>> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        for (Class<? extends WorldFacet> facet : facetProviderChains.keySet()) {
+            Set<Class<? extends WorldFacet>> chainFacets = determineColumnChainFacets(facet);
+            if (chainFacets != null) {
+                facetsOfColumnChains.put(facet, chainFacets);
+            }
+        }
+        for (Class<? extends WorldFacet> facet : facetProviderChains.keySet()) {
+            columnFacetsByFacet.put(facet, determineColumnFacets(facet));
+        }
+    }
+
+    /**
+     * @return the facets produced or updated by the chain of the facet if it is a column facet, null otherwise.
+     */
+    private Set<Class<? extends WorldFacet>> determineColumnChainFacets(Class<? extends WorldFacet> facet) {
+        if (!WorldFacet2D.class.isAssignableFrom(facet)) {
+            return null;
+        }
+        List<FacetProvider> chain = facetProviderChains.get(facet);
+        Set<Class<? extends WorldFacet>> chainFacets = Sets.newLinkedHashSet();
+        for (FacetProvider provider : chain) {
+            Set<Class<? extends WorldFacet>> providedFacets = getProvidedFacets(provider);
+            for (Class<? extends WorldFacet> requiredFacet : getRequiredFacets(provider)) {
+                if (!WorldFacet2D.class.isAssignableFrom(requiredFacet)) {
+                    return null;
+                }
+            }
+            for (Class<? extends WorldFacet> providedFacet : providedFacets) {
+                if (!WorldFacet2D.class.isAssignableFrom(providedFacet)) {
+                    return null;
+                }
+            }
+            chainFacets.addAll(providedFacets);
+        }
+        for (Class<? extends WorldFacet> chainFacet : chainFacets) {
+            if (!chain.containsAll(facetProviderChains.get(chainFacet))) {
+                return null;
+            }
+        }
+        return ImmutableSet.copyOf(chainFacets);
+    }
+
+    /**
+     * @return the column facets whose chains are part of the chain of the given facet, leaving out those contained in
+     * the chain of another one.
+     */
+    private List<Class<? extends WorldFacet>> determineColumnFacets(Class<? extends WorldFacet> facet) {
+        List<FacetProvider> chain = facetProviderChains.get(facet);
+        List<Class<? extends WorldFacet>> candidates = Lists.newArrayList();
+        for (Class<? extends WorldFacet> columnFacet : facetsOfColumnChains.keySet()) {
+            if (chain.containsAll(facetProviderChains.get(columnFacet))) {
+                candidates.add(columnFacet);
+            }
+        }
+        List<Class<? extends WorldFacet>> result = Lists.newArrayList();
+        for (Class<? extends WorldFacet> candidate : candidates) {
+            List<FacetProvider> candidateChain = facetProviderChains.get(candidate);
+            boolean contained = false;
+            for (Class<? extends WorldFacet> other : candidates) {
+                List<FacetProvider> otherChain = facetProviderChains.get(other);
+                if (other != candidate && otherChain.containsAll(candidateChain)
+                        && (otherChain.size() > candidateChain.size() || other.getName().compareTo(candidate.getName()) < 0)) {
+                    contained = true;
+                    break;
+                }
+            }
+            if (!contained) {
+                result.add(candidate);
+            }
+        }
+        return ImmutableList.copyOf(result);
+    }
+
+    private static Set<Class<? extends WorldFacet>> getProvidedFacets(FacetProvider provider) {
+        Set<Class<? extends WorldFacet>> result = Sets.newLinkedHashSet();
+        Produces produces = provider.getClass().getAnnotation(Produces.class);
+        if (produces != null) {
+            Collections.addAll(result, produces.value());
+        }
+        Updates updates = provider.getClass().getAnnotation(Updates.class);
+        if (updates != null) {
+            for (Facet facet : updates.value()) {
+                result.add(facet.value());
+            }
+        }
+        return result;
+    }
+
+    private static Set<Class<? extends WorldFacet>> getRequiredFacets(FacetProvider provider) {
+        Set<Class<? extends WorldFacet>> result = Sets.newLinkedHashSet();
+        Requires requires = provider.getClass().getAnnotation(Requires.class);
+        if (requires != null) {
+            for (Facet facet : requires.value()) {
+                result.add(facet.value());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the column facets to obtain from the cache before the chain of the given facet gets processed.
+     */
+    List<Class<? extends WorldFacet>> getColumnFacetsFor(Class<? extends WorldFacet> facet) {
+        List<Class<? extends WorldFacet>> result = columnFacetsByFacet.get(facet);
+        return (result != null) ? result : Collections.emptyList();
+    }
+
+    /**
+     * @return the facets produced or updated by the chain of the given column facet, which get cached together.
+     */
+    Set<Class<? extends WorldFacet>> getChainFacets(Class<? extends WorldFacet> columnFacet) {
+        return facetsOfColumnChains.get(columnFacet);
+    }
+
+    /**
+     * @return the cached facets of the chain of the column facet for the column of the region, or null if not cached.
+     */
+    synchronized Map<Class<? extends WorldFacet>, WorldFacet> get(Class<? extends WorldFacet> columnFacet, Region3i region, Border3D border) {
+        Map<Class<? extends WorldFacet>, WorldFacet> result = entries.get(new ColumnKey(columnFacet, region, border));
+        if (result != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return result;
+    }
+
+    synchronized void put(Class<? extends WorldFacet> columnFacet, Region3i region, Border3D border,
+                          Map<Class<? extends WorldFacet>, WorldFacet> facets) {
+        entries.put(new ColumnKey(columnFacet, region, border), facets);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    private static final class ColumnKey {
+        private final Class<? extends WorldFacet> facet;
+        private final int minX;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeZ;
+        private final Border3D border;
+
+        ColumnKey(Class<? extends WorldFacet> facet, Region3i region, Border3D border) {
+            this.facet = facet;
+            this.minX = region.minX();
+            this.minZ = region.minZ();
+            this.sizeX = region.sizeX();
+            this.sizeZ = region.sizeZ();
+            this.border = border;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof ColumnKey) {
+                ColumnKey other = (ColumnKey) obj;
+                return other.facet == facet && other.minX == minX && other.minZ == minZ && other.sizeX == sizeX
+                        && other.sizeZ == sizeZ && Objects.equals(other.border, border);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(facet, minX, minZ, sizeX, sizeZ, border);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.generation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * The dependencies between the facet providers of each provider chain, so the providers of a chain that don't depend
+ * on each other can be processed in parallel.
+ * <br><br>
+ * A provider depends on the providers before it in the chain that produce or update a facet it requires or updates,
+ * and on those that require a facet it updates. Processing the providers in any order that respects these dependencies
+ * gives the same facets as processing the chain sequentially.
+ */
+final class FacetProviderGraph {
+
+    private final Map<Class<? extends WorldFacet>, Map<FacetProvider, List<FacetProvider>>> dependenciesByFacet = Maps.newHashMap();
+    private final Executor executor;
+
+    FacetProviderGraph(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Executor executor) {
+        this.executor = executor;
+        for (Class<? extends WorldFacet> facet : facetProviderChains.keySet()) {
+            dependenciesByFacet.put(facet, determineDependencies(facetProviderChains.get(facet)));
+        }
+    }
+
+    private static Map<FacetProvider, List<FacetProvider>> determineDependencies(List<FacetProvider> chain) {
+        Map<FacetProvider, List<FacetProvider>> result = Maps.newHashMap();
+        for (int i = 0; i < chain.size(); i++) {
+            FacetProvider provider = chain.get(i);
+            Set<Class<? extends WorldFacet>> required = getRequiredFacets(provider);
+            Set<Class<? extends WorldFacet>> written = getWrittenFacets(provider);
+            List<FacetProvider> dependencies = Lists.newArrayList();
+            for (int j = 0; j < i; j++) {
+                FacetProvider previous = chain.get(j);
+                Set<Class<? extends WorldFacet>> previousWritten = getWrittenFacets(previous);
+                if (!Collections.disjoint(previousWritten, required) || !Collections.disjoint(previousWritten, written)
+                        || !Collections.disjoint(getRequiredFacets(previous), written)) {
+                    dependencies.add(previous);
+                }
+            }
+            result.put(provider, ImmutableList.copyOf(dependencies));
+        }
+        return result;
+    }
+
+    private static Set<Class<? extends WorldFacet>> getWrittenFacets(FacetProvider provider) {
+        Set<Class<? extends WorldFacet>> result = Sets.newHashSet();
+        Produces produces = provider.getClass().getAnnotation(Produces.class);
+        if (produces != null) {
+            Collections.addAll(result, produces.value());
+        }
+        Updates updates = provider.getClass().getAnnotation(Updates.class);
+        if (updates != null) {
+            for (Facet facet : updates.value()) {
+                result.add(facet.value());
+            }
+        }
+        return result;
+    }
+
+    private static Set<Class<? extends WorldFacet>> getRequiredFacets(FacetProvider provider) {
+        Set<Class<? extends WorldFacet>> result = Sets.newHashSet();
+        Requires requires = provider.getClass().getAnnotation(Requires.class);
+        if (requires != null) {
+            for (Facet facet : requires.value()) {
+                result.add(facet.value());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the providers before the given one in the chain of the facet that it has to wait for.
+     */
+    List<FacetProvider> getDependencies(Class<? extends WorldFacet> facet, FacetProvider provider) {
+        Map<FacetProvider, List<FacetProvider>> dependencies = dependenciesByFacet.get(facet);
+        if (dependencies == null || !dependencies.containsKey(provider)) {
+            return Collections.emptyList();
+        }
+        return dependencies.get(provider);
+    }
+
+    /**
+     * Processes the providers of the chain that haven't been processed yet, each as soon as its dependencies are done.
+     * Blocks until all of them are done.
+     *
+     * @param processedProviders the providers already processed for the region, the chain gets added to it
+     */
+    void process(Class<? extends WorldFacet> facet, List<FacetProvider> chain, GeneratingRegion region, Set<FacetProvider> processedProviders) {
+        Map<FacetProvider, CompletableFuture<Void>> tasks = Maps.newHashMap();
+        List<CompletableFuture<Void>> pending = Lists.newArrayList();
+        for (FacetProvider provider : chain) {
+            if (processedProviders.contains(provider)) {
+                continue;
+            }
+            List<CompletableFuture<Void>> dependencies = Lists.newArrayList();
+            for (FacetProvider dependency : getDependencies(facet, provider)) {
+                CompletableFuture<Void> task = tasks.get(dependency);
+                if (task != null) {
+                    dependencies.add(task);
+                }
+            }
+            CompletableFuture<Void> task = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[dependencies.size()]))
+                    .thenRunAsync(() -> provider.process(region), executor);
+            tasks.put(provider, task);
+            pending.add(task);
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[pending.size()])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        processedProviders.addAll(tasks.keySet());
+    }
+}
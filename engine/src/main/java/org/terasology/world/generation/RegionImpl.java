@@ -16,10 +16,12 @@
 package org.terasology.world.generation;
 
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.terasology.math.Region3i;
 import org.terasology.utilities.collection.TypeMap;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,30 +33,91 @@ public class RegionImpl implements Region, GeneratingRegion {
     private final ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains;
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
 
-    private final TypeMap<WorldFacet> generatingFacets = TypeMap.create();
+    private final TypeMap<WorldFacet> generatingFacets;
     private final Set<FacetProvider> processedProviders = Sets.newHashSet();
     private final TypeMap<WorldFacet> generatedFacets = TypeMap.create();
+    private final ColumnFacetCache columnFacetCache;
+    private final FacetProviderGraph providerGraph;
 
     public RegionImpl(Region3i region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Map<Class<? extends WorldFacet>, Border3D> borders) {
+        this(region, facetProviderChains, borders, null, null);
+    }
+
+    /**
+     * @param columnFacetCache the cache to share column facets with the other regions in the same column, or null.
+     * @param providerGraph    the dependencies to process independent providers of a chain in parallel, or null to
+     *                         process the chains sequentially.
+     */
+    RegionImpl(Region3i region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Map<Class<? extends WorldFacet>, Border3D> borders,
+               ColumnFacetCache columnFacetCache, FacetProviderGraph providerGraph) {
         this.region = region;
         this.facetProviderChains = facetProviderChains;
         this.borders = borders;
+        this.columnFacetCache = columnFacetCache;
+        this.providerGraph = providerGraph;
+        // providers processed in parallel set their facets concurrently
+        this.generatingFacets = (providerGraph != null) ? TypeMap.create(Maps.newConcurrentMap()) : TypeMap.create();
     }
 
     @Override
     public <T extends WorldFacet> T getFacet(Class<T> dataType) {
         T facet = generatedFacets.get(dataType);
         if (facet == null) {
-            facetProviderChains.get(dataType).stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
-                provider.process(this);
-                processedProviders.add(provider);
-            });
+            if (columnFacetCache != null) {
+                columnFacetCache.getColumnFacetsFor(dataType).forEach(this::processColumnFacet);
+            }
+            processChain(dataType, facetProviderChains.get(dataType));
             facet = generatingFacets.get(dataType);
             generatedFacets.put(dataType, facet);
         }
         return facet;
     }
 
+    /**
+     * Takes the facets of the chain of a column facet from the cache, or processes the chain and caches its facets.
+     */
+    private void processColumnFacet(Class<? extends WorldFacet> columnFacet) {
+        List<FacetProvider> chain = facetProviderChains.get(columnFacet);
+        if (processedProviders.containsAll(chain)) {
+            return;
+        }
+        Border3D border = getBorderForFacet(columnFacet);
+        Map<Class<? extends WorldFacet>, WorldFacet> cachedFacets = columnFacetCache.get(columnFacet, region, border);
+        if (cachedFacets != null) {
+            for (Map.Entry<Class<? extends WorldFacet>, WorldFacet> entry : cachedFacets.entrySet()) {
+                putFacet(entry.getKey(), entry.getValue());
+            }
+            processedProviders.addAll(chain);
+            return;
+        }
+
+        processChain(columnFacet, chain);
+        Map<Class<? extends WorldFacet>, WorldFacet> chainFacets = Maps.newHashMap();
+        for (Class<? extends WorldFacet> chainFacet : columnFacetCache.getChainFacets(columnFacet)) {
+            WorldFacet facet = generatingFacets.get(chainFacet);
+            if (facet == null) {
+                return;
+            }
+            chainFacets.put(chainFacet, facet);
+        }
+        columnFacetCache.put(columnFacet, region, border, chainFacets);
+    }
+
+    private void processChain(Class<? extends WorldFacet> facet, List<FacetProvider> chain) {
+        if (providerGraph != null) {
+            providerGraph.process(facet, chain, this, processedProviders);
+        } else {
+            chain.stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
+                provider.process(this);
+                processedProviders.add(provider);
+            });
+        }
+    }
+
+    private <T extends WorldFacet> void putFacet(Class<T> type, WorldFacet facet) {
+        generatingFacets.put(type, type.cast(facet));
+    }
+
     @Override
     public Region3i getRegion() {
         return region;
@@ -31,18 +31,22 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  */
 public class WorldBuilder {
 
     private static final Logger logger = LoggerFactory.getLogger(WorldBuilder.class);
+    private static final int DEFAULT_COLUMN_FACET_CACHE_CAPACITY = 512;
 
     private final List<FacetProvider> providersList = Lists.newArrayList();
     private final Set<Class<? extends WorldFacet>> facetCalculationInProgress = Sets.newHashSet();
     private final List<WorldRasterizer> rasterizers = Lists.newArrayList();
     private final List<EntityProvider> entityProviders = new ArrayList<>();
     private int seaLevel = 32;
+    private int columnFacetCacheCapacity = DEFAULT_COLUMN_FACET_CACHE_CAPACITY;
+    private boolean parallelFacetProviders;
     private Long seed;
 
     private WorldGeneratorPluginLibrary pluginLibrary;
@@ -83,6 +87,25 @@ public WorldBuilder setSeaLevel(int level) {
         return this;
     }
 
+    /**
+     * @param capacity the number of 2D facets of chunk columns to cache during chunk generation, 0 to disable the cache
+     * @return this
+     */
+    public WorldBuilder setColumnFacetCacheCapacity(int capacity) {
+        this.columnFacetCacheCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * @param parallel whether facet providers that don't depend on each other get processed in parallel on the common
+     *                 fork-join pool
+     * @return this
+     */
+    public WorldBuilder setParallelFacetProviders(boolean parallel) {
+        this.parallelFacetProviders = parallel;
+        return this;
+    }
+
     public void setSeed(long seed) {
         this.seed = seed;
     }
@@ -97,7 +120,9 @@ public World build() {
             provider.setSeed(seed);
         }
         ListMultimap<Class<? extends WorldFacet>, FacetProvider> providerChains = determineProviderChains();
-        return new WorldImpl(providerChains, rasterizers, entityProviders, determineBorders(providerChains), seaLevel);
+        FacetProviderGraph providerGraph = parallelFacetProviders ? new FacetProviderGraph(providerChains, ForkJoinPool.commonPool()) : null;
+        return new WorldImpl(providerChains, rasterizers, entityProviders, determineBorders(providerChains), seaLevel,
+                columnFacetCacheCapacity, providerGraph);
     }
 
     private Map<Class<? extends WorldFacet>, Border3D> determineBorders(ListMultimap<Class<? extends WorldFacet>, FacetProvider> providerChains) {
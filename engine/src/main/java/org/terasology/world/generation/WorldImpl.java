@@ -34,22 +34,53 @@ public class WorldImpl implements World {
     private final List<EntityProvider> entityProviders;
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
     private final int seaLevel;
+    private final ColumnFacetCache columnFacetCache;
+    private final FacetProviderGraph providerGraph;
 
     public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
                      List<WorldRasterizer> worldRasterizers,
                      List<EntityProvider> entityProviders,
                      Map<Class<? extends WorldFacet>, Border3D> borders,
                      int seaLevel) {
+        this(facetProviderChains, worldRasterizers, entityProviders, borders, seaLevel, 0);
+    }
+
+    /**
+     * @param columnFacetCacheCapacity the number of columns to cache the 2D facets of during chunk rasterization, 0 to
+     *                                 disable the cache.
+     */
+    public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
+                     List<WorldRasterizer> worldRasterizers,
+                     List<EntityProvider> entityProviders,
+                     Map<Class<? extends WorldFacet>, Border3D> borders,
+                     int seaLevel,
+                     int columnFacetCacheCapacity) {
+        this(facetProviderChains, worldRasterizers, entityProviders, borders, seaLevel, columnFacetCacheCapacity, null);
+    }
+
+    /**
+     * @param providerGraph the dependencies to process independent facet providers in parallel, or null to process
+     *                      them sequentially.
+     */
+    WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
+              List<WorldRasterizer> worldRasterizers,
+              List<EntityProvider> entityProviders,
+              Map<Class<? extends WorldFacet>, Border3D> borders,
+              int seaLevel,
+              int columnFacetCacheCapacity,
+              FacetProviderGraph providerGraph) {
         this.facetProviderChains = facetProviderChains;
         this.worldRasterizers = worldRasterizers;
         this.entityProviders = entityProviders;
         this.borders = borders;
         this.seaLevel = seaLevel;
+        this.columnFacetCache = (columnFacetCacheCapacity > 0) ? new ColumnFacetCache(columnFacetCacheCapacity, facetProviderChains) : null;
+        this.providerGraph = providerGraph;
     }
 
     @Override
     public Region getWorldData(Region3i region) {
-        return new RegionImpl(region, facetProviderChains, borders);
+        return new RegionImpl(region, facetProviderChains, borders, null, providerGraph);
     }
 
     @Override
@@ -59,7 +90,7 @@ public int getSeaLevel() {
 
     @Override
     public void rasterizeChunk(CoreChunk chunk, EntityBuffer buffer) {
-        Region chunkRegion = getWorldData(chunk.getRegion());
+        Region chunkRegion = new RegionImpl(chunk.getRegion(), facetProviderChains, borders, columnFacetCache, providerGraph);
         for (WorldRasterizer rasterizer : worldRasterizers) {
             rasterizer.generateChunk(chunk, chunkRegion);
         }
@@ -83,5 +114,23 @@ public void initialize() {
         worldRasterizers.forEach(WorldRasterizer::initialize);
 
         entityProviders.forEach(EntityProvider::initialize);
+
+        if (columnFacetCache != null) {
+            columnFacetCache.clear();
+        }
+    }
+
+    /**
+     * @return the number of column facet lookups during chunk rasterization that were served from the cache.
+     */
+    public long getColumnFacetCacheHits() {
+        return (columnFacetCache != null) ? columnFacetCache.getHits() : 0;
+    }
+
+    /**
+     * @return the number of column facet lookups during chunk rasterization that had to be generated.
+     */
+    public long getColumnFacetCacheMisses() {
+        return (columnFacetCache != null) ? columnFacetCache.getMisses() : 0;
     }
 }
@@ -21,6 +21,8 @@
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.context.Context;
@@ -42,6 +44,7 @@
 import org.terasology.entitySystem.prefab.Prefab;
 import org.terasology.entitySystem.systems.UpdateSubscriberSystem;
 import org.terasology.logic.location.LocationComponent;
+import org.terasology.math.PackedVector3i;
 import org.terasology.math.Region3i;
 import org.terasology.math.geom.Vector3f;
 import org.terasology.math.geom.Vector3i;
@@ -72,7 +75,9 @@ public class EntityAwareWorldProvider extends AbstractWorldProviderDecorator imp
 
     // TODO: Perhaps a better datastructure for spatial lookups
     // TODO: Or perhaps a build in indexing system for entities
-    private Map<Vector3i, EntityRef> blockEntityLookup = Maps.newHashMap();
+    private TLongObjectMap<EntityRef> blockEntityLookup = new TLongObjectHashMap<>();
+    // Block entities at positions too far from the origin to be packed without collisions
+    private Map<Vector3i, EntityRef> distantBlockEntityLookup = Maps.newHashMap();
 
     private Map<Vector3i, EntityRef> blockRegionLookup = Maps.newHashMap();
     private Map<EntityRef, Region3i> blockRegions = Maps.newHashMap();
@@ -158,7 +163,7 @@ private void updateBlockEntity(EntityRef blockEntity, Vector3i pos, Block oldTyp
     @Override
     public EntityRef getExistingBlockEntityAt(Vector3i blockPosition) {
         if (GameThread.isCurrentThread()) {
-            EntityRef result = blockEntityLookup.get(blockPosition);
+            EntityRef result = lookupBlockEntity(blockPosition);
             return (result == null) ? EntityRef.NULL : result;
         }
         logger.error("Attempted to get block entity off-thread");
@@ -307,10 +312,35 @@ private EntityRef createBlockEntity(Vector3i blockPosition, Block block) {
             blockEntity = builder.build();
         }
 
-        blockEntityLookup.put(new Vector3i(blockPosition), blockEntity);
+        putBlockEntity(blockPosition, blockEntity);
         return blockEntity;
     }
 
+    private EntityRef lookupBlockEntity(Vector3i blockPosition) {
+        if (PackedVector3i.isPackable(blockPosition)) {
+            return blockEntityLookup.get(PackedVector3i.pack(blockPosition));
+        }
+        return distantBlockEntityLookup.get(blockPosition);
+    }
+
+    /**
+     * @return the block entity previously registered at the position, or null if there was none.
+     */
+    private EntityRef putBlockEntity(Vector3i blockPosition, EntityRef blockEntity) {
+        if (PackedVector3i.isPackable(blockPosition)) {
+            return blockEntityLookup.put(PackedVector3i.pack(blockPosition), blockEntity);
+        }
+        return distantBlockEntityLookup.put(new Vector3i(blockPosition), blockEntity);
+    }
+
+    private void removeBlockEntity(Vector3i blockPosition) {
+        if (PackedVector3i.isPackable(blockPosition)) {
+            blockEntityLookup.remove(PackedVector3i.pack(blockPosition));
+        } else {
+            distantBlockEntityLookup.remove(blockPosition);
+        }
+    }
+
     @Override
     public EntityRef getExistingEntityAt(Vector3i blockPosition) {
         if (GameThread.isCurrentThread()) {
@@ -340,7 +370,7 @@ public EntityRef getEntityAt(Vector3i blockPosition) {
     @Override
     public boolean hasPermanentBlockEntity(Vector3i blockPos) {
         if (GameThread.isCurrentThread()) {
-            EntityRef blockEntity = blockEntityLookup.get(blockPos);
+            EntityRef blockEntity = lookupBlockEntity(blockPos);
             return blockEntity != null && !temporaryBlockEntities.contains(blockEntity);
         }
         logger.error("Attempted check whether a block entity is permanent, off thread");
@@ -350,7 +380,7 @@ public boolean hasPermanentBlockEntity(Vector3i blockPos) {
     @ReceiveEvent(components = {BlockComponent.class})
     public void onActivateBlock(OnActivatedComponent event, EntityRef entity) {
         BlockComponent block = entity.getComponent(BlockComponent.class);
-        EntityRef oldEntity = blockEntityLookup.put(new Vector3i(block.getPosition()), entity);
+        EntityRef oldEntity = putBlockEntity(block.getPosition(), entity);
         // If this is a client, then an existing block entity may exist. Destroy it.
         if (oldEntity != null && !Objects.equal(oldEntity, entity)) {
             oldEntity.destroy();
@@ -360,9 +390,8 @@ public void onActivateBlock(OnActivatedComponent event, EntityRef entity) {
     @ReceiveEvent(components = {BlockComponent.class})
     public void onDeactivateBlock(BeforeDeactivateComponent event, EntityRef entity) {
         BlockComponent block = entity.getComponent(BlockComponent.class);
-        Vector3i pos = new Vector3i(block.getPosition());
-        if (blockEntityLookup.get(pos) == entity) {
-            blockEntityLookup.remove(pos);
+        if (lookupBlockEntity(block.getPosition()) == entity) {
+            removeBlockEntity(block.getPosition());
         }
     }
 
@@ -44,9 +44,9 @@
 import org.terasology.world.propagation.BatchPropagator;
 import org.terasology.world.propagation.BiomeChange;
 import org.terasology.world.propagation.BlockChange;
+import org.terasology.world.propagation.PackedBatchPropagator;
 import org.terasology.world.propagation.PropagationRules;
 import org.terasology.world.propagation.PropagatorWorldView;
-import org.terasology.world.propagation.StandardBatchPropagator;
 import org.terasology.world.propagation.SunlightRegenBatchPropagator;
 import org.terasology.world.propagation.light.LightPropagationRules;
 import org.terasology.world.propagation.light.LightWorldView;
@@ -98,11 +98,11 @@ public WorldProviderCoreImpl(String title, String seed, long time, SimpleUri wor
         this.worldTime = new WorldTimeImpl();
         worldTime.setMilliseconds(time);
 
-        propagators.add(new StandardBatchPropagator(new LightPropagationRules(), new LightWorldView(chunkProvider)));
+        propagators.add(new PackedBatchPropagator(new LightPropagationRules(), new LightWorldView(chunkProvider)));
         PropagatorWorldView regenWorldView = new SunlightRegenWorldView(chunkProvider);
         PropagationRules sunlightRules = new SunlightPropagationRules(regenWorldView);
         PropagatorWorldView sunlightWorldView = new SunlightWorldView(chunkProvider);
-        BatchPropagator sunlightPropagator = new StandardBatchPropagator(sunlightRules, sunlightWorldView);
+        BatchPropagator sunlightPropagator = new PackedBatchPropagator(sunlightRules, sunlightWorldView);
         propagators.add(new SunlightRegenBatchPropagator(new SunlightRegenPropagationRules(), regenWorldView, sunlightPropagator, sunlightWorldView));
         propagators.add(sunlightPropagator);
     }
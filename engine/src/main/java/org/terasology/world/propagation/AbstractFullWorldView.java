@@ -58,6 +58,25 @@ public byte getValueAt(Vector3i pos) {
      */
     protected abstract byte getValueAt(LitChunk chunk, Vector3i pos);
 
+    @Override
+    public byte getValueAt(int x, int y, int z) {
+        LitChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
+        if (chunk != null) {
+            return getValueAt(chunk, ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z));
+        }
+        return UNAVAILABLE;
+    }
+
+    /**
+     * Obtains the relevant value from the given chunk. Views should override it to read the chunk without allocating
+     * a position.
+     *
+     * @return The relevant value for this view
+     */
+    protected byte getValueAt(LitChunk chunk, int x, int y, int z) {
+        return getValueAt(chunk, new Vector3i(x, y, z));
+    }
+
     @Override
     public void setValueAt(Vector3i pos, byte value) {
         setValueAt(getChunk(pos), ChunkMath.calcBlockPos(pos.x, pos.y, pos.z), value);
@@ -78,6 +97,30 @@ public void setValueAt(Vector3i pos, byte value) {
      */
     protected abstract void setValueAt(LitChunk chunk, Vector3i pos, byte value);
 
+    @Override
+    public void setValueAt(int x, int y, int z, byte value) {
+        LitChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
+        setValueAt(chunk, ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z), value);
+        for (int chunkX = ChunkMath.calcChunkPosX(x - 1); chunkX <= ChunkMath.calcChunkPosX(x + 1); chunkX++) {
+            for (int chunkY = ChunkMath.calcChunkPosY(y - 1); chunkY <= ChunkMath.calcChunkPosY(y + 1); chunkY++) {
+                for (int chunkZ = ChunkMath.calcChunkPosZ(z - 1); chunkZ <= ChunkMath.calcChunkPosZ(z + 1); chunkZ++) {
+                    Chunk dirtiedChunk = chunkProvider.getChunk(chunkX, chunkY, chunkZ);
+                    if (dirtiedChunk != null) {
+                        dirtiedChunk.setDirty(true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the relevant value for the given chunk. Views should override it to write the chunk without allocating a
+     * position.
+     */
+    protected void setValueAt(LitChunk chunk, int x, int y, int z, byte value) {
+        setValueAt(chunk, new Vector3i(x, y, z), value);
+    }
+
     @Override
     public Block getBlockAt(Vector3i pos) {
         CoreChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPos(pos));
@@ -87,4 +130,13 @@ public Block getBlockAt(Vector3i pos) {
         return null;
     }
 
+    @Override
+    public Block getBlockAt(int x, int y, int z) {
+        CoreChunk chunk = chunkProvider.getChunk(ChunkMath.calcChunkPosX(x), ChunkMath.calcChunkPosY(y), ChunkMath.calcChunkPosZ(z));
+        if (chunk != null) {
+            return chunk.getBlock(ChunkMath.calcBlockPosX(x), ChunkMath.calcBlockPosY(y), ChunkMath.calcBlockPosZ(z));
+        }
+        return null;
+    }
+
 }
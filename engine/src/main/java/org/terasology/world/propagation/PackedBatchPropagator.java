@@ -0,0 +1,365 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.world.propagation;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import org.terasology.math.PackedVector3i;
+import org.terasology.math.Side;
+import org.terasology.math.geom.Vector3i;
+import org.terasology.world.block.Block;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Batch propagator that works on a set of changed blocks, producing the same values as {@link StandardBatchPropagator}.
+ * <br><br>
+ * The queued positions are packed into longs with {@link PackedVector3i} and kept in primitive arrays per value, and
+ * the world is accessed by coordinates, so large batches of changes don't allocate a vector per visited block.
+ * Positions too far from the origin to be packed without collisions are handed to a {@link StandardBatchPropagator}
+ * instead, together with the whole batch of changes they are part of.
+ */
+public class PackedBatchPropagator extends AbstractBatchPropagator {
+
+    private static final byte NO_VALUE = 0;
+    private static final Side[] SIDES = Side.values();
+
+    private final PropagatorWorldView world;
+    private final int minPackedCoordinate;
+    private final int maxPackedCoordinate;
+    private StandardBatchPropagator fallback;
+
+    private final Side[] reverseSides = new Side[SIDES.length];
+    private final int[] sideX = new int[SIDES.length];
+    private final int[] sideY = new int[SIDES.length];
+    private final int[] sideZ = new int[SIDES.length];
+
+    private final PositionQueue[] reduceQueues;
+    private final PositionQueue[] increaseQueues;
+    private PositionQueue spareQueue = new PositionQueue();
+
+    private final Vector3i rulesPos = new Vector3i();
+
+    public PackedBatchPropagator(PropagationRules rules, PropagatorWorldView world) {
+        super(rules);
+        this.world = world;
+        // A reduction reaches at most getMaxValue() blocks past the neighbours of a change, and the values it uncovers
+        // spread at most getMaxValue() blocks further.
+        int margin = 2 * rules.getMaxValue() + 2;
+        this.minPackedCoordinate = PackedVector3i.MIN_COORDINATE + margin;
+        this.maxPackedCoordinate = PackedVector3i.MAX_COORDINATE - margin;
+
+        for (int i = 0; i < SIDES.length; ++i) {
+            reverseSides[i] = SIDES[i].reverse();
+            sideX[i] = SIDES[i].getVector3i().x;
+            sideY[i] = SIDES[i].getVector3i().y;
+            sideZ[i] = SIDES[i].getVector3i().z;
+        }
+
+        increaseQueues = new PositionQueue[rules.getMaxValue()];
+        reduceQueues = new PositionQueue[rules.getMaxValue()];
+        for (int i = 0; i < rules.getMaxValue(); ++i) {
+            increaseQueues[i] = new PositionQueue();
+            reduceQueues[i] = new PositionQueue();
+        }
+    }
+
+    @Override
+    public void process(Iterable<BlockChange> blockChanges) {
+        boolean packable = true;
+        for (BlockChange blockChange : blockChanges) {
+            packable &= isPackable(blockChange.getPosition());
+        }
+        if (packable) {
+            for (BlockChange blockChange : blockChanges) {
+                reviewChange(blockChange);
+            }
+        } else {
+            getFallback().process(blockChanges);
+        }
+
+        processReduction();
+        processIncrease();
+        cleanUp();
+        if (fallback != null && packable) {
+            fallback.process(Collections.emptyList());
+        }
+    }
+
+    private boolean isPackable(Vector3i pos) {
+        return pos.x >= minPackedCoordinate && pos.x <= maxPackedCoordinate
+                && pos.y >= minPackedCoordinate && pos.y <= maxPackedCoordinate
+                && pos.z >= minPackedCoordinate && pos.z <= maxPackedCoordinate;
+    }
+
+    private StandardBatchPropagator getFallback() {
+        if (fallback == null) {
+            fallback = new StandardBatchPropagator(rules, world);
+        }
+        return fallback;
+    }
+
+    private void reviewChange(BlockChange blockChange) {
+        Vector3i position = blockChange.getPosition();
+        long pos = PackedVector3i.pack(position.x, position.y, position.z);
+        byte newValue = rules.getFixedValue(blockChange.getTo(), position);
+        byte existingValue = world.getValueAt(position.x, position.y, position.z);
+        if (newValue > existingValue) {
+            increase(pos, newValue);
+        }
+
+        byte oldValue = rules.getFixedValue(blockChange.getFrom(), position);
+        if (newValue < oldValue) {
+            reduce(pos, oldValue);
+        }
+
+        for (int i = 0; i < SIDES.length; ++i) {
+            Side side = SIDES[i];
+            PropagationComparison comparison = rules.comparePropagation(blockChange.getTo(), blockChange.getFrom(), side);
+            if (comparison.isRestricting() && existingValue > 0) {
+                reduce(pos, existingValue);
+                int adjX = position.x + sideX[i];
+                int adjY = position.y + sideY[i];
+                int adjZ = position.z + sideZ[i];
+                byte adjValue = world.getValueAt(adjX, adjY, adjZ);
+                if (adjValue == rules.propagateValue(existingValue, side, blockChange.getFrom())) {
+                    reduce(PackedVector3i.pack(adjX, adjY, adjZ), adjValue);
+                }
+            } else if (comparison.isPermitting()) {
+                if (existingValue > 0) {
+                    queueSpreadValue(pos, existingValue);
+                }
+                int adjX = position.x + sideX[i];
+                int adjY = position.y + sideY[i];
+                int adjZ = position.z + sideZ[i];
+                byte adjValue = world.getValueAt(adjX, adjY, adjZ);
+                if (adjValue != PropagatorWorldView.UNAVAILABLE) {
+                    queueSpreadValue(PackedVector3i.pack(adjX, adjY, adjZ), adjValue);
+                }
+            }
+        }
+    }
+
+    private void processReduction() {
+        int depth = 0;
+        while (depth < rules.getMaxValue()) {
+            byte oldValue = (byte) (rules.getMaxValue() - depth);
+            PositionQueue toProcess = reduceQueues[depth];
+            if (!toProcess.isEmpty()) {
+                reduceQueues[depth] = spareQueue;
+
+                for (int i = 0; i < toProcess.size(); ++i) {
+                    long pos = toProcess.get(i);
+                    if (pos != PositionQueue.REMOVED) {
+                        purge(pos, oldValue);
+                    }
+                }
+                toProcess.clear();
+                spareQueue = toProcess;
+            } else {
+                depth++;
+            }
+        }
+    }
+
+    private void purge(long pos, byte oldValue) {
+        int x = PackedVector3i.unpackX(pos);
+        int y = PackedVector3i.unpackY(pos);
+        int z = PackedVector3i.unpackZ(pos);
+        Block block = world.getBlockAt(x, y, z);
+        increaseQueues[rules.getMaxValue() - oldValue].remove(pos);
+        rulesPos.set(x, y, z);
+        byte fixedValue = rules.getFixedValue(block, rulesPos);
+        if (fixedValue > 0) {
+            increase(pos, fixedValue);
+        } else {
+            world.setValueAt(x, y, z, NO_VALUE);
+        }
+
+        for (int i = 0; i < SIDES.length; ++i) {
+            Side side = SIDES[i];
+            byte expectedValue = rules.propagateValue(oldValue, side, block);
+            if (rules.canSpreadOutOf(block, side)) {
+                int adjX = x + sideX[i];
+                int adjY = y + sideY[i];
+                int adjZ = z + sideZ[i];
+                byte adjValue = world.getValueAt(adjX, adjY, adjZ);
+                if (adjValue == expectedValue) {
+                    Block adjBlock = world.getBlockAt(adjX, adjY, adjZ);
+                    if (rules.canSpreadInto(adjBlock, reverseSides[i])) {
+                        reduce(PackedVector3i.pack(adjX, adjY, adjZ), expectedValue);
+                    }
+                } else if (adjValue > 0) {
+                    queueSpreadValue(PackedVector3i.pack(adjX, adjY, adjZ), adjValue);
+                }
+            }
+        }
+    }
+
+    private void processIncrease() {
+        int depth = 0;
+        while (depth < rules.getMaxValue() - 1) {
+            byte value = (byte) (rules.getMaxValue() - depth);
+            PositionQueue toProcess = increaseQueues[depth];
+            if (!toProcess.isEmpty()) {
+                increaseQueues[depth] = spareQueue;
+
+                for (int i = 0; i < toProcess.size(); ++i) {
+                    long pos = toProcess.get(i);
+                    if (pos != PositionQueue.REMOVED) {
+                        push(pos, value);
+                    }
+                }
+                toProcess.clear();
+                spareQueue = toProcess;
+                if (increaseQueues[depth].isEmpty()) {
+                    depth++;
+                }
+            } else {
+                depth++;
+            }
+        }
+    }
+
+    private void push(long pos, byte value) {
+        int x = PackedVector3i.unpackX(pos);
+        int y = PackedVector3i.unpackY(pos);
+        int z = PackedVector3i.unpackZ(pos);
+        Block block = world.getBlockAt(x, y, z);
+        for (int i = 0; i < SIDES.length; ++i) {
+            Side side = SIDES[i];
+            byte spreadValue = rules.propagateValue(value, side, block);
+            if (rules.canSpreadOutOf(block, side)) {
+                int adjX = x + sideX[i];
+                int adjY = y + sideY[i];
+                int adjZ = z + sideZ[i];
+                byte adjValue = world.getValueAt(adjX, adjY, adjZ);
+                if (adjValue < spreadValue && adjValue != PropagatorWorldView.UNAVAILABLE) {
+                    Block adjBlock = world.getBlockAt(adjX, adjY, adjZ);
+                    if (rules.canSpreadInto(adjBlock, reverseSides[i])) {
+                        increase(PackedVector3i.pack(adjX, adjY, adjZ), spreadValue);
+                    }
+                }
+            }
+        }
+    }
+
+    private void cleanUp() {
+        for (PositionQueue queue : increaseQueues) {
+            queue.clear();
+        }
+    }
+
+    private void increase(long pos, byte value) {
+        world.setValueAt(PackedVector3i.unpackX(pos), PackedVector3i.unpackY(pos), PackedVector3i.unpackZ(pos), value);
+        queueSpreadValue(pos, value);
+    }
+
+    @Override
+    protected void queueSpreadValue(Vector3i position, byte value) {
+        if (isPackable(position)) {
+            queueSpreadValue(PackedVector3i.pack(position.x, position.y, position.z), value);
+        } else {
+            getFallback().propagateFrom(position, value);
+        }
+    }
+
+    private void queueSpreadValue(long pos, byte value) {
+        if (value > 1) {
+            increaseQueues[rules.getMaxValue() - value].add(pos);
+        }
+    }
+
+    private void reduce(long pos, byte oldValue) {
+        if (oldValue > 0) {
+            reduceQueues[rules.getMaxValue() - oldValue].add(pos);
+        }
+    }
+
+    @Override
+    public void propagateFrom(Vector3i pos, Block block) {
+        queueSpreadValue(pos, rules.getFixedValue(block, pos));
+    }
+
+    @Override
+    public void propagateFrom(Vector3i pos, byte value) {
+        queueSpreadValue(pos, value);
+    }
+
+    @Override
+    public void regenerate(Vector3i pos, byte value) {
+        if (isPackable(pos)) {
+            reduce(PackedVector3i.pack(pos.x, pos.y, pos.z), value);
+        } else {
+            getFallback().regenerate(pos, value);
+        }
+    }
+
+    /**
+     * Set of packed positions that iterates in the order the positions were added, like a LinkedHashSet. Removed
+     * positions are left as {@link #REMOVED} in the position array until the queue gets cleared.
+     */
+    private static final class PositionQueue {
+        static final long REMOVED = -1L;
+        private static final int NO_INDEX = -1;
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final TLongIntMap indices = new TLongIntHashMap(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR,
+                REMOVED, NO_INDEX);
+        private long[] positions = new long[INITIAL_CAPACITY];
+        private int size;
+
+        boolean isEmpty() {
+            return indices.isEmpty();
+        }
+
+        /**
+         * @return the number of entries in the position array, including removed ones.
+         */
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            return positions[index];
+        }
+
+        void add(long pos) {
+            if (indices.putIfAbsent(pos, size) == NO_INDEX) {
+                if (size == positions.length) {
+                    positions = Arrays.copyOf(positions, 2 * size);
+                }
+                positions[size++] = pos;
+            }
+        }
+
+        void remove(long pos) {
+            int index = indices.remove(pos);
+            if (index != NO_INDEX) {
+                positions[index] = REMOVED;
+            }
+        }
+
+        void clear() {
+            if (size > 0) {
+                indices.clear();
+                size = 0;
+            }
+        }
+    }
+}
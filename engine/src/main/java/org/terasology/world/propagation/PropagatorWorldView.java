@@ -44,4 +44,30 @@ public interface PropagatorWorldView {
      */
     Block getBlockAt(Vector3i pos);
 
+    /**
+     * Variant of {@link #getValueAt(Vector3i)} for propagators that don't keep positions as vectors. Views should
+     * override it to avoid the allocation.
+     *
+     * @return The value of interest at the position, or UNAVAILABLE if out of bounds
+     */
+    default byte getValueAt(int x, int y, int z) {
+        return getValueAt(new Vector3i(x, y, z));
+    }
+
+    /**
+     * Variant of {@link #setValueAt(Vector3i, byte)} for propagators that don't keep positions as vectors.
+     */
+    default void setValueAt(int x, int y, int z, byte value) {
+        setValueAt(new Vector3i(x, y, z), value);
+    }
+
+    /**
+     * Variant of {@link #getBlockAt(Vector3i)} for propagators that don't keep positions as vectors.
+     *
+     * @return The block at the position, or null if out of bounds
+     */
+    default Block getBlockAt(int x, int y, int z) {
+        return getBlockAt(new Vector3i(x, y, z));
+    }
+
 }
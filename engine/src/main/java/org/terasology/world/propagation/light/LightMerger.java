@@ -30,6 +30,7 @@
 import org.terasology.world.propagation.StandardBatchPropagator;
 import org.terasology.world.propagation.SunlightRegenBatchPropagator;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -37,13 +38,23 @@
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Merges the light of newly available chunks with their neighbours on background threads.
+ * <br><br>
+ * Several merges may be in flight at once, as long as the chunks they touch do not overlap: a merge reads and writes the
+ * chunk and its 26 neighbours, so two chunks may only be merged concurrently if {@link #canMergeConcurrently} holds.
+ *
+ * @param <T> data handed back with each completed merge
+ */
 public class LightMerger<T> {
     private static final int CENTER_INDEX = 13;
+    private static final int MERGE_EXTENT = 1;
 
     private static final Logger logger = LoggerFactory.getLogger(LightMerger.class);
 
-    private ExecutorService executorService = Executors.newSingleThreadExecutor();
-    private Future<T> resultFuture;
+    private final int threadCount;
+    private ExecutorService executorService;
+    private List<Future<T>> resultFutures = Lists.newArrayList();
 
     private GeneratingChunkProvider chunkProvider;
     private LightPropagationRules lightRules = new LightPropagationRules();
@@ -52,29 +63,83 @@
     private boolean running = true;
 
     public LightMerger(GeneratingChunkProvider chunkProvider) {
+        this(chunkProvider, 1);
+    }
+
+    /**
+     * @param chunkProvider the provider to look up neighbouring chunks from
+     * @param threadCount   the number of merges that can run in parallel
+     */
+    public LightMerger(GeneratingChunkProvider chunkProvider, int threadCount) {
         this.chunkProvider = chunkProvider;
+        this.threadCount = Math.max(1, threadCount);
+        this.executorService = createExecutor();
+    }
+
+    /**
+     * Two merges may run concurrently only if the 3x3x3 blocks of chunks they touch are disjoint.
+     *
+     * @return Whether chunks at the two given positions can be merged at the same time
+     */
+    public static boolean canMergeConcurrently(Vector3i chunkPos, Vector3i otherChunkPos) {
+        int separation = 2 * MERGE_EXTENT;
+        return Math.abs(chunkPos.x - otherChunkPos.x) > separation
+                || Math.abs(chunkPos.y - otherChunkPos.y) > separation
+                || Math.abs(chunkPos.z - otherChunkPos.z) > separation;
     }
 
     public void beginMerge(final Chunk chunk, final T data) {
-        resultFuture = executorService.submit(() -> {
+        resultFutures.add(executorService.submit(() -> {
             merge(chunk);
             return data;
-        });
+        }));
     }
 
+    /**
+     * Waits for the earliest begun merge that has not been completed yet.
+     *
+     * @return the data given when that merge was begun, or null if there are no merges in flight
+     */
     public T completeMerge() {
-        if (resultFuture != null) {
-            try {
-                T result = resultFuture.get();
-                resultFuture = null;
-                return result;
-            } catch (InterruptedException | ExecutionException e) {
-                throw new RuntimeException("Error completing lighting merge", e);
-            }
+        if (!resultFutures.isEmpty()) {
+            return waitFor(resultFutures.remove(0));
         }
         return null;
     }
 
+    /**
+     * Waits for all merges in flight.
+     *
+     * @return the data given when the merges were begun, in the order they were begun
+     */
+    public List<T> completeMerges() {
+        if (resultFutures.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<T> results = Lists.newArrayListWithCapacity(resultFutures.size());
+        for (Future<T> resultFuture : resultFutures) {
+            results.add(waitFor(resultFuture));
+        }
+        resultFutures.clear();
+        return results;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    private T waitFor(Future<T> resultFuture) {
+        try {
+            return resultFuture.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Error completing lighting merge", e);
+        }
+    }
+
+    private ExecutorService createExecutor() {
+        return (threadCount == 1) ? Executors.newSingleThreadExecutor() : Executors.newFixedThreadPool(threadCount);
+    }
+
     private void merge(Chunk chunk) {
         Chunk[] localChunks = assembleLocalChunks(chunk);
         localChunks[CENTER_INDEX] = chunk;
@@ -141,7 +206,8 @@ public void shutdown() {
 
     public void restart() {
         if (!running) {
-            executorService = Executors.newSingleThreadExecutor();
+            resultFutures.clear();
+            executorService = createExecutor();
             running = true;
         }
     }
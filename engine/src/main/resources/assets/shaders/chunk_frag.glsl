@@ -91,6 +91,13 @@ void main() {
 
     vec2 texCoord = gl_TexCoord[0].xy;
 
+    /* REPEAT THE TILE ON FACES MERGED ACROSS SEVERAL BLOCKS */
+    if (checkFlag(BLOCK_HINT_TILED, blockHint)) {
+        vec2 tileOrigin = floor(texCoord / TEXTURE_OFFSET) * TEXTURE_OFFSET;
+        vec2 tilePos = fract((texCoord - tileOrigin) / TEXTURE_OFFSET * TILED_TEX_COORD_SCALE - TILED_TEX_COORD_MARGIN);
+        texCoord = tileOrigin + (TEXTURE_BORDER + tilePos * (1.0 - 2.0 * TEXTURE_BORDER)) * TEXTURE_OFFSET;
+    }
+
     vec3 normalizedVPos = -normalize(vertexViewPos.xyz);
     vec2 projectedPos = projectVertexToTexCoord(vertexProjPos);
     vec3 normalOpaque = normal;